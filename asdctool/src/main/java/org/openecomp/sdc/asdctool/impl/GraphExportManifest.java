@@ -0,0 +1,132 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.asdctool.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Describes a sharded graph export: the shard files written to the export directory and the vertices each holds.
+ */
+public class GraphExportManifest {
+
+    public static final String FILE_NAME = "manifest.json";
+    public static final String FORMAT = "graphson-adjacency-gzip";
+
+    private String format = FORMAT;
+    private long createdAt;
+    private long durationMs;
+    private long totalVertices;
+    private List<Shard> shards = new ArrayList<>();
+
+    public String getFormat() {
+        return format;
+    }
+
+    public void setFormat(String format) {
+        this.format = format;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(long createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(long durationMs) {
+        this.durationMs = durationMs;
+    }
+
+    public long getTotalVertices() {
+        return totalVertices;
+    }
+
+    public void setTotalVertices(long totalVertices) {
+        this.totalVertices = totalVertices;
+    }
+
+    public List<Shard> getShards() {
+        return shards;
+    }
+
+    public void setShards(List<Shard> shards) {
+        this.shards = shards;
+    }
+
+    public static class Shard {
+
+        private String file;
+        private String label;
+        private long vertices;
+        private long bytes;
+
+        public Shard() {
+        }
+
+        public Shard(String file, String label, long vertices, long bytes) {
+            this.file = file;
+            this.label = label;
+            this.vertices = vertices;
+            this.bytes = bytes;
+        }
+
+        public String getFile() {
+            return file;
+        }
+
+        public void setFile(String file) {
+            this.file = file;
+        }
+
+        /**
+         * @return the node label of the vertices in the shard, null for the vertices with an unknown label
+         */
+        public String getLabel() {
+            return label;
+        }
+
+        public void setLabel(String label) {
+            this.label = label;
+        }
+
+        public long getVertices() {
+            return vertices;
+        }
+
+        public void setVertices(long vertices) {
+            this.vertices = vertices;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        public void setBytes(long bytes) {
+            this.bytes = bytes;
+        }
+    }
+}
@@ -21,12 +21,15 @@
 package org.openecomp.sdc.asdctool.impl;
 
 import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
 import org.janusgraph.core.JanusGraphEdge;
 import org.janusgraph.core.JanusGraphFactory;
 import org.janusgraph.core.JanusGraph;
 import org.janusgraph.core.JanusGraphQuery;
 import org.janusgraph.core.JanusGraphVertex;
 import org.apache.commons.configuration.BaseConfiguration;
+import org.apache.commons.configuration.ConfigurationException;
+import org.apache.commons.configuration.PropertiesConfiguration;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.tinkerpop.gremlin.structure.*;
 import org.apache.tinkerpop.gremlin.structure.io.IoCore;
@@ -41,6 +44,7 @@ import org.openecomp.sdc.common.log.wrappers.Logger;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -73,6 +77,10 @@ public class GraphMLConverter {
 
     private static final String NODE_LABEL = "nodeLabel";
 
+    private static final int DEFAULT_SHARD_THREADS = 4;
+
+    private static final int DEFAULT_IMPORT_BATCH_SIZE = 1000;
+
     private static Logger log = Logger.getLogger(GraphMLConverter.class.getName());
 
 	private Gson gson = new Gson();
@@ -138,6 +146,64 @@ public class GraphMLConverter {
 		return true;
 	}
 
+	/**
+	 * Exports the graph as parallel shards, args: operation, janusgraph properties, output directory and optionally
+	 * the number of threads.
+	 */
+	public boolean exportShardedGraph(String[] args) {
+
+		JanusGraph graph = null;
+		try {
+			String janusGraphFileLocation = args[1];
+			String outputDirectory = args[2];
+			int threads = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_SHARD_THREADS;
+			graph = openGraph(janusGraphFileLocation);
+
+			String result = new GraphShardExporter(threads).exportGraph(graph, outputDirectory);
+
+			if (result == null) {
+				return false;
+			}
+
+			System.out.println(EXPORTED_FILE + result);
+		} catch (Exception e) {
+			log.info("export sharded graph failed - {}" , e);
+			return false;
+		} finally {
+			if (graph != null) {
+				graph.close();
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Imports a sharded export into an empty graph opened for batch loading, args: operation, janusgraph
+	 * properties, export directory and optionally the number of threads and the batch size.
+	 */
+	public boolean importShardedGraph(String[] args) {
+
+		JanusGraph graph = null;
+		try {
+			String janusGraphFileLocation = args[1];
+			String exportDirectory = args[2];
+			int threads = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_SHARD_THREADS;
+			int batchSize = args.length > 4 ? Integer.parseInt(args[4]) : DEFAULT_IMPORT_BATCH_SIZE;
+			graph = openGraphForBatchLoading(janusGraphFileLocation);
+
+			return new GraphShardImporter(threads, batchSize).importGraph(graph, exportDirectory);
+
+		} catch (Exception e) {
+			log.info("import sharded graph failed - {} " , e);
+			return false;
+		} finally {
+			if (graph != null) {
+				graph.close();
+			}
+		}
+	}
+
 	public String exportGraphMl(String[] args) {
 
 		JanusGraph graph = null;
@@ -195,6 +261,17 @@ public class GraphMLConverter {
 
 	}
 
+	/**
+	 * Opens the graph with batch loading enabled: the consistency checks and the locking are skipped.
+	 */
+	public JanusGraph openGraphForBatchLoading(String janusGraphFileLocation) throws ConfigurationException {
+
+		PropertiesConfiguration configuration = new PropertiesConfiguration(janusGraphFileLocation);
+		configuration.setProperty("storage.batch-loading", true);
+		return JanusGraphFactory.open(configuration);
+
+	}
+
 	public String exportJsonGraph(JanusGraph graph, String outputDirectory) {
 
 		String result = null;
@@ -470,12 +547,11 @@ public class GraphMLConverter {
 
 	public String exportUsers(JanusGraph graph, String outputDirectory) {
 
-		List<Map<String, Object>> users = new ArrayList<>();
 		String result = null;
 
 		String outputFile = outputDirectory + File.separator + "users." + System.currentTimeMillis() + DOT_JSON;
 
-		FileWriter fileWriter = null;
+		JsonWriter jsonWriter = null;
 		try {
 
 			JanusGraphQuery graphQuery = graph.query().has(GraphPropertiesDictionary.LABEL.getProperty(),
@@ -484,21 +560,19 @@ public class GraphMLConverter {
 			@SuppressWarnings("unchecked")
 			Iterable<JanusGraphVertex> vertices = graphQuery.vertices();
 
+			jsonWriter = new JsonWriter(new BufferedWriter(new FileWriter(outputFile)));
+			jsonWriter.beginArray();
 			if (vertices != null) {
 				for (Vertex v : vertices) {
 					Map<String, Object> properties = getProperties(v);
 					properties.remove(GraphPropertiesDictionary.LABEL.getProperty());
-					users.add(properties);
+					gson.toJson(properties, Map.class, jsonWriter);
 				}
 			}
+			jsonWriter.endArray();
 
 			graph.tx().commit();
 
-			String jsonUsers = gson.toJson(users);
-
-			fileWriter = new FileWriter(outputFile);
-			fileWriter.write(jsonUsers);
-
 			result = outputFile;
 
 		} catch (Exception e) {
@@ -506,8 +580,8 @@ public class GraphMLConverter {
 			graph.tx().rollback();
 		} finally {
 			try {
-				if (fileWriter != null) {
-					fileWriter.close();
+				if (jsonWriter != null) {
+					jsonWriter.close();
 				}
 			} catch (IOException e) {
 				log.info(CLOSE_FILE_OUTPUT_STREAM_FAILED , e);
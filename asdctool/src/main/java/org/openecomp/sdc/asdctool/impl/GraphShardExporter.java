@@ -0,0 +1,193 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.asdctool.impl;
+
+import com.google.common.collect.Iterators;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.structure.io.IoCore;
+import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONWriter;
+import org.janusgraph.core.JanusGraph;
+import org.janusgraph.core.JanusGraphTransaction;
+import org.openecomp.sdc.be.dao.jsongraph.types.VertexTypeEnum;
+import org.openecomp.sdc.be.datatypes.enums.GraphPropertyEnum;
+import org.openecomp.sdc.be.datatypes.enums.NodeTypeEnum;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Exports the graph as gzipped GraphSON shards written in parallel, one shard per node label plus a shard of the
+ * vertices with any other label. Every shard is read in its own read only transaction and streamed to its file, a
+ * vertex per line together with its out edges, so the memory used doesn't depend on the size of the graph.
+ * The shards are listed in a {@link GraphExportManifest} written last, an export without a manifest is incomplete.
+ */
+public class GraphShardExporter {
+
+    private static final Logger log = Logger.getLogger(GraphShardExporter.class.getName());
+    private static final String OTHER_LABELS_SHARD = "other";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final int threads;
+
+    public GraphShardExporter(int threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * @return the export directory, null if the export failed
+     */
+    public String exportGraph(JanusGraph graph, String outputDirectory) {
+        long startTime = System.currentTimeMillis();
+        Path exportDirectory = Paths.get(outputDirectory, "exportGraph." + startTime);
+        GraphSONWriter writer = GraphSONWriter.build().mapper(graph.io(IoCore.graphson()).mapper().create()).create();
+        GraphShardProgress progress = new GraphShardProgress("exported vertices");
+        Set<String> labels = nodeLabels();
+
+        List<Callable<GraphExportManifest.Shard>> shardTasks = new ArrayList<>();
+        for (String label : labels) {
+            shardTasks.add(() -> exportShard(graph, writer, exportDirectory, label, progress,
+                    tx -> tx.query().has(GraphPropertyEnum.LABEL.getProperty(), label).vertices().iterator()));
+        }
+        shardTasks.add(() -> exportShard(graph, writer, exportDirectory, null, progress,
+                tx -> Iterators.filter(tx.query().vertices().iterator(), vertex -> !hasLabel(vertex, labels))));
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads,
+                new ThreadFactoryBuilder().setNameFormat("graph-export-%d").build());
+        try {
+            Files.createDirectories(exportDirectory);
+            GraphExportManifest manifest = new GraphExportManifest();
+            manifest.setCreatedAt(startTime);
+            for (Future<GraphExportManifest.Shard> shard : executor.invokeAll(shardTasks)) {
+                if (shard.get() != null) {
+                    manifest.getShards().add(shard.get());
+                    manifest.setTotalVertices(manifest.getTotalVertices() + shard.get().getVertices());
+                }
+            }
+            manifest.setDurationMs(System.currentTimeMillis() - startTime);
+            writeManifest(exportDirectory, manifest);
+            progress.report();
+            return exportDirectory.toString();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.info("export graph interrupted");
+        } catch (ExecutionException | IOException e) {
+            log.info("export graph failed - {}", e);
+        } finally {
+            executor.shutdownNow();
+        }
+        return null;
+    }
+
+    private GraphExportManifest.Shard exportShard(JanusGraph graph, GraphSONWriter writer, Path exportDirectory,
+            String label, GraphShardProgress progress,
+            Function<JanusGraphTransaction, Iterator<? extends Vertex>> vertices) throws IOException {
+        String fileName = "shard-" + (label == null ? OTHER_LABELS_SHARD : label.replaceAll("[^A-Za-z0-9_.-]", "_"))
+                + ".graphson.gz";
+        Path shardFile = exportDirectory.resolve(fileName);
+        long exported = 0;
+        JanusGraphTransaction tx = graph.buildTransaction().readOnly().start();
+        try (OutputStream out = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(shardFile), BUFFER_SIZE), BUFFER_SIZE)) {
+            CountingIterator counted = new CountingIterator(vertices.apply(tx), progress);
+            writer.writeVertices(out, counted, Direction.OUT);
+            exported = counted.count;
+        } finally {
+            tx.rollback();
+        }
+        if (exported == 0) {
+            Files.delete(shardFile);
+            return null;
+        }
+        log.info("exported {} vertices with label {} to {}", exported, label, shardFile);
+        return new GraphExportManifest.Shard(fileName, label, exported, Files.size(shardFile));
+    }
+
+    private static void writeManifest(Path exportDirectory, GraphExportManifest manifest) throws IOException {
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        try (Writer writer = Files.newBufferedWriter(exportDirectory.resolve(GraphExportManifest.FILE_NAME), StandardCharsets.UTF_8)) {
+            gson.toJson(manifest, writer);
+        }
+    }
+
+    private static Set<String> nodeLabels() {
+        Set<String> labels = new TreeSet<>();
+        for (VertexTypeEnum vertexType : VertexTypeEnum.values()) {
+            labels.add(vertexType.getName());
+        }
+        for (NodeTypeEnum nodeType : NodeTypeEnum.values()) {
+            labels.add(nodeType.getName());
+        }
+        return labels;
+    }
+
+    private static boolean hasLabel(Vertex vertex, Set<String> labels) {
+        VertexProperty<Object> label = vertex.property(GraphPropertyEnum.LABEL.getProperty());
+        return label.isPresent() && labels.contains(String.valueOf(label.value()));
+    }
+
+    private static class CountingIterator implements Iterator<Vertex> {
+
+        private final Iterator<? extends Vertex> vertices;
+        private final GraphShardProgress progress;
+        private long count;
+
+        CountingIterator(Iterator<? extends Vertex> vertices, GraphShardProgress progress) {
+            this.vertices = vertices;
+            this.progress = progress;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return vertices.hasNext();
+        }
+
+        @Override
+        public Vertex next() {
+            Vertex vertex = vertices.next();
+            count++;
+            progress.increment();
+            return vertex;
+        }
+    }
+}
@@ -0,0 +1,268 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.asdctool.impl;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.Gson;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.io.IoCore;
+import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONReader;
+import org.apache.tinkerpop.gremlin.structure.util.Attachable;
+import org.janusgraph.core.JanusGraph;
+import org.janusgraph.core.JanusGraphEdge;
+import org.janusgraph.core.JanusGraphTransaction;
+import org.janusgraph.core.JanusGraphVertex;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Imports a graph exported by {@link GraphShardExporter} into an empty graph, preferably opened with
+ * {@code storage.batch-loading} enabled, and refuses a graph which already holds vertices. The shards are loaded in
+ * parallel, in two passes: the vertices first, mapping their exported ids to the ids assigned by the target graph,
+ * then the edges between the mapped vertices. Each worker commits every batch size elements in its own transaction.
+ * <p>
+ * A failed import leaves the batches already committed in the graph, the graph must be cleared before retrying.
+ */
+public class GraphShardImporter {
+
+    private static final Logger log = Logger.getLogger(GraphShardImporter.class.getName());
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final int threads;
+    private final int batchSize;
+
+    public GraphShardImporter(int threads, int batchSize) {
+        this.threads = threads;
+        this.batchSize = batchSize;
+    }
+
+    public boolean importGraph(JanusGraph graph, String exportDirectory) {
+        Path directory = Paths.get(exportDirectory);
+        GraphExportManifest manifest;
+        try (Reader reader = Files.newBufferedReader(directory.resolve(GraphExportManifest.FILE_NAME), StandardCharsets.UTF_8)) {
+            manifest = new Gson().fromJson(reader, GraphExportManifest.class);
+        } catch (IOException e) {
+            System.out.println("Failed to read the manifest of " + exportDirectory + " " + e.getMessage());
+            return false;
+        }
+        if (!GraphExportManifest.FORMAT.equals(manifest.getFormat())) {
+            System.out.println("Unsupported export format " + manifest.getFormat());
+            return false;
+        }
+        if (!isEmpty(graph)) {
+            System.out.println("The target graph is not empty, import into an empty graph");
+            return false;
+        }
+
+        GraphSONReader reader = GraphSONReader.build().mapper(graph.io(IoCore.graphson()).mapper().create()).create();
+        Map<Object, Long> vertexIds = new ConcurrentHashMap<>((int) Math.min(Integer.MAX_VALUE, manifest.getTotalVertices() * 4 / 3 + 1));
+        GraphShardProgress vertexProgress = new GraphShardProgress("imported vertices");
+        GraphShardProgress edgeProgress = new GraphShardProgress("imported edges");
+
+        List<Callable<Void>> vertexTasks = new ArrayList<>();
+        List<Callable<Void>> edgeTasks = new ArrayList<>();
+        for (GraphExportManifest.Shard shard : manifest.getShards()) {
+            Path shardFile = directory.resolve(shard.getFile());
+            vertexTasks.add(() -> importVertices(graph, reader, shard, shardFile, vertexIds, vertexProgress));
+            edgeTasks.add(() -> importEdges(graph, reader, shardFile, vertexIds, edgeProgress));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads,
+                new ThreadFactoryBuilder().setNameFormat("graph-import-%d").build());
+        try {
+            runAll(executor, vertexTasks);
+            vertexProgress.report();
+            if (vertexProgress.getCount() != manifest.getTotalVertices()) {
+                System.out.println("Imported " + vertexProgress.getCount() + " vertices, the manifest lists " + manifest.getTotalVertices());
+                return false;
+            }
+            runAll(executor, edgeTasks);
+            edgeProgress.report();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.info("import graph interrupted");
+        } catch (ExecutionException e) {
+            System.out.println("Failed to import graph " + e.getCause());
+            log.info("import graph failed - {}", e);
+        } finally {
+            executor.shutdownNow();
+        }
+        return false;
+    }
+
+    private static boolean isEmpty(JanusGraph graph) {
+        JanusGraphTransaction tx = graph.buildTransaction().readOnly().start();
+        try {
+            return !tx.query().limit(1).vertices().iterator().hasNext();
+        } finally {
+            tx.rollback();
+        }
+    }
+
+    private static void runAll(ExecutorService executor, List<Callable<Void>> tasks) throws InterruptedException, ExecutionException {
+        for (Future<Void> future : executor.invokeAll(tasks)) {
+            future.get();
+        }
+    }
+
+    private Void importVertices(JanusGraph graph, GraphSONReader reader, GraphExportManifest.Shard shard, Path shardFile,
+            Map<Object, Long> vertexIds, GraphShardProgress progress) throws IOException {
+        long importedCount = 0;
+        try (InputStream in = openShard(shardFile)) {
+            Iterator<Vertex> vertices = reader.readVertices(in, Attachable::get, Attachable::get, Direction.OUT);
+            BatchedTransaction tx = new BatchedTransaction(graph);
+            Map<Object, JanusGraphVertex> batch = new HashMap<>();
+            try {
+                while (vertices.hasNext()) {
+                    Vertex vertex = vertices.next();
+                    JanusGraphVertex imported = Vertex.DEFAULT_LABEL.equals(vertex.label()) ? tx.get().addVertex()
+                            : tx.get().addVertex(vertex.label());
+                    vertex.properties().forEachRemaining(property -> imported.property(property.key(), property.value()));
+                    batch.put(vertex.id(), imported);
+                    importedCount++;
+                    progress.increment();
+                    if (tx.added()) {
+                        mapIds(batch, vertexIds);
+                    }
+                }
+                tx.commit();
+                mapIds(batch, vertexIds);
+            } catch (RuntimeException e) {
+                tx.rollback();
+                throw e;
+            }
+        }
+        if (importedCount != shard.getVertices()) {
+            throw new IllegalStateException("shard " + shard.getFile() + " holds " + importedCount
+                    + " vertices, the manifest lists " + shard.getVertices());
+        }
+        return null;
+    }
+
+    /**
+     * The ids of the new vertices are read once their transaction is committed, when they are surely assigned.
+     */
+    private static void mapIds(Map<Object, JanusGraphVertex> batch, Map<Object, Long> vertexIds) {
+        batch.forEach((exportedId, imported) -> vertexIds.put(exportedId, imported.longId()));
+        batch.clear();
+    }
+
+    private Void importEdges(JanusGraph graph, GraphSONReader reader, Path shardFile, Map<Object, Long> vertexIds,
+            GraphShardProgress progress) throws IOException {
+        try (InputStream in = openShard(shardFile)) {
+            Iterator<Vertex> vertices = reader.readVertices(in, Attachable::get, Attachable::get, Direction.OUT);
+            BatchedTransaction tx = new BatchedTransaction(graph);
+            try {
+                while (vertices.hasNext()) {
+                    Vertex vertex = vertices.next();
+                    Long outId = vertexIds.get(vertex.id());
+                    Iterator<Edge> edges = vertex.edges(Direction.OUT);
+                    while (edges.hasNext()) {
+                        Edge edge = edges.next();
+                        Long inId = vertexIds.get(edge.inVertex().id());
+                        if (outId == null || inId == null) {
+                            throw new IllegalStateException("edge " + edge.id() + " references a vertex missing from the export");
+                        }
+                        JanusGraphVertex outVertex = tx.get().getVertex(outId);
+                        JanusGraphEdge imported = outVertex.addEdge(edge.label(), tx.get().getVertex(inId));
+                        edge.properties().forEachRemaining(property -> imported.property(property.key(), property.value()));
+                        tx.added();
+                        progress.increment();
+                    }
+                }
+                tx.commit();
+            } catch (RuntimeException e) {
+                tx.rollback();
+                throw e;
+            }
+        }
+        return null;
+    }
+
+    private static InputStream openShard(Path shardFile) throws IOException {
+        return new GZIPInputStream(new BufferedInputStream(Files.newInputStream(shardFile), BUFFER_SIZE), BUFFER_SIZE);
+    }
+
+    /**
+     * A transaction of a worker, committed and replaced once it holds batch size new elements.
+     */
+    private class BatchedTransaction {
+
+        private final JanusGraph graph;
+        private JanusGraphTransaction tx;
+        private int pending;
+
+        BatchedTransaction(JanusGraph graph) {
+            this.graph = graph;
+            this.tx = graph.newTransaction();
+        }
+
+        JanusGraphTransaction get() {
+            return tx;
+        }
+
+        /**
+         * @return true if the transaction was committed
+         */
+        boolean added() {
+            if (++pending < batchSize) {
+                return false;
+            }
+            tx.commit();
+            tx = graph.newTransaction();
+            pending = 0;
+            return true;
+        }
+
+        void commit() {
+            tx.commit();
+        }
+
+        void rollback() {
+            if (tx.isOpen()) {
+                tx.rollback();
+            }
+        }
+    }
+}
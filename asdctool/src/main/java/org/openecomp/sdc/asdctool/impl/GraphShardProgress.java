@@ -0,0 +1,66 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.asdctool.impl;
+
+import org.openecomp.sdc.common.log.wrappers.Logger;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the vertices or edges processed by the workers of a sharded export or import and reports the throughput.
+ */
+class GraphShardProgress {
+
+    private static final Logger log = Logger.getLogger(GraphShardProgress.class.getName());
+    private static final long REPORT_EVERY = 100_000;
+
+    private final String operation;
+    private final long startTime = System.currentTimeMillis();
+    private final AtomicLong count = new AtomicLong();
+
+    GraphShardProgress(String operation) {
+        this.operation = operation;
+    }
+
+    void increment() {
+        long current = count.incrementAndGet();
+        if (current % REPORT_EVERY == 0) {
+            report();
+        }
+    }
+
+    long getCount() {
+        return count.get();
+    }
+
+    long getElapsedMs() {
+        return System.currentTimeMillis() - startTime;
+    }
+
+    void report() {
+        long current = count.get();
+        long elapsedMs = Math.max(1, getElapsedMs());
+        String message = String.format("%s %d in %d s, %.1f per second", operation, current, elapsedMs / 1000,
+                current * 1000.0 / elapsedMs);
+        System.out.println(message);
+        log.info(message);
+    }
+}
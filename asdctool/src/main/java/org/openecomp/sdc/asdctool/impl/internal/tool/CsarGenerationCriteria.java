@@ -0,0 +1,92 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.openecomp.sdc.asdctool.impl.internal.tool;
+
+import java.util.Map;
+
+import org.openecomp.sdc.be.dao.jsongraph.GraphVertex;
+import org.openecomp.sdc.be.datatypes.enums.JsonPresentationFields;
+
+/**
+ * Selects the certified services whose CSAR is regenerated in bulk. Unset criteria match every service.
+ */
+public class CsarGenerationCriteria {
+
+    private String category;
+    private Long updatedFrom;
+    private Long updatedTo;
+
+    public String getCategory() {
+        return category;
+    }
+
+    /**
+     * @param category the name of the service category
+     */
+    public CsarGenerationCriteria setCategory(String category) {
+        this.category = category;
+        return this;
+    }
+
+    public Long getUpdatedFrom() {
+        return updatedFrom;
+    }
+
+    /**
+     * @param updatedFrom the earliest last update date, in milliseconds since the epoch, inclusive
+     */
+    public CsarGenerationCriteria setUpdatedFrom(Long updatedFrom) {
+        this.updatedFrom = updatedFrom;
+        return this;
+    }
+
+    public Long getUpdatedTo() {
+        return updatedTo;
+    }
+
+    /**
+     * @param updatedTo the latest last update date, in milliseconds since the epoch, exclusive
+     */
+    public CsarGenerationCriteria setUpdatedTo(Long updatedTo) {
+        this.updatedTo = updatedTo;
+        return this;
+    }
+
+    /**
+     * @param metadataV the service vertex, parsed with its metadata json
+     */
+    boolean isUpdatedInWindow(GraphVertex metadataV) {
+        if (updatedFrom == null && updatedTo == null) {
+            return true;
+        }
+        Map<String, Object> metadataJson = metadataV.getMetadataJson();
+        Object lastUpdateDate = metadataJson == null ? null : metadataJson.get(JsonPresentationFields.LAST_UPDATE_DATE.getPresentation());
+        if (!(lastUpdateDate instanceof Number)) {
+            return false;
+        }
+        long updated = ((Number) lastUpdateDate).longValue();
+        return (updatedFrom == null || updated >= updatedFrom) && (updatedTo == null || updated < updatedTo);
+    }
+
+    @Override
+    public String toString() {
+        return "category=" + category + ", updatedFrom=" + updatedFrom + ", updatedTo=" + updatedTo;
+    }
+}
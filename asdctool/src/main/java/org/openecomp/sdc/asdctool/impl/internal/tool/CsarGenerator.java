@@ -19,18 +19,36 @@
  */
 package org.openecomp.sdc.asdctool.impl.internal.tool;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Scanner;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.openecomp.sdc.asdctool.utils.ConsoleWriter;
 import org.openecomp.sdc.be.dao.cassandra.ArtifactCassandraDao;
+import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
 import org.openecomp.sdc.be.dao.jsongraph.GraphVertex;
 import org.openecomp.sdc.be.dao.jsongraph.JanusGraphDao;
 import org.openecomp.sdc.be.dao.jsongraph.types.EdgeLabelEnum;
@@ -76,6 +94,9 @@ public class CsarGenerator extends CommonInternalTool {
 
     private static Logger log = Logger.getLogger(CsarGenerator.class.getName());
 
+    private static final List<String> REPORT_HEADER = Arrays.asList("uuid", "unique id", "name", "version", "status",
+        "tosca template", "tosca csar", "duration ms", "error");
+
     public void generateCsar(String uuid, Scanner scanner) {
         JanusGraphOperationStatus status = JanusGraphOperationStatus.OK;
 
@@ -111,6 +132,199 @@ public class CsarGenerator extends CommonInternalTool {
         }
     }
 
+    /**
+     * Regenerates the TOSCA template and the CSAR of all the certified services matching the criteria, using up to
+     * the given number of threads. An artifact is saved only when its checksum changed.
+     * <p>
+     * The unique id of every service regenerated without error is appended to the checkpoint file and the
+     * services already listed there are skipped, so an interrupted run continues where it stopped when it is
+     * started again with the same checkpoint file. The outcome and the duration of each service are written to
+     * the CSV report file.
+     *
+     * @return true if the artifacts of all the selected services were regenerated
+     */
+    public boolean generateCsars(CsarGenerationCriteria criteria, int threads, Path checkpointFile, Path reportFile) throws IOException {
+        List<GraphVertex> services = selectServices(criteria);
+        Set<String> regenerated = readCheckpoint(checkpointFile);
+        List<GraphVertex> pending = services.stream().filter(service -> !regenerated.contains(service.getUniqueId())).collect(Collectors.toList());
+        ConsoleWriter.dataLine("services selected", services.size());
+        ConsoleWriter.dataLine("services already regenerated", services.size() - pending.size());
+
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder().setNameFormat("csar-generator-%d").build());
+        try (BufferedWriter checkpoint = Files.newBufferedWriter(checkpointFile, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+             BufferedWriter report = Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8)) {
+            writeCsvLine(report, REPORT_HEADER);
+            List<Future<?>> futures = new ArrayList<>();
+            for (GraphVertex service : pending) {
+                futures.add(executor.submit(() -> {
+                    ServiceGenerationResult result = regenerateService(service);
+                    if (!result.isSuccessful()) {
+                        failed.incrementAndGet();
+                    }
+                    writeResult(result, checkpoint, report);
+                    ConsoleWriter.dataLine("[" + completed.incrementAndGet() + "/" + pending.size() + "] " + result.name, result.getStatus());
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    log.error("CSAR regeneration failed", e);
+                    failed.incrementAndGet();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ConsoleWriter.dataLine("CSAR regeneration interrupted");
+            return false;
+        } finally {
+            executor.shutdownNow();
+        }
+        ConsoleWriter.dataLine("services failed", failed.get());
+        return failed.get() == 0;
+    }
+
+    private List<GraphVertex> selectServices(CsarGenerationCriteria criteria) {
+        Map<GraphPropertyEnum, Object> props = new EnumMap<>(GraphPropertyEnum.class);
+        props.put(GraphPropertyEnum.STATE, LifecycleStateEnum.CERTIFIED.name());
+        props.put(GraphPropertyEnum.COMPONENT_TYPE, ComponentTypeEnum.SERVICE.name());
+        Map<GraphPropertyEnum, Object> hasNotProps = new EnumMap<>(GraphPropertyEnum.class);
+        hasNotProps.put(GraphPropertyEnum.IS_DELETED, true);
+        try {
+            List<GraphVertex> services = janusGraphDao
+                .getByCriteria(VertexTypeEnum.TOPOLOGY_TEMPLATE, props, hasNotProps, JsonParseFlagEnum.ParseMetadata)
+                .either(l -> l, r -> {
+                    if (r != JanusGraphOperationStatus.NOT_FOUND) {
+                        ConsoleWriter.dataLine("Failed to fetch certified services ", r);
+                    }
+                    return new ArrayList<>();
+                });
+            return services.stream()
+                .filter(criteria::isUpdatedInWindow)
+                .filter(service -> isInCategory(service, criteria.getCategory()))
+                .collect(Collectors.toList());
+        } finally {
+            janusGraphDao.rollback();
+        }
+    }
+
+    private boolean isInCategory(GraphVertex serviceV, String category) {
+        if (category == null) {
+            return true;
+        }
+        return janusGraphDao.getChildVertex(serviceV, EdgeLabelEnum.CATEGORY, JsonParseFlagEnum.NoParse)
+            .either(categoryV -> category.equals(categoryV.getMetadataProperty(GraphPropertyEnum.NAME)), r -> false);
+    }
+
+    private static Set<String> readCheckpoint(Path checkpointFile) throws IOException {
+        Set<String> regenerated = new HashSet<>();
+        if (Files.exists(checkpointFile)) {
+            Files.readAllLines(checkpointFile, StandardCharsets.UTF_8).stream()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty())
+                .forEach(regenerated::add);
+        }
+        return regenerated;
+    }
+
+    /**
+     * Regenerates the artifacts of a single service. Runs on a worker thread, in its own graph transaction.
+     */
+    private ServiceGenerationResult regenerateService(GraphVertex serviceV) {
+        long start = System.currentTimeMillis();
+        ServiceGenerationResult result = new ServiceGenerationResult(serviceV);
+        boolean changed = false;
+        try {
+            Component component = toscaOperationFacade.getToscaFullElement(serviceV.getUniqueId()).either(l -> l, r -> null);
+            if (component == null) {
+                result.error = "failed to fetch the service";
+                return result;
+            }
+            result.toscaTemplate = regenerateArtifact(component, ArtifactTypeEnum.TOSCA_TEMPLATE, () -> generateToscaPayload(component));
+            result.toscaCsar = regenerateArtifact(component, ArtifactTypeEnum.TOSCA_CSAR, () -> generateCsarPayload(component));
+            changed = result.toscaTemplate == ArtifactGenerationStatus.GENERATED || result.toscaCsar == ArtifactGenerationStatus.GENERATED;
+            if (changed && !updateToscaArtifacts(serviceV.getUniqueId(), component)) {
+                result.error = "failed to update the tosca artifacts of the service";
+            }
+        } catch (RuntimeException e) {
+            log.error("failed to regenerate the artifacts of service {}", serviceV.getUniqueId(), e);
+            result.error = String.valueOf(e.getMessage());
+        } finally {
+            if (changed && result.error == null) {
+                JanusGraphOperationStatus commitStatus = janusGraphDao.commit();
+                if (commitStatus != JanusGraphOperationStatus.OK) {
+                    result.error = "failed to commit " + commitStatus;
+                }
+            } else {
+                janusGraphDao.rollback();
+            }
+            result.durationMs = System.currentTimeMillis() - start;
+        }
+        return result;
+    }
+
+    private ArtifactGenerationStatus regenerateArtifact(Component component, ArtifactTypeEnum artifactType, Supplier<byte[]> supplier) {
+        Optional<ArtifactDefinition> toscaArtifact = findToscaArtifact(component, artifactType);
+        if (!toscaArtifact.isPresent()) {
+            return ArtifactGenerationStatus.MISSING;
+        }
+        byte[] payload = supplier.get();
+        if (payload == null) {
+            return ArtifactGenerationStatus.FAILED;
+        }
+        ArtifactDefinition artifact = toscaArtifact.get();
+        if (artifactUniqueId(component, artifact).equals(artifact.getEsId())
+            && GeneralUtility.calculateMD5Base64EncodedByByteArray(payload).equals(artifact.getArtifactChecksum())) {
+            return ArtifactGenerationStatus.UNCHANGED;
+        }
+        return storePayload(component, artifact, payload) == CassandraOperationStatus.OK ? ArtifactGenerationStatus.GENERATED
+            : ArtifactGenerationStatus.FAILED;
+    }
+
+    private boolean updateToscaArtifacts(String serviceId, Component component) {
+        GraphVertex toscaArtifactV = janusGraphDao.getVertexById(serviceId, JsonParseFlagEnum.NoParse)
+            .either(metadataV -> janusGraphDao.getChildVertex(metadataV, EdgeLabelEnum.TOSCA_ARTIFACTS, JsonParseFlagEnum.ParseJson).either(l -> l, r -> null), r -> null);
+        if (toscaArtifactV == null) {
+            return false;
+        }
+        Map<String, ArtifactDataDefinition> copy = component.getToscaArtifacts().entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, e -> new ArtifactDataDefinition(e.getValue())));
+        toscaArtifactV.setJson(copy);
+        return janusGraphDao.updateVertex(toscaArtifactV).isLeft();
+    }
+
+    private static synchronized void writeResult(ServiceGenerationResult result, BufferedWriter checkpoint, BufferedWriter report) {
+        try {
+            writeCsvLine(report, Arrays.asList(result.uuid, result.uniqueId, result.name, result.version, result.getStatus(),
+                Objects.toString(result.toscaTemplate, ""), Objects.toString(result.toscaCsar, ""), String.valueOf(result.durationMs),
+                Objects.toString(result.error, "")));
+            report.flush();
+            if (result.isSuccessful()) {
+                checkpoint.write(result.uniqueId);
+                checkpoint.newLine();
+                checkpoint.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeCsvLine(BufferedWriter writer, List<String> values) throws IOException {
+        writer.write(values.stream().map(CsarGenerator::toCsvValue).collect(Collectors.joining(",")));
+        writer.newLine();
+    }
+
+    private static String toCsvValue(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
     private JanusGraphOperationStatus handleService(GraphVertex metadataV, String uuid) {
         JanusGraphOperationStatus status = JanusGraphOperationStatus.OK;
         org.openecomp.sdc.be.model.Component component = toscaOperationFacade.getToscaFullElement(metadataV.getUniqueId()).either(l -> l, r -> null);
@@ -139,7 +353,7 @@ public class CsarGenerator extends CommonInternalTool {
     private JanusGraphOperationStatus generateArtifact(Component component, ArtifactTypeEnum artifactType, Supplier<byte[]> supplier){
         JanusGraphOperationStatus status = JanusGraphOperationStatus.GENERAL_ERROR;
         ArtifactDefinition csarArtifact;
-        Optional<ArtifactDefinition> op = component.getToscaArtifacts().values().stream().filter(p -> p.getArtifactType().equals(artifactType.getType())).findAny();
+        Optional<ArtifactDefinition> op = findToscaArtifact(component, artifactType);
         if (op.isPresent()) {
             csarArtifact = op.get();
               
@@ -147,6 +361,10 @@ public class CsarGenerator extends CommonInternalTool {
         }
         return status;
     }
+
+    private Optional<ArtifactDefinition> findToscaArtifact(Component component, ArtifactTypeEnum artifactType) {
+        return component.getToscaArtifacts().values().stream().filter(p -> p.getArtifactType().equals(artifactType.getType())).findAny();
+    }
     
     private byte[] generateCsarPayload(org.openecomp.sdc.be.model.Component component) {
         return csarUtils.createCsar(component, true, true).either( l -> l, r -> null);
@@ -163,23 +381,28 @@ public class CsarGenerator extends CommonInternalTool {
             return JanusGraphOperationStatus.GENERAL_ERROR;
         }
         ConsoleWriter.dataLine("create artifact  success ", csarArtifact.getArtifactLabel());
+        storePayload(component, csarArtifact, payload);
+        ConsoleWriter.dataLine("create artifact unique id ", artifactUniqueId(component, csarArtifact));
+        ConsoleWriter.dataLine("Artifact generated and saved into Cassandra ", csarArtifact.getArtifactLabel());
+        report(component, csarArtifact);
+
+        return JanusGraphOperationStatus.OK;
+    }
+
+    private CassandraOperationStatus storePayload(Component component, ArtifactDefinition csarArtifact, byte[] payload) {
         csarArtifact.setPayload(payload);
         byte[] decodedPayload = csarArtifact.getPayloadData();
 
-        String uniqueId = UniqueIdBuilder.buildPropertyUniqueId(component.getUniqueId(), csarArtifact.getArtifactLabel());
-        csarArtifact.setUniqueId(uniqueId);
+        csarArtifact.setUniqueId(artifactUniqueId(component, csarArtifact));
         csarArtifact.setEsId(csarArtifact.getUniqueId());
-        
-        ConsoleWriter.dataLine("create artifact unique id ", uniqueId);
-        
-        
+
         csarArtifact.setArtifactChecksum(GeneralUtility.calculateMD5Base64EncodedByByteArray(decodedPayload));
         ESArtifactData artifactData = new ESArtifactData(csarArtifact.getEsId(), decodedPayload);
-        artifactCassandraDao.saveArtifact(artifactData);
-        ConsoleWriter.dataLine("Artifact generated and saved into Cassandra ", csarArtifact.getArtifactLabel());
-        report(component, csarArtifact);
+        return artifactCassandraDao.saveArtifact(artifactData);
+    }
 
-        return JanusGraphOperationStatus.OK;
+    private static String artifactUniqueId(Component component, ArtifactDefinition csarArtifact) {
+        return UniqueIdBuilder.buildPropertyUniqueId(component.getUniqueId(), csarArtifact.getArtifactLabel());
     }
 
     private void report(org.openecomp.sdc.be.model.Component component, ArtifactDefinition csarArtifact) {
@@ -202,4 +425,34 @@ public class CsarGenerator extends CommonInternalTool {
             ConsoleWriter.dataLine("\nFailed to created report file.");
         }
     }
+
+    private enum ArtifactGenerationStatus {
+        GENERATED, UNCHANGED, MISSING, FAILED
+    }
+
+    private static class ServiceGenerationResult {
+        private final String uuid;
+        private final String uniqueId;
+        private final String name;
+        private final String version;
+        private ArtifactGenerationStatus toscaTemplate;
+        private ArtifactGenerationStatus toscaCsar;
+        private long durationMs;
+        private String error;
+
+        ServiceGenerationResult(GraphVertex serviceV) {
+            this.uuid = (String) serviceV.getMetadataProperty(GraphPropertyEnum.UUID);
+            this.uniqueId = serviceV.getUniqueId();
+            this.name = (String) serviceV.getMetadataProperty(GraphPropertyEnum.NAME);
+            this.version = (String) serviceV.getMetadataProperty(GraphPropertyEnum.VERSION);
+        }
+
+        boolean isSuccessful() {
+            return error == null && toscaTemplate != ArtifactGenerationStatus.FAILED && toscaCsar != ArtifactGenerationStatus.FAILED;
+        }
+
+        String getStatus() {
+            return isSuccessful() ? "OK" : "FAILED";
+        }
+    }
 }
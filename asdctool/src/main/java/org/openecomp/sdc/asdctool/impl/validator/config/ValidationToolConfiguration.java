@@ -47,8 +47,10 @@ import org.openecomp.sdc.be.dao.jsongraph.HealingJanusGraphDao;
 import org.openecomp.sdc.be.dao.jsongraph.JanusGraphDao;
 import org.openecomp.sdc.be.model.DerivedNodeTypeResolver;
 import org.openecomp.sdc.be.model.jsonjanusgraph.operations.*;
+import org.openecomp.sdc.be.model.operations.api.ComponentLockProvider;
 import org.openecomp.sdc.be.model.operations.api.IGraphLockOperation;
 import org.openecomp.sdc.be.model.operations.impl.GraphLockOperation;
+import org.openecomp.sdc.be.model.operations.impl.JanusGraphComponentLockProvider;
 import org.openecomp.sdc.config.CatalogBESpringConfig;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.config.PropertiesFactoryBean;
@@ -202,6 +204,11 @@ public class ValidationToolConfiguration {
         return new GraphLockOperation();
     }
 
+    @Bean
+    public ComponentLockProvider janusGraphComponentLockProvider() {
+        return new JanusGraphComponentLockProvider();
+    }
+
     @Bean(name = "janusgraph-client")
     @Primary
     public JanusGraphClient janusGraphClient(@Qualifier("dao-client-strategy")
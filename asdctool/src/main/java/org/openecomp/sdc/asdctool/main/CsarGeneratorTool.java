@@ -20,22 +20,42 @@
 
 package org.openecomp.sdc.asdctool.main;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
 import java.util.Scanner;
 
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
 import org.openecomp.sdc.asdctool.configuration.ConfigurationUploader;
 import org.openecomp.sdc.asdctool.configuration.CsarGeneratorConfiguration;
+import org.openecomp.sdc.asdctool.impl.internal.tool.CsarGenerationCriteria;
 import org.openecomp.sdc.asdctool.impl.internal.tool.CsarGenerator;
 import org.openecomp.sdc.asdctool.utils.ConsoleWriter;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 
 public class CsarGeneratorTool extends SdcInternalTool {
 
+    private static final int DEFAULT_THREADS = 4;
+    private static final String DEFAULT_CHECKPOINT_FILE = "csar_generator.checkpoint";
+
     public static void main(String[] args) {
-        if (args == null) {
-            ConsoleWriter.dataLine("Usage: <configuration dir> ");
+        if (args == null || args.length == 0) {
+            ConsoleWriter.dataLine("Usage: <configuration dir> [--bulk [bulk options]]");
             System.exit(1);
         }
         String appConfigDir = args[0];
+        if (args.length > 1) {
+            generateBulk(appConfigDir, Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
 
         disableConsole();
 
@@ -62,4 +82,69 @@ public class CsarGeneratorTool extends SdcInternalTool {
         ConsoleWriter.dataLine("CsarGeneratorTool exit...");
         System.exit(0);
     }
+
+    /**
+     * Regenerates the CSAR of all the certified services matching the command line criteria, without prompting.
+     */
+    private static void generateBulk(String appConfigDir, String[] args) {
+        Options options = buildBulkOptions();
+        CommandLine commandLine;
+        try {
+            commandLine = new DefaultParser().parse(options, args);
+        } catch (ParseException e) {
+            ConsoleWriter.dataLine("Parsing failed. Reason: " + e.getMessage());
+            new HelpFormatter().printHelp("generateCsar.sh <configuration dir>", options);
+            System.exit(1);
+            return;
+        }
+
+        CsarGenerationCriteria criteria = new CsarGenerationCriteria()
+            .setCategory(commandLine.getOptionValue("category"))
+            .setUpdatedFrom(toEpochMilli(commandLine.getOptionValue("updatedFrom")))
+            .setUpdatedTo(commandLine.hasOption("updatedTo") ? toEpochMilli(commandLine.getOptionValue("updatedTo")) + 24 * 60 * 60 * 1000L : null);
+        int threads = Integer.parseInt(commandLine.getOptionValue("threads", String.valueOf(DEFAULT_THREADS)));
+        Path checkpointFile = Paths.get(commandLine.getOptionValue("checkpoint", DEFAULT_CHECKPOINT_FILE));
+        Path reportFile = Paths.get(commandLine.getOptionValue("report", "report_generate_" + System.currentTimeMillis() + ".csv"));
+
+        disableConsole();
+
+        ConfigurationUploader.uploadConfigurationFiles(appConfigDir);
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(CsarGeneratorConfiguration.class);
+        CsarGenerator csarGenerator = context.getBean(CsarGenerator.class);
+        ConsoleWriter.dataLine("STARTED... ", criteria);
+
+        boolean success;
+        try {
+            success = csarGenerator.generateCsars(criteria, threads, checkpointFile, reportFile);
+        } catch (IOException e) {
+            ConsoleWriter.dataLine("Failed to access the checkpoint or report file. " + e.getMessage());
+            success = false;
+        }
+        ConsoleWriter.dataLine("report written to", reportFile.toAbsolutePath());
+        ConsoleWriter.dataLine("CsarGeneratorTool exit...");
+        System.exit(success ? 0 : 2);
+    }
+
+    private static Long toEpochMilli(String date) {
+        return date == null ? null : LocalDate.parse(date).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+    }
+
+    private static Options buildBulkOptions() {
+        Options options = new Options();
+        options.addOption(Option.builder().longOpt("bulk").required()
+            .desc("regenerate the CSAR of all the certified services matching the criteria").build());
+        options.addOption(Option.builder().longOpt("category").hasArg()
+            .desc("only the services of this category").build());
+        options.addOption(Option.builder().longOpt("updatedFrom").hasArg()
+            .desc("only the services updated on or after this date, yyyy-MM-dd").build());
+        options.addOption(Option.builder().longOpt("updatedTo").hasArg()
+            .desc("only the services updated on or before this date, yyyy-MM-dd").build());
+        options.addOption(Option.builder().longOpt("threads").hasArg()
+            .desc("number of services generated in parallel, default " + DEFAULT_THREADS).build());
+        options.addOption(Option.builder().longOpt("checkpoint").hasArg()
+            .desc("file listing the regenerated services, a new run skips them, default " + DEFAULT_CHECKPOINT_FILE).build());
+        options.addOption(Option.builder().longOpt("report").hasArg()
+            .desc("CSV report of the regenerated services").build());
+        return options;
+    }
 }
@@ -58,6 +58,18 @@ public class ExportImportMenu {
 					System.exit(2);
 				}
 			}
+		},EXPORT_SHARDED("Usage: export-sharded <janusgraph.properties> <output directory> [threads]", "export-sharded"){
+			@Override
+			void handle(String[] args) {
+				if (verifyParamsLength(args, 3)) {
+					usage();
+					System.exit(1);
+				}
+
+				if (!GRAPH_ML_CONVERTER.exportShardedGraph(args)) {
+					System.exit(2);
+				}
+			}
 		},EXPORT_AS_GRAPH("Usage: export-as-graph-ml <janusgraph.properties> <output directory>", "export-as-graph-ml"){
 			@Override
 			void handle(String[] args) {
@@ -117,6 +129,17 @@ public class ExportImportMenu {
 					System.exit(2);
 				}
 			}
+		},IMPORT_SHARDED("Usage: import-sharded <janusgraph.properties> <export directory> [threads] [batch size]", "import-sharded"){
+			@Override
+			void handle(String[] args) {
+				if (verifyParamsLength(args, 3)) {
+					usage();
+					System.exit(1);
+				}
+				if (!GRAPH_ML_CONVERTER.importShardedGraph(args)) {
+					System.exit(2);
+				}
+			}
 		},VALIDATE_JSON("Usage: validate-json <export graph path>", "validate-json"){
 			@Override
 			void handle(String[] args) throws IOException {
@@ -21,6 +21,7 @@
 package org.openecomp.sdc.asdctool.migration.config;
 
 import org.openecomp.sdc.asdctool.migration.core.SdcMigrationTool;
+import org.openecomp.sdc.asdctool.migration.core.execution.VertexMigrationEngine;
 import org.openecomp.sdc.asdctool.migration.core.task.Migration;
 import org.openecomp.sdc.asdctool.migration.core.task.PostMigration;
 import org.openecomp.sdc.asdctool.migration.dao.MigrationTasksDao;
@@ -31,8 +32,10 @@ import org.openecomp.sdc.be.components.impl.ResourceBusinessLogic;
 import org.openecomp.sdc.be.components.impl.ServiceBusinessLogic;
 import org.openecomp.sdc.be.components.scheduledtasks.ComponentsCleanBusinessLogic;
 import org.openecomp.sdc.be.config.CatalogModelSpringConfig;
+import org.openecomp.sdc.be.dao.cassandra.ArtifactCassandraDao;
 import org.openecomp.sdc.be.dao.cassandra.CassandraClient;
 import org.openecomp.sdc.be.dao.config.DAOSpringConfig;
+import org.openecomp.sdc.be.dao.jsongraph.JanusGraphDao;
 import org.openecomp.sdc.be.model.jsonjanusgraph.operations.ArtifactsOperations;
 import org.openecomp.sdc.be.model.jsonjanusgraph.operations.InterfaceOperation;
 import org.openecomp.sdc.be.model.operations.api.IElementOperation;
@@ -66,8 +69,14 @@ public class MigrationSpringConfig {
     private List<PostMigration> postMigrations = new ArrayList<>();
 
     @Bean(name = "sdc-migration-tool")
-    public SdcMigrationTool sdcMigrationTool(MigrationResolver migrationResolver, SdcRepoService sdcRepoService) {
-        return new SdcMigrationTool(migrationResolver, sdcRepoService);
+    public SdcMigrationTool sdcMigrationTool(MigrationResolver migrationResolver, SdcRepoService sdcRepoService,
+                                             VertexMigrationEngine vertexMigrationEngine) {
+        return new SdcMigrationTool(migrationResolver, sdcRepoService, vertexMigrationEngine);
+    }
+
+    @Bean(name = "vertex-migration-engine")
+    public VertexMigrationEngine vertexMigrationEngine(JanusGraphDao janusGraphDao, SdcRepoService sdcRepoService) {
+        return new VertexMigrationEngine(janusGraphDao, sdcRepoService);
     }
 
     @Bean(name = "spring-migrations-resolver")
@@ -103,10 +112,11 @@ public class MigrationSpringConfig {
         InterfaceLifecycleOperation interfaceLifecycleTypeOperation,
         ResourceBusinessLogic resourceBusinessLogic,
         ServiceBusinessLogic serviceBusinessLogic,
-        ArtifactsOperations artifactToscaOperation) {
+        ArtifactsOperations artifactToscaOperation,
+        ArtifactCassandraDao artifactCassandraDao) {
         return  new ComponentsCleanBusinessLogic(elementDao, groupOperation,
         groupInstanceOperation, groupTypeOperation, interfaceOperation, interfaceLifecycleTypeOperation, resourceBusinessLogic,
-        serviceBusinessLogic, artifactToscaOperation);
+        serviceBusinessLogic, artifactToscaOperation, artifactCassandraDao);
     }
 
 }
@@ -22,9 +22,11 @@ package org.openecomp.sdc.asdctool.migration.core;
 
 import org.openecomp.sdc.asdctool.migration.core.execution.MigrationExecutionResult;
 import org.openecomp.sdc.asdctool.migration.core.execution.MigrationExecutorImpl;
+import org.openecomp.sdc.asdctool.migration.core.execution.VertexMigrationEngine;
 import org.openecomp.sdc.asdctool.migration.core.task.IMigrationStage;
 import org.openecomp.sdc.asdctool.migration.core.task.IMigrationStage.AspectMigrationEnum;
 import org.openecomp.sdc.asdctool.migration.core.task.MigrationResult;
+import org.openecomp.sdc.asdctool.migration.core.task.VertexMigration;
 import org.openecomp.sdc.asdctool.migration.resolver.MigrationResolver;
 import org.openecomp.sdc.asdctool.migration.service.SdcRepoService;
 import org.openecomp.sdc.common.log.wrappers.Logger;
@@ -39,27 +41,44 @@ public class SdcMigrationTool {
 
     private SdcRepoService sdcRepoService;
 
-    public SdcMigrationTool(MigrationResolver migrationsResolver, SdcRepoService sdcRepoService) {
+    private VertexMigrationEngine vertexMigrationEngine;
+
+    public SdcMigrationTool(MigrationResolver migrationsResolver, SdcRepoService sdcRepoService, VertexMigrationEngine vertexMigrationEngine) {
         this.migrationsResolver = migrationsResolver;
         this.sdcRepoService = sdcRepoService;
+        this.vertexMigrationEngine = vertexMigrationEngine;
     }
 
     public SdcMigrationTool() {
     }
 
     public boolean migrate(boolean enforceAll) {
-        LOGGER.info("starting migration process");
-        handleEnforceMigrationFlag(enforceAll);
+        return migrate(enforceAll, false);
+    }
+
+    /**
+     * @param dryRun when set only the vertex migrations are executed, their changes are rolled back and
+     *               nothing is recorded in the sdc repository
+     */
+    public boolean migrate(boolean enforceAll, boolean dryRun) {
+        LOGGER.info("starting migration process{}", dryRun ? " in dry run" : "");
+        if (!dryRun) {
+            handleEnforceMigrationFlag(enforceAll);
+        }
         List<IMigrationStage> migrations = migrationsResolver.resolveMigrations();
         LOGGER.info("there are {} migrations task to execute", migrations.size());
         for (IMigrationStage migration : migrations) {
+            if (dryRun && !(migration instanceof VertexMigration)) {
+                LOGGER.info("skipping migration {} in dry run", migration.getClass().getName());
+                continue;
+            }
             try {
-                MigrationExecutionResult executionResult = new MigrationExecutorImpl().execute(migration);
+                MigrationExecutionResult executionResult = new MigrationExecutorImpl(vertexMigrationEngine, dryRun).execute(migration);
                 if (migrationHasFailed(executionResult)) {
                     LOGGER.error("migration {} with version {} has failed. error msg: {}", migration.getClass().getName(), migration.getVersion().toString(), executionResult.getMsg());
                     return false;
                 }
-                if(migration.getAspectMigration() == AspectMigrationEnum.MIGRATION)
+                if(!dryRun && migration.getAspectMigration() == AspectMigrationEnum.MIGRATION)
                 	sdcRepoService.createMigrationTask(executionResult.toMigrationTaskEntry());
             } catch (RuntimeException e) {
                 LOGGER.error("migration {} with version {} has failed. error msg: {}", migration.getClass().getName(), migration.getVersion().toString(), e);
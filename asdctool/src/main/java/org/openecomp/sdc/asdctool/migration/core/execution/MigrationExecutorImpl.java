@@ -23,21 +23,36 @@ package org.openecomp.sdc.asdctool.migration.core.execution;
 import org.openecomp.sdc.asdctool.migration.core.MigrationException;
 import org.openecomp.sdc.asdctool.migration.core.task.IMigrationStage;
 import org.openecomp.sdc.asdctool.migration.core.task.MigrationResult;
+import org.openecomp.sdc.asdctool.migration.core.task.VertexMigration;
 import org.openecomp.sdc.common.log.wrappers.Logger;
 import org.springframework.util.StopWatch;
 
+import java.util.Objects;
+
 
 public class MigrationExecutorImpl implements MigrationExecutor {
 
     private static final Logger LOGGER = Logger.getLogger(MigrationExecutorImpl.class);
 
+    private final VertexMigrationEngine vertexMigrationEngine;
+    private final boolean dryRun;
+
+    /**
+     * @param vertexMigrationEngine executes the {@link VertexMigration} tasks, in a dry run as well
+     * @param dryRun                whether the vertex migrations roll back their changes
+     */
+    public MigrationExecutorImpl(VertexMigrationEngine vertexMigrationEngine, boolean dryRun) {
+        this.vertexMigrationEngine = Objects.requireNonNull(vertexMigrationEngine, "a vertex migration engine is required");
+        this.dryRun = dryRun;
+    }
+
     @Override
     public MigrationExecutionResult execute(IMigrationStage migration) throws MigrationException {
         try {
             LOGGER.info("starting migration {}. description: {}. version {}", migration.getClass().getName(), migration.description(),  migration.getVersion().toString());
             StopWatch stopWatch = new StopWatch();
             stopWatch.start();
-            MigrationResult migrationResult = migration.migrate();
+            MigrationResult migrationResult = runMigration(migration);
             stopWatch.stop();
             double executionTime = stopWatch.getTotalTimeSeconds();
             return logAndCreateExecutionResult(migration, migrationResult, executionTime);
@@ -48,6 +63,13 @@ public class MigrationExecutorImpl implements MigrationExecutor {
         }
     }
 
+    private MigrationResult runMigration(IMigrationStage migration) {
+        if (migration instanceof VertexMigration) {
+            return vertexMigrationEngine.migrate((VertexMigration) migration, dryRun);
+        }
+        return migration.migrate();
+    }
+
     private MigrationExecutionResult logAndCreateExecutionResult(IMigrationStage migration, MigrationResult migrationResult, double executionTime) {
         LOGGER.info("finished migration {}. with version {}. migration status: {}, migration message: {}, execution time: {}", migration.getClass().getName(),  migration.getVersion().toString(), migrationResult.getMigrationStatus().name(), migrationResult.getMsg(), executionTime);
         return createMigrationTask(migration, migrationResult, executionTime);
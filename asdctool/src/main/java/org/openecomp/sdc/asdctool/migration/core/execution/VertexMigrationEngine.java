@@ -0,0 +1,238 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.asdctool.migration.core.execution;
+
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import fj.data.Either;
+import org.openecomp.sdc.asdctool.migration.core.task.MigrationResult;
+import org.openecomp.sdc.asdctool.migration.core.task.VertexMigration;
+import org.openecomp.sdc.asdctool.migration.service.SdcRepoService;
+import org.openecomp.sdc.be.dao.janusgraph.JanusGraphOperationStatus;
+import org.openecomp.sdc.be.dao.jsongraph.GraphVertex;
+import org.openecomp.sdc.be.dao.jsongraph.JanusGraphDao;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Executes a {@link VertexMigration} on a pool of workers. The selected vertices are sorted by unique id and
+ * split into partitions, every partition is migrated by a single worker in its own graph transaction and,
+ * once committed, its vertices are checkpointed in the sdc repository. A migration which was interrupted
+ * skips the checkpointed vertices when it is executed again, the checkpoints are deleted once it completes.
+ * <p>
+ * The first failing partition stops the migration: the partitions already running are completed but no new
+ * partition is started. In dry run the partitions are rolled back instead of committed and nothing is
+ * checkpointed.
+ */
+public class VertexMigrationEngine {
+
+    public static final int DEFAULT_WORKERS = 4;
+    public static final int DEFAULT_PARTITION_SIZE = 50;
+
+    private static final Logger LOGGER = Logger.getLogger(VertexMigrationEngine.class);
+
+    private final JanusGraphDao janusGraphDao;
+    private final SdcRepoService sdcRepoService;
+    private int workers = DEFAULT_WORKERS;
+    private int partitionSize = DEFAULT_PARTITION_SIZE;
+
+    public VertexMigrationEngine(JanusGraphDao janusGraphDao, SdcRepoService sdcRepoService) {
+        this.janusGraphDao = janusGraphDao;
+        this.sdcRepoService = sdcRepoService;
+    }
+
+    public void setWorkers(int workers) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("the number of workers must be positive");
+        }
+        this.workers = workers;
+    }
+
+    public void setPartitionSize(int partitionSize) {
+        if (partitionSize < 1) {
+            throw new IllegalArgumentException("the partition size must be positive");
+        }
+        this.partitionSize = partitionSize;
+    }
+
+    public MigrationResult migrate(VertexMigration migration, boolean dryRun) {
+        String taskName = migration.getClass().getName();
+        MigrationResult prepareResult = migration.prepare();
+        if (prepareResult.getMigrationStatus() == MigrationResult.MigrationStatus.FAILED) {
+            return prepareResult;
+        }
+        Either<List<String>, JanusGraphOperationStatus> selected = selectVertexIds(migration);
+        if (selected.isRight()) {
+            return MigrationResult.error("failed to select the vertices to migrate. error: " + selected.right().value());
+        }
+        List<String> vertexIds = selected.left().value();
+        int total = vertexIds.size();
+        if (!dryRun) {
+            Set<String> migrated = sdcRepoService.getMigratedVertices(taskName);
+            if (!migrated.isEmpty()) {
+                vertexIds.removeAll(migrated);
+                LOGGER.info("migration {} resumes, {} of {} vertices were already migrated", taskName, total - vertexIds.size(), total);
+            }
+        }
+        String failure = migratePartitions(migration, taskName, vertexIds, dryRun);
+        if (failure != null) {
+            return MigrationResult.error(failure);
+        }
+        if (!dryRun) {
+            sdcRepoService.deleteMigratedVertices(taskName);
+        }
+        MigrationResult result = MigrationResult.success();
+        result.setMsg(String.format("migrated %d vertices%s", total, dryRun ? " (dry run)" : ""));
+        return result;
+    }
+
+    /**
+     * The vertices are selected on the calling thread, the transaction is released since the workers
+     * fetch the vertices again in their own transactions.
+     */
+    private Either<List<String>, JanusGraphOperationStatus> selectVertexIds(VertexMigration migration) {
+        try {
+            Either<List<GraphVertex>, JanusGraphOperationStatus> vertices = migration.selectVertices();
+            if (vertices.isRight()) {
+                return vertices.right().value() == JanusGraphOperationStatus.NOT_FOUND ? Either.left(new ArrayList<>())
+                        : Either.right(vertices.right().value());
+            }
+            Set<String> vertexIds = new TreeSet<>();
+            vertices.left().value().forEach(vertex -> vertexIds.add(vertex.getUniqueId()));
+            return Either.left(new ArrayList<>(vertexIds));
+        } finally {
+            janusGraphDao.rollback();
+        }
+    }
+
+    private String migratePartitions(VertexMigration migration, String taskName, List<String> vertexIds, boolean dryRun) {
+        if (vertexIds.isEmpty()) {
+            return null;
+        }
+        List<List<String>> partitions = Lists.partition(vertexIds, partitionSize);
+        Progress progress = new Progress(taskName, vertexIds.size());
+        AtomicReference<String> failure = new AtomicReference<>();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(workers, partitions.size()),
+                new ThreadFactoryBuilder().setNameFormat("vertex-migration-%d").build());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (List<String> partition : partitions) {
+                futures.add(executor.submit(() -> {
+                    if (failure.get() == null && migratePartition(migration, taskName, partition, dryRun, failure)) {
+                        progress.partitionDone(partition.size());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, "migration " + taskName + " was interrupted");
+        } catch (ExecutionException e) {
+            LOGGER.error("migration {} has failed", taskName, e);
+            failure.compareAndSet(null, "migration " + taskName + " has failed: " + e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return failure.get();
+    }
+
+    private boolean migratePartition(VertexMigration migration, String taskName, List<String> vertexIds, boolean dryRun,
+                                     AtomicReference<String> failure) {
+        String error = null;
+        try {
+            for (String vertexId : vertexIds) {
+                error = migrateVertex(migration, vertexId);
+                if (error != null) {
+                    break;
+                }
+            }
+            if (error == null && !dryRun) {
+                JanusGraphOperationStatus commitStatus = janusGraphDao.commit();
+                if (commitStatus != JanusGraphOperationStatus.OK) {
+                    failure.compareAndSet(null, "failed to commit the partition starting with vertex " + vertexIds.get(0) + ". error: " + commitStatus);
+                    return false;
+                }
+                sdcRepoService.addMigratedVertices(taskName, vertexIds);
+                return true;
+            }
+        } catch (RuntimeException e) {
+            LOGGER.error("failed to migrate the partition starting with vertex {}", vertexIds.get(0), e);
+            error = "failed to migrate the partition starting with vertex " + vertexIds.get(0) + ". error: " + e.getMessage();
+        }
+        janusGraphDao.rollback();
+        if (error != null) {
+            failure.compareAndSet(null, error);
+            return false;
+        }
+        return true;
+    }
+
+    private String migrateVertex(VertexMigration migration, String vertexId) {
+        Either<GraphVertex, JanusGraphOperationStatus> vertex = janusGraphDao.getVertexById(vertexId, migration.getParseFlag());
+        if (vertex.isRight()) {
+            if (vertex.right().value() == JanusGraphOperationStatus.NOT_FOUND) {
+                LOGGER.debug("vertex {} was removed since it was selected, skipping it", vertexId);
+                return null;
+            }
+            return "failed to fetch vertex " + vertexId + ". error: " + vertex.right().value();
+        }
+        StorageOperationStatus status = migration.migrateVertex(vertex.left().value());
+        return status == StorageOperationStatus.OK ? null : "failed to migrate vertex " + vertexId + ". error: " + status;
+    }
+
+    /**
+     * Logs the throughput and the estimated remaining time of a migration as its partitions complete.
+     */
+    private static class Progress {
+
+        private final String taskName;
+        private final long total;
+        private final long startTime = System.currentTimeMillis();
+        private final AtomicLong done = new AtomicLong();
+
+        Progress(String taskName, long total) {
+            this.taskName = taskName;
+            this.total = total;
+        }
+
+        void partitionDone(int vertices) {
+            long doneSoFar = done.addAndGet(vertices);
+            long elapsedMs = Math.max(1, System.currentTimeMillis() - startTime);
+            double verticesPerSecond = doneSoFar * 1000.0 / elapsedMs;
+            long etaSeconds = Math.round((total - doneSoFar) / verticesPerSecond);
+            LOGGER.info("migration {}: {} of {} vertices, {} vertices/s, about {} seconds left", taskName, doneSoFar,
+                    total, String.format("%.1f", verticesPerSecond), etaSeconds);
+        }
+    }
+}
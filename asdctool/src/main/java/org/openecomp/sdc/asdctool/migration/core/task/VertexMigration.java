@@ -0,0 +1,86 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.asdctool.migration.core.task;
+
+import fj.data.Either;
+import org.openecomp.sdc.asdctool.migration.core.execution.VertexMigrationEngine;
+import org.openecomp.sdc.be.dao.janusgraph.JanusGraphOperationStatus;
+import org.openecomp.sdc.be.dao.jsongraph.GraphVertex;
+import org.openecomp.sdc.be.dao.jsongraph.types.JsonParseFlagEnum;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+/**
+ * A migration applying the same independent transformation to each of the selected vertices, usually the
+ * component containers. It is executed by the {@code VertexMigrationEngine}: the selected vertices are split
+ * into partitions migrated in parallel, each partition in its own graph transaction, and the committed
+ * partitions are checkpointed so an interrupted migration resumes where it stopped.
+ * <p>
+ * A vertex may be migrated again when the tool stops between the commit of its partition and the checkpoint,
+ * so {@link #migrateVertex(GraphVertex)} must be idempotent.
+ */
+public abstract class VertexMigration implements Migration {
+
+    private VertexMigrationEngine vertexMigrationEngine;
+
+    @Autowired
+    public void setVertexMigrationEngine(VertexMigrationEngine vertexMigrationEngine) {
+        this.vertexMigrationEngine = vertexMigrationEngine;
+    }
+
+    /**
+     * Checks the preconditions of the migration before any vertex is selected.
+     */
+    public MigrationResult prepare() {
+        return MigrationResult.success();
+    }
+
+    /**
+     * @return the vertices to migrate, only their unique ids are used so they should be fetched without
+     * parsing their json
+     */
+    public abstract Either<List<GraphVertex>, JanusGraphOperationStatus> selectVertices();
+
+    /**
+     * @return how the selected vertices are parsed when they are fetched for the migration
+     */
+    public JsonParseFlagEnum getParseFlag() {
+        return JsonParseFlagEnum.ParseAll;
+    }
+
+    /**
+     * Migrates a single vertex. The transaction is committed or rolled back by the engine.
+     */
+    public abstract StorageOperationStatus migrateVertex(GraphVertex vertex);
+
+    /**
+     * Migrates the selected vertices on the vertex migration engine, committing their changes.
+     */
+    @Override
+    public MigrationResult migrate() {
+        if (vertexMigrationEngine == null) {
+            return MigrationResult.error("no vertex migration engine is set for " + getClass().getName());
+        }
+        return vertexMigrationEngine.migrate(this, false);
+    }
+}
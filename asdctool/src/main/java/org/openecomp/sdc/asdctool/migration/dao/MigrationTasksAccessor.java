@@ -34,4 +34,10 @@ public interface MigrationTasksAccessor {
     @Query("DELETE FROM sdcrepository.migrationTasks WHERE major_version = :majorVersion")
     void deleteTasksForMajorVersion(@Param("majorVersion") Long majorVersion);
 
+    @Query("SELECT vertex_id FROM sdcrepository.migrationTaskCheckpoints WHERE task_name = :taskName")
+    ResultSet getMigratedVertices(@Param("taskName") String taskName);
+
+    @Query("DELETE FROM sdcrepository.migrationTaskCheckpoints WHERE task_name = :taskName")
+    void deleteMigratedVertices(@Param("taskName") String taskName);
+
 }
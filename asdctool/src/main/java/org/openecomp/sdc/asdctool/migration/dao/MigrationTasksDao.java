@@ -20,6 +20,7 @@
 
 package org.openecomp.sdc.asdctool.migration.dao;
 
+import com.datastax.driver.core.BatchStatement;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
@@ -30,6 +31,7 @@ import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.openecomp.sdc.be.dao.cassandra.CassandraClient;
 import org.openecomp.sdc.be.dao.cassandra.CassandraDao;
 import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
+import org.openecomp.sdc.be.resources.data.MigrationTaskCheckpointEntry;
 import org.openecomp.sdc.be.resources.data.MigrationTaskEntry;
 import org.openecomp.sdc.be.resources.data.auditing.AuditingTypesConstants;
 import org.openecomp.sdc.common.log.wrappers.Logger;
@@ -38,6 +40,9 @@ import org.springframework.stereotype.Service;
 
 import javax.annotation.PostConstruct;
 import java.math.BigInteger;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 
 @Service
 public class MigrationTasksDao extends CassandraDao {
@@ -45,6 +50,7 @@ public class MigrationTasksDao extends CassandraDao {
     private static Logger logger = Logger.getLogger(MigrationTasksDao.class.getName());
     private MigrationTasksAccessor migrationTasksAccessor;
     private Mapper<MigrationTaskEntry> migrationTaskMapper;
+    private Mapper<MigrationTaskCheckpointEntry> migrationTaskCheckpointMapper;
 
     @Autowired
     public MigrationTasksDao(CassandraClient cassandraClient){
@@ -61,6 +67,7 @@ public class MigrationTasksDao extends CassandraDao {
                 manager = result.left().value().right;
                 migrationTasksAccessor = manager.createAccessor(MigrationTasksAccessor.class);
                 migrationTaskMapper =  manager.mapper(MigrationTaskEntry.class);
+                migrationTaskCheckpointMapper = manager.mapper(MigrationTaskCheckpointEntry.class);
                 logger.info("** migrationTasksAccessor created");
             } else {
                 logger.info("** migrationTasksAccessor failed");
@@ -97,5 +104,30 @@ public class MigrationTasksDao extends CassandraDao {
         migrationTaskMapper.save(migrationTask);
     }
 
+    public Set<String> getMigratedVertices(String taskName) {
+        try {
+            Set<String> vertexIds = new HashSet<>();
+            migrationTasksAccessor.getMigratedVertices(taskName).forEach(row -> vertexIds.add(row.getString(0)));
+            return vertexIds;
+        } catch (RuntimeException e) {
+            logger.error("failed to get the migrated vertices of task {}", taskName, e);
+            throw e;
+        }
+    }
+
+    public void addMigratedVertices(String taskName, Collection<String> vertexIds) {
+        BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
+        vertexIds.forEach(vertexId -> batch.add(migrationTaskCheckpointMapper.saveQuery(new MigrationTaskCheckpointEntry(taskName, vertexId))));
+        session.execute(batch);
+    }
+
+    public void deleteMigratedVertices(String taskName) {
+        try {
+            migrationTasksAccessor.deleteMigratedVertices(taskName);
+        } catch (RuntimeException e) {
+            logger.error("failed to delete the migrated vertices of task {}", taskName, e);
+            throw e;
+        }
+    }
 
 }
@@ -20,12 +20,14 @@
 
 package org.openecomp.sdc.asdctool.migration.main;
 
+import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.Option;
 import org.apache.commons.cli.Options;
 import org.openecomp.sdc.asdctool.cli.CLIToolData;
 import org.openecomp.sdc.asdctool.cli.SpringCLITool;
 import org.openecomp.sdc.asdctool.migration.config.MigrationSpringConfig;
 import org.openecomp.sdc.asdctool.migration.core.SdcMigrationTool;
+import org.openecomp.sdc.asdctool.migration.core.execution.VertexMigrationEngine;
 import org.openecomp.sdc.common.log.wrappers.Logger;
 import org.springframework.context.support.AbstractApplicationContext;
 
@@ -36,13 +38,26 @@ public class MigrationMenu extends SpringCLITool {
     public static void main(String[] args) {
         MigrationMenu migrationMenu = new MigrationMenu();
         CLIToolData cliToolData = migrationMenu.init(args);
-        boolean enforceAll = cliToolData.getCommandLine().hasOption("e");
-        migrationMenu.doMigrate(enforceAll, cliToolData.getSpringApplicationContext());
+        CommandLine commandLine = cliToolData.getCommandLine();
+        boolean enforceAll = commandLine.hasOption("e");
+        boolean dryRun = commandLine.hasOption("d");
+        AbstractApplicationContext context = cliToolData.getSpringApplicationContext();
+        configureVertexMigrationEngine(commandLine, context.getBean(VertexMigrationEngine.class));
+        migrationMenu.doMigrate(enforceAll, dryRun, context);
     }
 
-    private void doMigrate(boolean enforceAll, AbstractApplicationContext context) {
+    private static void configureVertexMigrationEngine(CommandLine commandLine, VertexMigrationEngine vertexMigrationEngine) {
+        if (commandLine.hasOption("t")) {
+            vertexMigrationEngine.setWorkers(Integer.parseInt(commandLine.getOptionValue("t")));
+        }
+        if (commandLine.hasOption("p")) {
+            vertexMigrationEngine.setPartitionSize(Integer.parseInt(commandLine.getOptionValue("p")));
+        }
+    }
+
+    private void doMigrate(boolean enforceAll, boolean dryRun, AbstractApplicationContext context) {
         SdcMigrationTool migrationTool = context.getBean(SdcMigrationTool.class);
-        boolean migrate = migrationTool.migrate(enforceAll);
+        boolean migrate = migrationTool.migrate(enforceAll, dryRun);
         if (migrate) {
             LOGGER.info("migration completed successfully");
             System.exit(0);
@@ -57,6 +72,9 @@ public class MigrationMenu extends SpringCLITool {
         Options options = super.buildCmdLineOptions();
         Option enforceAll = buildEnforceAllOption();
         options.addOption(enforceAll);
+        options.addOption(buildDryRunOption());
+        options.addOption(buildThreadsOption());
+        options.addOption(buildPartitionSizeOption());
         return options;
     }
 
@@ -72,6 +90,29 @@ public class MigrationMenu extends SpringCLITool {
                 .build();
     }
 
+    private static Option buildDryRunOption() {
+        return Option.builder("d")
+                .longOpt("dryRun")
+                .desc("run the vertex migrations without committing their changes")
+                .build();
+    }
+
+    private static Option buildThreadsOption() {
+        return Option.builder("t")
+                .longOpt("threads")
+                .hasArg()
+                .desc("number of workers migrating vertices in parallel, default " + VertexMigrationEngine.DEFAULT_WORKERS)
+                .build();
+    }
+
+    private static Option buildPartitionSizeOption() {
+        return Option.builder("p")
+                .longOpt("partitionSize")
+                .hasArg()
+                .desc("number of vertices migrated in a single transaction, default " + VertexMigrationEngine.DEFAULT_PARTITION_SIZE)
+                .build();
+    }
+
     @Override
     protected Class<?> getSpringConfigurationClass() {
         return MigrationSpringConfig.class;
@@ -25,6 +25,8 @@ import org.openecomp.sdc.asdctool.migration.dao.MigrationTasksDao;
 import org.openecomp.sdc.be.resources.data.MigrationTaskEntry;
 
 import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Set;
 
 public class SdcRepoService {
 
@@ -49,6 +51,17 @@ public class SdcRepoService {
         migrationTasksDao.createMigrationTask(migrationTaskEntry);
     }
 
+    public Set<String> getMigratedVertices(String taskName) {
+        return migrationTasksDao.getMigratedVertices(taskName);
+    }
+
+    public void addMigratedVertices(String taskName, Collection<String> vertexIds) {
+        migrationTasksDao.addMigratedVertices(taskName, vertexIds);
+    }
+
+    public void deleteMigratedVertices(String taskName) {
+        migrationTasksDao.deleteMigratedVertices(taskName);
+    }
 
 
 }
@@ -24,8 +24,8 @@ import java.util.Map;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.openecomp.sdc.asdctool.migration.core.DBVersion;
-import org.openecomp.sdc.asdctool.migration.core.task.Migration;
 import org.openecomp.sdc.asdctool.migration.core.task.MigrationResult;
+import org.openecomp.sdc.asdctool.migration.core.task.VertexMigration;
 import org.openecomp.sdc.be.config.ConfigurationManager;
 import org.openecomp.sdc.be.dao.api.ActionStatus;
 import org.openecomp.sdc.be.dao.janusgraph.JanusGraphOperationStatus;
@@ -46,7 +46,7 @@ import org.openecomp.sdc.common.log.wrappers.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 
 @org.springframework.stereotype.Component
-public class InterfaceOperationMigration implements Migration {
+public class InterfaceOperationMigration extends VertexMigration {
 
     private static final Logger LOGGER = Logger.getLogger(InterfaceOperationMigration.class);
 
@@ -68,7 +68,7 @@ public class InterfaceOperationMigration implements Migration {
     }
 
     @Override
-    public MigrationResult migrate() {
+    public MigrationResult prepare() {
         final String userId = ConfigurationManager.getConfigurationManager().getConfiguration().getAutoHealingOwner();
 
         Either<User, ActionStatus> userData = userAdminOperation.getUserData(userId, false);
@@ -77,35 +77,20 @@ public class InterfaceOperationMigration implements Migration {
                     "failed to update interface operation data. Failed to resolve user : "
                             + userId + " error " + userData.right().value());
         }
-
-        StorageOperationStatus status = getAndUpdateAllComponents();
-        return status == StorageOperationStatus.OK ? MigrationResult.success()
-                : MigrationResult.error("failed to update interface operation data . Error : " + status);
+        return MigrationResult.success();
     }
 
-    private StorageOperationStatus getAndUpdateAllComponents(){
+    @Override
+    public Either<List<GraphVertex>, JanusGraphOperationStatus> selectVertices() {
         Map<GraphPropertyEnum, Object> hasNotProps = new EnumMap<>(GraphPropertyEnum.class);
         hasNotProps.put(GraphPropertyEnum.IS_DELETED, true);
         return janusGraphDao
-            .getByCriteria(VertexTypeEnum.TOPOLOGY_TEMPLATE, null, hasNotProps, JsonParseFlagEnum.ParseAll)
-                .either(this::updateComponentVertices, this::handleError);
-    }
-
-    private StorageOperationStatus updateComponentVertices(List<GraphVertex> containersV) {
-        StorageOperationStatus status = StorageOperationStatus.OK;
-        for (GraphVertex container : containersV) {
-            status = updateDataOnGraph(container);
-            if (status != StorageOperationStatus.OK) {
-                break;
-            }
-        }
-        return status;
+            .getByCriteria(VertexTypeEnum.TOPOLOGY_TEMPLATE, null, hasNotProps, JsonParseFlagEnum.NoParse);
     }
 
-    private StorageOperationStatus handleError(JanusGraphOperationStatus err) {
-        janusGraphDao.rollback();
-        return DaoStatusConverter.convertJanusGraphStatusToStorageStatus(
-                JanusGraphOperationStatus.NOT_FOUND == err ? JanusGraphOperationStatus.OK : err);
+    @Override
+    public StorageOperationStatus migrateVertex(GraphVertex componentVertex) {
+        return updateDataOnGraph(componentVertex);
     }
 
     private StorageOperationStatus updateDataOnGraph(GraphVertex componentVertex) {
@@ -158,11 +143,8 @@ public class InterfaceOperationMigration implements Migration {
                     }
                 }
             }
-
-            janusGraphDao.commit();
         } catch (Exception e) {
             LOGGER.debug("Interface operation migration failed with error : ", e);
-            janusGraphDao.rollback();
             return StorageOperationStatus.GENERAL_ERROR;
         }
 
@@ -0,0 +1,287 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.asdctool.impl;
+
+import com.google.gson.Gson;
+import org.apache.commons.configuration.BaseConfiguration;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.janusgraph.core.JanusGraph;
+import org.janusgraph.core.JanusGraphFactory;
+import org.janusgraph.core.JanusGraphTransaction;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.openecomp.sdc.be.datatypes.enums.GraphPropertyEnum;
+import org.openecomp.sdc.be.datatypes.enums.NodeTypeEnum;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class GraphShardExportImportTest {
+
+    private static final String UID = GraphPropertyEnum.UNIQUE_ID.getProperty();
+    private static final String NODE_LABEL = GraphPropertyEnum.LABEL.getProperty();
+    private static final String RESOURCE_SHARD = "shard-" + NodeTypeEnum.Resource.getName() + ".graphson.gz";
+    private static final String OTHER_SHARD = "shard-other.graphson.gz";
+    private static final int RESOURCES = 25;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private JanusGraph source;
+    private JanusGraph target;
+
+    @Before
+    public void setUp() {
+        source = openInMemoryGraph();
+        target = openInMemoryGraph();
+        JanusGraphTransaction tx = source.newTransaction();
+        Vertex previous = null;
+        for (int i = 0; i < RESOURCES; i++) {
+            Vertex resource = tx.addVertex();
+            resource.property(UID, "resource-" + i);
+            resource.property(NODE_LABEL, NodeTypeEnum.Resource.getName());
+            resource.property("name", "resource " + i);
+            if (previous != null) {
+                previous.addEdge("DERIVED_FROM", resource, "order", i);
+            }
+            previous = resource;
+        }
+        Vertex unknown = tx.addVertex();
+        unknown.property(UID, "unknown");
+        unknown.property(NODE_LABEL, "someLabel");
+        Vertex unlabeled = tx.addVertex();
+        unlabeled.property(UID, "unlabeled");
+        unknown.addEdge("CONTAINS", unlabeled);
+        unlabeled.addEdge("CONTAINS", previous);
+        tx.commit();
+    }
+
+    @After
+    public void tearDown() {
+        source.close();
+        target.close();
+    }
+
+    @Test
+    public void testExportWritesShardsAndManifest() throws Exception {
+        Path exportDirectory = export();
+
+        GraphExportManifest manifest = readManifest(exportDirectory);
+        assertEquals(GraphExportManifest.FORMAT, manifest.getFormat());
+        assertEquals(RESOURCES + 2, manifest.getTotalVertices());
+        Map<String, GraphExportManifest.Shard> shards = new HashMap<>();
+        for (GraphExportManifest.Shard shard : manifest.getShards()) {
+            shards.put(shard.getFile(), shard);
+            assertEquals(Files.size(exportDirectory.resolve(shard.getFile())), shard.getBytes());
+        }
+        assertEquals(2, shards.size());
+        assertEquals(RESOURCES, shards.get(RESOURCE_SHARD).getVertices());
+        assertEquals(NodeTypeEnum.Resource.getName(), shards.get(RESOURCE_SHARD).getLabel());
+        assertEquals(2, shards.get(OTHER_SHARD).getVertices());
+        assertNull(shards.get(OTHER_SHARD).getLabel());
+    }
+
+    @Test
+    public void testExportImportRoundTrip() throws Exception {
+        Path exportDirectory = export();
+
+        assertTrue(new GraphShardImporter(2, 10).importGraph(target, exportDirectory.toString()));
+
+        assertEquals(countVertices(source), countVertices(target));
+        assertEquals(countEdges(source), countEdges(target));
+        assertEquals(edgesByUid(source), edgesByUid(target));
+        JanusGraphTransaction tx = target.buildTransaction().readOnly().start();
+        try {
+            Vertex resource = tx.traversal().V().has(UID, "resource-3").next();
+            assertEquals("resource 3", resource.value("name"));
+            assertEquals(NodeTypeEnum.Resource.getName(), resource.value(NODE_LABEL));
+            Edge derivedFrom = resource.edges(Direction.OUT, "DERIVED_FROM").next();
+            assertEquals(4, (int) derivedFrom.value("order"));
+        } finally {
+            tx.rollback();
+        }
+    }
+
+    @Test
+    public void testImportRefusesNonEmptyGraph() throws Exception {
+        Path exportDirectory = export();
+        JanusGraphTransaction tx = target.newTransaction();
+        tx.addVertex().property(UID, "existing");
+        tx.commit();
+
+        assertFalse(new GraphShardImporter(2, 10).importGraph(target, exportDirectory.toString()));
+        assertEquals(1, countVertices(target));
+    }
+
+    @Test
+    public void testImportFailsOnMissingShard() throws Exception {
+        Path exportDirectory = export();
+        Files.delete(exportDirectory.resolve(OTHER_SHARD));
+
+        assertFalse(new GraphShardImporter(2, 10).importGraph(target, exportDirectory.toString()));
+    }
+
+    @Test
+    public void testImportFailsOnCorruptShard() throws Exception {
+        Path exportDirectory = export();
+        Files.write(exportDirectory.resolve(RESOURCE_SHARD), "not a gzipped shard".getBytes(StandardCharsets.UTF_8));
+
+        assertFalse(new GraphShardImporter(2, 10).importGraph(target, exportDirectory.toString()));
+    }
+
+    @Test
+    public void testImportFailsOnMissingManifest() throws Exception {
+        Path exportDirectory = export();
+        Files.delete(exportDirectory.resolve(GraphExportManifest.FILE_NAME));
+
+        assertFalse(new GraphShardImporter(2, 10).importGraph(target, exportDirectory.toString()));
+    }
+
+    @Test
+    public void testImportFailsOnMismatchedShardCount() throws Exception {
+        Path exportDirectory = export();
+        GraphExportManifest manifest = readManifest(exportDirectory);
+        for (GraphExportManifest.Shard shard : manifest.getShards()) {
+            if (RESOURCE_SHARD.equals(shard.getFile())) {
+                shard.setVertices(shard.getVertices() - 1);
+            }
+        }
+        writeManifest(exportDirectory, manifest);
+
+        assertFalse(new GraphShardImporter(2, 10).importGraph(target, exportDirectory.toString()));
+    }
+
+    @Test
+    public void testImportFailsOnMismatchedTotalVertices() throws Exception {
+        Path exportDirectory = export();
+        GraphExportManifest manifest = readManifest(exportDirectory);
+        manifest.setTotalVertices(manifest.getTotalVertices() + 1);
+        writeManifest(exportDirectory, manifest);
+
+        assertFalse(new GraphShardImporter(2, 10).importGraph(target, exportDirectory.toString()));
+        assertEquals(0, countEdges(target));
+    }
+
+    @Test
+    public void testImportFailsOnUnsupportedFormat() throws Exception {
+        Path exportDirectory = export();
+        GraphExportManifest manifest = readManifest(exportDirectory);
+        manifest.setFormat("graphml");
+        writeManifest(exportDirectory, manifest);
+
+        assertFalse(new GraphShardImporter(2, 10).importGraph(target, exportDirectory.toString()));
+        assertEquals(0, countVertices(target));
+    }
+
+    @Test
+    public void testProgressCountsIncrements() {
+        GraphShardProgress progress = new GraphShardProgress("test");
+        for (int i = 0; i < 5; i++) {
+            progress.increment();
+        }
+        progress.report();
+
+        assertEquals(5, progress.getCount());
+        assertTrue(progress.getElapsedMs() >= 0);
+    }
+
+    private Path export() throws IOException {
+        String exportDirectory = new GraphShardExporter(2).exportGraph(source, temporaryFolder.newFolder().getPath());
+        assertNotNull(exportDirectory);
+        return Paths.get(exportDirectory);
+    }
+
+    private static JanusGraph openInMemoryGraph() {
+        BaseConfiguration conf = new BaseConfiguration();
+        conf.setProperty("storage.backend", "inmemory");
+        return JanusGraphFactory.open(conf);
+    }
+
+    private static GraphExportManifest readManifest(Path exportDirectory) throws IOException {
+        try (Reader reader = Files.newBufferedReader(exportDirectory.resolve(GraphExportManifest.FILE_NAME), StandardCharsets.UTF_8)) {
+            return new Gson().fromJson(reader, GraphExportManifest.class);
+        }
+    }
+
+    private static void writeManifest(Path exportDirectory, GraphExportManifest manifest) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(exportDirectory.resolve(GraphExportManifest.FILE_NAME), StandardCharsets.UTF_8)) {
+            new Gson().toJson(manifest, writer);
+        }
+    }
+
+    private static long countVertices(JanusGraph graph) {
+        JanusGraphTransaction tx = graph.buildTransaction().readOnly().start();
+        try {
+            return tx.traversal().V().count().next();
+        } finally {
+            tx.rollback();
+        }
+    }
+
+    private static long countEdges(JanusGraph graph) {
+        JanusGraphTransaction tx = graph.buildTransaction().readOnly().start();
+        try {
+            return tx.traversal().E().count().next();
+        } finally {
+            tx.rollback();
+        }
+    }
+
+    /**
+     * The edges described by the unique ids of their vertices, equal in both graphs only if the exported vertex
+     * ids were mapped to the imported vertices.
+     */
+    private static Set<String> edgesByUid(JanusGraph graph) {
+        Set<String> edges = new HashSet<>();
+        JanusGraphTransaction tx = graph.buildTransaction().readOnly().start();
+        try {
+            Iterator<Edge> iterator = tx.traversal().E();
+            while (iterator.hasNext()) {
+                Edge edge = iterator.next();
+                edges.add(edge.outVertex().value(UID) + " -" + edge.label() + "-> " + edge.inVertex().value(UID));
+            }
+        } finally {
+            tx.rollback();
+        }
+        return edges;
+    }
+}
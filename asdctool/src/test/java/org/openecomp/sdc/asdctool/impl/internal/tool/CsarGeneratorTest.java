@@ -18,14 +18,25 @@
 package org.openecomp.sdc.asdctool.impl.internal.tool;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
@@ -36,13 +47,16 @@ import java.util.Scanner;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.BeforeClass;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.openecomp.sdc.be.config.ConfigurationManager;
 import org.openecomp.sdc.be.dao.cassandra.ArtifactCassandraDao;
+import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
 import org.openecomp.sdc.be.dao.janusgraph.JanusGraphOperationStatus;
 import org.openecomp.sdc.be.dao.jsongraph.GraphVertex;
 import org.openecomp.sdc.be.dao.jsongraph.JanusGraphDao;
@@ -65,6 +79,7 @@ import org.openecomp.sdc.common.api.ArtifactTypeEnum;
 import org.openecomp.sdc.common.api.ConfigurationSource;
 import org.openecomp.sdc.common.impl.ExternalConfiguration;
 import org.openecomp.sdc.common.impl.FSConfigurationSource;
+import org.openecomp.sdc.common.util.GeneralUtility;
 
 @RunWith(MockitoJUnitRunner.class)
 public class CsarGeneratorTest {
@@ -99,6 +114,9 @@ public class CsarGeneratorTest {
     @Mock
     ToscaRepresentation toscaRepresentation;
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private static final String ANSWER = "yes";
     private static final String UUID = "123";
     private static final String UNIQUE_ID = "321";
@@ -303,6 +321,104 @@ public class CsarGeneratorTest {
         assertEquals("", consoleOutput[10]);
     }
 
+    @Test
+    public void testGenerateCsarsIsResumable() throws IOException {
+        // given
+        mockCertifiedService();
+        mockPayloads();
+        when(toscaTemplate.getArtifactLabel()).thenReturn(TEMPLATE_LABEL);
+        when(toscaTemplate.getPayloadData()).thenReturn(PAYLOAD.getBytes());
+        when(toscaCsar.getArtifactLabel()).thenReturn(CSAR_LABEL);
+        when(toscaCsar.getPayloadData()).thenReturn(PAYLOAD.getBytes());
+        when(artifactCassandraDao.saveArtifact(any())).thenReturn(CassandraOperationStatus.OK);
+        when(janusGraphDao.getVertexById(UNIQUE_ID, JsonParseFlagEnum.NoParse)).thenReturn(Either.left(graphVertex));
+        when(janusGraphDao.getChildVertex(graphVertex, EdgeLabelEnum.TOSCA_ARTIFACTS,
+            JsonParseFlagEnum.ParseJson)).thenReturn(Either.left(graphVertex));
+        when(janusGraphDao.updateVertex(graphVertex)).thenReturn(Either.left(graphVertex));
+        when(janusGraphDao.commit()).thenReturn(JanusGraphOperationStatus.OK);
+        Path checkpoint = temporaryFolder.getRoot().toPath().resolve("checkpoint");
+        Path report = temporaryFolder.getRoot().toPath().resolve("report.csv");
+
+        // when
+        boolean firstRun = test.generateCsars(new CsarGenerationCriteria(), 2, checkpoint, report);
+        boolean secondRun = test.generateCsars(new CsarGenerationCriteria(), 2, checkpoint, report);
+
+        // then
+        assertTrue(firstRun);
+        assertTrue(secondRun);
+        verify(toscaOperationFacade, times(1)).getToscaFullElement(UNIQUE_ID);
+        verify(artifactCassandraDao, times(2)).saveArtifact(any());
+        assertEquals(Collections.singletonList(UNIQUE_ID), Files.readAllLines(checkpoint));
+    }
+
+    @Test
+    public void testGenerateCsarsSkipsUnchangedArtifacts() throws IOException {
+        // given
+        mockCertifiedService();
+        mockPayloads();
+        String checksum = GeneralUtility.calculateMD5Base64EncodedByByteArray(PAYLOAD.getBytes());
+        when(toscaTemplate.getArtifactLabel()).thenReturn(TEMPLATE_LABEL);
+        when(toscaTemplate.getEsId()).thenReturn(UNIQUE_ID + "." + TEMPLATE_LABEL);
+        when(toscaTemplate.getArtifactChecksum()).thenReturn(checksum);
+        when(toscaCsar.getArtifactLabel()).thenReturn(CSAR_LABEL);
+        when(toscaCsar.getEsId()).thenReturn(UNIQUE_ID + "." + CSAR_LABEL);
+        when(toscaCsar.getArtifactChecksum()).thenReturn(checksum);
+        Path report = temporaryFolder.getRoot().toPath().resolve("report.csv");
+
+        // when
+        boolean result = test.generateCsars(new CsarGenerationCriteria(), 1,
+            temporaryFolder.getRoot().toPath().resolve("checkpoint"), report);
+
+        // then
+        assertTrue(result);
+        verify(artifactCassandraDao, never()).saveArtifact(any());
+        verify(janusGraphDao, never()).commit();
+        List<String> lines = Files.readAllLines(report);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(1).startsWith(UUID + "," + UNIQUE_ID + ",,,OK,UNCHANGED,UNCHANGED,"));
+    }
+
+    @Test
+    public void testGenerateCsarsFailure() throws IOException {
+        // given
+        mockCertifiedService();
+        when(toscaExportHandler.exportComponent(component)).thenReturn(Either.right(null));
+        when(csarUtils.createCsar(component, true, true)).thenReturn(Either.left(PAYLOAD.getBytes()));
+        Path checkpoint = temporaryFolder.getRoot().toPath().resolve("checkpoint");
+
+        // when
+        boolean result = test.generateCsars(new CsarGenerationCriteria(), 1, checkpoint,
+            temporaryFolder.getRoot().toPath().resolve("report.csv"));
+
+        // then
+        assertFalse(result);
+        assertTrue(Files.readAllLines(checkpoint).isEmpty());
+    }
+
+    private void mockCertifiedService() {
+        graphVertex.setUniqueId(UNIQUE_ID);
+        service.put(GraphPropertyEnum.UUID, UUID);
+        graphVertex.setMetadataProperties(service);
+        criteria.add(graphVertex);
+
+        when(toscaTemplate.getArtifactType()).thenReturn(ArtifactTypeEnum.TOSCA_TEMPLATE.getType());
+        toscaArtifact.put("toscaTemplate", toscaTemplate);
+        when(toscaCsar.getArtifactType()).thenReturn(ArtifactTypeEnum.TOSCA_CSAR.getType());
+        toscaArtifact.put("toscaCsar", toscaCsar);
+        when(component.getUniqueId()).thenReturn(UNIQUE_ID);
+        when(component.getToscaArtifacts()).thenReturn(toscaArtifact);
+
+        when(janusGraphDao.getByCriteria(eq(VertexTypeEnum.TOPOLOGY_TEMPLATE), anyMap(), anyMap(),
+            eq(JsonParseFlagEnum.ParseMetadata))).thenReturn(Either.left(criteria));
+        when(toscaOperationFacade.getToscaFullElement(UNIQUE_ID)).thenReturn(Either.left(component));
+    }
+
+    private void mockPayloads() {
+        when(toscaRepresentation.getMainYaml()).thenReturn(PAYLOAD);
+        when(toscaExportHandler.exportComponent(component)).thenReturn(Either.left(toscaRepresentation));
+        when(csarUtils.createCsar(component, true, true)).thenReturn(Either.left(PAYLOAD.getBytes()));
+    }
+
     private void checkBasicInformation(String[] consoleOutput) {
         assertEquals("component from type\t" + ComponentTypeEnum.SERVICE.name(), consoleOutput[0]);
         assertEquals("component name", consoleOutput[1]);
@@ -47,7 +47,7 @@ public class MigrationSpringConfigTest {
 
 		// default test
 		testSubject = createTestSubject();
-		result = testSubject.sdcMigrationTool(migrationResolver, sdcRepoService);
+		result = testSubject.sdcMigrationTool(migrationResolver, sdcRepoService, null);
 	}
 
 	@Test
@@ -25,6 +25,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.mockito.internal.verification.Times;
+import org.openecomp.sdc.asdctool.migration.core.execution.VertexMigrationEngine;
 import org.openecomp.sdc.asdctool.migration.core.task.Migration;
 import org.openecomp.sdc.asdctool.migration.core.task.MigrationResult;
 import org.openecomp.sdc.asdctool.migration.resolver.MigrationResolver;
@@ -48,6 +49,9 @@ public class SdcMigrationToolTest {
 	@Mock
 	private SdcRepoService sdcRepoServiceMock;
 
+	@Mock
+	private VertexMigrationEngine vertexMigrationEngineMock;
+
 	@BeforeMethod
     public void setUp() {
 		MockitoAnnotations.initMocks(this);
@@ -21,10 +21,15 @@
 package org.openecomp.sdc.asdctool.migration.core.execution;
 
 import org.openecomp.sdc.asdctool.migration.DummyMigrationFactory;
+import org.openecomp.sdc.asdctool.migration.core.DBVersion;
 import org.openecomp.sdc.asdctool.migration.core.task.Migration;
 import org.openecomp.sdc.asdctool.migration.core.task.MigrationResult;
+import org.openecomp.sdc.asdctool.migration.core.task.VertexMigration;
 import org.testng.annotations.Test;
 
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 
@@ -32,10 +37,28 @@ public class MigrationExecutorImplTest {
 
     @Test
     public void testExecuteMigration() {
-        MigrationExecutionResult execute = new MigrationExecutorImpl().execute(DummyMigrationFactory.SUCCESSFUL_MIGRATION);
+        MigrationExecutionResult execute = new MigrationExecutorImpl(mock(VertexMigrationEngine.class), false)
+                .execute(DummyMigrationFactory.SUCCESSFUL_MIGRATION);
         assertMigrationTaskEntryByMigrationExecutionResult(execute, DummyMigrationFactory.SUCCESSFUL_MIGRATION);
     }
 
+    @Test
+    public void testExecuteVertexMigrationOnEngine() {
+        VertexMigration migration = mock(VertexMigration.class);
+        when(migration.getVersion()).thenReturn(DBVersion.CURRENT_VERSION);
+        VertexMigrationEngine engine = mock(VertexMigrationEngine.class);
+        when(engine.migrate(migration, true)).thenReturn(MigrationResult.success());
+
+        MigrationExecutionResult execute = new MigrationExecutorImpl(engine, true).execute(migration);
+        assertEquals(execute.getMigrationStatus(), MigrationResult.MigrationStatus.COMPLETED);
+        verify(engine).migrate(migration, true);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void testExecutorRequiresVertexMigrationEngine() {
+        new MigrationExecutorImpl(null, false);
+    }
+
     private void assertMigrationTaskEntryByMigrationExecutionResult(MigrationExecutionResult executionResult, Migration migration) {
         MigrationResult migrationResult = migration.migrate();
         assertEquals(executionResult.getMsg(), migrationResult.getMsg());
@@ -0,0 +1,208 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.asdctool.migration.core.execution;
+
+import fj.data.Either;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.openecomp.sdc.asdctool.migration.core.DBVersion;
+import org.openecomp.sdc.asdctool.migration.core.task.MigrationResult;
+import org.openecomp.sdc.asdctool.migration.core.task.VertexMigration;
+import org.openecomp.sdc.asdctool.migration.service.SdcRepoService;
+import org.openecomp.sdc.be.dao.janusgraph.JanusGraphOperationStatus;
+import org.openecomp.sdc.be.dao.jsongraph.GraphVertex;
+import org.openecomp.sdc.be.dao.jsongraph.JanusGraphDao;
+import org.openecomp.sdc.be.dao.jsongraph.types.JsonParseFlagEnum;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+public class VertexMigrationEngineTest {
+
+    private static final String TASK_NAME = TestVertexMigration.class.getName();
+
+    @Mock
+    private JanusGraphDao janusGraphDao;
+    @Mock
+    private SdcRepoService sdcRepoService;
+
+    private VertexMigrationEngine testInstance;
+
+    @BeforeMethod
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        testInstance = new VertexMigrationEngine(janusGraphDao, sdcRepoService);
+        testInstance.setWorkers(3);
+        testInstance.setPartitionSize(2);
+        when(janusGraphDao.getVertexById(anyString(), any(JsonParseFlagEnum.class)))
+                .thenAnswer(invocation -> Either.left(vertex(invocation.getArgument(0))));
+        when(janusGraphDao.commit()).thenReturn(JanusGraphOperationStatus.OK);
+        when(sdcRepoService.getMigratedVertices(TASK_NAME)).thenReturn(Collections.emptySet());
+    }
+
+    @Test
+    public void testMigrateAllVerticesAndDeleteCheckpoints() {
+        TestVertexMigration migration = new TestVertexMigration(Arrays.asList("v5", "v1", "v3", "v2", "v4"), null);
+        MigrationResult result = testInstance.migrate(migration, false);
+
+        assertEquals(result.getMigrationStatus(), MigrationResult.MigrationStatus.COMPLETED);
+        assertEquals(migration.migrated, new HashSet<>(Arrays.asList("v1", "v2", "v3", "v4", "v5")));
+        verify(janusGraphDao, times(3)).commit();
+        verify(sdcRepoService).addMigratedVertices(TASK_NAME, Arrays.asList("v1", "v2"));
+        verify(sdcRepoService).addMigratedVertices(TASK_NAME, Arrays.asList("v3", "v4"));
+        verify(sdcRepoService).addMigratedVertices(TASK_NAME, Collections.singletonList("v5"));
+        verify(sdcRepoService).deleteMigratedVertices(TASK_NAME);
+    }
+
+    @Test
+    public void testMigrateTaskOnItsEngine() {
+        TestVertexMigration migration = new TestVertexMigration(Arrays.asList("v1", "v2", "v3"), null);
+        migration.setVertexMigrationEngine(testInstance);
+        MigrationResult result = migration.migrate();
+
+        assertEquals(result.getMigrationStatus(), MigrationResult.MigrationStatus.COMPLETED);
+        assertEquals(migration.migrated, new HashSet<>(Arrays.asList("v1", "v2", "v3")));
+        verify(sdcRepoService).deleteMigratedVertices(TASK_NAME);
+    }
+
+    @Test
+    public void testMigrateTaskWithoutEngineFails() {
+        TestVertexMigration migration = new TestVertexMigration(Arrays.asList("v1", "v2", "v3"), null);
+        MigrationResult result = migration.migrate();
+
+        assertEquals(result.getMigrationStatus(), MigrationResult.MigrationStatus.FAILED);
+        assertEquals(migration.migrated, Collections.emptySet());
+    }
+
+    @Test
+    public void testResumeSkipsCheckpointedVertices() {
+        when(sdcRepoService.getMigratedVertices(TASK_NAME)).thenReturn(new HashSet<>(Arrays.asList("v1", "v2")));
+        TestVertexMigration migration = new TestVertexMigration(Arrays.asList("v1", "v2", "v3"), null);
+        MigrationResult result = testInstance.migrate(migration, false);
+
+        assertEquals(result.getMigrationStatus(), MigrationResult.MigrationStatus.COMPLETED);
+        assertEquals(migration.migrated, Collections.singleton("v3"));
+    }
+
+    @Test
+    public void testDryRunRollsBackWithoutCheckpoints() {
+        TestVertexMigration migration = new TestVertexMigration(Arrays.asList("v1", "v2", "v3"), null);
+        MigrationResult result = testInstance.migrate(migration, true);
+
+        assertEquals(result.getMigrationStatus(), MigrationResult.MigrationStatus.COMPLETED);
+        assertEquals(migration.migrated.size(), 3);
+        verify(janusGraphDao, never()).commit();
+        verify(sdcRepoService, never()).getMigratedVertices(anyString());
+        verify(sdcRepoService, never()).addMigratedVertices(anyString(), anyCollection());
+        verify(sdcRepoService, never()).deleteMigratedVertices(anyString());
+    }
+
+    @Test
+    public void testFailedPartitionFailsMigration() {
+        testInstance.setWorkers(1);
+        TestVertexMigration migration = new TestVertexMigration(Arrays.asList("v1", "v2", "v3", "v4"), "v2");
+        MigrationResult result = testInstance.migrate(migration, false);
+
+        assertEquals(result.getMigrationStatus(), MigrationResult.MigrationStatus.FAILED);
+        assertEquals(migration.migrated, Collections.singleton("v1"));
+        verify(janusGraphDao, never()).commit();
+        verify(sdcRepoService, never()).addMigratedVertices(eq(TASK_NAME), anyCollection());
+        verify(sdcRepoService, never()).deleteMigratedVertices(anyString());
+    }
+
+    @Test
+    public void testNoVerticesToMigrate() {
+        TestVertexMigration migration = new TestVertexMigration(null, null);
+        MigrationResult result = testInstance.migrate(migration, false);
+
+        assertEquals(result.getMigrationStatus(), MigrationResult.MigrationStatus.COMPLETED);
+        verify(janusGraphDao, never()).getVertexById(anyString(), any(JsonParseFlagEnum.class));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidPartitionSize() {
+        testInstance.setPartitionSize(0);
+    }
+
+    private static GraphVertex vertex(String uniqueId) {
+        GraphVertex vertex = new GraphVertex();
+        vertex.setUniqueId(uniqueId);
+        return vertex;
+    }
+
+    private static class TestVertexMigration extends VertexMigration {
+
+        private final List<String> vertexIds;
+        private final String failingVertexId;
+        private final Set<String> migrated = ConcurrentHashMap.newKeySet();
+
+        TestVertexMigration(List<String> vertexIds, String failingVertexId) {
+            this.vertexIds = vertexIds;
+            this.failingVertexId = failingVertexId;
+        }
+
+        @Override
+        public Either<List<GraphVertex>, JanusGraphOperationStatus> selectVertices() {
+            if (vertexIds == null) {
+                return Either.right(JanusGraphOperationStatus.NOT_FOUND);
+            }
+            return Either.left(vertexIds.stream().map(VertexMigrationEngineTest::vertex).collect(Collectors.toList()));
+        }
+
+        @Override
+        public StorageOperationStatus migrateVertex(GraphVertex vertex) {
+            if (vertex.getUniqueId().equals(failingVertexId)) {
+                return StorageOperationStatus.GENERAL_ERROR;
+            }
+            migrated.add(vertex.getUniqueId());
+            return StorageOperationStatus.OK;
+        }
+
+        @Override
+        public String description() {
+            return "test vertex migration";
+        }
+
+        @Override
+        public DBVersion getVersion() {
+            return DBVersion.from(BigInteger.ONE, BigInteger.ONE);
+        }
+    }
+}
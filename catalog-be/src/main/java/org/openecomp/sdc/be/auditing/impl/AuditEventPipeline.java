@@ -0,0 +1,344 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.auditing.impl;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.openecomp.sdc.be.config.Configuration.AsyncAuditConfig;
+import org.openecomp.sdc.be.dao.api.ActionStatus;
+import org.openecomp.sdc.be.dao.cassandra.AuditCassandraDao;
+import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
+import org.openecomp.sdc.be.dao.impl.AuditingDao;
+import org.openecomp.sdc.be.resources.data.auditing.AuditingGenericEvent;
+import org.openecomp.sdc.common.datastructure.ESTimeBasedEvent;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded asynchronous writer of audit events.
+ * Request threads only enqueue the events; background workers group them into ES bulk requests and
+ * Cassandra unlogged batches. When the queue is full the configured {@link OverflowPolicy} applies.
+ */
+public class AuditEventPipeline implements AuditEventPipelineMBean {
+
+    enum OverflowPolicy {
+        BLOCK, DROP, SPILL
+    }
+
+    private static final Logger log = Logger.getLogger(AuditEventPipeline.class.getName());
+    private static final String MBEAN_NAME = "org.openecomp.sdc.be.auditing:type=AuditEventPipeline";
+    private static final long POLL_TIMEOUT_IN_MS = 1000;
+    private static final long SHUTDOWN_TIMEOUT_IN_SEC = 30;
+
+    private final AuditingDao auditingDao;
+    private final AuditCassandraDao cassandraDao;
+    private final BlockingQueue<AuditRecord> queue;
+    private final int batchSize;
+    private final long maxBatchDelayInMs;
+    private final OverflowPolicy overflowPolicy;
+    private final AuditSpillFile spillFile;
+    private final ExecutorService workers;
+    private final AtomicBoolean replaying = new AtomicBoolean();
+    private volatile boolean running = true;
+
+    private final AtomicLong writtenEvents = new AtomicLong();
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final AtomicLong spilledEvents = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong totalFlushLatencyInMs = new AtomicLong();
+    private final AtomicLong maxFlushLatencyInMs = new AtomicLong();
+    private volatile long lastFlushLatencyInMs;
+
+    public AuditEventPipeline(AuditingDao auditingDao, AuditCassandraDao cassandraDao, AsyncAuditConfig config) {
+        this.auditingDao = auditingDao;
+        this.cassandraDao = cassandraDao;
+        this.queue = new ArrayBlockingQueue<>(config.getQueueSize());
+        this.batchSize = config.getBatchSize();
+        this.maxBatchDelayInMs = config.getMaxBatchDelayInMs();
+        this.overflowPolicy = OverflowPolicy.valueOf(config.getOverflowPolicy());
+        this.spillFile = overflowPolicy == OverflowPolicy.SPILL ? createSpillFile(config.getSpillDirectory()) : null;
+        this.workers = Executors.newFixedThreadPool(config.getNumOfWorkers(),
+                new BasicThreadFactory.Builder().namingPattern("audit-event-pipeline-%d").daemon(true).build());
+        for (int i = 0; i < config.getNumOfWorkers(); i++) {
+            workers.submit(this::work);
+        }
+        registerMBean();
+        log.info("Audit event pipeline started {}", config);
+    }
+
+    /**
+     * Queues the event for writing. Once the pipeline is shut down the event is written synchronously.
+     */
+    public void submit(AuditingGenericEvent event, String esType) {
+        AuditRecord record = new AuditRecord(event, esType);
+        if (!running) {
+            flush(singletonBatch(record));
+            return;
+        }
+        if (queue.offer(record)) {
+            return;
+        }
+        switch (overflowPolicy) {
+            case DROP:
+                droppedEvents.incrementAndGet();
+                log.debug("Audit queue is full, dropping auditing event {}", event.getAction());
+                break;
+            case SPILL:
+                if (spillFile.append(record)) {
+                    spilledEvents.incrementAndGet();
+                } else {
+                    droppedEvents.incrementAndGet();
+                }
+                break;
+            default:
+                try {
+                    queue.put(record);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    droppedEvents.incrementAndGet();
+                    log.debug("Interrupted while waiting to queue auditing event {}", event.getAction());
+                }
+        }
+    }
+
+    public void shutdown() {
+        shutdown(SHUTDOWN_TIMEOUT_IN_SEC, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the workers and writes the events still queued on the calling thread, so they are not lost
+     * when the workers don't stop in time.
+     */
+    void shutdown(long timeout, TimeUnit unit) {
+        running = false;
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(timeout, unit)) {
+                log.warn("Audit event pipeline workers didn't stop within {} {}, writing the {} queued events on shutdown", timeout, unit, queue.size());
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            workers.shutdownNow();
+        }
+        flushQueue();
+        unregisterMBean();
+    }
+
+    private void work() {
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                AuditRecord first = queue.poll(POLL_TIMEOUT_IN_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    replaySpilledEvents();
+                    continue;
+                }
+                batch.add(first);
+                fillBatch(batch);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                flush(batch);
+                return;
+            } catch (RuntimeException e) {
+                log.debug("Failed to write batch of {} auditing events", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void fillBatch(List<AuditRecord> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxBatchDelayInMs);
+        while (batch.size() < batchSize) {
+            if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            AuditRecord next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flushQueue() {
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void replaySpilledEvents() {
+        if (spillFile != null && running && replaying.compareAndSet(false, true)) {
+            try {
+                spillFile.replay(batchSize, this::flush);
+            } finally {
+                replaying.set(false);
+            }
+        }
+    }
+
+    private void flush(List<AuditRecord> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        List<ImmutablePair<String, ESTimeBasedEvent>> esEvents = new ArrayList<>(batch.size());
+        List<AuditingGenericEvent> dbEvents = new ArrayList<>(batch.size());
+        for (AuditRecord record : batch) {
+            esEvents.add(new ImmutablePair<>(record.getEsType(), record.getEvent()));
+            dbEvents.add(record.getEvent());
+        }
+
+        ActionStatus addRecordsStatus = auditingDao.addRecords(esEvents);
+        if (addRecordsStatus != ActionStatus.OK) {
+            failedBatches.incrementAndGet();
+            log.warn("Failed to persist {} auditing events: {}", batch.size(), addRecordsStatus.name());
+        }
+        CassandraOperationStatus saveRecordsStatus = cassandraDao.saveRecords(dbEvents);
+        if (saveRecordsStatus != CassandraOperationStatus.OK) {
+            failedBatches.incrementAndGet();
+            log.warn("Failed to persist to cassandra {} auditing events: {}", batch.size(), saveRecordsStatus.name());
+        }
+
+        long latency = System.currentTimeMillis() - start;
+        lastFlushLatencyInMs = latency;
+        totalFlushLatencyInMs.addAndGet(latency);
+        maxFlushLatencyInMs.accumulateAndGet(latency, Math::max);
+        flushes.incrementAndGet();
+        writtenEvents.addAndGet(batch.size());
+    }
+
+    private static List<AuditRecord> singletonBatch(AuditRecord record) {
+        List<AuditRecord> batch = new ArrayList<>(1);
+        batch.add(record);
+        return batch;
+    }
+
+    private static AuditSpillFile createSpillFile(String spillDirectory) {
+        try {
+            return new AuditSpillFile(spillDirectory);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to create audit spill directory " + spillDirectory, e);
+        }
+    }
+
+    private void registerMBean() {
+        try {
+            ObjectName name = new ObjectName(MBEAN_NAME);
+            if (ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+            }
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+        } catch (Exception e) {
+            log.debug("Failed to register audit event pipeline metrics", e);
+        }
+    }
+
+    private void unregisterMBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(new ObjectName(MBEAN_NAME));
+        } catch (Exception e) {
+            log.debug("Failed to unregister audit event pipeline metrics", e);
+        }
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    @Override
+    public int getQueueCapacity() {
+        return queue.size() + queue.remainingCapacity();
+    }
+
+    @Override
+    public long getWrittenEvents() {
+        return writtenEvents.get();
+    }
+
+    @Override
+    public long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    @Override
+    public long getSpilledEvents() {
+        return spilledEvents.get();
+    }
+
+    @Override
+    public long getFailedBatches() {
+        return failedBatches.get();
+    }
+
+    @Override
+    public long getLastFlushLatencyInMs() {
+        return lastFlushLatencyInMs;
+    }
+
+    @Override
+    public long getMaxFlushLatencyInMs() {
+        return maxFlushLatencyInMs.get();
+    }
+
+    @Override
+    public long getAverageFlushLatencyInMs() {
+        long count = flushes.get();
+        return count == 0 ? 0 : totalFlushLatencyInMs.get() / count;
+    }
+
+    static final class AuditRecord {
+        private final AuditingGenericEvent event;
+        private final String esType;
+
+        AuditRecord(AuditingGenericEvent event, String esType) {
+            this.event = event;
+            this.esType = esType;
+        }
+
+        AuditingGenericEvent getEvent() {
+            return event;
+        }
+
+        String getEsType() {
+            return esType;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.auditing.impl;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSerializer;
+import org.openecomp.sdc.be.resources.data.auditing.AuditingGenericEvent;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.text.DateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Local journal of audit events which could not be queued, one JSON line per event.
+ * The audit events shadow fields of their super classes, so they are written field by field,
+ * keyed by the declaring class, rather than through plain Gson serialization.
+ */
+class AuditSpillFile {
+
+    private static final Logger log = Logger.getLogger(AuditSpillFile.class.getName());
+
+    private static final String SPILL_FILE_NAME = "audit-events.spill";
+    private static final String REPLAY_FILE_NAME = "audit-events.replay";
+    private static final String ES_TYPE = "esType";
+    private static final String EVENT_CLASS = "eventClass";
+    private static final String EVENT_FIELDS = "fields";
+
+    private final Path spillFile;
+    private final Path replayFile;
+    private final Gson gson = new GsonBuilder()
+            .registerTypeAdapter(Date.class, (JsonSerializer<Date>) (date, type, context) -> new JsonPrimitive(date.getTime()))
+            .registerTypeAdapter(Date.class, (JsonDeserializer<Date>) (json, type, context) -> new Date(json.getAsLong()))
+            .create();
+
+    AuditSpillFile(String directory) throws IOException {
+        Path spillDirectory = Paths.get(directory);
+        Files.createDirectories(spillDirectory);
+        this.spillFile = spillDirectory.resolve(SPILL_FILE_NAME);
+        this.replayFile = spillDirectory.resolve(REPLAY_FILE_NAME);
+    }
+
+    synchronized boolean append(AuditEventPipeline.AuditRecord record) {
+        try (BufferedWriter writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            writer.write(toJson(record));
+            writer.newLine();
+            return true;
+        } catch (IOException | IllegalAccessException e) {
+            log.debug("Failed to spill auditing event {}", record.getEvent().getAction(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Hands the spilled events to the consumer in chunks of up to batchSize events.
+     * Events spilled while replaying are kept for the next replay.
+     */
+    void replay(int batchSize, Consumer<List<AuditEventPipeline.AuditRecord>> consumer) {
+        synchronized (this) {
+            if (!Files.exists(replayFile)) {
+                if (!Files.exists(spillFile)) {
+                    return;
+                }
+                try {
+                    Files.move(spillFile, replayFile);
+                } catch (IOException e) {
+                    log.debug("Failed to move spilled auditing events to {}", replayFile, e);
+                    return;
+                }
+            }
+        }
+        log.info("Replaying spilled auditing events from {}", replayFile);
+        List<AuditEventPipeline.AuditRecord> batch = new ArrayList<>(batchSize);
+        try (BufferedReader reader = Files.newBufferedReader(replayFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                AuditEventPipeline.AuditRecord record = fromJson(line);
+                if (record != null) {
+                    batch.add(record);
+                }
+                if (batch.size() == batchSize) {
+                    consumer.accept(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                consumer.accept(batch);
+            }
+            Files.delete(replayFile);
+        } catch (IOException e) {
+            log.debug("Failed to replay spilled auditing events from {}", replayFile, e);
+        }
+    }
+
+    private String toJson(AuditEventPipeline.AuditRecord record) throws IllegalAccessException {
+        AuditingGenericEvent event = record.getEvent();
+        JsonObject fields = new JsonObject();
+        for (Class<?> clazz = event.getClass(); clazz != Object.class; clazz = clazz.getSuperclass()) {
+            for (Field field : clazz.getDeclaredFields()) {
+                if (isPersistent(field)) {
+                    field.setAccessible(true);
+                    fields.add(fieldKey(field), gson.toJsonTree(field.get(event), field.getGenericType()));
+                }
+            }
+        }
+        JsonObject json = new JsonObject();
+        json.addProperty(ES_TYPE, record.getEsType());
+        json.addProperty(EVENT_CLASS, event.getClass().getName());
+        json.add(EVENT_FIELDS, fields);
+        return gson.toJson(json);
+    }
+
+    private AuditEventPipeline.AuditRecord fromJson(String line) {
+        try {
+            JsonObject json = new JsonParser().parse(line).getAsJsonObject();
+            AuditingGenericEvent event = Class.forName(json.get(EVENT_CLASS).getAsString())
+                    .asSubclass(AuditingGenericEvent.class).newInstance();
+            JsonObject fields = json.getAsJsonObject(EVENT_FIELDS);
+            for (Class<?> clazz = event.getClass(); clazz != Object.class; clazz = clazz.getSuperclass()) {
+                for (Field field : clazz.getDeclaredFields()) {
+                    JsonElement value = fields.get(fieldKey(field));
+                    if (isPersistent(field) && value != null && !value.isJsonNull()) {
+                        field.setAccessible(true);
+                        field.set(event, gson.fromJson(value, field.getGenericType()));
+                    }
+                }
+            }
+            return new AuditEventPipeline.AuditRecord(event, json.get(ES_TYPE).getAsString());
+        } catch (RuntimeException | ReflectiveOperationException e) {
+            log.debug("Skipping malformed spilled auditing event {}", line, e);
+            return null;
+        }
+    }
+
+    private static boolean isPersistent(Field field) {
+        int modifiers = field.getModifiers();
+        return !Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers)
+                && !DateFormat.class.isAssignableFrom(field.getType());
+    }
+
+    private static String fieldKey(Field field) {
+        return field.getDeclaringClass().getName() + "." + field.getName();
+    }
+}
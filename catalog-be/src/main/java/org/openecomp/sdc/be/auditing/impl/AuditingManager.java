@@ -23,6 +23,8 @@
 package org.openecomp.sdc.be.auditing.impl;
 
 import org.openecomp.sdc.be.auditing.api.AuditEventFactory;
+import org.openecomp.sdc.be.config.Configuration;
+import org.openecomp.sdc.be.config.Configuration.AsyncAuditConfig;
 import org.openecomp.sdc.be.dao.api.ActionStatus;
 import org.openecomp.sdc.be.dao.cassandra.AuditCassandraDao;
 import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
@@ -34,6 +36,8 @@ import org.openecomp.sdc.common.log.wrappers.LoggerSdcAudit;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PreDestroy;
+
 @Component
 public class AuditingManager {
 
@@ -42,12 +46,14 @@ public class AuditingManager {
     private final AuditingDao auditingDao;
     private final AuditCassandraDao cassandraDao;
     private final ConfigurationProvider configurationProvider;
+    private final AuditEventPipeline auditEventPipeline;
 
     @Autowired
     public AuditingManager(AuditingDao auditingDao, AuditCassandraDao cassandraDao, ConfigurationProvider configurationProvider) {
         this.auditingDao = auditingDao;
         this.cassandraDao = cassandraDao;
         this.configurationProvider = configurationProvider;
+        this.auditEventPipeline = createAuditEventPipeline(configurationProvider.getConfiguration());
     }
 
     public String auditEvent(AuditEventFactory factory) {
@@ -57,12 +63,31 @@ public class AuditingManager {
         String msg = factory.getLogMessage();
         logAuditEvent(msg);
 
+        if (auditEventPipeline != null) {
+            auditEventPipeline.submit(factory.getDbEvent(), factory.getAuditingEsType());
+            return msg;
+        }
         //TODO - remove this method after we got rid of ES
         saveEventToElasticSearch(factory);
         saveEventToCassandra(factory.getDbEvent());
         return msg;
     }
 
+    @PreDestroy
+    public void shutdown() {
+        if (auditEventPipeline != null) {
+            auditEventPipeline.shutdown();
+        }
+    }
+
+    private AuditEventPipeline createAuditEventPipeline(Configuration configuration) {
+        AsyncAuditConfig asyncAuditConfig = configuration == null ? null : configuration.getAsyncAudit();
+        if (asyncAuditConfig == null || !asyncAuditConfig.isEnabled()) {
+            return null;
+        }
+        return new AuditEventPipeline(auditingDao, cassandraDao, asyncAuditConfig);
+    }
+
     private void saveEventToCassandra(AuditingGenericEvent event) {
         CassandraOperationStatus result = cassandraDao.saveRecord(event);
         if (!result.equals(CassandraOperationStatus.OK)) {
@@ -512,14 +512,6 @@ public class CambriaHandler {
 
             int result = createSimplePublisher.send(PARTITION_KEY, json);
 
-            try {
-                Thread.sleep(1000);
-            }
-            catch (InterruptedException e) {
-                log.debug("Failed during sleep after sending the message.", e);
-                Thread.currentThread().interrupt();
-            }
-
             log.debug("After sending notification data to topic {}. result is {}", topicName, result);
 
         }
@@ -565,6 +557,51 @@ public class CambriaHandler {
 
     }
 
+    /**
+     * Publish notification message through a pooled publisher and wait until it left the publisher queue.
+     * An OK response means that the publisher took the message for sending, not that the U-EB server accepted it.
+     *
+     * @param publisherPool
+     * @param topicName
+     * @param uebPublicKey
+     * @param uebSecretKey
+     * @param uebServers
+     * @param data
+     * @param maxWaitingSeconds
+     * @return
+     */
+    public CambriaErrorResponse sendNotificationAndWait(CambriaPublisherPool publisherPool, String topicName, String uebPublicKey, String uebSecretKey, List<String> uebServers, INotificationData data, long maxWaitingSeconds) {
+        String methodName = "sendNotificationAndWait";
+        CambriaErrorResponse response;
+        try {
+            String json = gson.toJson(data);
+            log.debug("Before sending notification data {} to topic {}", json, topicName);
+
+            boolean dequeued = publisherPool.sendAndWaitForDequeue(topicName, uebServers, uebPublicKey, uebSecretKey, PARTITION_KEY, json, SECONDS.toMillis(maxWaitingSeconds));
+            if (dequeued) {
+                log.debug("After handing notification data to the publisher of topic {}", topicName);
+                response = new CambriaErrorResponse(CambriaOperationStatus.OK, 200);
+            }
+            else {
+                log.debug("Notification to topic {} didn't leave the publisher queue within {} seconds", topicName, maxWaitingSeconds);
+                response = new CambriaErrorResponse(CambriaOperationStatus.INTERNAL_SERVER_ERROR, 500);
+                writeErrorToLog(response, methodName, SEND_NOTIFICATION);
+            }
+        }
+        catch (InterruptedException e) {
+            log.debug("InterruptedException while sending notification to topic {}", topicName, e);
+            Thread.currentThread().interrupt();
+            response = new CambriaErrorResponse(CambriaOperationStatus.INTERNAL_SERVER_ERROR, 500);
+            writeErrorToLog(response, methodName, SEND_NOTIFICATION);
+        }
+        catch (IOException | GeneralSecurityException e) {
+            log.debug("Failed to send notification {} to topic {} ", data, topicName, e);
+            response = processError(e);
+            writeErrorToLog(response, methodName, SEND_NOTIFICATION);
+        }
+        return response;
+    }
+
     public CambriaErrorResponse getApiKey(String server, String apiKey) {
 
         CambriaErrorResponse response;
@@ -0,0 +1,200 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.components.distribution.engine;
+
+import com.att.nsa.cambria.client.CambriaBatchingPublisher;
+import com.att.nsa.cambria.client.CambriaClientBuilders.PublisherBuilder;
+import com.att.nsa.cambria.client.CambriaPublisher.message;
+import com.google.common.annotations.VisibleForTesting;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.security.GeneralSecurityException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps one long-lived batching publisher per topic, U-EB servers and credentials.
+ * The publishers batch the messages of concurrent senders and flush a batch once it is full or
+ * its oldest message reached the linger time. A sender waits for its own message to leave the
+ * publisher queue instead of closing the publisher.
+ * <p>
+ * The Cambria batching publisher doesn't report the outcome of a batch, so leaving the queue only
+ * means that the publisher took the message for sending, not that the U-EB server accepted it. A
+ * batch rejected by the server is only logged by the publisher.
+ */
+public class CambriaPublisherPool {
+
+    private static final Logger log = Logger.getLogger(CambriaPublisherPool.class.getName());
+    private static final long DEQUEUE_POLL_INTERVAL_MS = 10;
+
+    private final int maxBatchSize;
+    private final int maxBatchAgeMs;
+    private final long idleTimeoutMs;
+    private final Map<String, PooledPublisher> publishers = new ConcurrentHashMap<>();
+
+    public CambriaPublisherPool(int maxBatchSize, int maxBatchAgeMs, long idleTimeoutMs) {
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchAgeMs = maxBatchAgeMs;
+        this.idleTimeoutMs = idleTimeoutMs;
+    }
+
+    /**
+     * Queues the message and waits until it left the publisher queue. This is not an acknowledgement
+     * of the U-EB server, see the class documentation.
+     *
+     * @return true if the message left the publisher queue within the timeout
+     */
+    public boolean sendAndWaitForDequeue(String topicName, Collection<String> uebServers, String apiKey, String apiSecret,
+            String partition, String json, long timeoutMs)
+            throws IOException, GeneralSecurityException, InterruptedException {
+        PooledPublisher publisher = getPublisher(topicName, uebServers, apiKey, apiSecret);
+        long sequence = publisher.send(partition, json);
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (!publisher.isDequeued(sequence)) {
+            if (publisher.isClosed() || System.currentTimeMillis() >= deadline) {
+                log.debug("Message {} didn't leave the publisher queue of topic {} within {} ms", sequence, topicName, timeoutMs);
+                discard(topicName, uebServers, apiKey, publisher, timeoutMs);
+                return publisher.isDequeued(sequence);
+            }
+            TimeUnit.MILLISECONDS.sleep(DEQUEUE_POLL_INTERVAL_MS);
+        }
+        return true;
+    }
+
+    public void closeAll() {
+        publishers.values().forEach(publisher -> publisher.close(maxBatchAgeMs));
+        publishers.clear();
+    }
+
+    private synchronized PooledPublisher getPublisher(String topicName, Collection<String> uebServers, String apiKey,
+            String apiSecret) throws MalformedURLException, GeneralSecurityException {
+        evictIdlePublishers();
+        String key = publisherKey(topicName, uebServers, apiKey);
+        PooledPublisher publisher = publishers.get(key);
+        if (publisher == null || publisher.isClosed()) {
+            log.debug("Creating publisher for topic {}", topicName);
+            publisher = new PooledPublisher(createPublisher(topicName, uebServers, apiKey, apiSecret));
+            publishers.put(key, publisher);
+        }
+        publisher.touch();
+        return publisher;
+    }
+
+    @VisibleForTesting
+    CambriaBatchingPublisher createPublisher(String topicName, Collection<String> uebServers, String apiKey,
+            String apiSecret) throws MalformedURLException, GeneralSecurityException {
+        CambriaBatchingPublisher publisher = new PublisherBuilder().onTopic(topicName).usingHosts(uebServers)
+                .limitBatch(maxBatchSize, maxBatchAgeMs).build();
+        publisher.setApiCredentials(apiKey, apiSecret);
+        return publisher;
+    }
+
+    private void discard(String topicName, Collection<String> uebServers, String apiKey, PooledPublisher publisher,
+            long timeoutMs) {
+        publishers.remove(publisherKey(topicName, uebServers, apiKey), publisher);
+        publisher.close(timeoutMs);
+    }
+
+    private void evictIdlePublishers() {
+        long now = System.currentTimeMillis();
+        publishers.entrySet().removeIf(entry -> {
+            boolean idle = now - entry.getValue().getLastUsed() > idleTimeoutMs;
+            if (idle) {
+                log.debug("Closing idle publisher {}", entry.getKey());
+                entry.getValue().close(maxBatchAgeMs);
+            }
+            return idle;
+        });
+    }
+
+    private static String publisherKey(String topicName, Collection<String> uebServers, String apiKey) {
+        return topicName + "|" + uebServers + "|" + apiKey;
+    }
+
+    /**
+     * Tracks the messages handed to a publisher. The publisher sends its queue in order, so a message
+     * left the queue once the number of messages that left it reaches its sequence number.
+     */
+    private static final class PooledPublisher {
+
+        private final CambriaBatchingPublisher publisher;
+        private long submitted;
+        private long sentBeforeClose;
+        private boolean closed;
+        private volatile long lastUsed;
+
+        PooledPublisher(CambriaBatchingPublisher publisher) {
+            this.publisher = publisher;
+        }
+
+        synchronized long send(String partition, String json) throws IOException {
+            if (closed) {
+                throw new IOException("Publisher is closed");
+            }
+            publisher.send(partition, json);
+            return ++submitted;
+        }
+
+        synchronized boolean isDequeued(long sequence) {
+            if (closed) {
+                return sequence <= sentBeforeClose;
+            }
+            return submitted - publisher.getPendingMessageCount() >= sequence;
+        }
+
+        synchronized boolean isClosed() {
+            return closed;
+        }
+
+        synchronized void close(long timeoutMs) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            sentBeforeClose = submitted;
+            try {
+                List<message> unsent = publisher.close(timeoutMs, TimeUnit.MILLISECONDS);
+                if (unsent != null) {
+                    sentBeforeClose -= unsent.size();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                sentBeforeClose -= publisher.getPendingMessageCount();
+            } catch (IOException e) {
+                log.debug("Failed to close cambria publisher", e);
+                sentBeforeClose -= publisher.getPendingMessageCount();
+            }
+        }
+
+        void touch() {
+            lastUsed = System.currentTimeMillis();
+        }
+
+        long getLastUsed() {
+            return lastUsed;
+        }
+    }
+}
@@ -32,6 +32,7 @@ import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import javax.annotation.Resource;
 
+import fj.data.Either;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.openecomp.sdc.be.components.validation.ServiceDistributionValidation;
@@ -39,10 +40,13 @@ import org.openecomp.sdc.be.config.BeEcompErrorManager;
 import org.openecomp.sdc.be.config.ConfigurationManager;
 import org.openecomp.sdc.be.config.DistributionEngineConfiguration;
 import org.openecomp.sdc.be.dao.api.ActionStatus;
+import org.openecomp.sdc.be.dao.jsongraph.JanusGraphDao;
 import org.openecomp.sdc.be.model.Service;
 import org.openecomp.sdc.be.model.User;
+import org.openecomp.sdc.be.model.jsonjanusgraph.operations.ToscaOperationFacade;
 import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
 import org.openecomp.sdc.be.resources.data.OperationalEnvironmentEntry;
+import org.openecomp.sdc.be.resources.data.PendingDistributionNotificationEntry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -58,7 +62,13 @@ public class DistributionEngine implements IDistributionEngine {
     private EnvironmentsEngine environmentsEngine;
 
     @Resource
-    private DistributionNotificationSender distributionNotificationSender;
+    private DistributionNotificationDispatcher distributionNotificationDispatcher;
+
+    @Autowired
+    private ToscaOperationFacade toscaOperationFacade;
+
+    @Autowired
+    private JanusGraphDao janusGraphDao;
 
     @Resource
     private ServiceDistributionArtifactsBuilder serviceDistributionArtifactsBuilder;
@@ -126,6 +136,8 @@ public class DistributionEngine implements IDistributionEngine {
         LOGGER.debug("init UEB health check");
         distributionEngineClusterHealth.startHealthCheckTask(envNamePerStatus);
 
+        replayPendingNotifications();
+
         LOGGER.trace("Exit init method of DistributionEngine");
     }
 
@@ -285,20 +297,54 @@ public class DistributionEngine implements IDistributionEngine {
 
     @Override
     public ActionStatus notifyService(String distributionId, Service service, INotificationData notificationData, String envName, User modifier) {
-        return notifyService(distributionId, service, notificationData, envName, envName, modifier);
+        return notifyService(distributionId, service, notificationData, envName, envName, modifier, true);
     }
     @Override
     public ActionStatus notifyService(String distributionId, Service service, INotificationData notificationData, String envId, String envName,  User modifier) {
+        return notifyService(distributionId, service, notificationData, envId, envName, modifier, false);
+    }
+
+    private ActionStatus notifyService(String distributionId, Service service, INotificationData notificationData, String envId, String envName, User modifier, boolean updateDistributionStatus) {
         LOGGER.debug("Received notify service request. distributionId = {}, serviceUuid = {} serviceUid = {}, envName = {}, modifier {}", distributionId, service.getUUID(), service.getUniqueId(), envName,  modifier);
         String topicName = buildTopicName(envName);
         ActionStatus notifyServiceStatus = Optional.ofNullable(environmentsEngine.getEnvironmentById(envId))
-                .map(EnvironmentMessageBusData::new)
-                .map(messageBusData -> distributionNotificationSender.sendNotification(topicName, distributionId, messageBusData, notificationData, service, modifier))
+                .map(environment -> dispatchNotification(topicName, distributionId, environment, notificationData, service, modifier, updateDistributionStatus))
                 .orElse(ActionStatus.DISTRIBUTION_ENVIRONMENT_NOT_AVAILABLE);
         LOGGER.debug("Finish notifyService. status is {}", notifyServiceStatus);
         return notifyServiceStatus;
     }
 
+    private ActionStatus dispatchNotification(String topicName, String distributionId, OperationalEnvironmentEntry environment,
+                                              INotificationData notificationData, Service service, User modifier, boolean updateDistributionStatus) {
+        DistributionNotificationDispatcher.Lane lane = Boolean.FALSE.equals(environment.getIsProduction())
+                ? DistributionNotificationDispatcher.Lane.TEST : DistributionNotificationDispatcher.Lane.PRODUCTION;
+        boolean dispatched = distributionNotificationDispatcher.dispatch(topicName, distributionId,
+                new EnvironmentMessageBusData(environment), notificationData, service, modifier, lane, updateDistributionStatus);
+        return dispatched ? ActionStatus.OK : ActionStatus.GENERAL_ERROR;
+    }
+
+    /**
+     * Queues again the notifications which were not sent yet when the engine stopped.
+     */
+    void replayPendingNotifications() {
+        List<PendingDistributionNotificationEntry> pendingNotifications = distributionNotificationDispatcher.getNotificationsToReplay();
+        LOGGER.debug("Replaying {} pending distribution notifications", pendingNotifications.size());
+        for (PendingDistributionNotificationEntry pendingNotification : pendingNotifications) {
+            Either<Service, StorageOperationStatus> service = toscaOperationFacade.getToscaElement(pendingNotification.getServiceId());
+            janusGraphDao.commit();
+            if (service.isRight()) {
+                LOGGER.warn("Service {} of distribution {} was not found, its notification is dropped. Status is {}",
+                        pendingNotification.getServiceId(), pendingNotification.getDistributionId(), service.right().value());
+                distributionNotificationDispatcher.discard(pendingNotification);
+                continue;
+            }
+            EnvironmentMessageBusData messageBusData = Optional.ofNullable(environmentsEngine.getEnvironmentById(pendingNotification.getEnvironmentId()))
+                    .map(EnvironmentMessageBusData::new)
+                    .orElse(null);
+            distributionNotificationDispatcher.replay(pendingNotification, messageBusData, service.left().value());
+        }
+    }
+
     private String buildTopicName(String envName) {
         DistributionEngineConfiguration deConfiguration = ConfigurationManager.getConfigurationManager().getDistributionEngineConfiguration();
         String distributionNotifTopicName = deConfiguration.getDistributionNotifTopicName();
@@ -0,0 +1,533 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.components.distribution.engine;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.Gson;
+import fj.data.Either;
+import org.openecomp.sdc.be.config.ConfigurationManager;
+import org.openecomp.sdc.be.config.DistributionEngineConfiguration.DistributionNotificationTopicConfig;
+import org.openecomp.sdc.be.dao.api.ActionStatus;
+import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
+import org.openecomp.sdc.be.dao.cassandra.PendingDistributionNotificationDao;
+import org.openecomp.sdc.be.model.Service;
+import org.openecomp.sdc.be.model.User;
+import org.openecomp.sdc.be.resources.data.PendingDistributionNotificationEntry;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Sends distribution notifications off the request threads.
+ * <p>
+ * Every topic has its own executor and a bounded number of notifications it holds, queued or waiting for a retry.
+ * A notification beyond the bound is rejected, so the caller knows it was not sent. Notifications of production
+ * environments are sent before the notifications of test environments. A notification which failed on a connection
+ * error or an unknown host is sent again after an exponential backoff, the other failures are final. Every attempt is
+ * audited by the {@link DistributionNotificationSender}, the final outcome is reported to the
+ * {@link DistributionNotificationOutcomeHandler}.
+ * <p>
+ * A notification is kept in Cassandra until it was sent or failed for good. The notifications still queued or waiting
+ * for a retry when the dispatcher shuts down are replayed by the {@link DistributionEngine} on the next start. The
+ * persisted notification is a lease of the host which holds it: a host claims a notification with a lightweight
+ * transaction before it replays it, and renews the lease before every attempt to send it, so a notification another
+ * host has taken over is not sent twice.
+ */
+@Component("distributionNotificationDispatcher")
+public class DistributionNotificationDispatcher {
+
+    private static final Logger log = Logger.getLogger(DistributionNotificationDispatcher.class.getName());
+
+    private static final int DEFAULT_MAX_RETRIES = 3;
+    private static final int DEFAULT_RETRY_BACKOFF_MS = 1000;
+    private static final int MAX_BACKOFF_SHIFT = 5;
+    private static final long DEFAULT_MAX_WAITING_ON_SHUTDOWN_SECONDS = 5;
+    // a notification another host has not touched for this long is taken over on start, its host is considered gone
+    private static final long ABANDONED_AFTER_MS = TimeUnit.MINUTES.toMillis(10);
+    private static final Set<ActionStatus> RETRYABLE_STATUSES =
+            EnumSet.of(ActionStatus.CONNNECTION_ERROR, ActionStatus.UNKNOWN_HOST);
+    private static final String OWNER = resolveOwner();
+
+    /**
+     * The order in which the queued notifications of a topic are sent.
+     */
+    public enum Lane {
+        PRODUCTION, TEST
+    }
+
+    private final DistributionNotificationSender distributionNotificationSender;
+    private final PendingDistributionNotificationDao pendingDistributionNotificationDao;
+    private final DistributionNotificationOutcomeHandler distributionNotificationOutcomeHandler;
+    private final DistributionNotificationTopicConfig topicConfig;
+    private final NotificationExecutorService notificationExecutorService = new NotificationExecutorService();
+    private final ScheduledExecutorService retryScheduler = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("distribution-notification-retry-%d").setDaemon(true).build());
+    private final Map<String, TopicDispatcher> topics = new ConcurrentHashMap<>();
+    private final int queueCapacity;
+    private final int maxRetries;
+    private final long retryBackoffMs;
+    private final Gson gson = new Gson();
+
+    @Autowired
+    public DistributionNotificationDispatcher(DistributionNotificationSender distributionNotificationSender,
+            PendingDistributionNotificationDao pendingDistributionNotificationDao,
+            DistributionNotificationOutcomeHandler distributionNotificationOutcomeHandler) {
+        this(distributionNotificationSender, pendingDistributionNotificationDao, distributionNotificationOutcomeHandler,
+                ConfigurationManager.getConfigurationManager().getDistributionEngineConfiguration()
+                        .getDistributionNotificationTopic());
+    }
+
+    @VisibleForTesting
+    DistributionNotificationDispatcher(DistributionNotificationSender distributionNotificationSender,
+            PendingDistributionNotificationDao pendingDistributionNotificationDao,
+            DistributionNotificationOutcomeHandler distributionNotificationOutcomeHandler,
+            DistributionNotificationTopicConfig topicConfig) {
+        this.distributionNotificationSender = distributionNotificationSender;
+        this.pendingDistributionNotificationDao = pendingDistributionNotificationDao;
+        this.distributionNotificationOutcomeHandler = distributionNotificationOutcomeHandler;
+        this.topicConfig = topicConfig == null ? new DistributionNotificationTopicConfig() : topicConfig;
+        this.queueCapacity = Optional.ofNullable(this.topicConfig.getQueueCapacity())
+                .orElse(NotificationExecutorService.DEFAULT_QUEUE_CAPACITY);
+        this.maxRetries = Optional.ofNullable(this.topicConfig.getMaxRetries()).orElse(DEFAULT_MAX_RETRIES);
+        this.retryBackoffMs = Optional.ofNullable(this.topicConfig.getRetryBackoffMs()).orElse(DEFAULT_RETRY_BACKOFF_MS);
+    }
+
+    /**
+     * Queues the notification of the service to the topic.
+     *
+     * @param updateDistributionStatus whether the notification activates the distribution of the service
+     * @return false if the topic already holds as many notifications as it can
+     */
+    public boolean dispatch(String topicName, String distributionId, EnvironmentMessageBusData messageBusData,
+            INotificationData notificationData, Service service, User modifier, Lane lane,
+            boolean updateDistributionStatus) {
+        TopicDispatcher topic = topics.computeIfAbsent(topicName, TopicDispatcher::new);
+        if (!topic.capacity.tryAcquire()) {
+            topic.metrics.rejected.incrementAndGet();
+            log.warn("The notification queue of topic {} is full, distribution {} of service {} is rejected", topicName,
+                    distributionId, service.getName());
+            return false;
+        }
+        NotificationTask task = new NotificationTask(UUID.randomUUID().toString(), topic, lane,
+                System.currentTimeMillis(), distributionId, messageBusData, notificationData, service, modifier,
+                updateDistributionStatus);
+        persist(task);
+        if (!submit(task)) {
+            pendingDistributionNotificationDao.delete(task.notificationId);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return the persisted notifications this host should send again: the ones it held itself when it stopped, and
+     *         the ones of other hosts which have not been touched for a long time
+     */
+    public List<PendingDistributionNotificationEntry> getNotificationsToReplay() {
+        Either<List<PendingDistributionNotificationEntry>, CassandraOperationStatus> pending =
+                pendingDistributionNotificationDao.getAll();
+        if (pending.isRight()) {
+            log.debug("Failed to read the pending distribution notifications. Status is {}", pending.right().value());
+            return Collections.emptyList();
+        }
+        long abandonedBefore = System.currentTimeMillis() - ABANDONED_AFTER_MS;
+        return pending.left().value().stream()
+                .filter(entry -> OWNER.equals(entry.getOwner()) || entry.getLastUpdate() == null
+                        || entry.getLastUpdate().getTime() < abandonedBefore)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Queues a persisted notification again, keeping its attempts and its place in the queue.
+     *
+     * @param messageBusData the environment of the notification, or null if it is not available anymore, which fails
+     *        the notification
+     * @return false if the notification could not be queued now or is held by another host, it stays persisted
+     */
+    public boolean replay(PendingDistributionNotificationEntry entry, EnvironmentMessageBusData messageBusData,
+            Service service) {
+        if (!claim(entry)) {
+            return false;
+        }
+        TopicDispatcher topic = topics.computeIfAbsent(entry.getTopicName(), TopicDispatcher::new);
+        if (!topic.capacity.tryAcquire()) {
+            log.warn("The notification queue of topic {} is full, distribution {} is replayed on the next start",
+                    entry.getTopicName(), entry.getDistributionId());
+            return false;
+        }
+        NotificationTask task = new NotificationTask(entry.getNotificationId(), topic, Lane.valueOf(entry.getLane()),
+                entry.getDispatchTime().getTime(), entry.getDistributionId(), messageBusData,
+                gson.fromJson(entry.getNotificationData(), NotificationDataImpl.class), service, toModifier(entry),
+                Boolean.TRUE.equals(entry.getUpdateDistributionStatus()));
+        task.attempt = Optional.ofNullable(entry.getAttempt()).orElse(0);
+        if (messageBusData == null) {
+            log.warn("The environment {} of distribution {} is not available anymore", entry.getEnvironmentId(),
+                    entry.getDistributionId());
+            topic.metrics.queued.incrementAndGet();
+            complete(task, ActionStatus.DISTRIBUTION_ENVIRONMENT_NOT_AVAILABLE);
+            return true;
+        }
+        persist(task);
+        return submit(task);
+    }
+
+    /**
+     * Drops a persisted notification which cannot be sent anymore, such as the notification of a deleted service.
+     */
+    public void discard(PendingDistributionNotificationEntry entry) {
+        if (claim(entry)) {
+            pendingDistributionNotificationDao.delete(entry.getNotificationId());
+        }
+    }
+
+    /**
+     * @return the dispatch metrics of every topic a notification was dispatched to
+     */
+    public Map<String, DispatchMetrics> getMetrics() {
+        Map<String, DispatchMetrics> metrics = new ConcurrentHashMap<>();
+        topics.forEach((topicName, topic) -> metrics.put(topicName, topic.metrics));
+        return Collections.unmodifiableMap(metrics);
+    }
+
+    /**
+     * Stops sending. The notifications still queued or waiting for a retry stay persisted and are replayed on the next
+     * start.
+     */
+    @PreDestroy
+    public void shutdown() {
+        log.debug("shutdown DistributionNotificationDispatcher");
+        int waitingRetries = retryScheduler.shutdownNow().size();
+        if (waitingRetries > 0) {
+            log.info("{} distribution notifications waiting for a retry are kept for the next start", waitingRetries);
+        }
+        long maxTimeToWait = Optional.ofNullable(topicConfig.getMaxWaitingAfterSendingSeconds()).map(Long::valueOf)
+                .orElse(DEFAULT_MAX_WAITING_ON_SHUTDOWN_SECONDS);
+        topics.values().forEach(topic -> notificationExecutorService.shutdownAndAwaitTermination(topic.executor,
+                maxTimeToWait));
+    }
+
+    private boolean submit(NotificationTask task) {
+        TopicDispatcher topic = task.topic;
+        topic.metrics.queued.incrementAndGet();
+        try {
+            topic.executor.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            topic.capacity.release();
+            topic.metrics.queued.decrementAndGet();
+            topic.metrics.rejected.incrementAndGet();
+            log.debug("The notification executor of topic {} is shut down, distribution {} is rejected",
+                    topic.topicName, task.distributionId);
+            return false;
+        }
+    }
+
+    private void send(NotificationTask task) {
+        if (!renewLease(task)) {
+            return;
+        }
+        ActionStatus status;
+        try {
+            status = distributionNotificationSender.sendNotification(task.topic.topicName, task.distributionId,
+                    task.messageBusData, task.notificationData, task.service, task.modifier);
+        } catch (RuntimeException e) {
+            log.debug("Failed to send distribution {} to topic {}", task.distributionId, task.topic.topicName, e);
+            status = ActionStatus.GENERAL_ERROR;
+        }
+        if (status == ActionStatus.OK) {
+            complete(task, status);
+        } else if (RETRYABLE_STATUSES.contains(status) && task.attempt < maxRetries) {
+            retry(task, status);
+        } else {
+            log.warn("Failed to send distribution {} of service {} to topic {} after {} attempts. Status is {}",
+                    task.distributionId, task.service.getName(), task.topic.topicName, task.attempt + 1, status);
+            complete(task, status);
+        }
+    }
+
+    private void retry(NotificationTask task, ActionStatus status) {
+        long delayMs = retryBackoffMs << Math.min(task.attempt, MAX_BACKOFF_SHIFT);
+        task.attempt++;
+        task.topic.metrics.retried.incrementAndGet();
+        persist(task);
+        log.debug("Sending distribution {} to topic {} failed with status {}, retry {} in {} ms", task.distributionId,
+                task.topic.topicName, status, task.attempt, delayMs);
+        try {
+            retryScheduler.schedule(() -> resubmit(task), delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            keepForNextStart(task);
+        }
+    }
+
+    private void resubmit(NotificationTask task) {
+        try {
+            task.topic.executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            keepForNextStart(task);
+        }
+    }
+
+    private void keepForNextStart(NotificationTask task) {
+        log.debug("The notification dispatcher is shut down, distribution {} to topic {} is sent on the next start",
+                task.distributionId, task.topic.topicName);
+        task.topic.capacity.release();
+    }
+
+    private void complete(NotificationTask task, ActionStatus status) {
+        task.topic.capacity.release();
+        task.topic.metrics.record(status == ActionStatus.OK, System.currentTimeMillis() - task.dispatchTime);
+        pendingDistributionNotificationDao.delete(task.notificationId);
+        try {
+            distributionNotificationOutcomeHandler.onNotificationCompleted(task.distributionId, task.service,
+                    task.modifier, task.updateDistributionStatus, status);
+        } catch (RuntimeException e) {
+            log.debug("Failed to handle the outcome of distribution {}", task.distributionId, e);
+        }
+    }
+
+    private boolean claim(PendingDistributionNotificationEntry entry) {
+        Either<Boolean, CassandraOperationStatus> claimed = pendingDistributionNotificationDao.claim(
+                entry.getNotificationId(), OWNER, new Date(), entry.getOwner(), entry.getLastUpdate());
+        if (claimed.isRight()) {
+            log.debug("Failed to claim distribution {} to topic {}, it is replayed on the next start. Status is {}",
+                    entry.getDistributionId(), entry.getTopicName(), claimed.right().value());
+            return false;
+        }
+        if (!claimed.left().value()) {
+            log.debug("Distribution {} to topic {} was taken over by another host", entry.getDistributionId(),
+                    entry.getTopicName());
+        }
+        return claimed.left().value();
+    }
+
+    /**
+     * @return false if another host took the notification over, it is not sent by this host anymore
+     */
+    private boolean renewLease(NotificationTask task) {
+        if (!task.persisted) {
+            return true;
+        }
+        Either<Boolean, CassandraOperationStatus> renewed = pendingDistributionNotificationDao.renew(
+                task.notificationId, OWNER, new Date());
+        if (renewed.isRight() || renewed.left().value()) {
+            // when Cassandra cannot be reached the notification is rather sent twice than not at all
+            return true;
+        }
+        log.info("Distribution {} to topic {} was taken over by another host, it is not sent by this host",
+                task.distributionId, task.topic.topicName);
+        task.topic.capacity.release();
+        task.topic.metrics.queued.decrementAndGet();
+        return false;
+    }
+
+    private void persist(NotificationTask task) {
+        PendingDistributionNotificationEntry entry = new PendingDistributionNotificationEntry();
+        entry.setNotificationId(task.notificationId);
+        entry.setTopicName(task.topic.topicName);
+        entry.setDistributionId(task.distributionId);
+        entry.setEnvironmentId(task.messageBusData.getEnvId());
+        entry.setServiceId(task.service.getUniqueId());
+        entry.setModifierId(task.modifier.getUserId());
+        entry.setModifierFirstName(task.modifier.getFirstName());
+        entry.setModifierLastName(task.modifier.getLastName());
+        entry.setLane(task.lane.name());
+        entry.setNotificationData(gson.toJson(task.notificationData));
+        entry.setAttempt(task.attempt);
+        entry.setDispatchTime(new Date(task.dispatchTime));
+        entry.setUpdateDistributionStatus(task.updateDistributionStatus);
+        entry.setOwner(OWNER);
+        entry.setLastUpdate(new Date());
+        CassandraOperationStatus status = pendingDistributionNotificationDao.save(entry);
+        task.persisted = status == CassandraOperationStatus.OK;
+        if (status != CassandraOperationStatus.OK) {
+            log.warn("Failed to persist distribution {} to topic {}, it is lost on restart. Status is {}",
+                    task.distributionId, task.topic.topicName, status);
+        }
+    }
+
+    private static User toModifier(PendingDistributionNotificationEntry entry) {
+        User modifier = new User();
+        modifier.setUserId(entry.getModifierId());
+        modifier.setFirstName(entry.getModifierFirstName());
+        modifier.setLastName(entry.getModifierLastName());
+        return modifier;
+    }
+
+    private static String resolveOwner() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            log.debug("Failed to resolve the local host name", e);
+            return "localhost";
+        }
+    }
+
+    private final class TopicDispatcher {
+
+        private final String topicName;
+        private final Semaphore capacity = new Semaphore(queueCapacity);
+        private final AtomicLong sequence = new AtomicLong();
+        private final DispatchMetrics metrics = new DispatchMetrics();
+        private final ThreadPoolExecutor executor;
+
+        private TopicDispatcher(String topicName) {
+            this.topicName = topicName;
+            // bounded by the capacity semaphore, so the queue itself never rejects
+            this.executor = notificationExecutorService.createExcecutorService(topicConfig,
+                    new PriorityBlockingQueue<>());
+        }
+    }
+
+    /**
+     * Ordered by lane, then by the time it was dispatched. A retried or replayed notification keeps its place.
+     */
+    private final class NotificationTask implements Runnable, Comparable<NotificationTask> {
+
+        private final String notificationId;
+        private final TopicDispatcher topic;
+        private final Lane lane;
+        private final long sequence;
+        private final long dispatchTime;
+        private final String distributionId;
+        private final EnvironmentMessageBusData messageBusData;
+        private final INotificationData notificationData;
+        private final Service service;
+        private final User modifier;
+        private final boolean updateDistributionStatus;
+        private volatile int attempt;
+        private volatile boolean persisted;
+
+        private NotificationTask(String notificationId, TopicDispatcher topic, Lane lane, long dispatchTime,
+                String distributionId, EnvironmentMessageBusData messageBusData, INotificationData notificationData,
+                Service service, User modifier, boolean updateDistributionStatus) {
+            this.notificationId = notificationId;
+            this.topic = topic;
+            this.lane = lane;
+            this.sequence = topic.sequence.incrementAndGet();
+            this.dispatchTime = dispatchTime;
+            this.distributionId = distributionId;
+            this.messageBusData = messageBusData;
+            this.notificationData = notificationData;
+            this.service = service;
+            this.modifier = modifier;
+            this.updateDistributionStatus = updateDistributionStatus;
+        }
+
+        @Override
+        public void run() {
+            send(this);
+        }
+
+        @Override
+        public int compareTo(NotificationTask other) {
+            int byLane = lane.compareTo(other.lane);
+            if (byLane != 0) {
+                return byLane;
+            }
+            int byDispatchTime = Long.compare(dispatchTime, other.dispatchTime);
+            return byDispatchTime != 0 ? byDispatchTime : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    /**
+     * Counters of the notifications dispatched to a topic. The latency is the time from the dispatch of a
+     * notification until it was sent or failed for good.
+     */
+    public static final class DispatchMetrics {
+
+        private final AtomicLong queued = new AtomicLong();
+        private final AtomicLong sent = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong retried = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong totalLatencyMs = new AtomicLong();
+        private final AtomicLong maxLatencyMs = new AtomicLong();
+
+        private void record(boolean isSent, long latencyMs) {
+            (isSent ? sent : failed).incrementAndGet();
+            totalLatencyMs.addAndGet(latencyMs);
+            maxLatencyMs.accumulateAndGet(latencyMs, Math::max);
+        }
+
+        public long getQueued() {
+            return queued.get();
+        }
+
+        public long getSent() {
+            return sent.get();
+        }
+
+        public long getFailed() {
+            return failed.get();
+        }
+
+        public long getRetried() {
+            return retried.get();
+        }
+
+        public long getRejected() {
+            return rejected.get();
+        }
+
+        public long getPending() {
+            return queued.get() - sent.get() - failed.get();
+        }
+
+        public long getAverageLatencyMs() {
+            long completed = sent.get() + failed.get();
+            return completed == 0 ? 0 : totalLatencyMs.get() / completed;
+        }
+
+        public long getMaxLatencyMs() {
+            return maxLatencyMs.get();
+        }
+
+        @Override
+        public String toString() {
+            return "DispatchMetrics [queued=" + getQueued() + ", sent=" + getSent() + ", failed=" + getFailed()
+                    + ", retried=" + getRetried() + ", rejected=" + getRejected() + ", averageLatencyMs="
+                    + getAverageLatencyMs() + ", maxLatencyMs=" + getMaxLatencyMs() + "]";
+        }
+    }
+}
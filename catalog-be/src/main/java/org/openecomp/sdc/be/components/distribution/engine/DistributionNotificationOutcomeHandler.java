@@ -0,0 +1,82 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.components.distribution.engine;
+
+import org.openecomp.sdc.be.config.BeEcompErrorManager;
+import org.openecomp.sdc.be.dao.api.ActionStatus;
+import org.openecomp.sdc.be.datatypes.enums.ComponentTypeEnum;
+import org.openecomp.sdc.be.impl.ComponentsUtils;
+import org.openecomp.sdc.be.model.Service;
+import org.openecomp.sdc.be.model.User;
+import org.openecomp.sdc.be.resources.data.auditing.AuditingActionEnum;
+import org.openecomp.sdc.be.resources.data.auditing.model.ResourceCommonInfo;
+import org.openecomp.sdc.be.resources.data.auditing.model.ResourceVersionInfo;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records the final outcome of a distribution notification, once it was sent or failed for good.
+ * <p>
+ * The distribution activation marks the service as distributed and audits the state change when the notification is
+ * queued. A notification of an activation that fails for good is audited here as a failed distribution state change
+ * request.
+ */
+@Component("distributionNotificationOutcomeHandler")
+public class DistributionNotificationOutcomeHandler {
+
+    private static final Logger log = Logger.getLogger(DistributionNotificationOutcomeHandler.class.getName());
+
+    private final ComponentsUtils componentsUtils;
+
+    @Autowired
+    public DistributionNotificationOutcomeHandler(ComponentsUtils componentsUtils) {
+        this.componentsUtils = componentsUtils;
+    }
+
+    /**
+     * @param distributionActivation whether the notification was queued by a distribution activation of the service
+     * @param status the status of the last attempt to send the notification
+     */
+    public void onNotificationCompleted(String distributionId, Service service, User modifier,
+            boolean distributionActivation, ActionStatus status) {
+        if (status == ActionStatus.OK) {
+            log.debug("Distribution {} of service {} was sent", distributionId, service.getName());
+            return;
+        }
+        BeEcompErrorManager.getInstance().logBeSystemError("Activate Distribution - send notification");
+        log.debug("Distribution {} of service {} failed. Status is {}", distributionId, service.getName(), status);
+        if (!distributionActivation) {
+            return;
+        }
+        String distributionStatus = service.getDistributionStatus().name();
+        componentsUtils.auditComponent(componentsUtils.getResponseFormat(ActionStatus.GENERAL_ERROR), modifier, service,
+                AuditingActionEnum.DISTRIBUTION_STATE_CHANGE_REQUEST,
+                new ResourceCommonInfo(service.getName(), ComponentTypeEnum.SERVICE.getValue()),
+                ResourceVersionInfo.newBuilder()
+                        .distributionStatus(distributionStatus)
+                        .build(),
+                ResourceVersionInfo.newBuilder()
+                        .distributionStatus(distributionStatus)
+                        .build(),
+                null, null, distributionId);
+    }
+}
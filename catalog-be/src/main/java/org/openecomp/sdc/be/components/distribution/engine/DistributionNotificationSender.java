@@ -22,6 +22,7 @@ package org.openecomp.sdc.be.components.distribution.engine;
 
 import org.openecomp.sdc.be.config.ConfigurationManager;
 import org.openecomp.sdc.be.config.DistributionEngineConfiguration;
+import org.openecomp.sdc.be.config.DistributionEngineConfiguration.DistributionNotificationTopicConfig;
 import org.openecomp.sdc.be.dao.api.ActionStatus;
 import org.openecomp.sdc.be.distribution.api.client.CambriaOperationStatus;
 import org.openecomp.sdc.be.impl.ComponentsUtils;
@@ -30,6 +31,11 @@ import org.openecomp.sdc.be.model.User;
 import org.openecomp.sdc.common.log.wrappers.Logger;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
 @Component("distributionNotificationSender")
 public class DistributionNotificationSender {
 
@@ -37,18 +43,38 @@ public class DistributionNotificationSender {
 
     private static final Logger logger = Logger.getLogger(DistributionNotificationSender.class.getName());
 
+    private static final int DEFAULT_PUBLISHER_MAX_BATCH_SIZE = 100;
+    private static final int DEFAULT_PUBLISHER_MAX_BATCH_AGE_MS = 20;
+    private static final int DEFAULT_PUBLISHER_IDLE_TIMEOUT_SECONDS = 300;
+
     @javax.annotation.Resource
     protected ComponentsUtils componentUtils;
     private CambriaHandler cambriaHandler = new CambriaHandler();
-    private DistributionEngineConfiguration deConfiguration =
-            ConfigurationManager.getConfigurationManager().getDistributionEngineConfiguration();
+    private DistributionEngineConfiguration deConfiguration;
+    private CambriaPublisherPool publisherPool;
+
+    @PostConstruct
+    public void init() {
+        ConfigurationManager configurationManager = ConfigurationManager.getConfigurationManager();
+        deConfiguration = configurationManager == null ? null : configurationManager.getDistributionEngineConfiguration();
+        if (deConfiguration == null) {
+            logger.warn("The distribution engine configuration is missing, distribution notifications won't be sent");
+            return;
+        }
+        publisherPool = createPublisherPool(deConfiguration.getDistributionNotificationTopic());
+    }
 
     public ActionStatus sendNotification(String topicName, String distributionId,
             EnvironmentMessageBusData messageBusData, INotificationData notificationData, Service service,
             User modifier) {
+        if (publisherPool == null) {
+            logger.warn("Distribution notification {} of service {} not sent, the distribution engine configuration is missing",
+                    distributionId, service.getName());
+            return ActionStatus.GENERAL_ERROR;
+        }
         long startTime = System.currentTimeMillis();
         CambriaErrorResponse status =
-                cambriaHandler.sendNotificationAndClose(topicName, messageBusData.getUebPublicKey(),
+                cambriaHandler.sendNotificationAndWait(publisherPool, topicName, messageBusData.getUebPublicKey(),
                         messageBusData.getUebPrivateKey(), messageBusData.getDmaaPuebEndpoints(), notificationData,
                         deConfiguration.getDistributionNotificationTopic().getMaxWaitingAfterSendingSeconds());
 
@@ -70,6 +96,23 @@ public class DistributionNotificationSender {
         return convertCambriaResponse(status);
     }
 
+    @PreDestroy
+    public void closePublishers() {
+        if (publisherPool != null) {
+            publisherPool.closeAll();
+        }
+    }
+
+    private static CambriaPublisherPool createPublisherPool(DistributionNotificationTopicConfig topicConfig) {
+        if (topicConfig == null) {
+            topicConfig = new DistributionNotificationTopicConfig();
+        }
+        int maxBatchSize = Optional.ofNullable(topicConfig.getPublisherMaxBatchSize()).orElse(DEFAULT_PUBLISHER_MAX_BATCH_SIZE);
+        int maxBatchAgeMs = Optional.ofNullable(topicConfig.getPublisherMaxBatchAgeMs()).orElse(DEFAULT_PUBLISHER_MAX_BATCH_AGE_MS);
+        int idleTimeoutSeconds = Optional.ofNullable(topicConfig.getPublisherIdleTimeoutSeconds()).orElse(DEFAULT_PUBLISHER_IDLE_TIMEOUT_SECONDS);
+        return new CambriaPublisherPool(maxBatchSize, maxBatchAgeMs, TimeUnit.SECONDS.toMillis(idleTimeoutSeconds));
+    }
+
     private void auditDistributionNotification(AuditDistributionNotificationBuilder builder) {
         if (this.componentUtils != null) {
             Integer httpCode = builder.getStatus().getHttpCode();
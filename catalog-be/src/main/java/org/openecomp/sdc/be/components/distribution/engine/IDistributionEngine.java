@@ -30,8 +30,19 @@ public interface IDistributionEngine {
 
     boolean isActive();
 
+    /**
+     * Queues the notification which activates the distribution of the service. A notification that fails for good
+     * is audited as a failed distribution state change request.
+     *
+     * @return OK if the notification was queued
+     */
     ActionStatus notifyService(String distributionId, Service service, INotificationData notificationData, String envName, User modifier);
 
+    /**
+     * Queues the notification of the service to an operational environment.
+     *
+     * @return OK if the notification was queued
+     */
     ActionStatus notifyService(String distributionId, Service service, INotificationData notificationData, String envId, String envName, User modifier);
 
     StorageOperationStatus isEnvironmentAvailable(String envName);
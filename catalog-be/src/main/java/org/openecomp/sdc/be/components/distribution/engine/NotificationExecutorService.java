@@ -30,8 +30,30 @@ public class NotificationExecutorService {
 
     private static final Logger logger = Logger.getLogger(NotificationExecutorService.class.getName());
 
+    static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+    /**
+     * Creates an executor which queues up to the configured queue capacity of notifications once all its threads are
+     * busy, and rejects notifications beyond it.
+     */
     public ExecutorService createExcecutorService(DistributionNotificationTopicConfig distributionNotificationTopic) {
 
+        Integer queueCapacity = distributionNotificationTopic.getQueueCapacity();
+        if (queueCapacity == null) {
+            queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        }
+
+        return createExcecutorService(distributionNotificationTopic, new LinkedBlockingQueue<>(queueCapacity));
+    }
+
+    /**
+     * Creates an executor which runs up to the configured maximum number of threads and keeps the notifications
+     * waiting for a thread in the given queue. Idle threads are stopped unless the minimum and maximum pool sizes
+     * are equal.
+     */
+    public ThreadPoolExecutor createExcecutorService(DistributionNotificationTopicConfig distributionNotificationTopic,
+            BlockingQueue<Runnable> queue) {
+
         Integer minThreadPoolSize = distributionNotificationTopic.getMinThreadPoolSize();
         if (minThreadPoolSize == null) {
             minThreadPoolSize = 0;
@@ -41,12 +63,17 @@ public class NotificationExecutorService {
         if (maxThreadPoolSize == null) {
             maxThreadPoolSize = 10;
         }
+        maxThreadPoolSize = Math.max(maxThreadPoolSize, Math.max(minThreadPoolSize, 1));
 
         ThreadFactoryBuilder threadFactoryBuilder = new ThreadFactoryBuilder();
         threadFactoryBuilder.setNameFormat("distribution-notification-thread-%d");
         ThreadFactory threadFactory = threadFactoryBuilder.build();
 
-        return new ThreadPoolExecutor(minThreadPoolSize, maxThreadPoolSize, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(), threadFactory);
+        // a queued executor only adds threads above its core size once the queue is full, so all threads are core
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreadPoolSize, maxThreadPoolSize, 60L, TimeUnit.SECONDS,
+                queue, threadFactory);
+        executor.allowCoreThreadTimeOut(minThreadPoolSize < maxThreadPoolSize);
+        return executor;
     }
 
     public void shutdownAndAwaitTermination(ExecutorService pool, long maxTimeToWait) {
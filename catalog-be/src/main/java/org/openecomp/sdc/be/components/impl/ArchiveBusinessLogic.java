@@ -70,6 +70,7 @@ public class ArchiveBusinessLogic {
         if (result.isRight()){
             throw new ByActionStatusComponentException(result.right().value(), componentId);
         }
+        this.toscaOperationFacade.refreshCommittedCatalogComponents(result.left().value());
         this.auditAction(ArchiveOperation.Action.ARCHIVE, result.left().value(), user, containerComponentType);
     }
 
@@ -79,6 +80,7 @@ public class ArchiveBusinessLogic {
         if (result.isRight()){
             throw new ByActionStatusComponentException(result.right().value(), componentId);
         }
+        this.toscaOperationFacade.refreshCommittedCatalogComponents(result.left().value());
         this.auditAction(ArchiveOperation.Action.RESTORE, result.left().value(), user, containerComponentType);
     }
 
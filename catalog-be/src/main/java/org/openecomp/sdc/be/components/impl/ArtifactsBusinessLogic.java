@@ -30,6 +30,7 @@ import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.ImmutableTriple;
 import org.elasticsearch.common.Strings;
 import org.openecomp.sdc.be.components.ArtifactsResolver;
 import org.openecomp.sdc.be.components.impl.ImportUtils.ResultStatusEnum;
@@ -118,6 +119,7 @@ import org.xml.sax.XMLReader;
 import org.yaml.snakeyaml.Yaml;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.core.StreamingOutput;
 import javax.xml.XMLConstants;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParserFactory;
@@ -685,6 +687,30 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
         return downloadArtifact(csarArtifact);
     }
 
+    /**
+     * Same as {@link #handleDownloadToscaModelRequest(Component, ArtifactDefinition)}, but a CSAR which has to be
+     * generated is buffered with a bounded memory footprint instead of being built in a byte array.
+     *
+     * @return triple of artifact name, payload MD5 and payload
+     */
+    public Either<ImmutableTriple<String, String, StreamingOutput>, ResponseFormat> handleStreamToscaModelRequest(Component component, ArtifactDefinition csarArtifact) {
+        if (artifactGenerationRequired(component, csarArtifact)) {
+            Either<ImmutablePair<String, StreamingOutput>, ResponseFormat> generated = csarUtils.createBufferedCsar(component, false, false);
+            if (generated.isRight()) {
+                log.debug("Failed to export tosca csar for component {} error {}", component.getUniqueId(), generated.right().value());
+                return Either.right(generated.right().value());
+            }
+            return Either.left(new ImmutableTriple<>(csarArtifact.getArtifactName(), generated.left().value().getLeft(), generated.left().value().getRight()));
+        }
+        Either<ImmutablePair<String, byte[]>, ResponseFormat> downloaded = downloadArtifact(csarArtifact);
+        if (downloaded.isRight()) {
+            return Either.right(downloaded.right().value());
+        }
+        byte[] payload = downloaded.left().value().getRight();
+        StreamingOutput stream = output -> output.write(payload);
+        return Either.left(new ImmutableTriple<>(downloaded.left().value().getLeft(), GeneralUtility.calculateMD5Base64EncodedByByteArray(payload), stream));
+    }
+
     public Either<ImmutablePair<String, byte[]>, ResponseFormat> handleDownloadRequestById(String componentId, String artifactId, String userId, ComponentTypeEnum componentType, String parentId, String containerComponentType) {
         // perform all validation in common flow
         Either<Either<ArtifactDefinition, Operation>, ResponseFormat> result = handleArtifactRequest(componentId, userId, componentType, new ArtifactOperationInfo(false, false, ArtifactOperationEnum.DOWNLOAD), artifactId, null, null, null, null,
@@ -4003,26 +4029,22 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
                 return Either.right(artifactDataRes.right().value());
             }
             String newCheckSum = GeneralUtility.calculateMD5Base64EncodedByByteArray(artifactData.getDataAsArray());
-            String oldCheckSum;
+            boolean isSamePayload;
             String esArtifactId = artifactDefinition.getEsId();
-            Either<ESArtifactData, CassandraOperationStatus> artifactfromES;
-            ESArtifactData esArtifactData;
             if (esArtifactId != null && !esArtifactId.isEmpty() && artifactDefinition.getPayloadData() == null) {
-                log.debug("Try to fetch artifact from cassandra with id : {}", esArtifactId);
-                artifactfromES = artifactCassandraDao.getArtifact(esArtifactId);
-                if (artifactfromES.isRight()) {
-                    CassandraOperationStatus resourceUploadStatus = artifactfromES.right().value();
+                log.debug("Try to compare artifact payload in cassandra with id : {}", esArtifactId);
+                Either<Boolean, CassandraOperationStatus> samePayload = artifactCassandraDao.isSamePayload(esArtifactId, artifactData.getDataAsArray());
+                if (samePayload.isRight()) {
+                    CassandraOperationStatus resourceUploadStatus = samePayload.right().value();
                     StorageOperationStatus storageResponse = DaoStatusConverter.convertCassandraStatusToStorageStatus(resourceUploadStatus);
                     ActionStatus actionStatus = componentsUtils.convertFromStorageResponse(storageResponse);
                     log.debug("Error when getting artifact from ES, error: {} esid : {}", actionStatus, esArtifactId);
                     return Either.right(componentsUtils.getResponseFormatByArtifactId(actionStatus, artifactDefinition.getArtifactDisplayName()));
                 }
-                esArtifactData = artifactfromES.left().value();
-                oldCheckSum = GeneralUtility.calculateMD5Base64EncodedByByteArray(esArtifactData.getDataAsArray());
+                isSamePayload = samePayload.left().value();
             }
             else {
-                oldCheckSum = artifactDefinition.getArtifactChecksum();
-
+                isSamePayload = newCheckSum.equals(artifactDefinition.getArtifactChecksum());
             }
             Either<ArtifactDefinition, StorageOperationStatus> updateArifactDefinitionStatus = null;
 
@@ -4035,7 +4057,7 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
                 }
             }
             try {
-                if (oldCheckSum != null && oldCheckSum.equals(newCheckSum)) {
+                if (isSamePayload) {
 
                     artifactDefinition.setPayloadUpdateDate(payloadUpdateDateGen.get());
                     updateArifactDefinitionStatus = artifactToscaOperation.updateArtifactOnResource(artifactDefinition, component
@@ -4056,7 +4078,6 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
                 }
                 else {
 
-                    oldCheckSum = artifactDefinition.getArtifactChecksum();
                     artifactDefinition.setArtifactChecksum(newCheckSum);
                     artifactDefinition.setEsId(artifactDefinition.getUniqueId());
                     log.trace("No real update done in payload for {} artifact, updating payloadUpdateDate {}", artifactDefinition
@@ -4605,6 +4626,35 @@ public class ArtifactsBusinessLogic extends BaseBusinessLogic {
         return result;
     }
 
+    /**
+     * returns the SHA-256 checksum of the payload of a component artifact by UUIDs, without reading the payload
+     *
+     * @param componentType
+     * @param componentUuid
+     * @param artifactUUID
+     * @param resourceCommonInfo
+     * @return empty if the artifact isn't found or its checksum isn't stored apart from the payload
+     */
+    public Optional<String> getComponentArtifactPayloadChecksumByUUIDs(ComponentTypeEnum componentType, String componentUuid, String artifactUUID, ResourceCommonInfo resourceCommonInfo) {
+        Wrapper<ResponseFormat> errorWrapper = new Wrapper<>();
+        Component component = getComponentByUuid(componentType, componentUuid, errorWrapper);
+        if (!errorWrapper.isEmpty() || component == null || component.getAllArtifacts() == null) {
+            return Optional.empty();
+        }
+        resourceCommonInfo.setResourceName(component.getName());
+        return component.getAllArtifacts()
+                        .values()
+                        .stream()
+                        .filter(art -> artifactUUID.equals(art.getArtifactUUID()))
+                        .map(ArtifactDefinition::getEsId)
+                        .filter(StringUtils::isNotEmpty)
+                        .findFirst()
+                        .flatMap(esId -> {
+                            Either<String, CassandraOperationStatus> checksum = artifactCassandraDao.getPayloadChecksum(esId);
+                            return checksum.isLeft() ? Optional.of(checksum.left().value()) : Optional.empty();
+                        });
+    }
+
     /**
      * downloads an artifact of resource instance of component by UUIDs
      *
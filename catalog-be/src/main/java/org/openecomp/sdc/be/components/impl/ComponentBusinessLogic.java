@@ -29,10 +29,13 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.stream.Collectors;
 
+import javax.ws.rs.core.StreamingOutput;
+
 import fj.data.Either;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.ImmutableTriple;
 import org.openecomp.sdc.be.components.impl.exceptions.ByActionStatusComponentException;
 import org.openecomp.sdc.be.components.impl.exceptions.ByResponseFormatComponentException;
 import org.openecomp.sdc.be.components.impl.generic.GenericTypeBusinessLogic;
@@ -690,6 +693,22 @@ public abstract class ComponentBusinessLogic extends BaseBusinessLogic {
     }
 
     public Either<ImmutablePair<String, byte[]>, ResponseFormat> getToscaModelByComponentUuid(ComponentTypeEnum componentType, String uuid, ResourceCommonInfo resourceCommonInfo) {
+        Either<ImmutablePair<Component, ArtifactDefinition>, ResponseFormat> csarArtifact = getLatestCsarArtifactByComponentUuid(componentType, uuid, resourceCommonInfo);
+        if (csarArtifact.isRight()) {
+            return Either.right(csarArtifact.right().value());
+        }
+        return artifactsBusinessLogic.handleDownloadToscaModelRequest(csarArtifact.left().value().getLeft(), csarArtifact.left().value().getRight());
+    }
+
+    public Either<ImmutableTriple<String, String, StreamingOutput>, ResponseFormat> getToscaModelStreamByComponentUuid(ComponentTypeEnum componentType, String uuid, ResourceCommonInfo resourceCommonInfo) {
+        Either<ImmutablePair<Component, ArtifactDefinition>, ResponseFormat> csarArtifact = getLatestCsarArtifactByComponentUuid(componentType, uuid, resourceCommonInfo);
+        if (csarArtifact.isRight()) {
+            return Either.right(csarArtifact.right().value());
+        }
+        return artifactsBusinessLogic.handleStreamToscaModelRequest(csarArtifact.left().value().getLeft(), csarArtifact.left().value().getRight());
+    }
+
+    private Either<ImmutablePair<Component, ArtifactDefinition>, ResponseFormat> getLatestCsarArtifactByComponentUuid(ComponentTypeEnum componentType, String uuid, ResourceCommonInfo resourceCommonInfo) {
 
         Either<List<Component>, StorageOperationStatus> latestVersionEither = toscaOperationFacade.getComponentListByUuid(uuid, null);
 
@@ -718,7 +737,7 @@ public abstract class ComponentBusinessLogic extends BaseBusinessLogic {
         ArtifactDefinition csarArtifact = component.getToscaArtifacts().values().stream()
                 .filter(p -> p.getArtifactType().equals(ArtifactTypeEnum.TOSCA_CSAR.getType()))
                 .findAny().get();
-        return artifactsBusinessLogic.handleDownloadToscaModelRequest(component, csarArtifact);
+        return Either.left(new ImmutablePair<>(component, csarArtifact));
     }
 
     protected StorageOperationStatus markComponentToDelete(Component component) {
@@ -1023,6 +1023,19 @@ public class ElementBusinessLogic extends BaseBusinessLogic {
         }
     }
 
+    /**
+     * Returns the version tag of the catalog index, or null when the index is disabled.
+     * The user is validated first, so an unknown user cannot validate a cached catalog either.
+     */
+    public String getCatalogVersionTag(String userId) {
+        try {
+            validateUserExists(userId, "get Catalog Components", true);
+            return toscaOperationFacade.getCatalogVersionTag();
+        } finally {
+            janusGraphDao.commit();
+        }
+    }
+
     private Map<String, List<CatalogComponent>> groupByComponentType(List<CatalogComponent> components) {
         Map<String, List<CatalogComponent>> map = components.stream().collect(Collectors.groupingBy(cmpt -> cmptTypeToString(cmpt.getComponentType())));
 
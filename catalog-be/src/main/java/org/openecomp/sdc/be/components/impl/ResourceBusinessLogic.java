@@ -33,6 +33,7 @@ import static org.openecomp.sdc.be.components.impl.ImportUtils.findFirstToscaStr
 import static org.openecomp.sdc.be.components.impl.ImportUtils.getPropertyJsonStringValue;
 import static org.openecomp.sdc.be.tosca.CsarUtils.VF_NODE_TYPE_ARTIFACTS_PATH_PATTERN;
 
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumMap;
@@ -1021,10 +1022,8 @@ public class ResourceBusinessLogic extends ComponentBusinessLogic {
     }
 
     private void createNodeTypes(String yamlName, Resource resource, boolean needLock, Map<String, EnumMap<ArtifactOperationEnum, List<ArtifactDefinition>>> nodeTypesArtifactsToHandle, List<ArtifactDefinition> nodeTypesNewCreatedArtifacts, Map<String, NodeTypeInfo> nodeTypesInfo, CsarInfo csarInfo, Map<String, Object> mapToConvert, Map<String, Object> nodeTypes) {
-        Iterator<Entry<String, Object>> nodesNameValueIter = nodeTypes.entrySet().iterator();
         Resource vfcCreated = null;
-        while (nodesNameValueIter.hasNext()) {
-            Entry<String, Object> nodeType = nodesNameValueIter.next();
+        for (Entry<String, Object> nodeType : orderByDerivedFrom(nodeTypes)) {
             Map<ArtifactOperationEnum, List<ArtifactDefinition>> nodeTypeArtifactsToHandle = nodeTypesArtifactsToHandle == null
                     || nodeTypesArtifactsToHandle.isEmpty() ? null
                     : nodeTypesArtifactsToHandle.get(nodeType.getKey());
@@ -1054,6 +1053,32 @@ public class ResourceBusinessLogic extends ComponentBusinessLogic {
         }
     }
 
+    /**
+     * Orders the node types of a template so that each node type comes after the node type of the same template it
+     * is derived from. The template order is kept otherwise.
+     */
+    private List<Entry<String, Object>> orderByDerivedFrom(Map<String, Object> nodeTypes) {
+        List<Entry<String, Object>> orderedNodeTypes = new ArrayList<>(nodeTypes.size());
+        Set<String> visited = new HashSet<>();
+        nodeTypes.keySet().forEach(nodeName -> addAfterDerivedFrom(nodeTypes, nodeName, visited, orderedNodeTypes));
+        return orderedNodeTypes;
+    }
+
+    private void addAfterDerivedFrom(Map<String, Object> nodeTypes, String nodeName, Set<String> visited,
+                                     List<Entry<String, Object>> orderedNodeTypes) {
+        if (!visited.add(nodeName)) {
+            return;
+        }
+        Object nodeType = nodeTypes.get(nodeName);
+        if (nodeType instanceof Map) {
+            Object derivedFrom = ((Map<?, ?>) nodeType).get(TypeUtils.ToscaTagNamesEnum.DERIVED_FROM.getElementName());
+            if (derivedFrom instanceof String && nodeTypes.containsKey(derivedFrom)) {
+                addAfterDerivedFrom(nodeTypes, (String) derivedFrom, visited, orderedNodeTypes);
+            }
+        }
+        orderedNodeTypes.add(new AbstractMap.SimpleEntry<>(nodeName, nodeType));
+    }
+
     private Resource handleNestedVfc(Resource resource, Map<String, EnumMap<ArtifactOperationEnum, List<ArtifactDefinition>>> nodesArtifactsToHandle,
                                      List<ArtifactDefinition> createdArtifacts, Map<String, NodeTypeInfo> nodesInfo, CsarInfo csarInfo,
                                      String nodeName) {
@@ -2179,6 +2204,7 @@ public class ResourceBusinessLogic extends ComponentBusinessLogic {
                     DaoStatusConverter.convertJanusGraphStatusToStorageStatus(status)), yamlName));
 
         }
+        prefetchOriginResources(originCompMap, componentInstancesList);
         Resource finalResource = resource;
         uploadResInstancesMap
                 .values()
@@ -2403,6 +2429,25 @@ public class ResourceBusinessLogic extends ComponentBusinessLogic {
         }
     }
 
+    private void prefetchOriginResources(Map<String, Resource> originCompMap, List<ComponentInstance> componentInstancesList) {
+        if (CollectionUtils.isEmpty(componentInstancesList)) {
+            return;
+        }
+        Set<String> originIds = componentInstancesList.stream()
+                .map(ComponentInstance::getComponentUid)
+                .filter(id -> !originCompMap.containsKey(id))
+                .collect(toSet());
+        Either<Map<String, Resource>, StorageOperationStatus> getOriginResourcesRes = toscaOperationFacade
+                .getToscaFullElements(originIds);
+        if (getOriginResourcesRes.isRight()) {
+            // each missing origin is fetched again and reported by getOriginResource
+            log.debug("failed to prefetch the origin resources {} status is {}", originIds,
+                    getOriginResourcesRes.right().value());
+            return;
+        }
+        originCompMap.putAll(getOriginResourcesRes.left().value());
+    }
+
     private Resource getOriginResource(String yamlName, Map<String, Resource> originCompMap, ComponentInstance currentCompInstance) {
         Resource originResource;
         if (!originCompMap.containsKey(currentCompInstance.getComponentUid())) {
@@ -55,6 +55,7 @@ import org.openecomp.sdc.exception.ResponseFormat;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import javax.annotation.PostConstruct;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import org.springframework.context.annotation.Lazy;
@@ -329,6 +330,7 @@ public class LifecycleBusinessLogic {
 
         LifecycleStateEnum oldState = component.getLifecycleState();
         String resourceCurrVersion = component.getVersion();
+        String componentId = component.getUniqueId();
         ComponentBusinessLogic bl = getComponentBL(componentType);
 
         Either<User, ResponseFormat> ownerResult = lifeCycleTransition.getComponentOwner(component, componentType);
@@ -366,6 +368,7 @@ public class LifecycleBusinessLogic {
             return Either.right(errorResponse);
         }
         Component resourceAfterOperation = operationResult.left().value();
+        toscaOperationFacade.refreshCatalogComponents(Arrays.asList(componentId, resourceAfterOperation.getUniqueId()));
         componentUtils.auditComponent(componentUtils.getResponseFormat(ActionStatus.OK), modifier, resourceAfterOperation,
                 lifeCycleTransition.getAuditingAction(), new ResourceCommonInfo(componentType.getValue()),
                 ResourceVersionInfo.newBuilder()
@@ -45,6 +45,7 @@ public class AsdcComponentsCleanerTask extends AbstractScheduleTaskRunner implem
 
     private List<NodeTypeEnum> componentsToClean;
     private long cleaningIntervalInMinutes;
+    private long artifactPayloadGracePeriodInMinutes;
 
     private ScheduledExecutorService scheduledService = Executors.newScheduledThreadPool(1,
             new BasicThreadFactory.Builder().namingPattern("ComponentsCleanThread-%d").build());
@@ -82,6 +83,13 @@ public class AsdcComponentsCleanerTask extends AbstractScheduleTaskRunner implem
         }
         cleaningIntervalInMinutes = intervalInMinutes;
 
+        long gracePeriodInMinutes = cleanComponentsConfiguration.getArtifactPayloadGracePeriodInMinutes();
+        if (gracePeriodInMinutes < 1) {
+            log.warn("artifactPayloadGracePeriodInMinutes value should be greater than or equal to 1 minute. use default");
+            gracePeriodInMinutes = 60;
+        }
+        artifactPayloadGracePeriodInMinutes = gracePeriodInMinutes;
+
         startTask();
 
         log.info("End init method of AsdcComponentsCleaner");
@@ -130,6 +138,7 @@ public class AsdcComponentsCleanerTask extends AbstractScheduleTaskRunner implem
     public void run() {
         try {
             componentsCleanBusinessLogic.cleanComponents(componentsToClean);
+            componentsCleanBusinessLogic.collectUnreferencedArtifactPayloads(artifactPayloadGracePeriodInMinutes);
         } catch (Exception e) {
             log.error("unexpected error occured", e);
             BeEcompErrorManager.getInstance().logBeComponentCleanerSystemError("AsdcComponentsCleanerTask-run",
@@ -30,6 +30,8 @@ import org.openecomp.sdc.be.components.impl.GroupBusinessLogic;
 import org.openecomp.sdc.be.components.impl.ResourceBusinessLogic;
 import org.openecomp.sdc.be.components.impl.ServiceBusinessLogic;
 import org.openecomp.sdc.be.dao.api.ActionStatus;
+import org.openecomp.sdc.be.dao.cassandra.ArtifactCassandraDao;
+import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
 import org.openecomp.sdc.be.datatypes.enums.NodeTypeEnum;
 import org.openecomp.sdc.be.model.jsonjanusgraph.operations.ArtifactsOperations;
 import org.openecomp.sdc.be.model.jsonjanusgraph.operations.InterfaceOperation;
@@ -38,6 +40,7 @@ import org.openecomp.sdc.be.model.operations.api.IGroupInstanceOperation;
 import org.openecomp.sdc.be.model.operations.api.IGroupOperation;
 import org.openecomp.sdc.be.model.operations.api.IGroupTypeOperation;
 import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+import org.openecomp.sdc.be.model.operations.impl.DaoStatusConverter;
 import org.openecomp.sdc.be.model.operations.impl.InterfaceLifecycleOperation;
 import org.openecomp.sdc.common.log.wrappers.Logger;
 import org.openecomp.sdc.exception.ResponseFormat;
@@ -47,12 +50,14 @@ import org.springframework.stereotype.Component;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Component("componentsCleanBusinessLogic")
 public class ComponentsCleanBusinessLogic extends BaseBusinessLogic {
 
     private final ResourceBusinessLogic resourceBusinessLogic;
     private final ServiceBusinessLogic serviceBusinessLogic;
+    private final ArtifactCassandraDao artifactCassandraDao;
 
     @VisibleForTesting
     static final String DELETE_LOCKER = "DELETE_LOCKER";
@@ -67,11 +72,13 @@ public class ComponentsCleanBusinessLogic extends BaseBusinessLogic {
         InterfaceOperation interfaceOperation,
         InterfaceLifecycleOperation interfaceLifecycleTypeOperation, ResourceBusinessLogic resourceBusinessLogic,
         ServiceBusinessLogic serviceBusinessLogic,
-        ArtifactsOperations artifactToscaOperation) {
+        ArtifactsOperations artifactToscaOperation,
+        ArtifactCassandraDao artifactCassandraDao) {
         super(elementDao, groupOperation, groupInstanceOperation, groupTypeOperation,
             interfaceOperation, interfaceLifecycleTypeOperation, artifactToscaOperation);
         this.resourceBusinessLogic = resourceBusinessLogic;
         this.serviceBusinessLogic = serviceBusinessLogic;
+        this.artifactCassandraDao = artifactCassandraDao;
     }
 
     public Map<NodeTypeEnum, Either<List<String>, ResponseFormat>> cleanComponents(List<NodeTypeEnum> componentsToClean){
@@ -128,6 +135,33 @@ public class ComponentsCleanBusinessLogic extends BaseBusinessLogic {
         cleanedComponents.put(type, deleteMarkedResources);
     }
 
+    /**
+     * Removes the artifact payloads no artifact references anymore, under the delete lock so that a
+     * single instance scans the payloads at a time.
+     *
+     * @param gracePeriodInMinutes the time a payload is kept after it was last written
+     * @return the number of payloads removed
+     */
+    public Either<Integer, ResponseFormat> collectUnreferencedArtifactPayloads(long gracePeriodInMinutes) {
+        if (isDeleteOperationLockFailed()) {
+            log.info("artifact payloads won't be collected as another process is locking the delete operation");
+            return Either.right(componentsUtils.getResponseFormat(ActionStatus.NOT_ALLOWED));
+        }
+        try {
+            Either<Integer, CassandraOperationStatus> collected =
+                artifactCassandraDao.collectUnreferencedPayloads(TimeUnit.MINUTES.toMillis(gracePeriodInMinutes));
+            if (collected.isRight()) {
+                log.debug("failed to collect unreferenced artifact payloads. error: {}", collected.right().value());
+                StorageOperationStatus storageStatus = DaoStatusConverter.convertCassandraStatusToStorageStatus(collected.right().value());
+                return Either.right(componentsUtils.getResponseFormat(componentsUtils.convertFromStorageResponse(storageStatus)));
+            }
+            log.debug("{} unreferenced artifact payloads collected", collected.left().value());
+            return Either.left(collected.left().value());
+        } finally {
+            unlockDeleteOperation();
+        }
+    }
+
     public StorageOperationStatus lockDeleteOperation() {
         StorageOperationStatus result = graphLockOperation.lockComponentByName(DELETE_LOCKER, NodeTypeEnum.Component);
         log.info("Lock cleanup operation is done with result = {}", result);
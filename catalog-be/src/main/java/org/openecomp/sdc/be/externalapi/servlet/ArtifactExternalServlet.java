@@ -25,8 +25,10 @@ import com.jcabi.aspects.Loggable;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 import fj.data.Either;
 import io.swagger.annotations.Api;
@@ -798,6 +800,7 @@ public class ArtifactExternalServlet extends AbstractValidationsServlet {
     @ApiOperation(value = "Download component artifact", httpMethod = "GET", notes = "Returns downloaded artifact")
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Artifact downloaded", response = String.class),
+            @ApiResponse(code = 304, message = "Artifact not modified since the entity tag given in If-None-Match"),
             @ApiResponse(code = 400, message = "Missing  'X-ECOMP-InstanceID'  HTTP header - POL5001"),
             @ApiResponse(code = 401, message = "ECOMP component  should authenticate itself  and  to  re-send  again  HTTP  request  with its Basic  Authentication credentials - POL5002"),
             @ApiResponse(code = 403, message = "ECOMP component is not authorized - POL5003"),
@@ -813,7 +816,8 @@ public class ArtifactExternalServlet extends AbstractValidationsServlet {
             @ApiParam(value = "The username and password", required = true)@HeaderParam(value = Constants.AUTHORIZATION_HEADER) String authorization,
             @ApiParam(value = "The requested asset type", required = true, allowableValues = "resources, services")@PathParam("assetType") final String assetType,
             @ApiParam(value = "The uuid of the asset as published in the metadata", required = true)@PathParam("uuid") final String uuid,
-            @ApiParam(value = "The uuid of the artifact as published in the asset detailed metadata or in the response of the upload / update operation", required = true)@PathParam("artifactUUID") final String artifactUUID) {
+            @ApiParam(value = "The uuid of the artifact as published in the asset detailed metadata or in the response of the upload / update operation", required = true)@PathParam("artifactUUID") final String artifactUUID,
+            @ApiParam(value = "The entity tag of a previously downloaded version of the artifact", required = false)@HeaderParam(value = HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
 
         Wrapper<Response> responseWrapper = new Wrapper<>();
         ResponseFormat responseFormat = null;
@@ -834,6 +838,15 @@ public class ArtifactExternalServlet extends AbstractValidationsServlet {
         }
         ResourceCommonInfo resourceCommonInfo = new ResourceCommonInfo(componentTypeValue);
         try {
+            // the payload isn't read when the client already holds its current version
+            Optional<String> eTag = responseWrapper.isEmpty() && ifNoneMatch != null ? artifactsBusinessLogic
+                .getComponentArtifactPayloadChecksumByUUIDs(componentType, uuid, artifactUUID, resourceCommonInfo)
+                .map(this::buildETag) : Optional.empty();
+            if (eTag.isPresent() && isETagMatching(ifNoneMatch, eTag.get())) {
+                log.debug("downloadComponentArtifact: artifact {} not modified", artifactUUID);
+                responseFormat = getComponentsUtils().getResponseFormat(ActionStatus.OK);
+                responseWrapper.setInnerElement(Response.notModified().header(HttpHeaders.ETAG, eTag.get()).build());
+            }
             if (responseWrapper.isEmpty()) {
                 Either<byte[], ResponseFormat> downloadComponentArtifactEither = artifactsBusinessLogic
                     .downloadComponentArtifactByUUIDs(componentType, uuid, artifactUUID, resourceCommonInfo);
@@ -845,6 +858,7 @@ public class ArtifactExternalServlet extends AbstractValidationsServlet {
                     InputStream is = new ByteArrayInputStream(value);
                     Map<String, String> headers = new HashMap<>();
                     headers.put(Constants.MD5_HEADER, GeneralUtility.calculateMD5Base64EncodedByByteArray(value));
+                    headers.put(HttpHeaders.ETAG, buildETag(GeneralUtility.calculateSHA256HexByByteArray(value)));
                     responseFormat = getComponentsUtils().getResponseFormat(ActionStatus.OK);
                     responseWrapper.setInnerElement(buildOkResponse(responseFormat, is, headers));
                 }
@@ -934,4 +948,14 @@ public class ArtifactExternalServlet extends AbstractValidationsServlet {
         }
         return responseWrapper.getInnerElement();
     }
+
+    private String buildETag(String payloadChecksum) {
+        return "\"" + payloadChecksum + "\"";
+    }
+
+    private boolean isETagMatching(String ifNoneMatch, String eTag) {
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .anyMatch(tag -> tag.equals(eTag) || tag.equals("W/" + eTag) || "*".equals(tag));
+    }
 }
@@ -34,7 +34,7 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
-import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.ImmutableTriple;
 import org.openecomp.sdc.be.components.impl.ComponentBusinessLogic;
 import org.openecomp.sdc.be.components.impl.ComponentBusinessLogicProvider;
 import org.openecomp.sdc.be.components.impl.ComponentInstanceBusinessLogic;
@@ -58,7 +58,6 @@ import org.openecomp.sdc.be.servlets.RepresentationUtils;
 import org.openecomp.sdc.be.user.UserBusinessLogic;
 import org.openecomp.sdc.common.api.Constants;
 import org.openecomp.sdc.common.log.wrappers.Logger;
-import org.openecomp.sdc.common.util.GeneralUtility;
 import org.openecomp.sdc.exception.ResponseFormat;
 
 import javax.inject.Singleton;
@@ -66,8 +65,7 @@ import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
-import java.io.ByteArrayInputStream;
-import java.io.InputStream;
+import javax.ws.rs.core.StreamingOutput;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
@@ -358,23 +356,21 @@ public class AssetsDataServlet extends AbstractValidationsServlet {
             ComponentBusinessLogic componentBL = componentBusinessLogicProvider.getInstance(componentType);
 
 
-            Either<ImmutablePair<String, byte[]>, ResponseFormat> csarArtifact = componentBL.getToscaModelByComponentUuid(componentType, uuid, resourceCommonInfo);
+            Either<ImmutableTriple<String, String, StreamingOutput>, ResponseFormat> csarArtifact = componentBL.getToscaModelStreamByComponentUuid(componentType, uuid, resourceCommonInfo);
             if (csarArtifact.isRight()) {
                 responseFormat = csarArtifact.right().value();
                 getComponentsUtils().auditExternalGetAsset(responseFormat, auditingActionEnum, distributionData,
                         resourceCommonInfo, requestId, uuid);
                 response = buildErrorResponse(responseFormat);
             } else {
-                byte[] value = csarArtifact.left().value().getRight();
-                InputStream is = new ByteArrayInputStream(value);
-                String contenetMD5 = GeneralUtility.calculateMD5Base64EncodedByByteArray(value);
+                ImmutableTriple<String, String, StreamingOutput> csar = csarArtifact.left().value();
                 Map<String, String> headers = new HashMap<>();
-                headers.put(Constants.CONTENT_DISPOSITION_HEADER, getContentDispositionValue(csarArtifact.left().value().getLeft()));
-                headers.put(Constants.MD5_HEADER, contenetMD5);
+                headers.put(Constants.CONTENT_DISPOSITION_HEADER, getContentDispositionValue(csar.getLeft()));
+                headers.put(Constants.MD5_HEADER, csar.getMiddle());
                 responseFormat = getComponentsUtils().getResponseFormat(ActionStatus.OK);
                 getComponentsUtils().auditExternalGetAsset(responseFormat, auditingActionEnum, distributionData,
                         resourceCommonInfo, requestId, uuid);
-                response = buildOkResponse(responseFormat, is, headers);
+                response = buildOkResponse(responseFormat, csar.getRight(), headers);
             }
             return response;
 
@@ -53,12 +53,14 @@ import javax.servlet.ServletContext;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.*;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @Path("/v1/")
 
@@ -532,15 +534,23 @@ public class ElementServlet extends BeGenericServlet {
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
     @ApiOperation(value = "Retrieve catalog resources and services", httpMethod = "GET", notes = "Retrieve catalog resources and services", response = User.class)
-    @ApiResponses(value = { @ApiResponse(code = 200, message = "Returns resources and services Ok"), @ApiResponse(code = 404, message = "No resources and services were found"), @ApiResponse(code = 404, message = "User not found"),
+    @ApiResponses(value = { @ApiResponse(code = 200, message = "Returns resources and services Ok"), @ApiResponse(code = 304, message = "Catalog was not modified since the version in If-None-Match"),
+            @ApiResponse(code = 404, message = "No resources and services were found"), @ApiResponse(code = 404, message = "User not found"),
             @ApiResponse(code = 500, message = "Internal Server Error") })
-    public Response getCatalogComponents(@Context final HttpServletRequest request, @HeaderParam(value = Constants.USER_ID_HEADER) String userId, @QueryParam("excludeTypes") List<OriginTypeEnum> excludeTypes) {
+    public Response getCatalogComponents(@Context final HttpServletRequest request, @HeaderParam(value = Constants.USER_ID_HEADER) String userId, @QueryParam("excludeTypes") List<OriginTypeEnum> excludeTypes,
+            @HeaderParam(value = HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
 
         Response res = null;
         try {
             String url = request.getMethod() + " " + request.getRequestURI();
             log.debug("Start handle request of {}", url);
 
+            String eTag = toCatalogETag(elementBusinessLogic.getCatalogVersionTag(userId), excludeTypes);
+            if (eTag != null && eTag.equals(ifNoneMatch)) {
+                log.debug("catalog was not modified since {}", ifNoneMatch);
+                return Response.notModified().header(HttpHeaders.ETAG, eTag).build();
+            }
+
 			Either<Map<String, List<CatalogComponent>>, ResponseFormat> catalogData = elementBusinessLogic
           .getCatalogComponents(userId, excludeTypes);
 
@@ -549,7 +559,11 @@ public class ElementServlet extends BeGenericServlet {
                 return buildErrorResponse(catalogData.right().value());
             }
             Object data = RepresentationUtils.toRepresentation(catalogData.left().value());
-            res = buildOkResponse(getComponentsUtils().getResponseFormat(ActionStatus.OK), data);
+            Map<String, String> headers = new HashMap<>();
+            if (eTag != null) {
+                headers.put(HttpHeaders.ETAG, eTag);
+            }
+            res = buildOkResponse(getComponentsUtils().getResponseFormat(ActionStatus.OK), data, headers);
 
         } catch (Exception e) {
             BeEcompErrorManager.getInstance().logBeRestApiGeneralError("Get Catalog Components");
@@ -559,6 +573,18 @@ public class ElementServlet extends BeGenericServlet {
         return res;
     }
 
+    /**
+     * The catalog version is only meaningful for the same exclude list, so the list is folded into the tag.
+     * A null version means that the catalog index is disabled and the response cannot be validated.
+     */
+    private String toCatalogETag(String catalogVersionTag, List<OriginTypeEnum> excludeTypes) {
+        if (catalogVersionTag == null) {
+            return null;
+        }
+        String excluded = excludeTypes == null ? "" : excludeTypes.stream().map(Enum::name).sorted().collect(Collectors.joining(","));
+        return "\"" + catalogVersionTag + "-" + Integer.toHexString(excluded.hashCode()) + "\"";
+    }
+
     @DELETE
     @Path("/inactiveComponents/{componentType}")
     public Response deleteMarkedResources(@PathParam("componentType") final String componentType, @Context final HttpServletRequest request) {
@@ -23,8 +23,14 @@ package org.openecomp.sdc.be.tosca;
 
 import fj.data.Either;
 import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.collections.MapUtils;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.output.ByteArrayOutputStream;
+import org.apache.commons.io.output.CloseShieldOutputStream;
+import org.apache.commons.io.output.DeferredFileOutputStream;
 import org.apache.commons.lang.WordUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.ImmutableTriple;
@@ -58,10 +64,14 @@ import org.openecomp.sdc.common.util.ValidationUtils;
 import org.openecomp.sdc.exception.ResponseFormat;
 import org.springframework.beans.factory.annotation.Autowired;
 
-import java.io.BufferedOutputStream;
+import javax.ws.rs.core.StreamingOutput;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.regex.Matcher;
@@ -102,6 +112,9 @@ public class CsarUtils {
 	private static final String TOSCA_META_PATH_FILE_NAME = "TOSCA-Metadata/TOSCA.meta";
 	private static final String TOSCA_META_VERSION = "1.0";
 	private static final String CSAR_VERSION = "1.1";
+	private static final int CSAR_MEMORY_THRESHOLD = 10 * 1024 * 1024;
+	// the first time a zip entry can hold, so the CSAR of an unchanged component is always the same
+	private static final long ZIP_ENTRY_TIME = new GregorianCalendar(1980, Calendar.JANUARY, 1).getTimeInMillis();
 	public static final String ARTIFACTS = "Artifacts";
     private static final String DEFINITION = "Definitions";
     private static final String DEL_PATTERN = "([/\\\\]+)";
@@ -149,41 +162,98 @@ public class CsarUtils {
 	 */
 	public Either<byte[], ResponseFormat> createCsar(Component component, boolean getFromCS,
 			boolean isInCertificationRequest) {
-		return createCsar(component, getFromCS, isInCertificationRequest, false);
+		return generateCsarZip(createCsarBlock0(), createToscaBlock0(component), component, getFromCS,
+				isInCertificationRequest);
 	}
 
-	private Either<byte[], ResponseFormat> createCsar(Component component, boolean getFromCS,
-			boolean isInCertificationRequest, boolean mockGenerator) {
-		final String createdBy = component.getCreatorFullName();
+	/**
+	 * Writes the CSAR of the component entry by entry to the given stream instead of building it in memory.
+	 * Artifact payloads are fetched one at a time, so only a single payload is held at any point.
+	 * The stream is flushed but not closed.
+	 *
+	 * @param component
+	 * @param getFromCS
+	 * @param isInCertificationRequest
+	 * @param out
+	 * @return
+	 */
+	public Either<OutputStream, ResponseFormat> createCsar(Component component, boolean getFromCS,
+			boolean isInCertificationRequest, OutputStream out) {
+		return writeCsarZip(createCsarBlock0(), createToscaBlock0(component), component, getFromCS,
+				isInCertificationRequest, out);
+	}
 
-		String fileName;
-		Map<String, ArtifactDefinition> toscaArtifacts = component.getToscaArtifacts();
-		ArtifactDefinition artifactDefinition = toscaArtifacts.get(ToscaExportHandler.ASSET_TOSCA_TEMPLATE);
-		fileName = artifactDefinition.getArtifactName();
+	/**
+	 * Generates the CSAR of the component into a buffer that stays in memory up to {@link #CSAR_MEMORY_THRESHOLD}
+	 * bytes and spills to a temporary file beyond that, computing the payload MD5 on the way.
+	 * Generation and its failures happen in the caller's flow; the returned {@link StreamingOutput} only copies
+	 * the buffer to the response and deletes the temporary file.
+	 *
+	 * @param component
+	 * @param getFromCS
+	 * @param isInCertificationRequest
+	 * @return pair of the payload MD5, encoded as {@link GeneralUtility#calculateMD5Base64EncodedByByteArray(byte[])} does, and the payload
+	 */
+	public Either<ImmutablePair<String, StreamingOutput>, ResponseFormat> createBufferedCsar(Component component,
+			boolean getFromCS, boolean isInCertificationRequest) {
+		DeferredFileOutputStream buffer = new DeferredFileOutputStream(CSAR_MEMORY_THRESHOLD, "csar", ".zip", null);
+		MessageDigest md5 = DigestUtils.getMd5Digest();
+		Either<OutputStream, ResponseFormat> written;
+		try (OutputStream out = new DigestOutputStream(buffer, md5)) {
+			written = createCsar(component, getFromCS, isInCertificationRequest, out);
+		} catch (IOException e) {
+			log.debug("Failed to buffer CSAR for component {}", component.getUniqueId(), e);
+			FileUtils.deleteQuietly(buffer.getFile());
+			return Either.right(componentsUtils.getResponseFormat(ActionStatus.GENERAL_ERROR));
+		}
+		if (written.isRight()) {
+			FileUtils.deleteQuietly(buffer.getFile());
+			return Either.right(written.right().value());
+		}
+		String payloadMd5 = new String(Base64.encodeBase64(Hex.encodeHexString(md5.digest()).getBytes()));
+		StreamingOutput payload = output -> {
+			try {
+				if (buffer.isInMemory()) {
+					output.write(buffer.getData());
+				} else {
+					Files.copy(buffer.getFile().toPath(), output);
+				}
+			} finally {
+				FileUtils.deleteQuietly(buffer.getFile());
+			}
+		};
+		return Either.left(new ImmutablePair<>(payloadMd5, payload));
+	}
 
+	private byte[] createCsarBlock0() {
 		String toscaConformanceLevel = ConfigurationManager.getConfigurationManager().getConfiguration()
 				.getToscaConformanceLevel();
-		String csarBlock0 = createCsarBlock0(CSAR_META_VERSION, toscaConformanceLevel);
-		byte[] csarBlock0Byte = csarBlock0.getBytes();
-
-		final String toscaBlock0 = createToscaBlock0(TOSCA_META_VERSION, CSAR_VERSION, createdBy, fileName);
-		byte[] toscaBlock0Byte = toscaBlock0.getBytes();
-
-        Either<byte[], ResponseFormat> generateCsarZipResponse = generateCsarZip(csarBlock0Byte, toscaBlock0Byte, component, getFromCS, isInCertificationRequest);
-
-		if (generateCsarZipResponse.isRight()) {
-			return Either.right(generateCsarZipResponse.right().value());
-		}
+		return createCsarBlock0(CSAR_META_VERSION, toscaConformanceLevel).getBytes();
+	}
 
-		return Either.left(generateCsarZipResponse.left().value());
+	private byte[] createToscaBlock0(Component component) {
+		final String createdBy = component.getCreatorFullName();
+		Map<String, ArtifactDefinition> toscaArtifacts = component.getToscaArtifacts();
+		ArtifactDefinition artifactDefinition = toscaArtifacts.get(ToscaExportHandler.ASSET_TOSCA_TEMPLATE);
+		String fileName = artifactDefinition.getArtifactName();
+		return createToscaBlock0(TOSCA_META_VERSION, CSAR_VERSION, createdBy, fileName).getBytes();
 	}
 
     private Either<byte[], ResponseFormat> generateCsarZip(byte[] csarBlock0Byte, byte[] toscaBlock0Byte, Component component, boolean getFromCS, boolean isInCertificationRequest) {
-        try (ByteArrayOutputStream out = new ByteArrayOutputStream();
-             ZipOutputStream zip = new ZipOutputStream(out)) {
-			zip.putNextEntry(new ZipEntry(CSAR_META_PATH_FILE_NAME));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Either<OutputStream, ResponseFormat> writeCsarZip = writeCsarZip(csarBlock0Byte, toscaBlock0Byte, component, getFromCS, isInCertificationRequest, out);
+        if (writeCsarZip.isRight()) {
+            return Either.right(writeCsarZip.right().value());
+        }
+        return Either.left(out.toByteArray());
+    }
+
+    private Either<OutputStream, ResponseFormat> writeCsarZip(byte[] csarBlock0Byte, byte[] toscaBlock0Byte, Component component, boolean getFromCS, boolean isInCertificationRequest, OutputStream out) {
+        // the caller owns the target stream, only the zip layer is closed here
+        try (ZipOutputStream zip = new ZipOutputStream(new CloseShieldOutputStream(out))) {
+			zip.putNextEntry(newZipEntry(CSAR_META_PATH_FILE_NAME));
 			zip.write(csarBlock0Byte);
-			zip.putNextEntry(new ZipEntry(TOSCA_META_PATH_FILE_NAME));
+			zip.putNextEntry(newZipEntry(TOSCA_META_PATH_FILE_NAME));
 			zip.write(toscaBlock0Byte);
             Either<ZipOutputStream, ResponseFormat> populateZip = populateZip(component, getFromCS, zip, isInCertificationRequest);
             if (populateZip.isRight()) {
@@ -192,9 +262,9 @@ public class CsarUtils {
             }
 
 			zip.finish();
-			byte[] byteArray = out.toByteArray();
+			zip.flush();
 
-			return Either.left(byteArray);
+			return Either.left(out);
 		} catch (IOException | NullPointerException e) {
 			log.debug("Failed with IOexception to create CSAR zip for component {}", component.getUniqueId(), e);
 
@@ -203,6 +273,12 @@ public class CsarUtils {
 		}
 	}
 
+	private static ZipEntry newZipEntry(String name) {
+		ZipEntry entry = new ZipEntry(name);
+		entry.setTime(ZIP_ENTRY_TIME);
+		return entry;
+	}
+
     private Either<ZipOutputStream, ResponseFormat> populateZip(Component component, boolean getFromCS, ZipOutputStream zip, boolean isInCertificationRequest) throws IOException {
 
 		LifecycleStateEnum lifecycleState = component.getLifecycleState();
@@ -243,7 +319,7 @@ public class CsarUtils {
 			dependencies = exportResult.getDependencies();
 		}
 
-		zip.putNextEntry(new ZipEntry(DEFINITIONS_PATH + fileName));
+		zip.putNextEntry(newZipEntry(DEFINITIONS_PATH + fileName));
 		zip.write(mainYaml);
 		// US798487 - Abstraction of complex types
 		if (!ModelConverter.isAtomicComponent(component)) {
@@ -302,7 +378,7 @@ public class CsarUtils {
 					return Either.right(responseFormat);
 				}
 				byte[] content = entryData.left().value();
-				zip.putNextEntry(new ZipEntry(DEFINITIONS_PATH + icFileName));
+				zip.putNextEntry(newZipEntry(DEFINITIONS_PATH + icFileName));
 				zip.write(content);
 
 				// add component interface to zip
@@ -342,31 +418,14 @@ public class CsarUtils {
 	private Either<ZipOutputStream, ResponseFormat> addSchemaFilesFromCassandra(ZipOutputStream zip,
 			byte[] schemaFileZip) {
 
-		final int initSize = 2048;
-
 		log.debug("Starting copy from Schema file zip to CSAR zip");
 
-		try (ZipInputStream zipStream = new ZipInputStream(new ByteArrayInputStream(schemaFileZip));
-				ByteArrayOutputStream out = new ByteArrayOutputStream();
-             BufferedOutputStream bos = new BufferedOutputStream(out, initSize)) {
+		try (ZipInputStream zipStream = new ZipInputStream(new ByteArrayInputStream(schemaFileZip))) {
 
             ZipEntry entry;
 			while ((entry = zipStream.getNextEntry()) != null) {
-
-				String entryName = entry.getName();
-				int readSize = initSize;
-				byte[] entryData = new byte[initSize];
-
-				while ((readSize = zipStream.read(entryData, 0, readSize)) != -1) {
-					bos.write(entryData, 0, readSize);
-				}
-
-				bos.flush();
-				out.flush();
-				zip.putNextEntry(new ZipEntry(DEFINITIONS_PATH + entryName));
-				zip.write(out.toByteArray());
-				zip.flush();
-				out.reset();
+				zip.putNextEntry(newZipEntry(DEFINITIONS_PATH + entry.getName()));
+				IOUtils.copy(zipStream, zip);
 			}
 		} catch (IOException | NullPointerException e) {
 			log.error("Error while writing the SDC schema file to the CSAR {}", e);
@@ -440,7 +499,7 @@ public class CsarUtils {
 			String mainYaml = componentInterfaceYaml.getMainYaml();
 			String interfaceFileName = DEFINITIONS_PATH + ToscaExportHandler.getInterfaceFilename(fileName);
 
-			zip.putNextEntry(new ZipEntry(interfaceFileName));
+			zip.putNextEntry(newZipEntry(interfaceFileName));
 			zip.write(mainYaml.getBytes());
 
 		} catch (Exception e) {
@@ -951,7 +1010,7 @@ public class CsarUtils {
 				}
 				payloadData = fromCassandra.left().value();
 			}
-			zip.putNextEntry(new ZipEntry(artifactPathAndFolder + artifactFileName));
+			zip.putNextEntry(newZipEntry(artifactPathAndFolder + artifactFileName));
 			zip.write(payloadData);
 		}
 
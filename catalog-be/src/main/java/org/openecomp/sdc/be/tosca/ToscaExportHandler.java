@@ -29,6 +29,7 @@ import org.apache.commons.lang.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.ImmutableTriple;
 import org.apache.commons.lang3.tuple.Triple;
+import org.onap.sdc.tosca.services.DataModelCloneUtil;
 import org.onap.sdc.tosca.services.YamlUtil;
 import org.openecomp.sdc.be.components.impl.exceptions.SdcResourceNotFoundException;
 import org.openecomp.sdc.be.config.ConfigurationManager;
@@ -187,7 +188,7 @@ public class ToscaExportHandler {
 
     public Either<ToscaTemplate, ToscaError> getDependencies(Component component) {
         ToscaTemplate toscaTemplate = new ToscaTemplate(null);
-        Either<ImmutablePair<ToscaTemplate, Map<String, Component>>, ToscaError> fillImports = fillImports(component,
+        Either<ImmutablePair<ToscaTemplate, ExportComponentCache>, ToscaError> fillImports = fillImports(component,
                 toscaTemplate);
         if (fillImports.isRight()) {
             return Either.right(fillImports.right().value());
@@ -219,13 +220,13 @@ public class ToscaExportHandler {
 
     private Either<ToscaTemplate, ToscaError> convertToscaTemplate(Component component, ToscaTemplate toscaNode) {
 
-        Either<ImmutablePair<ToscaTemplate, Map<String, Component>>, ToscaError> importsRes = fillImports(component,
+        Either<ImmutablePair<ToscaTemplate, ExportComponentCache>, ToscaError> importsRes = fillImports(component,
                 toscaNode);
         if (importsRes.isRight()) {
             return Either.right(importsRes.right().value());
         }
         toscaNode = importsRes.left().value().left;
-        Map<String, Component> componentCache = importsRes.left().value().right;
+        ExportComponentCache componentCache = importsRes.left().value().right;
         Either<Map<String, ToscaNodeType>, ToscaError> nodeTypesMapEither = createProxyNodeTypes(componentCache,
                 component);
         if (nodeTypesMapEither.isRight()) {
@@ -238,7 +239,7 @@ public class ToscaExportHandler {
             toscaNode.setNode_types(nodeTypesMap);
         }
 
-        Either<Map<String, Object>, ToscaError> proxyInterfaceTypesEither = createProxyInterfaceTypes(component);
+        Either<Map<String, Object>, ToscaError> proxyInterfaceTypesEither = createProxyInterfaceTypes(componentCache, component);
         if (proxyInterfaceTypesEither.isRight()) {
             log.debug("Failed to populate service proxy local interface types in tosca, error {}",
                     nodeTypesMapEither.right().value());
@@ -326,6 +327,8 @@ public class ToscaExportHandler {
         topologyTemplate.setSubstitution_mappings(substitutionMapping);
 
         toscaNode.setTopology_template(topologyTemplate);
+        log.debug("tosca export of {} fetched {} origin components", component.getUniqueId(),
+                componentCache.getOriginFetches());
 
         return Either.left(toscaNode);
     }
@@ -421,14 +424,14 @@ public class ToscaExportHandler {
         }
     }
 
-    private Either<ImmutablePair<ToscaTemplate, Map<String, Component>>, ToscaError> fillImports(Component component,
+    private Either<ImmutablePair<ToscaTemplate, ExportComponentCache>, ToscaError> fillImports(Component component,
             ToscaTemplate toscaTemplate) {
 
         if (null == DEFAULT_IMPORTS) {
             log.debug(FAILED_TO_GET_DEFAULT_IMPORTS_CONFIGURATION);
             return Either.right(ToscaError.GENERAL_ERROR);
         }
-        Map<String, Component> componentCache = new HashMap<>();
+        ExportComponentCache componentCache = new ExportComponentCache();
 
         if (!ModelConverter.isAtomicComponent(component)) {
             List<Map<String, Map<String, String>>> additionalImports = toscaTemplate.getImports() == null
@@ -913,7 +916,7 @@ public class ToscaExportHandler {
         return toscaNodeType;
     }
 
-    private Either<Map<String, Object>, ToscaError> createProxyInterfaceTypes(Component container) {
+    private Either<Map<String, Object>, ToscaError> createProxyInterfaceTypes(Map<String, Component> componentCache, Component container) {
 
         Map<String, Object> proxyInterfaceTypes = new HashMap<>();
         Either<Map<String, Object>, ToscaError> res = Either.left(proxyInterfaceTypes);
@@ -928,13 +931,11 @@ public class ToscaExportHandler {
         if (MapUtils.isEmpty(serviceProxyInstanceList)) {
             return res;
         }
+        List<String> allGlobalInterfaceTypes = null;
         for (Entry<String, ComponentInstance> entryProxy : serviceProxyInstanceList.entrySet()) {
             Component serviceComponent;
-            ComponentParametersView componentParametersView = new ComponentParametersView();
-            componentParametersView.disableAll();
-            componentParametersView.setIgnoreInterfaces(false);
-            Either<Component, StorageOperationStatus> service = toscaOperationFacade
-                    .getToscaElement(entryProxy.getValue().getSourceModelUid(), componentParametersView);
+            Either<Component, StorageOperationStatus> service = getOriginComponent(componentCache,
+                    entryProxy.getValue().getSourceModelUid());
             if (service.isRight()) {
                 log.debug("Failed to fetch original service component with id {} for instance {}",
                         entryProxy.getValue().getSourceModelUid(), entryProxy.getValue().getName());
@@ -943,16 +944,18 @@ public class ToscaExportHandler {
                 serviceComponent = service.left().value();
             }
 
-            Either<Map<String, InterfaceDefinition>, StorageOperationStatus> lifecycleTypeEither =
-                    interfaceLifecycleOperation.getAllInterfaceLifecycleTypes();
-            if(lifecycleTypeEither.isRight()){
-                log.debug("Failed to retrieve global interface types :", lifecycleTypeEither.right().value());
-                return Either.right(ToscaError.GENERAL_ERROR);
-            }
+            if (allGlobalInterfaceTypes == null) {
+                Either<Map<String, InterfaceDefinition>, StorageOperationStatus> lifecycleTypeEither =
+                        interfaceLifecycleOperation.getAllInterfaceLifecycleTypes();
+                if(lifecycleTypeEither.isRight()){
+                    log.debug("Failed to retrieve global interface types :", lifecycleTypeEither.right().value());
+                    return Either.right(ToscaError.GENERAL_ERROR);
+                }
 
-            List<String> allGlobalInterfaceTypes = lifecycleTypeEither.left().value().values().stream()
-                    .map(InterfaceDataDefinition::getType)
-                    .collect(Collectors.toList());
+                allGlobalInterfaceTypes = lifecycleTypeEither.left().value().values().stream()
+                        .map(InterfaceDataDefinition::getType)
+                        .collect(Collectors.toList());
+            }
             //Add interface types for local interfaces in the original service component for proxy
             Map<String, Object> localInterfaceTypes = addInterfaceTypeElement(serviceComponent,
                     allGlobalInterfaceTypes);
@@ -999,15 +1002,8 @@ public class ToscaExportHandler {
 
         for (Entry<String, ComponentInstance> entryProxy : serviceProxyInstanceList.entrySet()) {
             Component serviceComponent = null;
-            ComponentParametersView componentParametersView = new ComponentParametersView();
-            componentParametersView.disableAll();
-            componentParametersView.setIgnoreCategories(false);
-            componentParametersView.setIgnoreProperties(false);
-            componentParametersView.setIgnoreInputs(false);
-            componentParametersView.setIgnoreInterfaces(false);
-            componentParametersView.setIgnoreRequirements(false);
-            Either<Component, StorageOperationStatus> service = toscaOperationFacade
-                                                                        .getToscaElement(entryProxy.getValue().getSourceModelUid(), componentParametersView);
+            Either<Component, StorageOperationStatus> service = getOriginComponent(componentCache,
+                    entryProxy.getValue().getSourceModelUid());
             if (service.isRight()) {
                 log.debug("Failed to fetch resource with id {} for instance {}", entryProxy.getValue().getSourceModelUid(),  entryProxy.getValue().getName());
             } else {
@@ -1108,11 +1104,7 @@ public class ToscaExportHandler {
             }
         }
         if (result) {
-            ComponentParametersView filter = new ComponentParametersView(true);
-            filter.setIgnoreComponentInstances(false);
-            filter.setIgnoreCapabilities(false);
-            filter.setIgnoreGroups(false);
-            getOriginRes = toscaOperationFacade.getToscaElement(toInstance.getActualComponentUid(), filter);
+            getOriginRes = getOriginComponent(componentCache, toInstance.getActualComponentUid());
             if (getOriginRes.isRight()) {
                 log.debug("Failed to build substituted name for the requirement {}. Failed to get an origin component with uniqueId {}",
                         reqOpt.get().getName(), toInstance.getActualComponentUid());
@@ -1139,6 +1131,37 @@ public class ToscaExportHandler {
         return result;
     }
 
+    /**
+     * Returns the origin component from the export cache. An origin which wasn't loaded with the imports is loaded
+     * once per export, with the union of the views needed by the requirements and the proxy node and interface types.
+     */
+    private Either<Component, StorageOperationStatus> getOriginComponent(Map<String, Component> componentCache,
+            String componentUid) {
+        Component cachedComponent = componentCache.get(componentUid);
+        if (cachedComponent != null) {
+            return Either.left(cachedComponent);
+        }
+        Either<Component, StorageOperationStatus> getOriginRes = toscaOperationFacade.getToscaElement(componentUid,
+                getOriginComponentFilter());
+        if (getOriginRes.isLeft()) {
+            componentCache.put(componentUid, getOriginRes.left().value());
+        }
+        return getOriginRes;
+    }
+
+    private static ComponentParametersView getOriginComponentFilter() {
+        ComponentParametersView filter = new ComponentParametersView(true);
+        filter.setIgnoreComponentInstances(false);
+        filter.setIgnoreCapabilities(false);
+        filter.setIgnoreRequirements(false);
+        filter.setIgnoreGroups(false);
+        filter.setIgnoreCategories(false);
+        filter.setIgnoreProperties(false);
+        filter.setIgnoreInputs(false);
+        filter.setIgnoreInterfaces(false);
+        return filter;
+    }
+
     private boolean isCapabilityBelongToRelation(RelationshipInfo reqAndRelationshipPair, CapabilityDefinition capability) {
         return capability.getName().equals(reqAndRelationshipPair.getCapability()) && (capability.getOwnerId() !=null && capability.getOwnerId().equals(reqAndRelationshipPair.getCapabilityOwnerId()));
     }
@@ -1277,22 +1300,14 @@ public class ToscaExportHandler {
 
         nodeFilter.setTosca_id(cloneToscaId(inNodeFilter.getTosca_id()));
 
-
-        nodeFilter = (NodeFilter) cloneObjectFromYml(nodeFilter, NodeFilter.class);
-
         return nodeFilter;
     }
 
     private Object cloneToscaId(Object toscaId) {
         return Objects.isNull(toscaId) ? null
-                       : cloneObjectFromYml(toscaId, toscaId.getClass());
+                       : DataModelCloneUtil.cloneAs(toscaId, toscaId.getClass());
     }
 
-
-    private Object cloneObjectFromYml(Object objToClone, Class classOfObj) {
-        String objectAsYml = yamlUtil.objectToYaml(objToClone);
-        return yamlUtil.yamlToObject(objectAsYml, classOfObj);
-    }
     private void copyNodeFilterCapabilitiesTemplate(
             ListDataDefinition<RequirementNodeFilterCapabilityDataDefinition> origCapabilities,
             List<Map<String, CapabilityFilter>> capabilitiesCopy) {
@@ -1312,8 +1327,7 @@ public class ToscaExportHandler {
     }
 
     private List<Object> copyNodeFilterProperty(List<Object> propertyList) {
-        String listAsString = yamlUtil.objectToYaml(propertyList);
-        return yamlUtil.yamlToObject(listAsString, List.class);
+        return DataModelCloneUtil.cloneAs(propertyList, List.class);
     }
 
 
@@ -1327,7 +1341,7 @@ public class ToscaExportHandler {
         Map<String, List<Object>> propertyMapCopy = new HashMap<>();
         for(RequirementNodeFilterPropertyDataDefinition propertyDataDefinition : origProperties.getListToscaDataDefinition()) {
             for(String propertyInfoEntry : propertyDataDefinition.getConstraints()) {
-                Map propertyValObj =  new YamlUtil().yamlToObject(propertyInfoEntry, Map.class);
+                Map propertyValObj =  yamlUtil.yamlToObject(propertyInfoEntry, Map.class);
                 String propertyName = propertyDataDefinition.getName();
                 if (propertyMapCopy.containsKey(propertyName)){
                     addPropertyConstraintValueToList(propertyName, propertyValObj, propertyMapCopy.get(propertyName));
@@ -1363,6 +1377,28 @@ public class ToscaExportHandler {
         propertiesCopy.add(tempMap);
     }
 
+    /**
+     * The origin components of a single export. Every origin fetched during the export is put in it, by this handler,
+     * the {@link CapabilityRequirementConverter} or the {@link ForwardingPathToscaUtil}, so the puts count the origin
+     * fetches of the export.
+     */
+    static final class ExportComponentCache extends HashMap<String, Component> {
+
+        private static final long serialVersionUID = 1L;
+
+        private int originFetches;
+
+        @Override
+        public Component put(String componentUid, Component component) {
+            originFetches++;
+            return super.put(componentUid, component);
+        }
+
+        int getOriginFetches() {
+            return originFetches;
+        }
+    }
+
     private static class CustomRepresenter extends Representer {
         public CustomRepresenter() {
             super();
@@ -131,6 +131,7 @@ public class ForwardingPathToscaUtil {
             component = originComponents.get(componentInstanceVal.getSourceModelUid());
             if (component == null) {
                 component = toscaOperationFacade.getToscaFullElement(componentInstanceVal.getSourceModelUid()).left().value();
+                originComponents.put(componentInstanceVal.getSourceModelUid(), component);
             }
 
         }
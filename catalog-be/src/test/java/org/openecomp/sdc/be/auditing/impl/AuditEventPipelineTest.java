@@ -0,0 +1,201 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.auditing.impl;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.openecomp.sdc.be.config.Configuration.AsyncAuditConfig;
+import org.openecomp.sdc.be.dao.api.ActionStatus;
+import org.openecomp.sdc.be.dao.cassandra.AuditCassandraDao;
+import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
+import org.openecomp.sdc.be.dao.impl.AuditingDao;
+import org.openecomp.sdc.be.resources.data.auditing.AuditingGenericEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AuditEventPipelineTest {
+
+    private static final String ES_TYPE = "resourceadminevent";
+
+    @Rule
+    public TemporaryFolder spillFolder = new TemporaryFolder();
+
+    @Mock
+    private AuditingDao auditingDao;
+    @Mock
+    private AuditCassandraDao cassandraDao;
+
+    private AuditEventPipeline pipeline;
+    private final CountDownLatch flushStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseFlush = new CountDownLatch(1);
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        when(auditingDao.addRecords(anyList())).thenReturn(ActionStatus.OK);
+        when(cassandraDao.saveRecords(anyList())).thenReturn(CassandraOperationStatus.OK);
+    }
+
+    @After
+    public void tearDown() {
+        releaseFlush.countDown();
+        if (pipeline != null) {
+            pipeline.shutdown();
+        }
+    }
+
+    @Test
+    public void eventsAreWrittenInBatches() {
+        pipeline = new AuditEventPipeline(auditingDao, cassandraDao, config(100, "BLOCK"));
+
+        for (int i = 0; i < 3; i++) {
+            pipeline.submit(event(), ES_TYPE);
+        }
+        pipeline.shutdown();
+
+        assertThat(pipeline.getWrittenEvents()).isEqualTo(3);
+        assertThat(pipeline.getQueueDepth()).isZero();
+        ArgumentCaptor<List> cassandraBatches = ArgumentCaptor.forClass(List.class);
+        verify(cassandraDao, atLeastOnce()).saveRecords(cassandraBatches.capture());
+        assertThat(cassandraBatches.getAllValues().stream().mapToInt(List::size).sum()).isEqualTo(3);
+        verify(auditingDao, atLeastOnce()).addRecords(anyList());
+    }
+
+    @Test
+    public void eventsAreDroppedWhenQueueIsFull() throws InterruptedException {
+        blockFirstFlush();
+        pipeline = new AuditEventPipeline(auditingDao, cassandraDao, config(1, "DROP"));
+
+        pipeline.submit(event(), ES_TYPE);
+        assertThat(flushStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        pipeline.submit(event(), ES_TYPE);
+        pipeline.submit(event(), ES_TYPE);
+
+        assertThat(pipeline.getDroppedEvents()).isEqualTo(1);
+        releaseFlush.countDown();
+        pipeline.shutdown();
+        assertThat(pipeline.getWrittenEvents()).isEqualTo(2);
+    }
+
+    @Test
+    public void spilledEventsAreReplayed() throws InterruptedException {
+        blockFirstFlush();
+        AsyncAuditConfig config = config(1, "SPILL");
+        config.setSpillDirectory(spillFolder.getRoot().getAbsolutePath());
+        pipeline = new AuditEventPipeline(auditingDao, cassandraDao, config);
+
+        pipeline.submit(event(), ES_TYPE);
+        assertThat(flushStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        pipeline.submit(event(), ES_TYPE);
+        AuditingGenericEvent spilled = event();
+        spilled.setRequestId("spilled");
+        pipeline.submit(spilled, ES_TYPE);
+
+        assertThat(pipeline.getSpilledEvents()).isEqualTo(1);
+        releaseFlush.countDown();
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (pipeline.getWrittenEvents() < 3 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(pipeline.getWrittenEvents()).isEqualTo(3);
+        ArgumentCaptor<List> cassandraBatches = ArgumentCaptor.forClass(List.class);
+        verify(cassandraDao, atLeastOnce()).saveRecords(cassandraBatches.capture());
+        List<String> requestIds = new ArrayList<>();
+        for (List<?> batch : cassandraBatches.getAllValues()) {
+            batch.forEach(event -> requestIds.add(((AuditingGenericEvent) event).getRequestId()));
+        }
+        assertThat(requestIds).contains("spilled");
+    }
+
+    @Test
+    public void queuedEventsAreWrittenWhenWorkersDoNotStop() throws InterruptedException {
+        AtomicBoolean firstFlush = new AtomicBoolean(true);
+        when(auditingDao.addRecords(anyList())).thenAnswer(invocation -> {
+            if (firstFlush.getAndSet(false)) {
+                flushStarted.countDown();
+                releaseFlush.await(10, TimeUnit.SECONDS);
+            }
+            return ActionStatus.OK;
+        });
+        AsyncAuditConfig config = config(10, "BLOCK");
+        config.setBatchSize(1);
+        pipeline = new AuditEventPipeline(auditingDao, cassandraDao, config);
+
+        pipeline.submit(event(), ES_TYPE);
+        assertThat(flushStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 2; i++) {
+            AuditingGenericEvent queued = event();
+            queued.setRequestId("queued-" + i);
+            pipeline.submit(queued, ES_TYPE);
+        }
+        pipeline.shutdown(100, TimeUnit.MILLISECONDS);
+
+        assertThat(pipeline.getQueueDepth()).isZero();
+        ArgumentCaptor<List> cassandraBatches = ArgumentCaptor.forClass(List.class);
+        verify(cassandraDao, atLeastOnce()).saveRecords(cassandraBatches.capture());
+        List<String> requestIds = new ArrayList<>();
+        for (List<?> batch : cassandraBatches.getAllValues()) {
+            batch.forEach(event -> requestIds.add(((AuditingGenericEvent) event).getRequestId()));
+        }
+        assertThat(requestIds).contains("queued-0", "queued-1");
+    }
+
+    private void blockFirstFlush() {
+        when(auditingDao.addRecords(anyList())).thenAnswer(invocation -> {
+            flushStarted.countDown();
+            releaseFlush.await(10, TimeUnit.SECONDS);
+            return ActionStatus.OK;
+        });
+    }
+
+    private AsyncAuditConfig config(int queueSize, String overflowPolicy) {
+        AsyncAuditConfig config = new AsyncAuditConfig();
+        config.setEnabled(true);
+        config.setQueueSize(queueSize);
+        config.setBatchSize(10);
+        config.setNumOfWorkers(1);
+        config.setMaxBatchDelayInMs(10);
+        config.setOverflowPolicy(overflowPolicy);
+        return config;
+    }
+
+    private AuditingGenericEvent event() {
+        AuditingGenericEvent event = new AuditingGenericEvent();
+        event.setAction("ArtifactUpload");
+        return event;
+    }
+}
@@ -0,0 +1,102 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.components.distribution.engine;
+
+import com.att.nsa.cambria.client.CambriaBatchingPublisher;
+import com.att.nsa.cambria.client.CambriaPublisher.message;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CambriaPublisherPoolTest {
+
+    private static final String TOPIC = "topic";
+    private static final List<String> SERVERS = Collections.singletonList("server");
+
+    private CambriaBatchingPublisher publisher;
+    private int createdPublishers;
+    private CambriaPublisherPool testSubject;
+
+    @Before
+    public void setUp() {
+        publisher = mock(CambriaBatchingPublisher.class);
+        testSubject = new CambriaPublisherPool(100, 20, TimeUnit.MINUTES.toMillis(5)) {
+            @Override
+            CambriaBatchingPublisher createPublisher(String topicName, Collection<String> uebServers, String apiKey,
+                    String apiSecret) {
+                createdPublishers++;
+                return publisher;
+            }
+        };
+    }
+
+    @Test
+    public void testSendAndWaitForDequeueReusesPublisher() throws Exception {
+        when(publisher.getPendingMessageCount()).thenReturn(0);
+
+        assertTrue(testSubject.sendAndWaitForDequeue(TOPIC, SERVERS, "key", "secret", "partition", "first", 1000));
+        assertTrue(testSubject.sendAndWaitForDequeue(TOPIC, SERVERS, "key", "secret", "partition", "second", 1000));
+
+        assertEquals(1, createdPublishers);
+        verify(publisher, times(2)).send(eq("partition"), anyString());
+        verify(publisher, never()).close(anyLong(), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testSendAndWaitForDequeueTimeoutDiscardsPublisher() throws Exception {
+        message pending = mock(message.class);
+        when(publisher.getPendingMessageCount()).thenReturn(1);
+        when(publisher.close(anyLong(), eq(TimeUnit.MILLISECONDS))).thenReturn(Collections.singletonList(pending));
+
+        assertFalse(testSubject.sendAndWaitForDequeue(TOPIC, SERVERS, "key", "secret", "partition", "first", 50));
+        verify(publisher).close(anyLong(), eq(TimeUnit.MILLISECONDS));
+
+        when(publisher.getPendingMessageCount()).thenReturn(0);
+        assertTrue(testSubject.sendAndWaitForDequeue(TOPIC, SERVERS, "key", "secret", "partition", "second", 1000));
+        assertEquals(2, createdPublishers);
+    }
+
+    @Test
+    public void testCloseAll() throws Exception {
+        when(publisher.getPendingMessageCount()).thenReturn(0);
+        testSubject.sendAndWaitForDequeue(TOPIC, SERVERS, "key", "secret", "partition", "first", 1000);
+
+        testSubject.closeAll();
+
+        verify(publisher).close(20L, TimeUnit.MILLISECONDS);
+    }
+}
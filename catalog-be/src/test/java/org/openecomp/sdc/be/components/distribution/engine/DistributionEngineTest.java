@@ -20,6 +20,7 @@
 
 package org.openecomp.sdc.be.components.distribution.engine;
 
+import fj.data.Either;
 import mockit.Deencapsulation;
 import java.util.LinkedList;
 import org.junit.Assert;
@@ -36,11 +37,15 @@ import org.openecomp.sdc.be.config.DistributionEngineConfiguration;
 import org.openecomp.sdc.be.config.DistributionEngineConfiguration.CreateTopicConfig;
 import org.openecomp.sdc.be.config.DistributionEngineConfiguration.DistributionStatusTopicConfig;
 import org.openecomp.sdc.be.dao.api.ActionStatus;
+import org.openecomp.sdc.be.dao.jsongraph.JanusGraphDao;
 import org.openecomp.sdc.be.model.Service;
 import org.openecomp.sdc.be.model.User;
+import org.openecomp.sdc.be.model.jsonjanusgraph.operations.ToscaOperationFacade;
 import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
 import org.openecomp.sdc.be.resources.data.OperationalEnvironmentEntry;
+import org.openecomp.sdc.be.resources.data.PendingDistributionNotificationEntry;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -51,7 +56,10 @@ import java.util.stream.Stream;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
@@ -69,7 +77,7 @@ public class DistributionEngineTest extends BeConfDependentTest{
 	private EnvironmentsEngine environmentsEngine;
 
 	@Mock
-	private DistributionNotificationSender distributionNotificationSender;
+	private DistributionNotificationDispatcher distributionNotificationDispatcher;
 
 	@Mock
 	private ServiceDistributionArtifactsBuilder serviceDistributionArtifactsBuilder;
@@ -77,6 +85,12 @@ public class DistributionEngineTest extends BeConfDependentTest{
 	@Mock
 	private DistributionEngineClusterHealth distributionEngineClusterHealth;
 
+	@Mock
+	private ToscaOperationFacade toscaOperationFacade;
+
+	@Mock
+	private JanusGraphDao janusGraphDao;
+
 	private DummyDistributionConfigurationManager distributionEngineConfigurationMock;
 
 	private Map<String, OperationalEnvironmentEntry> envs;
@@ -99,9 +113,9 @@ public class DistributionEngineTest extends BeConfDependentTest{
         Service service = new Service();
         when(environmentsEngine.getEnvironmentById(ENV_ID)).thenReturn(envs.get(ENV_ID));
         when(distributionEngineConfigurationMock.getConfigurationMock().getDistributionNotifTopicName()).thenReturn("topic");
-        when(distributionNotificationSender.sendNotification(eq("topic-ENVID"), eq(DISTRIBUTION_ID), any(EnvironmentMessageBusData.class),
-                any(NotificationDataImpl.class), any(Service.class), any(User.class)))
-        .thenReturn(ActionStatus.OK);
+        when(distributionNotificationDispatcher.dispatch(eq("topic-ENVID"), eq(DISTRIBUTION_ID), any(EnvironmentMessageBusData.class),
+                any(NotificationDataImpl.class), any(Service.class), any(User.class), eq(DistributionNotificationDispatcher.Lane.PRODUCTION), eq(true)))
+        .thenReturn(true);
         ActionStatus actionStatus = testInstance.notifyService(DISTRIBUTION_ID, service, notificationData, ENV_ID, modifier);
         assertEquals(ActionStatus.OK, actionStatus);
     }
@@ -111,7 +125,7 @@ public class DistributionEngineTest extends BeConfDependentTest{
         when(environmentsEngine.getEnvironments()).thenReturn(envs);
         ActionStatus actionStatus = testInstance.notifyService(DISTRIBUTION_ID, new Service(), new NotificationDataImpl(), "someNonExisitngEnv", modifier);
         assertEquals(ActionStatus.DISTRIBUTION_ENVIRONMENT_NOT_AVAILABLE, actionStatus);
-        verifyZeroInteractions(distributionNotificationSender);
+        verifyZeroInteractions(distributionNotificationDispatcher);
     }
 
     @Test
@@ -120,13 +134,68 @@ public class DistributionEngineTest extends BeConfDependentTest{
         Service service = new Service();
         when(environmentsEngine.getEnvironmentById(ENV_ID)).thenReturn(envs.get(ENV_ID));
         when(distributionEngineConfigurationMock.getConfigurationMock().getDistributionNotifTopicName()).thenReturn("topic");
-        when(distributionNotificationSender.sendNotification(eq("topic-ENVID"), eq(DISTRIBUTION_ID), any(EnvironmentMessageBusData.class),
-                any(NotificationDataImpl.class), any(Service.class), any(User.class)))
-                .thenReturn(ActionStatus.GENERAL_ERROR);
+        when(distributionNotificationDispatcher.dispatch(eq("topic-ENVID"), eq(DISTRIBUTION_ID), any(EnvironmentMessageBusData.class),
+                any(NotificationDataImpl.class), any(Service.class), any(User.class), any(DistributionNotificationDispatcher.Lane.class), anyBoolean()))
+                .thenReturn(false);
         ActionStatus actionStatus = testInstance.notifyService(DISTRIBUTION_ID, service, notificationData, ENV_ID, modifier);
         assertEquals(ActionStatus.GENERAL_ERROR, actionStatus);
     }
 
+    @Test
+    public void notifyService_testEnvironmentIsDispatchedToTestLane() throws Exception {
+        NotificationDataImpl notificationData = new NotificationDataImpl();
+        Service service = new Service();
+        OperationalEnvironmentEntry environment = envs.get(ENV_ID);
+        environment.setIsProduction(false);
+        when(environmentsEngine.getEnvironmentById(ENV_ID)).thenReturn(environment);
+        when(distributionEngineConfigurationMock.getConfigurationMock().getDistributionNotifTopicName()).thenReturn("topic");
+        when(distributionNotificationDispatcher.dispatch(eq("topic-ENVID"), eq(DISTRIBUTION_ID), any(EnvironmentMessageBusData.class),
+                any(NotificationDataImpl.class), any(Service.class), any(User.class), eq(DistributionNotificationDispatcher.Lane.TEST), eq(true)))
+                .thenReturn(true);
+        ActionStatus actionStatus = testInstance.notifyService(DISTRIBUTION_ID, service, notificationData, ENV_ID, modifier);
+        assertEquals(ActionStatus.OK, actionStatus);
+    }
+
+    @Test
+    public void notifyService_tenantEnvironmentDoesNotUpdateDistributionStatus() throws Exception {
+        NotificationDataImpl notificationData = new NotificationDataImpl();
+        Service service = new Service();
+        when(environmentsEngine.getEnvironmentById(ENV_ID)).thenReturn(envs.get(ENV_ID));
+        when(distributionEngineConfigurationMock.getConfigurationMock().getDistributionNotifTopicName()).thenReturn("topic");
+        when(distributionNotificationDispatcher.dispatch(eq("topic-ENVNAME"), eq(DISTRIBUTION_ID), any(EnvironmentMessageBusData.class),
+                any(NotificationDataImpl.class), any(Service.class), any(User.class), eq(DistributionNotificationDispatcher.Lane.PRODUCTION), eq(false)))
+                .thenReturn(true);
+        ActionStatus actionStatus = testInstance.notifyService(DISTRIBUTION_ID, service, notificationData, ENV_ID, "envName", modifier);
+        assertEquals(ActionStatus.OK, actionStatus);
+    }
+
+    @Test
+    public void replayPendingNotifications() throws Exception {
+        PendingDistributionNotificationEntry pending = createPendingNotification("serviceId", ENV_ID);
+        PendingDistributionNotificationEntry ofDeletedService = createPendingNotification("deletedServiceId", ENV_ID);
+        PendingDistributionNotificationEntry ofRemovedEnvironment = createPendingNotification("serviceId", "removedEnvId");
+        Service service = new Service();
+        when(distributionNotificationDispatcher.getNotificationsToReplay())
+                .thenReturn(Arrays.asList(pending, ofDeletedService, ofRemovedEnvironment));
+        when(toscaOperationFacade.<Service>getToscaElement("serviceId")).thenReturn(Either.left(service));
+        when(toscaOperationFacade.<Service>getToscaElement("deletedServiceId")).thenReturn(Either.right(StorageOperationStatus.NOT_FOUND));
+        when(environmentsEngine.getEnvironmentById(ENV_ID)).thenReturn(envs.get(ENV_ID));
+
+        testInstance.replayPendingNotifications();
+
+        verify(distributionNotificationDispatcher).replay(eq(pending), any(EnvironmentMessageBusData.class), eq(service));
+        verify(distributionNotificationDispatcher).discard(ofDeletedService);
+        verify(distributionNotificationDispatcher).replay(eq(ofRemovedEnvironment), isNull(), eq(service));
+    }
+
+    private static PendingDistributionNotificationEntry createPendingNotification(String serviceId, String envId) {
+        PendingDistributionNotificationEntry entry = new PendingDistributionNotificationEntry();
+        entry.setNotificationId(serviceId + envId);
+        entry.setServiceId(serviceId);
+        entry.setEnvironmentId(envId);
+        return entry;
+    }
+
 	private Map<String, OperationalEnvironmentEntry> getEnvs(String... environmentIds) {
 		Set<String> uebAddress = new HashSet<>();
 		uebAddress.add("someAddress");
@@ -0,0 +1,330 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.components.distribution.engine;
+
+import com.google.gson.Gson;
+import fj.data.Either;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.stubbing.OngoingStubbing;
+import org.openecomp.sdc.be.components.distribution.engine.DistributionNotificationDispatcher.DispatchMetrics;
+import org.openecomp.sdc.be.components.distribution.engine.DistributionNotificationDispatcher.Lane;
+import org.openecomp.sdc.be.config.DistributionEngineConfiguration.DistributionNotificationTopicConfig;
+import org.openecomp.sdc.be.dao.api.ActionStatus;
+import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
+import org.openecomp.sdc.be.dao.cassandra.PendingDistributionNotificationDao;
+import org.openecomp.sdc.be.model.Service;
+import org.openecomp.sdc.be.model.User;
+import org.openecomp.sdc.be.resources.data.PendingDistributionNotificationEntry;
+
+import java.net.InetAddress;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DistributionNotificationDispatcherTest {
+
+    private static final String TOPIC = "topic";
+    private static final long TIMEOUT_MS = TimeUnit.SECONDS.toMillis(5);
+
+    private DistributionNotificationSender sender;
+    private PendingDistributionNotificationDao pendingNotificationDao;
+    private DistributionNotificationOutcomeHandler outcomeHandler;
+    private DistributionNotificationTopicConfig topicConfig;
+    private DistributionNotificationDispatcher testSubject;
+
+    @Before
+    public void setUp() {
+        sender = mock(DistributionNotificationSender.class);
+        pendingNotificationDao = mock(PendingDistributionNotificationDao.class);
+        outcomeHandler = mock(DistributionNotificationOutcomeHandler.class);
+        when(pendingNotificationDao.save(any())).thenReturn(CassandraOperationStatus.OK);
+        when(pendingNotificationDao.claim(anyString(), anyString(), any(), any(), any())).thenReturn(Either.left(true));
+        when(pendingNotificationDao.renew(anyString(), anyString(), any())).thenReturn(Either.left(true));
+        topicConfig = new DistributionNotificationTopicConfig();
+        topicConfig.setMaxThreadPoolSize(1);
+        topicConfig.setQueueCapacity(1);
+        topicConfig.setMaxRetries(2);
+        topicConfig.setRetryBackoffMs(1);
+        testSubject = new DistributionNotificationDispatcher(sender, pendingNotificationDao, outcomeHandler, topicConfig);
+    }
+
+    @After
+    public void tearDown() {
+        testSubject.shutdown();
+    }
+
+    @Test
+    public void notificationIsSent() throws Exception {
+        whenSending().thenReturn(ActionStatus.OK);
+
+        assertTrue(dispatch("did1"));
+
+        DispatchMetrics metrics = testSubject.getMetrics().get(TOPIC);
+        awaitUntil(() -> metrics.getSent() == 1);
+        assertEquals(1, metrics.getQueued());
+        assertEquals(0, metrics.getPending());
+        verify(sender).sendNotification(eq(TOPIC), eq("did1"), any(), any(), any(), any());
+        verify(outcomeHandler, timeout(TIMEOUT_MS)).onNotificationCompleted(eq("did1"), any(), any(), eq(true),
+                eq(ActionStatus.OK));
+    }
+
+    @Test
+    public void notificationIsPersistedUntilCompleted() throws Exception {
+        whenSending().thenReturn(ActionStatus.OK);
+
+        assertTrue(dispatch("did1"));
+
+        verify(outcomeHandler, timeout(TIMEOUT_MS)).onNotificationCompleted(eq("did1"), any(), any(), anyBoolean(), any());
+        ArgumentCaptor<PendingDistributionNotificationEntry> persisted =
+                ArgumentCaptor.forClass(PendingDistributionNotificationEntry.class);
+        verify(pendingNotificationDao).save(persisted.capture());
+        assertEquals("did1", persisted.getValue().getDistributionId());
+        assertEquals(TOPIC, persisted.getValue().getTopicName());
+        assertEquals(Lane.PRODUCTION.name(), persisted.getValue().getLane());
+        verify(pendingNotificationDao).delete(persisted.getValue().getNotificationId());
+    }
+
+    @Test
+    public void connectionErrorIsRetried() throws Exception {
+        whenSending().thenReturn(ActionStatus.CONNNECTION_ERROR, ActionStatus.OK);
+
+        assertTrue(dispatch("did1"));
+
+        DispatchMetrics metrics = testSubject.getMetrics().get(TOPIC);
+        awaitUntil(() -> metrics.getSent() == 1);
+        assertEquals(1, metrics.getRetried());
+        assertEquals(0, metrics.getFailed());
+        verify(sender, times(2)).sendNotification(eq(TOPIC), eq("did1"), any(), any(), any(), any());
+    }
+
+    @Test
+    public void notificationFailsAfterMaxRetries() throws Exception {
+        whenSending().thenReturn(ActionStatus.UNKNOWN_HOST);
+
+        assertTrue(dispatch("did1"));
+
+        DispatchMetrics metrics = testSubject.getMetrics().get(TOPIC);
+        awaitUntil(() -> metrics.getFailed() == 1);
+        assertEquals(2, metrics.getRetried());
+        verify(sender, times(3)).sendNotification(eq(TOPIC), eq("did1"), any(), any(), any(), any());
+        verify(outcomeHandler, timeout(TIMEOUT_MS)).onNotificationCompleted(eq("did1"), any(), any(), eq(true),
+                eq(ActionStatus.UNKNOWN_HOST));
+    }
+
+    @Test
+    public void generalErrorIsNotRetried() throws Exception {
+        whenSending().thenReturn(ActionStatus.GENERAL_ERROR);
+
+        assertTrue(dispatch("did1"));
+
+        DispatchMetrics metrics = testSubject.getMetrics().get(TOPIC);
+        awaitUntil(() -> metrics.getFailed() == 1);
+        assertEquals(0, metrics.getRetried());
+        verify(outcomeHandler, timeout(TIMEOUT_MS)).onNotificationCompleted(eq("did1"), any(), any(), eq(true),
+                eq(ActionStatus.GENERAL_ERROR));
+    }
+
+    @Test
+    public void retryIsKeptOnShutdown() throws Exception {
+        testSubject.shutdown();
+        topicConfig.setRetryBackoffMs((int) TimeUnit.MINUTES.toMillis(1));
+        testSubject = new DistributionNotificationDispatcher(sender, pendingNotificationDao, outcomeHandler, topicConfig);
+        whenSending().thenReturn(ActionStatus.CONNNECTION_ERROR);
+
+        assertTrue(dispatch("did1"));
+
+        DispatchMetrics metrics = testSubject.getMetrics().get(TOPIC);
+        awaitUntil(() -> metrics.getRetried() == 1);
+        testSubject.shutdown();
+
+        ArgumentCaptor<PendingDistributionNotificationEntry> persisted =
+                ArgumentCaptor.forClass(PendingDistributionNotificationEntry.class);
+        verify(pendingNotificationDao, timeout(TIMEOUT_MS).times(2)).save(persisted.capture());
+        assertEquals(Integer.valueOf(1), persisted.getValue().getAttempt());
+        verify(pendingNotificationDao, never()).delete(anyString());
+        verify(outcomeHandler, never()).onNotificationCompleted(anyString(), any(), any(), anyBoolean(), any());
+    }
+
+    @Test
+    public void persistedNotificationIsReplayed() throws Exception {
+        whenSending().thenReturn(ActionStatus.OK);
+        PendingDistributionNotificationEntry entry = createPendingNotification("did1");
+        when(pendingNotificationDao.getAll()).thenReturn(Either.left(Collections.singletonList(entry)));
+
+        List<PendingDistributionNotificationEntry> toReplay = testSubject.getNotificationsToReplay();
+        assertEquals(1, toReplay.size());
+        assertTrue(testSubject.replay(toReplay.get(0), new EnvironmentMessageBusData(), createService()));
+
+        verify(outcomeHandler, timeout(TIMEOUT_MS)).onNotificationCompleted(eq("did1"), any(), any(), eq(true),
+                eq(ActionStatus.OK));
+        verify(sender).sendNotification(eq(TOPIC), eq("did1"), any(), any(NotificationDataImpl.class), any(), any());
+        verify(pendingNotificationDao).delete(entry.getNotificationId());
+    }
+
+    @Test
+    public void recentNotificationOfAnotherHostIsNotReplayed() throws Exception {
+        PendingDistributionNotificationEntry entry = createPendingNotification("did1");
+        entry.setOwner("another-host");
+        when(pendingNotificationDao.getAll()).thenReturn(Either.left(Collections.singletonList(entry)));
+
+        assertTrue(testSubject.getNotificationsToReplay().isEmpty());
+
+        entry.setLastUpdate(new Date(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(1)));
+        assertEquals(1, testSubject.getNotificationsToReplay().size());
+    }
+
+    @Test
+    public void sameNotificationIsReplayedOnce() throws Exception {
+        whenSending().thenReturn(ActionStatus.OK);
+        PendingDistributionNotificationEntry entry = createPendingNotification("did1");
+        when(pendingNotificationDao.claim(eq(entry.getNotificationId()), anyString(), any(), eq(entry.getOwner()),
+                eq(entry.getLastUpdate()))).thenReturn(Either.left(true), Either.left(false));
+
+        assertTrue(testSubject.replay(entry, new EnvironmentMessageBusData(), createService()));
+        assertFalse(testSubject.replay(entry, new EnvironmentMessageBusData(), createService()));
+
+        verify(outcomeHandler, timeout(TIMEOUT_MS)).onNotificationCompleted(eq("did1"), any(), any(), eq(true),
+                eq(ActionStatus.OK));
+        verify(sender, times(1)).sendNotification(eq(TOPIC), eq("did1"), any(), any(), any(), any());
+        assertEquals(1, testSubject.getMetrics().get(TOPIC).getQueued());
+    }
+
+    @Test
+    public void notificationTakenOverByAnotherHostIsNotSent() throws Exception {
+        when(pendingNotificationDao.renew(anyString(), anyString(), any())).thenReturn(Either.left(false));
+
+        assertTrue(dispatch("did1"));
+
+        DispatchMetrics metrics = testSubject.getMetrics().get(TOPIC);
+        verify(pendingNotificationDao, timeout(TIMEOUT_MS)).renew(anyString(), anyString(), any());
+        awaitUntil(() -> metrics.getQueued() == 0);
+        assertTrue(dispatch("did2"));
+        verify(sender, never()).sendNotification(anyString(), anyString(), any(), any(), any(), any());
+        verify(pendingNotificationDao, never()).delete(anyString());
+        verify(outcomeHandler, never()).onNotificationCompleted(anyString(), any(), any(), anyBoolean(), any());
+    }
+
+    @Test
+    public void replayWithoutEnvironmentFails() throws Exception {
+        PendingDistributionNotificationEntry entry = createPendingNotification("did1");
+
+        assertTrue(testSubject.replay(entry, null, createService()));
+
+        verify(outcomeHandler).onNotificationCompleted(eq("did1"), any(), any(), eq(true),
+                eq(ActionStatus.DISTRIBUTION_ENVIRONMENT_NOT_AVAILABLE));
+        verify(pendingNotificationDao).delete(entry.getNotificationId());
+        verify(sender, never()).sendNotification(anyString(), anyString(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void authenticationErrorIsNotRetried() throws Exception {
+        whenSending().thenReturn(ActionStatus.AUTHENTICATION_ERROR);
+
+        assertTrue(dispatch("did1"));
+
+        DispatchMetrics metrics = testSubject.getMetrics().get(TOPIC);
+        awaitUntil(() -> metrics.getFailed() == 1);
+        assertEquals(0, metrics.getRetried());
+    }
+
+    @Test
+    public void notificationBeyondCapacityIsRejected() throws Exception {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        whenSending().thenAnswer(invocation -> {
+            sending.countDown();
+            release.await(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            return ActionStatus.OK;
+        });
+
+        assertTrue(dispatch("did1"));
+        assertTrue(sending.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        assertFalse(dispatch("did2"));
+        release.countDown();
+
+        DispatchMetrics metrics = testSubject.getMetrics().get(TOPIC);
+        awaitUntil(() -> metrics.getSent() == 1);
+        assertEquals(1, metrics.getRejected());
+        assertTrue(dispatch("did3"));
+    }
+
+    private OngoingStubbing<ActionStatus> whenSending() {
+        return when(sender.sendNotification(anyString(), anyString(), any(), any(), any(), any()));
+    }
+
+    private boolean dispatch(String distributionId) {
+        return testSubject.dispatch(TOPIC, distributionId, new EnvironmentMessageBusData(), new NotificationDataImpl(),
+                createService(), new User(), Lane.PRODUCTION, true);
+    }
+
+    private static PendingDistributionNotificationEntry createPendingNotification(String distributionId) throws Exception {
+        PendingDistributionNotificationEntry entry = new PendingDistributionNotificationEntry();
+        entry.setNotificationId("notificationId");
+        entry.setTopicName(TOPIC);
+        entry.setDistributionId(distributionId);
+        entry.setEnvironmentId("envId");
+        entry.setServiceId("serviceId");
+        entry.setModifierId("userId");
+        entry.setLane(Lane.PRODUCTION.name());
+        entry.setNotificationData(new Gson().toJson(new NotificationDataImpl()));
+        entry.setAttempt(1);
+        entry.setDispatchTime(new Date());
+        entry.setUpdateDistributionStatus(true);
+        entry.setOwner(InetAddress.getLocalHost().getHostName());
+        entry.setLastUpdate(new Date());
+        return entry;
+    }
+
+    private static Service createService() {
+        Service service = new Service();
+        service.setName("service");
+        service.setUniqueId("serviceId");
+        return service;
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+}
@@ -0,0 +1,96 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.components.distribution.engine;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.openecomp.sdc.be.components.BeConfDependentTest;
+import org.openecomp.sdc.be.dao.api.ActionStatus;
+import org.openecomp.sdc.be.impl.ComponentsUtils;
+import org.openecomp.sdc.be.model.DistributionStatusEnum;
+import org.openecomp.sdc.be.model.Service;
+import org.openecomp.sdc.be.model.User;
+import org.openecomp.sdc.be.resources.data.auditing.AuditingActionEnum;
+import org.openecomp.sdc.be.resources.data.auditing.model.ResourceVersionInfo;
+import org.openecomp.sdc.exception.ResponseFormat;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+public class DistributionNotificationOutcomeHandlerTest extends BeConfDependentTest {
+
+    private static final String DISTRIBUTION_ID = "distId";
+    private static final String SERVICE_ID = "serviceId";
+
+    @InjectMocks
+    private DistributionNotificationOutcomeHandler testSubject;
+
+    @Mock
+    private ComponentsUtils componentsUtils;
+
+    private final ResponseFormat errorResponse = new ResponseFormat(500);
+    private final User modifier = new User();
+    private Service service;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        service = new Service();
+        service.setUniqueId(SERVICE_ID);
+        service.setName("service");
+        service.setDistributionStatus(DistributionStatusEnum.DISTRIBUTED);
+        when(componentsUtils.getResponseFormat(ActionStatus.GENERAL_ERROR)).thenReturn(errorResponse);
+    }
+
+    @Test
+    public void sentActivationIsNotAuditedAgain() {
+        testSubject.onNotificationCompleted(DISTRIBUTION_ID, service, modifier, true, ActionStatus.OK);
+
+        verifyZeroInteractions(componentsUtils);
+    }
+
+    @Test
+    public void failedActivationIsAudited() {
+        testSubject.onNotificationCompleted(DISTRIBUTION_ID, service, modifier, true, ActionStatus.AUTHENTICATION_ERROR);
+
+        ArgumentCaptor<ResourceVersionInfo> currVersion = ArgumentCaptor.forClass(ResourceVersionInfo.class);
+        verify(componentsUtils).auditComponent(eq(errorResponse), eq(modifier), eq(service),
+                eq(AuditingActionEnum.DISTRIBUTION_STATE_CHANGE_REQUEST), any(), any(), currVersion.capture(), isNull(),
+                isNull(), eq(DISTRIBUTION_ID));
+        assertEquals(DistributionStatusEnum.DISTRIBUTED.name(), currVersion.getValue().getDistributionStatus());
+    }
+
+    @Test
+    public void failedNotificationToTenantEnvironmentIsNotAudited() {
+        testSubject.onNotificationCompleted(DISTRIBUTION_ID, service, modifier, false, ActionStatus.GENERAL_ERROR);
+
+        verifyZeroInteractions(componentsUtils);
+    }
+}
@@ -0,0 +1,45 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.components.distribution.engine;
+
+import org.junit.Test;
+import org.openecomp.sdc.be.dao.api.ActionStatus;
+import org.openecomp.sdc.be.model.Service;
+import org.openecomp.sdc.be.model.User;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+
+public class DistributionNotificationSenderTest {
+
+    @Test
+    public void testSendNotificationWithoutConfiguration() {
+        DistributionNotificationSender testSubject = new DistributionNotificationSender();
+        Service service = new Service();
+        service.setName("service");
+
+        ActionStatus status = testSubject.sendNotification("topic", "distributionId", new EnvironmentMessageBusData(),
+                mock(INotificationData.class), service, new User());
+
+        assertEquals(ActionStatus.GENERAL_ERROR, status);
+        testSubject.closePublishers();
+    }
+}
@@ -48,6 +48,31 @@ public class NotificationExecutorServiceTest {
 		result = testSubject.createExcecutorService(distributionNotificationTopic);
 	}
 
+	@Test(expected = RejectedExecutionException.class)
+	public void testCreateExcecutorServiceRejectsBeyondQueueCapacity() throws Exception {
+		DistributionNotificationTopicConfig distributionNotificationTopic = new DistributionNotificationTopicConfig();
+		distributionNotificationTopic.setMaxThreadPoolSize(1);
+		distributionNotificationTopic.setQueueCapacity(1);
+		ExecutorService result = createTestSubject().createExcecutorService(distributionNotificationTopic);
+		CountDownLatch release = new CountDownLatch(1);
+		try {
+			result.execute(() -> awaitQuietly(release));
+			result.execute(() -> awaitQuietly(release));
+			result.execute(() -> awaitQuietly(release));
+		} finally {
+			release.countDown();
+			result.shutdown();
+		}
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
 	@Test
 	public void testShutdownAndAwaitTermination() throws Exception {
 		NotificationExecutorService testSubject;
@@ -33,6 +33,7 @@ import fj.data.Either;
 import mockit.Deencapsulation;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.ImmutableTriple;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -112,6 +113,7 @@ import org.openecomp.sdc.common.impl.FSConfigurationSource;
 import org.openecomp.sdc.common.util.GeneralUtility;
 import org.openecomp.sdc.exception.ResponseFormat;
 
+import javax.ws.rs.core.StreamingOutput;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -122,6 +124,7 @@ import java.util.Map;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
@@ -1641,6 +1644,31 @@ public class ArtifactsBusinessLogicTest extends BaseBusinessLogicMock{
         assertEquals(csarArtifact.getArtifactName(), leftResult.getKey());
     }
 
+    @Test
+    public void testHandleStreamToscaModelRequest() {
+        ArtifactsBusinessLogic testSubject = getTestSubject();
+        StreamingOutput generatedCsar = output -> output.write("test.csar".getBytes());
+
+        Resource resource = new Resource();
+        resource.setComponentType(ComponentTypeEnum.RESOURCE);
+
+        ArtifactDefinition csarArtifact = new ArtifactDefinition();
+        csarArtifact.setArtifactName("csarArtifact");
+        csarArtifact.setArtifactType(ArtifactTypeEnum.HEAT_ENV.name());
+        csarArtifact.setArtifactGroupType(ArtifactGroupTypeEnum.TOSCA);
+
+        when(csarUtils.createBufferedCsar(any(Component.class), anyBoolean(), anyBoolean()))
+                .thenReturn(Either.left(new ImmutablePair<>("md5", generatedCsar)));
+
+        Either<ImmutableTriple<String, String, StreamingOutput>, ResponseFormat> result =
+                testSubject.handleStreamToscaModelRequest(resource, csarArtifact);
+
+        ImmutableTriple<String, String, StreamingOutput> leftResult = result.left().value();
+        assertEquals(csarArtifact.getArtifactName(), leftResult.getLeft());
+        assertEquals("md5", leftResult.getMiddle());
+        assertSame(generatedCsar, leftResult.getRight());
+    }
+
     @Test
     public void testHandleDownloadRequestById_returnsSuccessful() {
         String componentId = "componentId";
@@ -31,7 +31,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.openecomp.sdc.be.components.impl.exceptions.ByActionStatusComponentException;
 import org.openecomp.sdc.be.components.validation.UserValidations;
+import org.openecomp.sdc.be.dao.api.ActionStatus;
 import org.openecomp.sdc.be.dao.graph.datatype.GraphEdge;
 import org.openecomp.sdc.be.dao.jsongraph.JanusGraphDao;
 import org.openecomp.sdc.be.dao.jsongraph.types.JsonParseFlagEnum;
@@ -331,4 +333,25 @@ public class ElementBLTest {
         result = elementBusinessLogic.createGrouping(groupDef, componentTypeParamName, grandParentCatId, parentSubCatId, userId);
         Assert.assertTrue(result.isLeft());
     }
+
+    @Test
+    public void testGetCatalogVersionTag() {
+        when(toscaOperationFacade.getCatalogVersionTag()).thenReturn("7");
+        assertEquals("7", elementBusinessLogic.getCatalogVersionTag("userId"));
+        Mockito.verify(userValidations).validateUserExists("userId", "get Catalog Components", true);
+    }
+
+    @Test
+    public void testGetCatalogVersionTag_unknownUser() {
+        when(userValidations.validateUserExists("userId", "get Catalog Components", true))
+                .thenThrow(new ByActionStatusComponentException(ActionStatus.USER_NOT_FOUND, "userId"));
+        try {
+            elementBusinessLogic.getCatalogVersionTag("userId");
+            Assert.fail("an unknown user must not get the catalog version");
+        } catch (ByActionStatusComponentException e) {
+            assertEquals(ActionStatus.USER_NOT_FOUND, e.getActionStatus());
+        }
+        Mockito.verify(toscaOperationFacade, Mockito.never()).getCatalogVersionTag();
+        Mockito.verify(janusGraphDao).commit();
+    }
 }
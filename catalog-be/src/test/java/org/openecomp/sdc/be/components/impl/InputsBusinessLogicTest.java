@@ -28,6 +28,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import fj.data.Either;
+import mockit.Deencapsulation;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.junit.Before;
@@ -488,6 +489,45 @@ public class InputsBusinessLogicTest {
         });
     }
 
+    @Test
+    public void test_createListInput_withCachedDataTypes() throws Exception {
+        ComponentInstListInput createListInputParams = setUpCreateListInputParams();
+        ComponentInstInputsMap componentInstInputsMap = createListInputParams.getComponentInstInputsMap();
+        InputDefinition listInput = createListInputParams.getListInput();
+
+        // a loaded cache, so the data types come from its snapshot
+        ApplicationDataTypeCache dataTypeCache = new ApplicationDataTypeCache();
+        Deencapsulation.setField(dataTypeCache, "propertyOperation", propertyOperation);
+        DataTypeDefinition rootDataType = new DataTypeDefinition();
+        rootDataType.setUniqueId("tosca.datatypes.Root.datatype");
+        rootDataType.setName("tosca.datatypes.Root");
+        Map<String, DataTypeDefinition> cachedDataTypes = new HashMap<>();
+        cachedDataTypes.put(rootDataType.getName(), rootDataType);
+        when(propertyOperation.getAllDataTypes()).thenReturn(Either.left(cachedDataTypes));
+        Deencapsulation.invoke(dataTypeCache, "replaceAllData");
+        testInstance.setApplicationDataTypeCache(dataTypeCache);
+
+        when(toscaOperationFacadeMock.getToscaElement(eq(COMPONENT_ID), any(ComponentParametersView.class))).thenReturn(Either.left(service));
+        when(graphLockOperation.lockComponent(COMPONENT_ID, NodeTypeEnum.Service)).thenReturn(StorageOperationStatus.OK);
+        when(toscaOperationFacadeMock.addDataTypesToComponent(anyMap(), eq(COMPONENT_ID))).thenReturn(Either.left(new ArrayList<>()));
+        when(propertyDeclarationOrchestrator.getPropOwnerId(componentInstInputsMap)).thenReturn(COMPONENT_INSTANCE_ID);
+        when(propertyDeclarationOrchestrator.declarePropertiesToListInput(service, componentInstInputsMap, listInput)).thenReturn(Either.left(listInput));
+        when(propertyOperation.isPropertyTypeValid(any())).thenReturn(true);
+        when(propertyOperation.isPropertyInnerTypeValid(any(),any())).thenReturn(new ImmutablePair<>(listInput.getSchemaType(), true));
+        when(propertyOperation.isPropertyDefaultValueValid(any(), any())).thenReturn(true);
+        when(toscaOperationFacadeMock.addInputsToComponent(anyMap(), eq(COMPONENT_ID))).thenReturn(Either.left(Arrays.asList(listInput)));
+        when(janusGraphDao.commit()).thenReturn(JanusGraphOperationStatus.OK);
+        when(graphLockOperation.unlockComponent(COMPONENT_ID, NodeTypeEnum.Service)).thenReturn(StorageOperationStatus.OK);
+
+        Either<List<InputDefinition>, ResponseFormat> result =
+                testInstance.createListInput(USER_ID, COMPONENT_ID, ComponentTypeEnum.SERVICE, createListInputParams, true, false);
+
+        assertTrue(result.isLeft());
+        verify(toscaOperationFacadeMock, times(1)).addInputsToComponent(anyMap(), eq(COMPONENT_ID));
+        // the private data type of the list input must not leak into the cache
+        assertEquals(cachedDataTypes.keySet(), dataTypeCache.getAll().left().value().keySet());
+    }
+
     @Test
     public void test_createListInput_fail_getComponent() throws Exception {
         ComponentInstListInput createListInputParams = setUpCreateListInputParams();
@@ -63,6 +63,7 @@ import org.openecomp.sdc.be.impl.ComponentsUtils;
 import org.openecomp.sdc.be.impl.WebAppContextWrapper;
 import org.openecomp.sdc.be.model.ArtifactDefinition;
 import org.openecomp.sdc.be.model.Component;
+import org.openecomp.sdc.be.model.ComponentInstance;
 import org.openecomp.sdc.be.model.DataTypeDefinition;
 import org.openecomp.sdc.be.model.InputDefinition;
 import org.openecomp.sdc.be.model.LifeCycleTransitionEnum;
@@ -111,10 +112,15 @@ import javax.servlet.ServletContext;
 import java.io.IOException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -125,6 +131,8 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import static org.assertj.core.api.Java6Assertions.assertThat;
@@ -1689,6 +1697,77 @@ public class ResourceBusinessLogicTest extends ComponentBusinessLogicMock {
         }
     }
 
+    @Test
+    public void testOriginResourcesAreFetchedOnceForAllInstances() throws Exception {
+        Resource origin1 = new Resource();
+        origin1.setUniqueId("origin1");
+        Resource origin2 = new Resource();
+        origin2.setUniqueId("origin2");
+        Map<String, Component> origins = new HashMap<>();
+        origins.put("origin1", origin1);
+        origins.put("origin2", origin2);
+        Either<Map<String, Component>, StorageOperationStatus> getOriginsRes = Either.left(origins);
+        when(toscaOperationFacade.getToscaFullElements(any())).thenReturn(getOriginsRes);
+        List<ComponentInstance> instances = Arrays.asList(createInstance("origin1"), createInstance("origin2"),
+                createInstance("origin1"));
+        Map<String, Resource> originCompMap = new HashMap<>();
+
+        invokePrivate("prefetchOriginResources", new Class[]{Map.class, List.class}, originCompMap, instances);
+        for (ComponentInstance instance : instances) {
+            assertNotNull(invokePrivate("getOriginResource", new Class[]{String.class, Map.class, ComponentInstance.class},
+                    "yamlName", originCompMap, instance));
+        }
+
+        verify(toscaOperationFacade, times(1)).getToscaFullElements(new HashSet<>(Arrays.asList("origin1", "origin2")));
+        verify(toscaOperationFacade, never()).getToscaFullElement(anyString());
+    }
+
+    @Test
+    public void testFailedPrefetchFallsBackToSingleFetch() throws Exception {
+        Resource origin = new Resource();
+        origin.setUniqueId("origin1");
+        Either<Map<String, Component>, StorageOperationStatus> getOriginsRes = Either.right(StorageOperationStatus.GENERAL_ERROR);
+        when(toscaOperationFacade.getToscaFullElements(any())).thenReturn(getOriginsRes);
+        Either<Component, StorageOperationStatus> getOriginRes = Either.left(origin);
+        when(toscaOperationFacade.getToscaFullElement("origin1")).thenReturn(getOriginRes);
+        List<ComponentInstance> instances = Collections.singletonList(createInstance("origin1"));
+        Map<String, Resource> originCompMap = new HashMap<>();
+
+        invokePrivate("prefetchOriginResources", new Class[]{Map.class, List.class}, originCompMap, instances);
+        assertEquals(origin, invokePrivate("getOriginResource", new Class[]{String.class, Map.class, ComponentInstance.class},
+                "yamlName", originCompMap, instances.get(0)));
+
+        verify(toscaOperationFacade, times(1)).getToscaFullElement("origin1");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testNodeTypesAreOrderedByDerivedFrom() throws Exception {
+        Map<String, Object> nodeTypes = new LinkedHashMap<>();
+        nodeTypes.put("child", Collections.singletonMap("derived_from", "parent"));
+        nodeTypes.put("other", Collections.singletonMap("derived_from", "tosca.nodes.Root"));
+        nodeTypes.put("parent", Collections.singletonMap("derived_from", "grandParent"));
+        nodeTypes.put("grandParent", Collections.singletonMap("derived_from", "tosca.nodes.Root"));
+
+        List<Entry<String, Object>> ordered = (List<Entry<String, Object>>) invokePrivate("orderByDerivedFrom",
+                new Class[]{Map.class}, nodeTypes);
+
+        assertEquals(Arrays.asList("grandParent", "parent", "child", "other"),
+                ordered.stream().map(Entry::getKey).collect(Collectors.toList()));
+    }
+
+    private ComponentInstance createInstance(String originId) {
+        ComponentInstance instance = new ComponentInstance();
+        instance.setComponentUid(originId);
+        return instance;
+    }
+
+    private Object invokePrivate(String methodName, Class[] argClasses, Object... argObjects) throws Exception {
+        Method method = ResourceBusinessLogic.class.getDeclaredMethod(methodName, argClasses);
+        method.setAccessible(true);
+        return method.invoke(bl, argObjects);
+    }
+
     @Test
     public void testVFGeneratedInputs() {
         validateUserRoles(Role.ADMIN, Role.DESIGNER);
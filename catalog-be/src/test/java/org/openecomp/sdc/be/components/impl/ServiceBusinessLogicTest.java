@@ -30,6 +30,7 @@ import org.mockito.Mockito;
 import org.openecomp.sdc.ElementOperationMock;
 import org.openecomp.sdc.be.auditing.impl.AuditingManager;
 import org.openecomp.sdc.be.components.distribution.engine.IDistributionEngine;
+import org.openecomp.sdc.be.components.health.HealthCheckBusinessLogic;
 import org.openecomp.sdc.be.components.impl.exceptions.ByActionStatusComponentException;
 import org.openecomp.sdc.be.components.impl.exceptions.ByResponseFormatComponentException;
 import org.openecomp.sdc.be.components.impl.generic.GenericTypeBusinessLogic;
@@ -69,6 +70,8 @@ import org.openecomp.sdc.exception.ResponseFormat;
 import org.springframework.web.context.WebApplicationContext;
 
 import javax.servlet.ServletContext;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
 import java.lang.reflect.Method;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -77,6 +80,7 @@ import java.util.stream.Stream;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.*;
 import static org.junit.Assert.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
@@ -776,6 +780,33 @@ public class ServiceBusinessLogicTest extends ComponentBusinessLogicMock {
 
     }
 
+    @Test
+    public void testActivateDistributionReturnsDistributedService() {
+        Service service = createServiceObject(true);
+        service.setDistributionStatus(DistributionStatusEnum.DISTRIBUTION_APPROVED);
+        Service distributed = createServiceObject(true);
+        distributed.setDistributionStatus(DistributionStatusEnum.DISTRIBUTED);
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        HttpSession session = Mockito.mock(HttpSession.class);
+        HealthCheckBusinessLogic healthCheckBusinessLogic = Mockito.mock(HealthCheckBusinessLogic.class);
+        when(request.getSession()).thenReturn(session);
+        when(session.getServletContext()).thenReturn(servletContext);
+        when(webAppContext.getBean(HealthCheckBusinessLogic.class)).thenReturn(healthCheckBusinessLogic);
+        when(healthCheckBusinessLogic.isDistributionEngineUp()).thenReturn(true);
+        Either<Component, StorageOperationStatus> eitherService = Either.left(service);
+        when(toscaOperationFacade.getToscaElement(COMPONNET_ID)).thenReturn(eitherService);
+        when(distributionEngine.isReadyForDistribution(anyString())).thenReturn(StorageOperationStatus.OK);
+        when(distributionEngine.notifyService(any(), eq(service), any(), anyString(), eq(user))).thenReturn(ActionStatus.OK);
+        when(toscaOperationFacade.updateDistributionStatus(service, user, DistributionStatusEnum.DISTRIBUTED))
+                .thenReturn(Either.left(distributed));
+
+        Either<Service, ResponseFormat> result = bl.activateDistribution(COMPONNET_ID, "PROD", user, request);
+
+        assertTrue(result.isLeft());
+        assertEquals(DistributionStatusEnum.DISTRIBUTED, result.left().value().getDistributionStatus());
+        Mockito.verify(mockJanusGraphDao).commit();
+    }
+
     private void setupBeforeDeploy(String notifyAction, String requestAction, String did) {
 
         DistributionNotificationEvent notifyEvent = new DistributionNotificationEvent();
@@ -33,6 +33,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.openecomp.sdc.be.components.impl.BaseBusinessLogicMock;
 import org.openecomp.sdc.be.components.impl.ResourceBusinessLogic;
 import org.openecomp.sdc.be.components.impl.ServiceBusinessLogic;
+import org.openecomp.sdc.be.dao.cassandra.ArtifactCassandraDao;
 import org.openecomp.sdc.be.datatypes.enums.NodeTypeEnum;
 import org.openecomp.sdc.be.impl.ComponentsUtils;
 import org.openecomp.sdc.be.model.operations.api.IGraphLockOperation;
@@ -54,10 +55,11 @@ public class ComponentsCleanBusinessLogicTest extends BaseBusinessLogicMock {
     private ServiceBusinessLogic serviceBusinessLogic = Mockito.mock(ServiceBusinessLogic.class);
     private IGraphLockOperation graphLockOperation = Mockito.mock(IGraphLockOperation.class);
     private ComponentsUtils componentsUtils = Mockito.mock(ComponentsUtils.class);
+    private ArtifactCassandraDao artifactCassandraDao = Mockito.mock(ArtifactCassandraDao.class);
 
     private ComponentsCleanBusinessLogic componentsCleanBL = new ComponentsCleanBusinessLogic(elementDao, groupOperation,
         groupInstanceOperation, groupTypeOperation, interfaceOperation, interfaceLifecycleTypeOperation,
-        resourceBusinessLogic, serviceBusinessLogic, artifactToscaOperation);
+        resourceBusinessLogic, serviceBusinessLogic, artifactToscaOperation, artifactCassandraDao);
 
     @Before
     public void setUp() {
@@ -170,6 +172,32 @@ public class ComponentsCleanBusinessLogicTest extends BaseBusinessLogicMock {
                 eq(NodeTypeEnum.Component));
     }
 
+    @Test
+    public void collectUnreferencedArtifactPayloads() {
+        when(graphLockOperation.lockComponentByName(eq(ComponentsCleanBusinessLogic.DELETE_LOCKER),
+                eq(NodeTypeEnum.Component))).thenReturn(StorageOperationStatus.OK);
+        when(artifactCassandraDao.collectUnreferencedPayloads(3600000L)).thenReturn(Either.left(2));
+
+        Either<Integer, ResponseFormat> collected = componentsCleanBL.collectUnreferencedArtifactPayloads(60);
+
+        assertThat(collected.left().value()).isEqualTo(2);
+        verify(graphLockOperation).unlockComponentByName(eq(ComponentsCleanBusinessLogic.DELETE_LOCKER), any(),
+                eq(NodeTypeEnum.Component));
+    }
+
+    @Test
+    public void collectUnreferencedArtifactPayloadsIsNotCalledDueToCleanupLock() {
+        when(graphLockOperation.lockComponentByName(eq(ComponentsCleanBusinessLogic.DELETE_LOCKER),
+                eq(NodeTypeEnum.Component))).thenReturn(StorageOperationStatus.FAILED_TO_LOCK_ELEMENT);
+
+        Either<Integer, ResponseFormat> collected = componentsCleanBL.collectUnreferencedArtifactPayloads(60);
+
+        assertThat(collected.isRight()).isTrue();
+        verify(artifactCassandraDao, times(0)).collectUnreferencedPayloads(anyLong());
+        verify(graphLockOperation, times(0)).unlockComponentByName(eq(ComponentsCleanBusinessLogic.DELETE_LOCKER), any(),
+                eq(NodeTypeEnum.Component));
+    }
+
     private void mockResourceDeleting() {
         when(resourceBusinessLogic.deleteMarkedComponents()).thenReturn(Either.left(Lists.newArrayList()));
     }
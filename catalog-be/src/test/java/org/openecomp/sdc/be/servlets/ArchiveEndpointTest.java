@@ -56,6 +56,7 @@ import org.openecomp.sdc.be.config.ConfigurationManager;
 import org.openecomp.sdc.be.dao.DAOJanusGraphStrategy;
 import org.openecomp.sdc.be.dao.JanusGraphClientStrategy;
 import org.openecomp.sdc.be.dao.api.ActionStatus;
+import org.openecomp.sdc.be.dao.cassandra.CatalogChangesCassandraDao;
 import org.openecomp.sdc.be.dao.impl.HealingPipelineDao;
 import org.openecomp.sdc.be.dao.janusgraph.HealingJanusGraphGenericDao;
 import org.openecomp.sdc.be.dao.janusgraph.JanusGraphClient;
@@ -75,6 +76,8 @@ import org.openecomp.sdc.be.impl.WebAppContextWrapper;
 import org.openecomp.sdc.be.model.LifecycleStateEnum;
 import org.openecomp.sdc.be.model.User;
 import org.openecomp.sdc.be.model.catalog.CatalogComponent;
+import org.openecomp.sdc.be.model.cache.CatalogComponentIndex;
+import org.openecomp.sdc.be.model.cache.ComponentCache;
 import org.openecomp.sdc.be.model.jsonjanusgraph.operations.ArchiveOperation;
 import org.openecomp.sdc.be.model.jsonjanusgraph.operations.CategoryOperation;
 import org.openecomp.sdc.be.model.jsonjanusgraph.operations.GroupsOperation;
@@ -123,6 +126,7 @@ public class ArchiveEndpointTest extends JerseyTest {
     private static final HealingJanusGraphGenericDao
         janusGraphGenericDao = mock(HealingJanusGraphGenericDao.class);
     private static final HealingPipelineDao HEALING_PIPELINE_DAO = mock(HealingPipelineDao.class);
+    private static final CatalogChangesCassandraDao CATALOG_CHANGES_DAO = mock(CatalogChangesCassandraDao.class);
     private static GraphVertex serviceVertex;
     private static GraphVertex resourceVertex;
     private static GraphVertex resourceVertexVspArchived;
@@ -183,6 +187,16 @@ public class ArchiveEndpointTest extends JerseyTest {
             return new ToscaOperationFacade();
         }
 
+        @Bean
+        ComponentCache componentCache() {
+            return new ComponentCache();
+        }
+
+        @Bean
+        CatalogComponentIndex catalogComponentIndex() {
+            return new CatalogComponentIndex(topologyTemplateOperation(), janusGraphDao(), CATALOG_CHANGES_DAO);
+        }
+
         @Bean
         TopologyTemplateOperation topologyTemplateOperation() {
             return new TopologyTemplateOperation();
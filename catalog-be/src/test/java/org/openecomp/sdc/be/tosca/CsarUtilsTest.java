@@ -21,8 +21,11 @@
 package org.openecomp.sdc.be.tosca;
 
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -30,8 +33,11 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 
+import javax.ws.rs.core.StreamingOutput;
+
 import org.apache.commons.io.output.ByteArrayOutputStream;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.ImmutableTriple;
@@ -67,6 +73,7 @@ import org.openecomp.sdc.be.tosca.CsarUtils.NonMetaArtifactInfo;
 import org.openecomp.sdc.be.tosca.model.ToscaTemplate;
 import org.openecomp.sdc.common.api.ArtifactGroupTypeEnum;
 import org.openecomp.sdc.common.api.ArtifactTypeEnum;
+import org.openecomp.sdc.common.util.GeneralUtility;
 
 import fj.data.Either;
 import mockit.Deencapsulation;
@@ -180,6 +187,167 @@ public class CsarUtilsTest extends BeConfDependentTest {
 		assertTrue(csar.isLeft());
 	}
 
+	@Test
+	public void testCreateCsarToOutputStream() throws IOException {
+		Component component = new Resource();
+		Map<String, ArtifactDefinition> toscaArtifacts = new HashMap<>();
+		ArtifactDefinition artifact = new ArtifactDefinition();
+		artifact.setArtifactName("artifactName");
+		artifact.setEsId("esId");
+		artifact.setArtifactUUID("artifactUUID");
+		artifact.setArtifactType("YANG");
+		toscaArtifacts.put("assettoscatemplate", artifact);
+
+		component.setToscaArtifacts(toscaArtifacts);
+		component.setDeploymentArtifacts(toscaArtifacts);
+		component.setArtifacts(toscaArtifacts);
+		ESArtifactData artifactData = new ESArtifactData();
+		byte[] data = "value".getBytes();
+		artifactData.setDataAsArray(data);
+
+		ToscaTemplate toscaTemplate = new ToscaTemplate("version");
+		toscaTemplate.setDependencies(new ArrayList<>());
+
+		List<SdcSchemaFilesData> filesData = new ArrayList<>();
+		SdcSchemaFilesData filedata = new SdcSchemaFilesData();
+		try (ByteArrayOutputStream schemaOut = new ByteArrayOutputStream();
+				ZipOutputStream schemaZip = new ZipOutputStream(schemaOut)) {
+			schemaZip.putNextEntry(new ZipEntry("schema.yml"));
+			schemaZip.write(data);
+			schemaZip.finish();
+			filedata.setPayloadAsArray(schemaOut.toByteArray());
+		}
+		filesData.add(filedata);
+
+		Mockito.when(artifactCassandraDao.getArtifact(Mockito.any(String.class))).thenReturn(Either.left(artifactData));
+		Mockito.when(toscaExportUtils.getDependencies(Mockito.any(Component.class)))
+				.thenReturn(Either.left(toscaTemplate));
+		Mockito.when(
+				sdcSchemaFilesCassandraDao.getSpecificSchemaFiles(Mockito.any(String.class), Mockito.any(String.class)))
+				.thenReturn(Either.left(filesData));
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		Either<OutputStream, ResponseFormat> csar = testSubject.createCsar(component, false, true, out);
+
+		assertTrue(csar.isLeft());
+		assertSame(out, csar.left().value());
+		Set<String> entries = new HashSet<>();
+		try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+			ZipEntry entry;
+			while ((entry = zip.getNextEntry()) != null) {
+				entries.add(entry.getName());
+			}
+		}
+		assertTrue(entries.contains("csar.meta"));
+		assertTrue(entries.contains("TOSCA-Metadata/TOSCA.meta"));
+		assertTrue(entries.contains(CsarUtils.DEFINITIONS_PATH + "artifactName"));
+		assertTrue(entries.contains(CsarUtils.DEFINITIONS_PATH + "schema.yml"));
+	}
+
+	@Test
+	public void testCreateBufferedCsar() throws IOException {
+		Component component = new Resource();
+		Map<String, ArtifactDefinition> toscaArtifacts = new HashMap<>();
+		ArtifactDefinition artifact = new ArtifactDefinition();
+		artifact.setArtifactName("artifactName");
+		artifact.setEsId("esId");
+		artifact.setArtifactUUID("artifactUUID");
+		artifact.setArtifactType("YANG");
+		toscaArtifacts.put("assettoscatemplate", artifact);
+
+		component.setToscaArtifacts(toscaArtifacts);
+		component.setDeploymentArtifacts(toscaArtifacts);
+		component.setArtifacts(toscaArtifacts);
+		ESArtifactData artifactData = new ESArtifactData();
+		artifactData.setDataAsArray("value".getBytes());
+
+		ToscaTemplate toscaTemplate = new ToscaTemplate("version");
+		toscaTemplate.setDependencies(new ArrayList<>());
+
+		Mockito.when(artifactCassandraDao.getArtifact(Mockito.any(String.class))).thenReturn(Either.left(artifactData));
+		Mockito.when(toscaExportUtils.getDependencies(Mockito.any(Component.class)))
+				.thenReturn(Either.left(toscaTemplate));
+		Mockito.when(
+				sdcSchemaFilesCassandraDao.getSpecificSchemaFiles(Mockito.any(String.class), Mockito.any(String.class)))
+				.thenReturn(Either.left(new ArrayList<>()));
+
+		Either<ImmutablePair<String, StreamingOutput>, ResponseFormat> csar = testSubject.createBufferedCsar(component, false, true);
+
+		assertTrue(csar.isLeft());
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		csar.left().value().getRight().write(out);
+		assertEquals(GeneralUtility.calculateMD5Base64EncodedByByteArray(out.toByteArray()), csar.left().value().getLeft());
+	}
+
+	@Test
+	public void testCreateCsarTwiceGivesSameBytes() throws IOException {
+		Component component = new Resource();
+		Map<String, ArtifactDefinition> toscaArtifacts = new HashMap<>();
+		ArtifactDefinition artifact = new ArtifactDefinition();
+		artifact.setArtifactName("artifactName");
+		artifact.setEsId("esId");
+		artifact.setArtifactUUID("artifactUUID");
+		artifact.setArtifactType("YANG");
+		toscaArtifacts.put("assettoscatemplate", artifact);
+
+		component.setToscaArtifacts(toscaArtifacts);
+		component.setDeploymentArtifacts(toscaArtifacts);
+		component.setArtifacts(toscaArtifacts);
+		ESArtifactData artifactData = new ESArtifactData();
+		artifactData.setDataAsArray("value".getBytes());
+
+		ToscaTemplate toscaTemplate = new ToscaTemplate("version");
+		toscaTemplate.setDependencies(new ArrayList<>());
+
+		Mockito.when(artifactCassandraDao.getArtifact(Mockito.any(String.class))).thenReturn(Either.left(artifactData));
+		Mockito.when(toscaExportUtils.getDependencies(Mockito.any(Component.class)))
+				.thenReturn(Either.left(toscaTemplate));
+		Mockito.when(
+				sdcSchemaFilesCassandraDao.getSpecificSchemaFiles(Mockito.any(String.class), Mockito.any(String.class)))
+				.thenReturn(Either.left(new ArrayList<>()));
+
+		Either<byte[], ResponseFormat> first = testSubject.createCsar(component, false, true);
+		Either<byte[], ResponseFormat> second = testSubject.createCsar(component, false, true);
+
+		assertTrue(first.isLeft());
+		assertTrue(second.isLeft());
+		assertTrue(Arrays.equals(first.left().value(), second.left().value()));
+		assertEquals(GeneralUtility.calculateMD5Base64EncodedByByteArray(first.left().value()),
+				GeneralUtility.calculateMD5Base64EncodedByByteArray(second.left().value()));
+
+		Set<Long> entryTimes = new HashSet<>();
+		try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(first.left().value()))) {
+			ZipEntry entry;
+			while ((entry = zip.getNextEntry()) != null) {
+				entryTimes.add(entry.getTime());
+			}
+		}
+		assertEquals(1, entryTimes.size());
+	}
+
+	@Test
+	public void testCreateBufferedCsarFailureIsReturned() {
+		Component component = new Resource();
+		Map<String, ArtifactDefinition> toscaArtifacts = new HashMap<>();
+		ArtifactDefinition artifact = new ArtifactDefinition();
+		artifact.setArtifactName("artifactName");
+		artifact.setEsId("esId");
+		toscaArtifacts.put("assettoscatemplate", artifact);
+		component.setToscaArtifacts(toscaArtifacts);
+
+		Mockito.when(artifactCassandraDao.getArtifact(Mockito.any(String.class)))
+				.thenReturn(Either.right(CassandraOperationStatus.GENERAL_ERROR));
+		Mockito.when(componentsUtils.convertFromStorageResponse(Mockito.any(StorageOperationStatus.class)))
+				.thenReturn(ActionStatus.GENERAL_ERROR);
+		Mockito.when(componentsUtils.getResponseFormat(Mockito.any(ActionStatus.class)))
+				.thenReturn(new ResponseFormat(500));
+
+		Either<ImmutablePair<String, StreamingOutput>, ResponseFormat> csar = testSubject.createBufferedCsar(component, true, true);
+
+		assertTrue(csar.isRight());
+		assertEquals(500, csar.right().value().getStatus().intValue());
+	}
+
 	@Test
 	public void testGenerateCsarZipThrowsIOException() {
 
@@ -406,7 +406,7 @@ public class ToscaExportHandlerTest extends BeConfDependentTest {
 
 		Component component = getNewService();
 		ToscaTemplate toscaTemplate = new ToscaTemplate("");
-		Either<ImmutablePair<ToscaTemplate, Map<String, Component>>, ToscaError> result;
+		Either<ImmutablePair<ToscaTemplate, ToscaExportHandler.ExportComponentCache>, ToscaError> result;
 
 		ComponentInstance instance = new ComponentInstance();
 		List<ComponentInstance> resourceInstances = new ArrayList<>();
@@ -865,7 +865,7 @@ public class ToscaExportHandlerTest extends BeConfDependentTest {
 		Mockito.when(toscaOperationFacade.getToscaElement(Mockito.any(String.class),
 				Mockito.any(ComponentParametersView.class)))
 				.thenReturn(Either.right(StorageOperationStatus.BAD_REQUEST));
-		result = Deencapsulation.invoke(testSubject, "createProxyInterfaceTypes", container);
+		result = Deencapsulation.invoke(testSubject, "createProxyInterfaceTypes", new HashMap<>(), container);
 		Assert.assertTrue(result.isRight());
 
 	}
@@ -887,7 +887,7 @@ public class ToscaExportHandlerTest extends BeConfDependentTest {
 				.thenReturn(Either.left(new Resource()));
 		Mockito.when(interfaceLifecycleOperation.getAllInterfaceLifecycleTypes())
 				.thenReturn(Either.right(StorageOperationStatus.BAD_REQUEST));
-		result = Deencapsulation.invoke(testSubject, "createProxyInterfaceTypes", container);
+		result = Deencapsulation.invoke(testSubject, "createProxyInterfaceTypes", new HashMap<>(), container);
 		Assert.assertTrue(result.isRight());
 	}
 
@@ -914,11 +914,32 @@ public class ToscaExportHandlerTest extends BeConfDependentTest {
 				Mockito.any(ComponentParametersView.class)))
 				.thenReturn(Either.left(proxyResource));
 
-		result = Deencapsulation.invoke(testSubject, "createProxyInterfaceTypes", container);
+		result = Deencapsulation.invoke(testSubject, "createProxyInterfaceTypes", new HashMap<>(), container);
 		Assert.assertTrue(result.isLeft());
 		Assert.assertEquals(1, result.left().value().size());
 	}
 
+	@Test
+	public void testGetOriginComponentIsLoadedOncePerExport() {
+		ToscaExportHandler.ExportComponentCache componentCache = new ToscaExportHandler.ExportComponentCache();
+		Component origin = new Resource();
+		Mockito.when(toscaOperationFacade.getToscaElement(Mockito.eq("originUid"),
+				Mockito.any(ComponentParametersView.class)))
+				.thenReturn(Either.left(origin));
+
+		Either<Component, StorageOperationStatus> first = Deencapsulation.invoke(testSubject, "getOriginComponent",
+				componentCache, "originUid");
+		Either<Component, StorageOperationStatus> second = Deencapsulation.invoke(testSubject, "getOriginComponent",
+				componentCache, "originUid");
+
+		Assert.assertSame(origin, first.left().value());
+		Assert.assertSame(origin, second.left().value());
+		Assert.assertSame(origin, componentCache.get("originUid"));
+		Assert.assertEquals(1, componentCache.getOriginFetches());
+		Mockito.verify(toscaOperationFacade, Mockito.times(1)).getToscaElement(Mockito.eq("originUid"),
+				Mockito.any(ComponentParametersView.class));
+	}
+
 	@Test
 	public void testCreateProxyNodeTypes() throws Exception {
 		Map<String, Component> componentCache = new HashMap<>();
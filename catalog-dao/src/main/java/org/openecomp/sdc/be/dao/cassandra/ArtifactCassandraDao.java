@@ -20,25 +20,63 @@
 
 package org.openecomp.sdc.be.dao.cassandra;
 
+import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
+import com.datastax.driver.core.utils.Bytes;
 import com.datastax.driver.mapping.MappingManager;
 import fj.data.Either;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.openecomp.sdc.be.resources.data.ESArtifactData;
 import org.openecomp.sdc.be.resources.data.auditing.AuditingTypesConstants;
 import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.openecomp.sdc.common.util.GeneralUtility;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 
+/**
+ * Artifacts are kept in the resources table, their payloads are stored once per content in the
+ * payloads table, keyed by the SHA-256 checksum of the content. The payloadrefs table lists the
+ * artifacts referencing every payload, a payload left without references is removed by
+ * {@link #collectUnreferencedPayloads(long)}. Artifacts saved before the payloads table existed
+ * keep their payload in the resources row and are read as is.
+ */
 @Component("artifact-cassandra-dao")
 public class ArtifactCassandraDao extends CassandraDao {
 
+	private static final String CHECKSUM = "checksum";
+	private static final String DATA = "data";
+	private static final String LAST_REF = "last_ref";
+	private static final String PAYLOAD_CHECKSUM = "payload_checksum";
+	private static final int PAYLOAD_FETCH_SIZE = 500;
+	private static final String SELECT_PAYLOAD_CHECKSUM = "SELECT payload_checksum FROM resources WHERE id = ?";
+	private static final String SELECT_PAYLOAD = "SELECT data FROM payloads WHERE checksum = ?";
+	private static final String SELECT_PAYLOADS = "SELECT checksum, last_ref FROM payloads";
+	private static final String INSERT_PAYLOAD = "INSERT INTO payloads (checksum, data, size, last_ref) VALUES (?, ?, ?, ?) IF NOT EXISTS";
+	private static final String TOUCH_PAYLOAD = "UPDATE payloads SET last_ref = ? WHERE checksum = ? IF EXISTS";
+	private static final String DELETE_PAYLOAD = "DELETE FROM payloads WHERE checksum = ? IF last_ref = ?";
+	private static final String SELECT_PAYLOAD_REF = "SELECT artifact_id FROM payloadrefs WHERE checksum = ? LIMIT 1";
+	private static final String INSERT_PAYLOAD_REF = "INSERT INTO payloadrefs (checksum, artifact_id) VALUES (?, ?)";
+	private static final String DELETE_PAYLOAD_REF = "DELETE FROM payloadrefs WHERE checksum = ? AND artifact_id = ?";
+
 	private static Logger logger = Logger.getLogger(ArtifactCassandraDao.class.getName());
 	private ArtifactAccessor artifactAccessor;
 
+	private PreparedStatement selectPayloadChecksum;
+	private PreparedStatement selectPayload;
+	private PreparedStatement selectPayloads;
+	private PreparedStatement insertPayload;
+	private PreparedStatement touchPayload;
+	private PreparedStatement deletePayload;
+	private PreparedStatement selectPayloadRef;
+	private PreparedStatement insertPayloadRef;
+	private PreparedStatement deletePayloadRef;
+
 
 	@Autowired
 	public ArtifactCassandraDao(CassandraClient cassandraClient) {
@@ -55,6 +93,9 @@ public class ArtifactCassandraDao extends CassandraDao {
 				session = result.left().value().left;
 				manager = result.left().value().right;
 				artifactAccessor = manager.createAccessor(ArtifactAccessor.class);
+				if (session != null) {
+					preparePayloadStatements();
+				}
 				logger.info("** ArtifactCassandraDao created");
 			} else {
 				logger.info("** ArtifactCassandraDao failed");
@@ -67,16 +108,168 @@ public class ArtifactCassandraDao extends CassandraDao {
 		}
 	}
 
+	private void preparePayloadStatements() {
+		selectPayloadChecksum = session.prepare(SELECT_PAYLOAD_CHECKSUM);
+		selectPayload = session.prepare(SELECT_PAYLOAD);
+		selectPayloads = session.prepare(SELECT_PAYLOADS);
+		insertPayload = session.prepare(INSERT_PAYLOAD);
+		touchPayload = session.prepare(TOUCH_PAYLOAD);
+		deletePayload = session.prepare(DELETE_PAYLOAD);
+		selectPayloadRef = session.prepare(SELECT_PAYLOAD_REF);
+		insertPayloadRef = session.prepare(INSERT_PAYLOAD_REF);
+		deletePayloadRef = session.prepare(DELETE_PAYLOAD_REF);
+	}
+
+	/**
+	 * Saves the artifact with its payload in the payloads table. When the same content is already
+	 * stored only the reference to it is written.
+	 */
 	public CassandraOperationStatus saveArtifact(ESArtifactData artifact) {
-		return client.save(artifact, ESArtifactData.class, manager);
+		if (artifact == null || artifact.getDataAsArray() == null) {
+			return client.save(artifact, ESArtifactData.class, manager);
+		}
+		if (session == null) {
+			return CassandraOperationStatus.KEYSPACE_NOT_CONNECTED;
+		}
+		String artifactId = artifact.getId();
+		try {
+			byte[] payload = artifact.getDataAsArray();
+			String checksum = GeneralUtility.calculateSHA256HexByByteArray(payload);
+			String previousChecksum = readPayloadChecksum(artifactId);
+			// the reference is written first so that a concurrent collection can't remove the payload
+			session.execute(insertPayloadRef.bind(checksum, artifactId));
+			long now = System.currentTimeMillis();
+			if (!session.execute(touchPayload.bind(now, checksum)).wasApplied()) {
+				session.execute(insertPayload.bind(checksum, ByteBuffer.wrap(payload), (long) payload.length, now));
+			}
+			ESArtifactData artifactRef = new ESArtifactData(artifactId);
+			artifactRef.setPayloadChecksum(checksum);
+			CassandraOperationStatus status = client.save(artifactRef, ESArtifactData.class, manager);
+			if (status == CassandraOperationStatus.OK && previousChecksum != null && !previousChecksum.equals(checksum)) {
+				session.execute(deletePayloadRef.bind(previousChecksum, artifactId));
+			}
+			return status;
+		} catch (Exception e) {
+			logger.debug("Failed to save artifact {}", artifactId, e);
+			return CassandraOperationStatus.GENERAL_ERROR;
+		}
 	}
 
 	public Either<ESArtifactData, CassandraOperationStatus> getArtifact(String artifactId) {
-		return client.getById(artifactId, ESArtifactData.class, manager);
+		if (session == null) {
+			return Either.right(CassandraOperationStatus.KEYSPACE_NOT_CONNECTED);
+		}
+		Either<ESArtifactData, CassandraOperationStatus> artifact = client.getById(artifactId, ESArtifactData.class, manager);
+		if (artifact.isRight() || artifact.left().value().getData() != null
+				|| artifact.left().value().getPayloadChecksum() == null) {
+			return artifact;
+		}
+		return loadPayload(artifact.left().value());
+	}
+
+	private Either<ESArtifactData, CassandraOperationStatus> loadPayload(ESArtifactData artifact) {
+		try {
+			Row payload = session.execute(selectPayload.bind(artifact.getPayloadChecksum())).one();
+			if (payload == null) {
+				logger.debug("Payload {} of artifact {} not found", artifact.getPayloadChecksum(), artifact.getId());
+				return Either.right(CassandraOperationStatus.NOT_FOUND);
+			}
+			artifact.setDataAsArray(Bytes.getArray(payload.getBytes(DATA)));
+			return Either.left(artifact);
+		} catch (Exception e) {
+			logger.debug("Failed to read payload of artifact {}", artifact.getId(), e);
+			return Either.right(CassandraOperationStatus.GENERAL_ERROR);
+		}
 	}
 
+	/**
+	 * Deletes the artifact and its reference to the payload, the payload itself is removed by the
+	 * next collection if no other artifact references it.
+	 */
 	public CassandraOperationStatus deleteArtifact(String artifactId) {
-		return client.delete(artifactId, ESArtifactData.class, manager);
+		if (session == null) {
+			return CassandraOperationStatus.KEYSPACE_NOT_CONNECTED;
+		}
+		try {
+			String checksum = readPayloadChecksum(artifactId);
+			CassandraOperationStatus status = client.delete(artifactId, ESArtifactData.class, manager);
+			if (status == CassandraOperationStatus.OK && checksum != null) {
+				session.execute(deletePayloadRef.bind(checksum, artifactId));
+			}
+			return status;
+		} catch (Exception e) {
+			logger.debug("Failed to delete artifact {}", artifactId, e);
+			return CassandraOperationStatus.GENERAL_ERROR;
+		}
+	}
+
+	/**
+	 * Returns the SHA-256 checksum of the payload of the artifact without reading the payload.
+	 *
+	 * @return NOT_FOUND if the artifact doesn't exist or keeps its payload in the resources row
+	 */
+	public Either<String, CassandraOperationStatus> getPayloadChecksum(String artifactId) {
+		if (session == null) {
+			return Either.right(CassandraOperationStatus.KEYSPACE_NOT_CONNECTED);
+		}
+		try {
+			String checksum = readPayloadChecksum(artifactId);
+			return checksum == null ? Either.right(CassandraOperationStatus.NOT_FOUND) : Either.left(checksum);
+		} catch (Exception e) {
+			logger.debug("Failed to read payload checksum of artifact {}", artifactId, e);
+			return Either.right(CassandraOperationStatus.GENERAL_ERROR);
+		}
+	}
+
+	/**
+	 * Checks whether the artifact holds the given payload, by checksum when the payload is in the
+	 * payloads table.
+	 */
+	public Either<Boolean, CassandraOperationStatus> isSamePayload(String artifactId, byte[] payload) {
+		Either<String, CassandraOperationStatus> checksum = getPayloadChecksum(artifactId);
+		if (checksum.isLeft()) {
+			return Either.left(checksum.left().value().equals(GeneralUtility.calculateSHA256HexByByteArray(payload)));
+		}
+		if (checksum.right().value() != CassandraOperationStatus.NOT_FOUND) {
+			return Either.right(checksum.right().value());
+		}
+		return getArtifact(artifactId).left().map(artifact -> Arrays.equals(artifact.getDataAsArray(), payload));
+	}
+
+	/**
+	 * Removes the payloads no artifact references and that were not written during the grace
+	 * period. A payload referenced or written again meanwhile is kept.
+	 *
+	 * @param gracePeriodInMs
+	 *            the time a payload is kept after it was last written
+	 * @return the number of payloads removed
+	 */
+	public Either<Integer, CassandraOperationStatus> collectUnreferencedPayloads(long gracePeriodInMs) {
+		if (session == null) {
+			return Either.right(CassandraOperationStatus.KEYSPACE_NOT_CONNECTED);
+		}
+		try {
+			long lastRefLimit = System.currentTimeMillis() - gracePeriodInMs;
+			int collected = 0;
+			for (Row payload : session.execute(selectPayloads.bind().setFetchSize(PAYLOAD_FETCH_SIZE))) {
+				String checksum = payload.getString(CHECKSUM);
+				long lastRef = payload.getLong(LAST_REF);
+				if (lastRef < lastRefLimit && session.execute(selectPayloadRef.bind(checksum)).one() == null
+						&& session.execute(deletePayload.bind(checksum, lastRef)).wasApplied()) {
+					collected++;
+				}
+			}
+			logger.debug("{} unreferenced artifact payloads collected", collected);
+			return Either.left(collected);
+		} catch (Exception e) {
+			logger.debug("Failed to collect unreferenced artifact payloads", e);
+			return Either.right(CassandraOperationStatus.GENERAL_ERROR);
+		}
+	}
+
+	private String readPayloadChecksum(String artifactId) {
+		Row artifact = session.execute(selectPayloadChecksum.bind(artifactId)).one();
+		return artifact == null ? null : artifact.getString(PAYLOAD_CHECKSUM);
 	}
 
 	/**
@@ -88,9 +281,10 @@ public class ArtifactCassandraDao extends CassandraDao {
 	 */
 	public CassandraOperationStatus deleteAllArtifacts() {
 		logger.info("cleaning all artifacts.");
-		String query = "truncate sdcartifact.resources;";
 		try {
-			session.execute(query);
+			session.execute("truncate sdcartifact.resources;");
+			session.execute("truncate sdcartifact.payloads;");
+			session.execute("truncate sdcartifact.payloadrefs;");
 		} catch (Exception e) {
 			logger.debug("Failed to clean artifacts", e);
 			return CassandraOperationStatus.GENERAL_ERROR;
@@ -76,6 +76,10 @@ public class AuditCassandraDao extends CassandraDao {
 		return client.save(entity, (Class<T>) entity.getClass(), manager);
 	}
 
+	public CassandraOperationStatus saveRecords(List<? extends AuditingGenericEvent> entities) {
+		return client.saveAll(entities, manager);
+	}
+
 	/**
 	 * 
 	 * @param did
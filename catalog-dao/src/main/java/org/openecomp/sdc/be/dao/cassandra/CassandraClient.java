@@ -20,6 +20,7 @@
 
 package org.openecomp.sdc.be.dao.cassandra;
 
+import com.datastax.driver.core.BatchStatement;
 import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.SocketOptions;
@@ -176,6 +177,32 @@ public class CassandraClient {
 		return CassandraOperationStatus.OK;
 	}
 
+	/**
+	 * Saves the entities in a single unlogged batch, trading atomicity for one round-trip.
+	 *
+	 * @param entities entities of any mapped classes
+	 * @param manager mapping manager of the keyspace
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> CassandraOperationStatus saveAll(List<T> entities, MappingManager manager) {
+		if (!isConnected) {
+			return CassandraOperationStatus.CLUSTER_NOT_CONNECTED;
+		}
+		try {
+			BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
+			for (T entity : entities) {
+				Mapper<T> mapper = manager.mapper((Class<T>) entity.getClass());
+				batch.add(mapper.saveQuery(entity));
+			}
+			manager.getSession().execute(batch);
+		} catch (Exception e) {
+			logger.debug("Failed to save batch of {} entities, error :", entities.size(), e);
+			return CassandraOperationStatus.GENERAL_ERROR;
+		}
+		return CassandraOperationStatus.OK;
+	}
+
 	public <T> Either<T, CassandraOperationStatus> getById(String id, Class<T> clazz, MappingManager manager) {
 		if (!isConnected) {
 			return Either.right(CassandraOperationStatus.CLUSTER_NOT_CONNECTED);
@@ -21,6 +21,6 @@
 package org.openecomp.sdc.be.dao.cassandra;
 
 public enum CassandraOperationStatus {
-	OK, CLUSTER_NOT_CONNECTED, KEYSPACE_NOT_CONNECTED, GENERAL_ERROR, NOT_FOUND
+	OK, CLUSTER_NOT_CONNECTED, KEYSPACE_NOT_CONNECTED, GENERAL_ERROR, NOT_FOUND, ALREADY_LOCKED
 
 }
@@ -0,0 +1,134 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.dao.cassandra;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.utils.UUIDs;
+import com.datastax.driver.mapping.MappingManager;
+import fj.data.Either;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.openecomp.sdc.be.resources.data.auditing.AuditingTypesConstants;
+import org.openecomp.sdc.common.log.enums.EcompLoggerErrorCode;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feed of the components whose catalog entry changed, shared by all the BE nodes.
+ * Changes are bucketed by minute and expire after {@link #CHANGE_TTL_IN_SEC}, so a reader that fell behind
+ * further than that has to reload instead of catching up.
+ */
+@Component("catalog-changes-cassandra-dao")
+public class CatalogChangesCassandraDao extends CassandraDao {
+
+    public static final int CHANGE_TTL_IN_SEC = 3600;
+
+    private static final String CATALOG_CHANGES_DAO = "CatalogChangesCassandraDao";
+    private static final long BUCKET_IN_MS = TimeUnit.MINUTES.toMillis(1);
+    private static final String INSERT_CHANGE = "INSERT INTO catalogchanges (bucket, change_id, unique_id, node_id) VALUES (?, ?, ?, ?) USING TTL " + CHANGE_TTL_IN_SEC;
+    private static final String SELECT_CHANGES = "SELECT change_id, unique_id, node_id FROM catalogchanges WHERE bucket = ? AND change_id > ?";
+
+    private static Logger logger = Logger.getLogger(CatalogChangesCassandraDao.class.getName());
+
+    private PreparedStatement insertChange;
+    private PreparedStatement selectChanges;
+
+    @Autowired
+    public CatalogChangesCassandraDao(CassandraClient cassandraClient) {
+        super(cassandraClient);
+    }
+
+    @PostConstruct
+    public void init() {
+        String keyspace = AuditingTypesConstants.REPO_KEYSPACE;
+        if (client.isConnected()) {
+            Either<ImmutablePair<Session, MappingManager>, CassandraOperationStatus> result = client.connect(keyspace);
+            if (result.isLeft()) {
+                session = result.left().value().left;
+                manager = result.left().value().right;
+                insertChange = session.prepare(INSERT_CHANGE);
+                selectChanges = session.prepare(SELECT_CHANGES);
+                logger.debug("** CatalogChangesCassandraDao created");
+            } else {
+                logger.error(EcompLoggerErrorCode.DATA_ERROR, CATALOG_CHANGES_DAO, CATALOG_CHANGES_DAO, "** CatalogChangesCassandraDao failed");
+                throw new RuntimeException("Catalog changes keyspace [" + keyspace + "] failed to connect with error : "
+                        + result.right().value());
+            }
+        } else {
+            logger.error(EcompLoggerErrorCode.DATA_ERROR, CATALOG_CHANGES_DAO, CATALOG_CHANGES_DAO, "** Cassandra client isn't connected");
+            logger.error(EcompLoggerErrorCode.DATA_ERROR, CATALOG_CHANGES_DAO, CATALOG_CHANGES_DAO, "** CatalogChangesCassandraDao created, but not connected");
+        }
+    }
+
+    public CassandraOperationStatus publish(String nodeId, Collection<String> uniqueIds) {
+        if (session == null) {
+            return CassandraOperationStatus.KEYSPACE_NOT_CONNECTED;
+        }
+        try {
+            for (String uniqueId : uniqueIds) {
+                UUID changeId = UUIDs.timeBased();
+                session.execute(insertChange.bind(toBucket(UUIDs.unixTimestamp(changeId)), changeId, uniqueId, nodeId));
+            }
+            return CassandraOperationStatus.OK;
+        } catch (Exception e) {
+            logger.debug("Failed to publish catalog changes {}", uniqueIds, e);
+            return CassandraOperationStatus.GENERAL_ERROR;
+        }
+    }
+
+    /**
+     * Returns the changes published after the given time by nodes other than the given one, as pairs of change id and unique id.
+     */
+    public Either<List<ImmutablePair<UUID, String>>, CassandraOperationStatus> getChangesSince(long sinceMillis, String excludedNodeId) {
+        if (session == null) {
+            return Either.right(CassandraOperationStatus.KEYSPACE_NOT_CONNECTED);
+        }
+        try {
+            List<ImmutablePair<UUID, String>> changes = new ArrayList<>();
+            UUID since = UUIDs.startOf(sinceMillis);
+            long lastBucket = toBucket(System.currentTimeMillis());
+            for (long bucket = toBucket(sinceMillis); bucket <= lastBucket; bucket++) {
+                for (Row row : session.execute(selectChanges.bind(bucket, since))) {
+                    if (!excludedNodeId.equals(row.getString("node_id"))) {
+                        changes.add(ImmutablePair.of(row.getUUID("change_id"), row.getString("unique_id")));
+                    }
+                }
+            }
+            return Either.left(changes);
+        } catch (Exception e) {
+            logger.debug("Failed to read catalog changes since {}", sinceMillis, e);
+            return Either.right(CassandraOperationStatus.GENERAL_ERROR);
+        }
+    }
+
+    private static long toBucket(long timeMillis) {
+        return timeMillis / BUCKET_IN_MS;
+    }
+}
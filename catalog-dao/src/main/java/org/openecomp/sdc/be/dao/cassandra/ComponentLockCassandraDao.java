@@ -0,0 +1,139 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.dao.cassandra;
+
+import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.mapping.MappingManager;
+import fj.data.Either;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.openecomp.sdc.be.resources.data.auditing.AuditingTypesConstants;
+import org.openecomp.sdc.common.log.enums.EcompLoggerErrorCode;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+
+/**
+ * Component locks kept in Cassandra and taken with lightweight transactions.
+ * Every acquisition of a lock gets a fencing token, one higher than the previous holder's. A lock
+ * whose lease expired can be taken over, and a release only applies while the token still matches.
+ */
+@Component("component-lock-cassandra-dao")
+public class ComponentLockCassandraDao extends CassandraDao {
+
+    private static final String COMPONENT_LOCK_DAO = "ComponentLockCassandraDao";
+    private static final String FENCING_TOKEN = "fencing_token";
+    private static final String LEASE_EXPIRY = "lease_expiry";
+    private static final String SELECT_LOCK = "SELECT fencing_token, lease_expiry FROM componentlock WHERE lock_id = ?";
+    private static final String INSERT_LOCK = "INSERT INTO componentlock (lock_id, owner, fencing_token, lease_expiry) VALUES (?, ?, ?, ?) IF NOT EXISTS";
+    private static final String TAKE_OVER_LOCK = "UPDATE componentlock SET owner = ?, fencing_token = ?, lease_expiry = ? WHERE lock_id = ? IF fencing_token = ?";
+    private static final String RELEASE_LOCK = "UPDATE componentlock SET owner = null, lease_expiry = 0 WHERE lock_id = ? IF fencing_token = ?";
+
+    private static Logger logger = Logger.getLogger(ComponentLockCassandraDao.class.getName());
+
+    private PreparedStatement selectLock;
+    private PreparedStatement insertLock;
+    private PreparedStatement takeOverLock;
+    private PreparedStatement releaseLock;
+
+    @Autowired
+    public ComponentLockCassandraDao(CassandraClient cassandraClient) {
+        super(cassandraClient);
+    }
+
+    @PostConstruct
+    public void init() {
+        String keyspace = AuditingTypesConstants.REPO_KEYSPACE;
+        if (client.isConnected()) {
+            Either<ImmutablePair<Session, MappingManager>, CassandraOperationStatus> result = client.connect(keyspace);
+            if (result.isLeft()) {
+                session = result.left().value().left;
+                manager = result.left().value().right;
+                selectLock = session.prepare(SELECT_LOCK).setConsistencyLevel(ConsistencyLevel.SERIAL);
+                insertLock = session.prepare(INSERT_LOCK);
+                takeOverLock = session.prepare(TAKE_OVER_LOCK);
+                releaseLock = session.prepare(RELEASE_LOCK);
+                logger.debug("** ComponentLockCassandraDao created");
+            } else {
+                logger.error(EcompLoggerErrorCode.DATA_ERROR, COMPONENT_LOCK_DAO, COMPONENT_LOCK_DAO, "** ComponentLockCassandraDao failed");
+                throw new RuntimeException("Component lock keyspace [" + keyspace + "] failed to connect with error : "
+                        + result.right().value());
+            }
+        } else {
+            logger.error(EcompLoggerErrorCode.DATA_ERROR, COMPONENT_LOCK_DAO, COMPONENT_LOCK_DAO, "** Cassandra client isn't connected");
+            logger.error(EcompLoggerErrorCode.DATA_ERROR, COMPONENT_LOCK_DAO, COMPONENT_LOCK_DAO, "** ComponentLockCassandraDao created, but not connected");
+        }
+    }
+
+    /**
+     * Acquires the lock if it is free or its lease expired.
+     *
+     * @return the fencing token of the acquisition, or ALREADY_LOCKED if another holder has the lock
+     */
+    public Either<Long, CassandraOperationStatus> acquire(String lockId, String owner, long leaseInMs) {
+        if (session == null) {
+            return Either.right(CassandraOperationStatus.KEYSPACE_NOT_CONNECTED);
+        }
+        try {
+            long now = System.currentTimeMillis();
+            Row lock = session.execute(selectLock.bind(lockId)).one();
+            long fencingToken;
+            ResultSet result;
+            if (lock == null) {
+                fencingToken = 1;
+                result = session.execute(insertLock.bind(lockId, owner, fencingToken, now + leaseInMs));
+            } else if (lock.getLong(LEASE_EXPIRY) <= now) {
+                long currentToken = lock.getLong(FENCING_TOKEN);
+                fencingToken = currentToken + 1;
+                result = session.execute(takeOverLock.bind(owner, fencingToken, now + leaseInMs, lockId, currentToken));
+            } else {
+                return Either.right(CassandraOperationStatus.ALREADY_LOCKED);
+            }
+            return result.wasApplied() ? Either.left(fencingToken) : Either.right(CassandraOperationStatus.ALREADY_LOCKED);
+        } catch (Exception e) {
+            logger.debug("Failed to acquire lock {}", lockId, e);
+            return Either.right(CassandraOperationStatus.GENERAL_ERROR);
+        }
+    }
+
+    /**
+     * Releases the lock if it is still held with the given fencing token.
+     *
+     * @return ALREADY_LOCKED if the lease expired and the lock was taken over meanwhile
+     */
+    public CassandraOperationStatus release(String lockId, long fencingToken) {
+        if (session == null) {
+            return CassandraOperationStatus.KEYSPACE_NOT_CONNECTED;
+        }
+        try {
+            ResultSet result = session.execute(releaseLock.bind(lockId, fencingToken));
+            return result.wasApplied() ? CassandraOperationStatus.OK : CassandraOperationStatus.ALREADY_LOCKED;
+        } catch (Exception e) {
+            logger.debug("Failed to release lock {}", lockId, e);
+            return CassandraOperationStatus.GENERAL_ERROR;
+        }
+    }
+}
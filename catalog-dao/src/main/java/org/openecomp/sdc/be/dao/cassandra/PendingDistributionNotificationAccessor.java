@@ -0,0 +1,41 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.dao.cassandra;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.mapping.Result;
+import com.datastax.driver.mapping.annotations.Accessor;
+import com.datastax.driver.mapping.annotations.Query;
+import org.openecomp.sdc.be.resources.data.PendingDistributionNotificationEntry;
+
+import java.util.Date;
+
+@Accessor
+public interface PendingDistributionNotificationAccessor {
+    @Query("SELECT * FROM sdcrepository.pendingdistributionnotification")
+    Result<PendingDistributionNotificationEntry> getAll();
+
+    @Query("UPDATE sdcrepository.pendingdistributionnotification SET owner = ?, last_update = ? WHERE notification_id = ? IF owner = ? AND last_update = ?")
+    ResultSet claim(String owner, Date lastUpdate, String notificationId, String expectedOwner, Date expectedLastUpdate);
+
+    @Query("UPDATE sdcrepository.pendingdistributionnotification SET last_update = ? WHERE notification_id = ? IF owner = ?")
+    ResultSet renew(Date lastUpdate, String notificationId, String owner);
+}
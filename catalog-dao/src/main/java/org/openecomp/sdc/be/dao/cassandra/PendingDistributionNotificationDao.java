@@ -0,0 +1,143 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.dao.cassandra;
+
+import com.datastax.driver.core.Session;
+import com.datastax.driver.mapping.MappingManager;
+import com.datastax.driver.mapping.Result;
+import fj.data.Either;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.openecomp.sdc.be.resources.data.PendingDistributionNotificationEntry;
+import org.openecomp.sdc.be.resources.data.auditing.AuditingTypesConstants;
+import org.openecomp.sdc.common.log.enums.EcompLoggerErrorCode;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Keeps the distribution notifications which are queued or waiting for a retry, so they survive a restart.
+ */
+@Component("pending-distribution-notification-dao")
+public class PendingDistributionNotificationDao extends CassandraDao {
+
+    private static final String PENDING_DISTRIBUTION_NOTIFICATION_DAO = "PendingDistributionNotificationDao";
+    private static Logger logger = Logger.getLogger(PendingDistributionNotificationDao.class.getName());
+    private PendingDistributionNotificationAccessor pendingDistributionNotificationAccessor;
+
+    @Autowired
+    public PendingDistributionNotificationDao(CassandraClient cassandraClient) {
+        super(cassandraClient);
+    }
+
+    @PostConstruct
+    public void init() {
+        String keyspace = AuditingTypesConstants.REPO_KEYSPACE;
+        if (client.isConnected()) {
+            Either<ImmutablePair<Session, MappingManager>, CassandraOperationStatus> result = client.connect(keyspace);
+            if (result.isLeft()) {
+                session = result.left().value().left;
+                manager = result.left().value().right;
+                pendingDistributionNotificationAccessor = manager.createAccessor(PendingDistributionNotificationAccessor.class);
+                logger.debug("** PendingDistributionNotificationDao created");
+            } else {
+                logger.error(EcompLoggerErrorCode.DATA_ERROR, PENDING_DISTRIBUTION_NOTIFICATION_DAO, PENDING_DISTRIBUTION_NOTIFICATION_DAO, "** PendingDistributionNotificationDao failed");
+                throw new RuntimeException("Pending distribution notification keyspace [" + keyspace + "] failed to connect with error : "
+                        + result.right().value());
+            }
+        } else {
+            logger.error(EcompLoggerErrorCode.DATA_ERROR, PENDING_DISTRIBUTION_NOTIFICATION_DAO, PENDING_DISTRIBUTION_NOTIFICATION_DAO, "** Cassandra client isn't connected");
+            logger.error(EcompLoggerErrorCode.DATA_ERROR, PENDING_DISTRIBUTION_NOTIFICATION_DAO, PENDING_DISTRIBUTION_NOTIFICATION_DAO, "** PendingDistributionNotificationDao created, but not connected");
+        }
+    }
+
+    public CassandraOperationStatus save(PendingDistributionNotificationEntry entry) {
+        if (manager == null) {
+            return CassandraOperationStatus.KEYSPACE_NOT_CONNECTED;
+        }
+        return client.save(entry, PendingDistributionNotificationEntry.class, manager);
+    }
+
+    public CassandraOperationStatus delete(String notificationId) {
+        if (manager == null) {
+            return CassandraOperationStatus.KEYSPACE_NOT_CONNECTED;
+        }
+        return client.delete(notificationId, PendingDistributionNotificationEntry.class, manager);
+    }
+
+    public Either<List<PendingDistributionNotificationEntry>, CassandraOperationStatus> getAll() {
+        if (pendingDistributionNotificationAccessor == null) {
+            return Either.right(CassandraOperationStatus.KEYSPACE_NOT_CONNECTED);
+        }
+        try {
+            Result<PendingDistributionNotificationEntry> entries = pendingDistributionNotificationAccessor.getAll();
+            if (entries == null) {
+                return Either.right(CassandraOperationStatus.NOT_FOUND);
+            }
+            return Either.left(entries.all());
+        } catch (Exception e) {
+            logger.debug("Failed to read the pending distribution notifications", e);
+            return Either.right(CassandraOperationStatus.GENERAL_ERROR);
+        }
+    }
+
+    /**
+     * Takes a notification over with a lightweight transaction, so only one host sends it.
+     *
+     * @param expectedOwner the owner the notification was read with
+     * @param expectedLastUpdate the last update the notification was read with
+     * @return whether the notification was taken over, false if another host touched it since it was read
+     */
+    public Either<Boolean, CassandraOperationStatus> claim(String notificationId, String owner, Date lastUpdate,
+            String expectedOwner, Date expectedLastUpdate) {
+        if (pendingDistributionNotificationAccessor == null) {
+            return Either.right(CassandraOperationStatus.KEYSPACE_NOT_CONNECTED);
+        }
+        try {
+            return Either.left(pendingDistributionNotificationAccessor.claim(owner, lastUpdate, notificationId,
+                    expectedOwner, expectedLastUpdate).wasApplied());
+        } catch (Exception e) {
+            logger.debug("Failed to claim the pending distribution notification {}", notificationId, e);
+            return Either.right(CassandraOperationStatus.GENERAL_ERROR);
+        }
+    }
+
+    /**
+     * Touches a notification of the owner with a lightweight transaction, so no other host takes it over.
+     *
+     * @return whether the notification is still held by the owner
+     */
+    public Either<Boolean, CassandraOperationStatus> renew(String notificationId, String owner, Date lastUpdate) {
+        if (pendingDistributionNotificationAccessor == null) {
+            return Either.right(CassandraOperationStatus.KEYSPACE_NOT_CONNECTED);
+        }
+        try {
+            return Either.left(pendingDistributionNotificationAccessor.renew(lastUpdate, notificationId, owner)
+                    .wasApplied());
+        } catch (Exception e) {
+            logger.debug("Failed to renew the pending distribution notification {}", notificationId, e);
+            return Either.right(CassandraOperationStatus.GENERAL_ERROR);
+        }
+    }
+}
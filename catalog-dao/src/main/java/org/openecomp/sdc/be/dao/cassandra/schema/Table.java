@@ -42,8 +42,14 @@ public enum Table {
     EXTERNAL_API_EVENT(new ExternalApiEventTableDesc()),
     SDC_SCHEMA_FILES(new SdcSchemaFilesTableDescription()),
     SDC_REPO(new MigrationTasksTableDescription()),
+    SDC_REPO_CHECKPOINTS(new MigrationTaskCheckpointsTableDescription()),
     SDC_OPERATIONAL_ENVIRONMENT(new OperationalEnvironmentsTableDescription()),
-    AUDIT_ECOMP_OPERATIONAL_ENVIRONMENT(new EcompOperationalEnvironmentEventTableDesc());
+    AUDIT_ECOMP_OPERATIONAL_ENVIRONMENT(new EcompOperationalEnvironmentEventTableDesc()),
+    COMPONENT_LOCK(new ComponentLockTableDescription()),
+    ARTIFACT_PAYLOAD(new ArtifactPayloadTableDescription()),
+    ARTIFACT_PAYLOAD_REF(new ArtifactPayloadRefTableDescription()),
+    CATALOG_CHANGES(new CatalogChangesTableDescription()),
+    PENDING_DISTRIBUTION_NOTIFICATION(new PendingDistributionNotificationTableDescription());
 
 	ITableDescription tableDescription;
 
@@ -0,0 +1,89 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.dao.cassandra.schema.tables;
+
+import com.datastax.driver.core.DataType;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.openecomp.sdc.be.dao.cassandra.schema.ITableDescription;
+import org.openecomp.sdc.be.resources.data.auditing.AuditingTypesConstants;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.openecomp.sdc.be.dao.cassandra.schema.tables.ArtifactPayloadRefTableDescription.ArtifactPayloadRefFieldsDescription.ARTIFACT_ID;
+import static org.openecomp.sdc.be.dao.cassandra.schema.tables.ArtifactPayloadRefTableDescription.ArtifactPayloadRefFieldsDescription.CHECKSUM;
+
+/**
+ * The artifacts referencing each payload of {@link ArtifactPayloadTableDescription}, a payload without
+ * references can be collected.
+ */
+public class ArtifactPayloadRefTableDescription implements ITableDescription {
+
+    public static final String ARTIFACT_PAYLOAD_REF_TABLE = "payloadrefs";
+
+    @Override
+    public List<ImmutablePair<String, DataType>> primaryKeys() {
+        return Collections.singletonList(ImmutablePair.of(CHECKSUM.getFieldName(), CHECKSUM.getFieldType()));
+    }
+
+    @Override
+    public List<ImmutablePair<String, DataType>> clusteringKeys() {
+        return Collections.singletonList(ImmutablePair.of(ARTIFACT_ID.getFieldName(), ARTIFACT_ID.getFieldType()));
+    }
+
+    @Override
+    public Map<String, ImmutablePair<DataType, Boolean>> getColumnDescription() {
+        return new HashMap<>();
+    }
+
+    @Override
+    public String getKeyspace() {
+        return AuditingTypesConstants.ARTIFACT_KEYSPACE;
+    }
+
+    @Override
+    public String getTableName() {
+        return ARTIFACT_PAYLOAD_REF_TABLE;
+    }
+
+    public enum ArtifactPayloadRefFieldsDescription {
+        CHECKSUM("checksum", DataType.varchar()),
+        ARTIFACT_ID("artifact_id", DataType.varchar());
+
+        private String fieldName;
+        private DataType fieldType;
+
+        ArtifactPayloadRefFieldsDescription(String fieldName, DataType dataType) {
+            this.fieldName = fieldName;
+            this.fieldType = dataType;
+        }
+
+        public String getFieldName() {
+            return fieldName;
+        }
+
+        public DataType getFieldType() {
+            return fieldType;
+        }
+    }
+}
@@ -61,7 +61,8 @@ public class ArtifactTableDescription implements ITableDescription {
 	}
 
 	enum ArtifactFieldsDescription {
-		DATA("data", DataType.blob(), false);
+		DATA("data", DataType.blob(), false),
+		PAYLOAD_CHECKSUM("payload_checksum", DataType.varchar(), false);
 
 		private String name;
 		private DataType type;
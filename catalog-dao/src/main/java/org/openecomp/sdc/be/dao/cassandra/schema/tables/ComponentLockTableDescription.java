@@ -0,0 +1,97 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.dao.cassandra.schema.tables;
+
+import com.datastax.driver.core.DataType;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.openecomp.sdc.be.dao.cassandra.schema.ITableDescription;
+import org.openecomp.sdc.be.resources.data.auditing.AuditingTypesConstants;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.openecomp.sdc.be.dao.cassandra.schema.tables.ComponentLockTableDescription.ComponentLockFieldsDescription.LOCK_ID;
+
+public class ComponentLockTableDescription implements ITableDescription {
+
+    public static final String COMPONENT_LOCK_TABLE = "componentlock";
+
+    @Override
+    public List<ImmutablePair<String, DataType>> primaryKeys() {
+        return Collections.singletonList(ImmutablePair.of(LOCK_ID.getFieldName(), LOCK_ID.getFieldType()));
+    }
+
+    @Override
+    public List<ImmutablePair<String, DataType>> clusteringKeys() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public Map<String, ImmutablePair<DataType, Boolean>> getColumnDescription() {
+        Map<String, ImmutablePair<DataType, Boolean>> columns = new HashMap<>();
+        Arrays.stream(ComponentLockFieldsDescription.values())
+                .filter(column -> !column.equals(LOCK_ID))
+                .forEach(column -> columns.put(column.getFieldName(), ImmutablePair.of(column.getFieldType(), column.isIndexed())));
+        return columns;
+    }
+
+    @Override
+    public String getKeyspace() {
+        return AuditingTypesConstants.REPO_KEYSPACE;
+    }
+
+    @Override
+    public String getTableName() {
+        return COMPONENT_LOCK_TABLE;
+    }
+
+    public enum ComponentLockFieldsDescription {
+        LOCK_ID("lock_id", DataType.varchar(), false),
+        OWNER("owner", DataType.varchar(), false),
+        FENCING_TOKEN("fencing_token", DataType.bigint(), false),
+        LEASE_EXPIRY("lease_expiry", DataType.bigint(), false);
+
+        private String fieldName;
+        private boolean isIndexed;
+        private DataType fieldType;
+
+        ComponentLockFieldsDescription(String fieldName, DataType dataType, boolean indexed) {
+            this.fieldName = fieldName;
+            this.fieldType = dataType;
+            this.isIndexed = indexed;
+        }
+
+        public String getFieldName() {
+            return fieldName;
+        }
+
+        public boolean isIndexed() {
+            return isIndexed;
+        }
+
+        public DataType getFieldType() {
+            return fieldType;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.dao.cassandra.schema.tables;
+
+import com.datastax.driver.core.DataType;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.openecomp.sdc.be.dao.cassandra.schema.ITableDescription;
+import org.openecomp.sdc.be.resources.data.auditing.AuditingTypesConstants;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.openecomp.sdc.be.dao.cassandra.schema.tables.MigrationTaskCheckpointsTableDescription.MigrationTaskCheckpointFieldsDescription.TASK_NAME;
+import static org.openecomp.sdc.be.dao.cassandra.schema.tables.MigrationTaskCheckpointsTableDescription.MigrationTaskCheckpointFieldsDescription.VERTEX_ID;
+
+public class MigrationTaskCheckpointsTableDescription implements ITableDescription {
+
+    private static final String MIGRATION_TASK_CHECKPOINTS_TABLE = "migrationTaskCheckpoints";
+
+    @Override
+    public List<ImmutablePair<String, DataType>> primaryKeys() {
+        return Collections.singletonList(ImmutablePair.of(TASK_NAME.getFieldName(), TASK_NAME.getFieldType()));
+    }
+
+    @Override
+    public List<ImmutablePair<String, DataType>> clusteringKeys() {
+        return Collections.singletonList(ImmutablePair.of(VERTEX_ID.getFieldName(), VERTEX_ID.getFieldType()));
+    }
+
+    @Override
+    public Map<String, ImmutablePair<DataType, Boolean>> getColumnDescription() {
+        Map<String, ImmutablePair<DataType, Boolean>> columns = new HashMap<>();
+        Arrays.stream(MigrationTaskCheckpointFieldsDescription.values())
+                .filter(column -> !column.equals(TASK_NAME) && !column.equals(VERTEX_ID))
+                .forEach(column -> columns.put(column.getFieldName(), ImmutablePair.of(column.getFieldType(), column.isIndexed())));
+        return columns;
+    }
+
+    @Override
+    public String getKeyspace() {
+        return AuditingTypesConstants.REPO_KEYSPACE;
+    }
+
+    @Override
+    public String getTableName() {
+        return MIGRATION_TASK_CHECKPOINTS_TABLE;
+    }
+
+    enum MigrationTaskCheckpointFieldsDescription {
+        TASK_NAME("task_name", DataType.varchar(), false),
+        VERTEX_ID("vertex_id", DataType.varchar(), false),
+        TIMESTAMP("timestamp", DataType.timestamp(), false);
+
+        private String fieldName;
+        private boolean isIndexed;
+        private DataType fieldType;
+
+        MigrationTaskCheckpointFieldsDescription(String fieldName, DataType dataType, boolean indexed) {
+            this.fieldName = fieldName;
+            this.fieldType = dataType;
+            this.isIndexed = indexed;
+        }
+
+        public String getFieldName() {
+            return fieldName;
+        }
+
+        public boolean isIndexed() {
+            return isIndexed;
+        }
+
+        public DataType getFieldType() {
+            return fieldType;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.dao.cassandra.schema.tables;
+
+import com.datastax.driver.core.DataType;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.openecomp.sdc.be.dao.cassandra.schema.ITableDescription;
+import org.openecomp.sdc.be.resources.data.auditing.AuditingTypesConstants;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.openecomp.sdc.be.dao.cassandra.schema.tables.PendingDistributionNotificationTableDescription.PendingDistributionNotificationFieldsDescription.NOTIFICATION_ID;
+
+public class PendingDistributionNotificationTableDescription implements ITableDescription {
+
+    public static final String PENDING_DISTRIBUTION_NOTIFICATION_TABLE = "pendingdistributionnotification";
+
+    @Override
+    public List<ImmutablePair<String, DataType>> primaryKeys() {
+        return Collections.singletonList(ImmutablePair.of(NOTIFICATION_ID.getFieldName(), NOTIFICATION_ID.getFieldType()));
+    }
+
+    @Override
+    public List<ImmutablePair<String, DataType>> clusteringKeys() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public Map<String, ImmutablePair<DataType, Boolean>> getColumnDescription() {
+        Map<String, ImmutablePair<DataType, Boolean>> columns = new HashMap<>();
+        Arrays.stream(PendingDistributionNotificationFieldsDescription.values())
+                .filter(column -> !column.equals(NOTIFICATION_ID))
+                .forEach(column -> columns.put(column.getFieldName(), ImmutablePair.of(column.getFieldType(), column.isIndexed())));
+        return columns;
+    }
+
+    @Override
+    public String getKeyspace() {
+        return AuditingTypesConstants.REPO_KEYSPACE;
+    }
+
+    @Override
+    public String getTableName() {
+        return PENDING_DISTRIBUTION_NOTIFICATION_TABLE;
+    }
+
+    public enum PendingDistributionNotificationFieldsDescription {
+        NOTIFICATION_ID("notification_id", DataType.varchar(), false),
+        TOPIC_NAME("topic_name", DataType.varchar(), false),
+        DISTRIBUTION_ID("distribution_id", DataType.varchar(), false),
+        ENVIRONMENT_ID("environment_id", DataType.varchar(), false),
+        SERVICE_ID("service_id", DataType.varchar(), false),
+        MODIFIER_ID("modifier_id", DataType.varchar(), false),
+        MODIFIER_FIRST_NAME("modifier_first_name", DataType.varchar(), false),
+        MODIFIER_LAST_NAME("modifier_last_name", DataType.varchar(), false),
+        LANE("lane", DataType.varchar(), false),
+        NOTIFICATION_DATA("notification_data", DataType.varchar(), false),
+        ATTEMPT("attempt", DataType.cint(), false),
+        DISPATCH_TIME("dispatch_time", DataType.timestamp(), false),
+        UPDATE_DISTRIBUTION_STATUS("update_distribution_status", DataType.cboolean(), false),
+        OWNER("owner", DataType.varchar(), false),
+        LAST_UPDATE("last_update", DataType.timestamp(), false);
+
+        private String fieldName;
+        private boolean isIndexed;
+        private DataType fieldType;
+
+        PendingDistributionNotificationFieldsDescription(String fieldName, DataType dataType, boolean indexed) {
+            this.fieldName = fieldName;
+            this.fieldType = dataType;
+            this.isIndexed = indexed;
+        }
+
+        public String getFieldName() {
+            return fieldName;
+        }
+
+        public boolean isIndexed() {
+            return isIndexed;
+        }
+
+        public DataType getFieldType() {
+            return fieldType;
+        }
+    }
+}
@@ -21,6 +21,7 @@
 package org.openecomp.sdc.be.dao.impl;
 
 import fj.data.Either;
+import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
@@ -93,6 +94,12 @@ public class AuditingDao extends ESTimeBasedDao {
 		return write(type, auditEvent);
 	}
 
+	public ActionStatus addRecords(List<ImmutablePair<String, ESTimeBasedEvent>> typedEvents) {
+
+		log.debug("Auditing: Persisting bulk of {} objects", typedEvents.size());
+		return writeAll(typedEvents);
+	}
+
 	public Either<List<ESTimeBasedEvent>, ActionStatus> getListOfDistributionStatuses(String did) {
 
 		QueryBuilder componentNameMatch = QueryBuilders.matchQuery(DISTRIBUTION_ID_FIELD, did);
@@ -23,7 +23,10 @@ package org.openecomp.sdc.be.dao.impl;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import org.codehaus.jettison.json.JSONException;
+import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.codehaus.jettison.json.JSONObject;
+import org.elasticsearch.action.bulk.BulkRequestBuilder;
+import org.elasticsearch.action.bulk.BulkResponse;
 import org.elasticsearch.action.index.IndexResponse;
 import org.elasticsearch.action.search.SearchRequestBuilder;
 import org.elasticsearch.action.search.SearchResponse;
@@ -74,18 +77,10 @@ public abstract class ESTimeBasedDao {
 
 	public ActionStatus write(String typeName, ESTimeBasedEvent data) {
 
-		String indexPrefix = getIndexPrefix();
-		String indexSuffix = getIndexSuffix(indexPrefix, data);
-		StringBuilder sb = new StringBuilder();
-		sb.append(indexPrefix);
-		if (indexSuffix != null) {
-			sb.append("-").append(indexSuffix);
-		}
-
 		ActionStatus res = ActionStatus.OK;
 		JSONObject json = new JSONObject(data.getFields());
 		try {
-			IndexResponse actionGet = esClient.getClient().prepareIndex(sb.toString(), typeName)
+			IndexResponse actionGet = esClient.getClient().prepareIndex(getIndexName(data), typeName)
 					.setSource(json.toString()).setRefresh(true).execute().actionGet(TimeValue.timeValueSeconds(15));
 
 			if (actionGet.isCreated()) {
@@ -102,8 +97,40 @@ public abstract class ESTimeBasedDao {
 		return res;
 	}
 
-	public ActionStatus write(ESTimeBasedEvent data) {
+	/**
+	 * Indexes all the events in a single bulk request.
+	 *
+	 * @param typedEvents pairs of type name and event
+	 * @return
+	 */
+	public ActionStatus writeAll(List<ImmutablePair<String, ESTimeBasedEvent>> typedEvents) {
+
+		ActionStatus res = ActionStatus.OK;
+		try {
+			BulkRequestBuilder bulkRequest = esClient.getClient().prepareBulk().setRefresh(true);
+			for (ImmutablePair<String, ESTimeBasedEvent> typedEvent : typedEvents) {
+				ESTimeBasedEvent data = typedEvent.getRight();
+				JSONObject json = new JSONObject(data.getFields());
+				bulkRequest.add(esClient.getClient().prepareIndex(getIndexName(data), typedEvent.getLeft())
+						.setSource(json.toString()));
+			}
+			BulkResponse bulkResponse = bulkRequest.execute().actionGet(TimeValue.timeValueSeconds(15));
 
+			if (bulkResponse.hasFailures()) {
+				log.error("Bulk of {} records couldn't be fully created {}", typedEvents.size(),
+						bulkResponse.buildFailureMessage());
+				res = ActionStatus.GENERAL_ERROR;
+			} else {
+				log.debug("Created {} records", typedEvents.size());
+			}
+		} catch (Exception e) {
+			log.error("Couldn't write bulk of {} records", typedEvents.size(), e);
+			res = ActionStatus.GENERAL_ERROR;
+		}
+		return res;
+	}
+
+	private String getIndexName(ESTimeBasedEvent data) {
 		String indexPrefix = getIndexPrefix();
 		String indexSuffix = getIndexSuffix(indexPrefix, data);
 		StringBuilder sb = new StringBuilder();
@@ -111,12 +138,16 @@ public abstract class ESTimeBasedDao {
 		if (indexSuffix != null) {
 			sb.append("-").append(indexSuffix);
 		}
+		return sb.toString();
+	}
+
+	public ActionStatus write(ESTimeBasedEvent data) {
 
 		String typeName = data.getClass().getSimpleName().toLowerCase();
 		ActionStatus res = ActionStatus.OK;
 		String json = gson.toJson(data);
 		try {
-			IndexResponse actionGet = esClient.getClient().prepareIndex(sb.toString(), typeName).setSource(json)
+			IndexResponse actionGet = esClient.getClient().prepareIndex(getIndexName(data), typeName).setSource(json)
 					.setRefresh(true).execute().actionGet(TimeValue.timeValueSeconds(15));
 
 			if (actionGet.isCreated()) {
@@ -44,6 +44,7 @@ import org.springframework.stereotype.Component;
 import javax.annotation.PostConstruct;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.concurrent.*;
 
 
@@ -97,6 +98,8 @@ public class JanusGraphClient {
 
 	private JanusGraph graph;
 
+	private final List<JanusGraphTransactionListener> transactionListeners = new CopyOnWriteArrayList<>();
+
 	// Health Check Variables
 
 	/**
@@ -270,10 +273,12 @@ public class JanusGraphClient {
 		if (graph != null) {
 			try {
 				graph.tx().commit();
-				return JanusGraphOperationStatus.OK;
 			} catch (Exception e) {
+				notifyTransactionListeners(false);
 				return handleJanusGraphException(e);
 			}
+			notifyTransactionListeners(true);
+			return JanusGraphOperationStatus.OK;
 		} else {
 			return JanusGraphOperationStatus.NOT_CREATED;
 		}
@@ -287,12 +292,32 @@ public class JanusGraphClient {
 				return JanusGraphOperationStatus.OK;
 			} catch (Exception e) {
 				return handleJanusGraphException(e);
+			} finally {
+				notifyTransactionListeners(false);
 			}
 		} else {
 			return JanusGraphOperationStatus.NOT_CREATED;
 		}
 	}
 
+	public void addTransactionListener(JanusGraphTransactionListener listener) {
+		transactionListeners.add(listener);
+	}
+
+	private void notifyTransactionListeners(boolean committed) {
+		for (JanusGraphTransactionListener listener : transactionListeners) {
+			try {
+				if (committed) {
+					listener.afterCommit();
+				} else {
+					listener.afterRollback();
+				}
+			} catch (Exception e) {
+				logger.debug("transaction listener {} failed", listener, e);
+			}
+		}
+	}
+
 	public static JanusGraphOperationStatus handleJanusGraphException(Exception e) {
 		if (e instanceof JanusGraphConfigurationException) {
 			return JanusGraphOperationStatus.JANUSGRAPH_CONFIGURATION;
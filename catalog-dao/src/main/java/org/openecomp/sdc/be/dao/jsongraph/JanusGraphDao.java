@@ -21,6 +21,7 @@
 package org.openecomp.sdc.be.dao.jsongraph;
 
 import org.janusgraph.core.*;
+import org.janusgraph.core.attribute.Contain;
 import fj.data.Either;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -28,6 +29,7 @@ import org.apache.tinkerpop.gremlin.structure.*;
 import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
 import org.openecomp.sdc.be.dao.janusgraph.JanusGraphClient;
 import org.openecomp.sdc.be.dao.janusgraph.JanusGraphOperationStatus;
+import org.openecomp.sdc.be.dao.janusgraph.JanusGraphTransactionListener;
 import org.openecomp.sdc.be.dao.jsongraph.types.EdgeLabelEnum;
 import org.openecomp.sdc.be.dao.jsongraph.types.EdgePropertyEnum;
 import org.openecomp.sdc.be.dao.jsongraph.types.JsonParseFlagEnum;
@@ -44,11 +46,14 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import java.io.IOException;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.stream.Collectors;
 
 import static org.apache.commons.collections.CollectionUtils.isEmpty;
 
 
 public class JanusGraphDao {
+    private static final int MULTI_GET_BATCH_SIZE = 100;
+
     JanusGraphClient janusGraphClient;
 
     private static Logger logger = Logger.getLogger(JanusGraphDao.class.getName());
@@ -68,6 +73,13 @@ public class JanusGraphDao {
         return janusGraphClient.rollback();
     }
 
+    /**
+     * Registers a callback that runs after every commit and rollback done through the graph client.
+     */
+    public void addTransactionListener(JanusGraphTransactionListener listener) {
+        janusGraphClient.addTransactionListener(listener);
+    }
+
     public Either<JanusGraph, JanusGraphOperationStatus> getGraph() {
         return janusGraphClient.getGraph();
     }
@@ -618,6 +630,56 @@ public class JanusGraphDao {
         return Either.left(childrenVertecies.left().value().get(0));
     }
 
+    /**
+     * Gets the vertices of the given unique ids in batched index lookups, prefetching the properties of each batch
+     * in a single backend multi-query.
+     *
+     * @param ids the unique ids of the vertices
+     * @param parseFlag how to parse the json properties of the vertices
+     * @return the found vertices by unique id, ids which don't exist in the graph are left out
+     */
+    public Either<Map<String, GraphVertex>, JanusGraphOperationStatus> getVerticesByUniqueIds(Collection<String> ids, JsonParseFlagEnum parseFlag) {
+        Either<JanusGraph, JanusGraphOperationStatus> graph = janusGraphClient.getGraph();
+        if (graph.isRight()) {
+            logger.debug("Failed to get vertices {}. error : {}", ids, graph.right().value());
+            return Either.right(graph.right().value());
+        }
+        Map<String, GraphVertex> vertices = new HashMap<>();
+        List<String> distinctIds = ids.stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+        try {
+            JanusGraph tGraph = graph.left().value();
+            for (int from = 0; from < distinctIds.size(); from += MULTI_GET_BATCH_SIZE) {
+                List<String> batch = distinctIds.subList(from, Math.min(from + MULTI_GET_BATCH_SIZE, distinctIds.size()));
+                @SuppressWarnings("unchecked")
+                Iterable<JanusGraphVertex> batchVertices = tGraph.query().has(GraphPropertyEnum.UNIQUE_ID.getProperty(), Contain.IN, batch).vertices();
+                List<JanusGraphVertex> found = new ArrayList<>(batch.size());
+                batchVertices.forEach(found::add);
+                prefetchProperties(tGraph, found);
+                for (JanusGraphVertex vertex : found) {
+                    GraphVertex graphVertex = createAndFill(vertex, parseFlag);
+                    vertices.put(graphVertex.getUniqueId(), graphVertex);
+                }
+            }
+        } catch (Exception e) {
+            logger.debug("Failed to get vertices {}", ids, e);
+            return Either.right(JanusGraphClient.handleJanusGraphException(e));
+        }
+        if (vertices.size() < distinctIds.size() && logger.isDebugEnabled()) {
+            logger.debug("Found {} vertices out of {} requested ids", vertices.size(), distinctIds.size());
+        }
+        return Either.left(vertices);
+    }
+
+    /**
+     * Loads the properties of all the vertices into the transaction cache with one backend query, so filling them
+     * afterwards doesn't make a round-trip per vertex.
+     */
+    private void prefetchProperties(JanusGraph tGraph, List<JanusGraphVertex> vertices) {
+        if (vertices.size() > 1) {
+            tGraph.multiQuery(vertices).properties();
+        }
+    }
+
     /**
      * 
      * @param parentVertex
@@ -689,9 +751,17 @@ public class JanusGraphDao {
         if (adjacentVerticies.isRight()) {
             return Either.right(adjacentVerticies.right().value());
         }
-        adjacentVerticies.left().value().stream().forEach(vertex -> {
-            list.add(createAndFill((JanusGraphVertex) vertex, parseFlag));
-        });
+        List<JanusGraphVertex> vertices = new ArrayList<>();
+        adjacentVerticies.left().value().forEach(vertex -> vertices.add((JanusGraphVertex) vertex));
+        try {
+            Either<JanusGraph, JanusGraphOperationStatus> graph = janusGraphClient.getGraph();
+            if (graph.isLeft()) {
+                prefetchProperties(graph.left().value(), vertices);
+            }
+        } catch (Exception e) {
+            logger.debug("Failed to prefetch the properties of {} vertices", vertices.size(), e);
+        }
+        vertices.forEach(vertex -> list.add(createAndFill(vertex, parseFlag)));
 
         return Either.left(list);
     }
@@ -884,17 +954,18 @@ public class JanusGraphDao {
      */
     public Either<Map<String, GraphVertex>, JanusGraphOperationStatus> getVerticesByUniqueIdAndParseFlag(Map<String, ImmutablePair<GraphPropertyEnum, JsonParseFlagEnum>> verticesToGet) {
 
-        Either<Map<String, GraphVertex>, JanusGraphOperationStatus> result = null;
         Map<String, GraphVertex> vertices = new HashMap<>();
+        Map<JsonParseFlagEnum, List<String>> idsByParseFlag = new EnumMap<>(JsonParseFlagEnum.class);
         JanusGraphOperationStatus titatStatus;
-        Either<GraphVertex, JanusGraphOperationStatus> getVertexRes = null;
+        Either<GraphVertex, JanusGraphOperationStatus> getVertexRes;
         for (Map.Entry<String, ImmutablePair<GraphPropertyEnum, JsonParseFlagEnum>> entry : verticesToGet.entrySet()) {
             if (entry.getValue().getKey() == GraphPropertyEnum.UNIQUE_ID) {
-                getVertexRes = getVertexById(entry.getKey(), entry.getValue().getValue());
-            } else if (entry.getValue().getKey() == GraphPropertyEnum.USERID) {
-                getVertexRes = getVertexByPropertyAndLabel(entry.getValue().getKey(), entry.getKey(), VertexTypeEnum.USER, entry.getValue().getValue());
+                idsByParseFlag.computeIfAbsent(entry.getValue().getValue(), flag -> new ArrayList<>()).add(entry.getKey());
+                continue;
             }
-            if (getVertexRes == null) {
+            if (entry.getValue().getKey() == GraphPropertyEnum.USERID) {
+                getVertexRes = getVertexByPropertyAndLabel(entry.getValue().getKey(), entry.getKey(), VertexTypeEnum.USER, entry.getValue().getValue());
+            } else {
                 titatStatus = JanusGraphOperationStatus.ILLEGAL_ARGUMENT;
                 CommonUtility.addRecordToLog(logger, LogLevelEnum.DEBUG, "Invalid vertex type label {} has been received. ", entry.getValue().getKey(), titatStatus);
                 return Either.right(titatStatus);
@@ -902,16 +973,25 @@ public class JanusGraphDao {
             if (getVertexRes.isRight()) {
                 titatStatus = getVertexRes.right().value();
                 CommonUtility.addRecordToLog(logger, LogLevelEnum.DEBUG, "Failed to get vertex by id {} . Status is {}. ", entry.getKey(), titatStatus);
-                result = Either.right(titatStatus);
-                break;
-            } else {
-                vertices.put(entry.getKey(), getVertexRes.left().value());
+                return Either.right(titatStatus);
             }
+            vertices.put(entry.getKey(), getVertexRes.left().value());
         }
-        if (result == null) {
-            result = Either.left(vertices);
+        for (Map.Entry<JsonParseFlagEnum, List<String>> entry : idsByParseFlag.entrySet()) {
+            Either<Map<String, GraphVertex>, JanusGraphOperationStatus> getVerticesRes = getVerticesByUniqueIds(entry.getValue(), entry.getKey());
+            if (getVerticesRes.isRight()) {
+                return Either.right(getVerticesRes.right().value());
+            }
+            for (String id : entry.getValue()) {
+                GraphVertex vertex = getVerticesRes.left().value().get(id);
+                if (vertex == null) {
+                    CommonUtility.addRecordToLog(logger, LogLevelEnum.DEBUG, "Failed to get vertex by id {} . Status is {}. ", id, JanusGraphOperationStatus.NOT_FOUND);
+                    return Either.right(JanusGraphOperationStatus.NOT_FOUND);
+                }
+                vertices.put(id, vertex);
+            }
         }
-        return result;
+        return Either.left(vertices);
     }
 
     /**
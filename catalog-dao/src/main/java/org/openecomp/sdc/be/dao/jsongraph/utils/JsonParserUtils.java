@@ -23,8 +23,9 @@ package org.openecomp.sdc.be.dao.jsongraph.utils;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.google.common.base.Strings;
 import org.openecomp.sdc.be.datatypes.tosca.ToscaDataDefinition;
@@ -33,10 +34,21 @@ import org.openecomp.sdc.common.log.wrappers.Logger;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Codec of the JSON documents kept on the graph vertices.
+ * The readers and the writer are immutable and thread safe, so they are built once per target type and reused
+ * instead of resolving the Jackson type and deserializers again on every vertex.
+ */
 public class JsonParserUtils {
     private static Logger log = Logger.getLogger(JsonParserUtils.class.getName());
     private static final ObjectMapper mapper = buildObjectMapper();
+    private static final ObjectWriter writer = mapper.writer();
+    private static final ObjectReader mapReader = mapper.readerFor(new TypeReference<Map<String, Object>>() {
+    });
+    private static final Map<Class<?>, ObjectReader> typedMapReaders = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ObjectReader> listReaders = new ConcurrentHashMap<>();
 
     private JsonParserUtils() {
         // No instances allowed
@@ -50,8 +62,7 @@ public class JsonParserUtils {
     }
 
     public static <T> String toJson(T object) throws IOException {
-        return mapper.writer()
-                     .writeValueAsString(object);
+        return writer.writeValueAsString(object);
     }
 
     public static Map<String, Object> toMap(String json) {
@@ -61,10 +72,7 @@ public class JsonParserUtils {
 
         Map<String, Object> object = null;
         try {
-            TypeReference<Map<String, Object>> typeRef = new TypeReference<Map<String, Object>>() {
-            };
-            object = mapper.readerFor(typeRef)
-                           .readValue(json);
+            object = mapReader.readValue(json);
         }
         catch (Exception e) {
             log.debug("Failed to parse json {}", json, e);
@@ -79,10 +87,9 @@ public class JsonParserUtils {
 
         Map<String, T> object = null;
         try {
-            JavaType type = mapper.getTypeFactory()
-                                  .constructMapType(Map.class, String.class, clazz);
-            object = mapper.readerFor(type)
-                           .readValue(json);
+            ObjectReader reader = typedMapReaders.computeIfAbsent(clazz, c -> mapper.readerFor(mapper.getTypeFactory()
+                                  .constructMapType(Map.class, String.class, c)));
+            object = reader.readValue(json);
         }
         catch (Exception e) {
             log.debug("Failed to parse json {} to map", json, e);
@@ -95,11 +102,9 @@ public class JsonParserUtils {
         }
         List<T> object = null;
         try {
-            JavaType type = mapper.getTypeFactory()
-                                  .constructCollectionType(List.class, clazz);
-
-            object = mapper.readerFor(type)
-                    .readValue(json);
+            ObjectReader reader = listReaders.computeIfAbsent(clazz, c -> mapper.readerFor(mapper.getTypeFactory()
+                                  .constructCollectionType(List.class, c)));
+            object = reader.readValue(json);
         }
         catch (Exception e) {
             log.debug("Failed to parse json {} to list", json, e);
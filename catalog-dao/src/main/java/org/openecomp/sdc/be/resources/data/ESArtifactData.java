@@ -47,6 +47,13 @@ public class ESArtifactData {
 	@Column
 	private ByteBuffer data;
 
+	/*
+	 * SHA-256 checksum of the payload when it is kept in the payloads table instead of data
+	 */
+
+	@Column(name = "payload_checksum")
+	private String payloadChecksum;
+
 	// private byte[] data;
 
 	public ESArtifactData() {
@@ -103,4 +110,12 @@ public class ESArtifactData {
 		this.id = id;
 	}
 
+	public String getPayloadChecksum() {
+		return payloadChecksum;
+	}
+
+	public void setPayloadChecksum(String payloadChecksum) {
+		this.payloadChecksum = payloadChecksum;
+	}
+
 }
@@ -0,0 +1,80 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.resources.data;
+
+import com.datastax.driver.mapping.annotations.ClusteringColumn;
+import com.datastax.driver.mapping.annotations.Column;
+import com.datastax.driver.mapping.annotations.PartitionKey;
+import com.datastax.driver.mapping.annotations.Table;
+
+import java.util.Date;
+
+/**
+ * A vertex already migrated by a migration task, kept until the task completes so an interrupted task
+ * resumes after the last committed partition.
+ */
+@Table(keyspace = "sdcrepository", name = "migrationTaskCheckpoints")
+public class MigrationTaskCheckpointEntry {
+
+    @PartitionKey(0)
+    @Column(name = "task_name")
+    private String taskName;
+
+    @ClusteringColumn
+    @Column(name = "vertex_id")
+    private String vertexId;
+
+    @Column(name = "timestamp")
+    private Date timestamp;
+
+    public MigrationTaskCheckpointEntry() {
+    }
+
+    public MigrationTaskCheckpointEntry(String taskName, String vertexId) {
+        this.taskName = taskName;
+        this.vertexId = vertexId;
+        this.timestamp = new Date();
+    }
+
+    public String getTaskName() {
+        return taskName;
+    }
+
+    public void setTaskName(String taskName) {
+        this.taskName = taskName;
+    }
+
+    public String getVertexId() {
+        return vertexId;
+    }
+
+    public void setVertexId(String vertexId) {
+        this.vertexId = vertexId;
+    }
+
+    public Date getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(Date timestamp) {
+        this.timestamp = timestamp;
+    }
+}
@@ -0,0 +1,202 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.resources.data;
+
+import com.datastax.driver.mapping.annotations.Column;
+import com.datastax.driver.mapping.annotations.PartitionKey;
+import com.datastax.driver.mapping.annotations.Table;
+
+import java.util.Date;
+
+/**
+ * A distribution notification which was queued but not yet sent or failed for good. The owner is the host whose
+ * dispatcher holds it. Another host takes the notification over only with a lightweight transaction on the owner and
+ * the last update.
+ */
+@Table(keyspace = "sdcrepository", name = "pendingdistributionnotification")
+public class PendingDistributionNotificationEntry {
+
+    @PartitionKey
+    @Column(name = "notification_id")
+    private String notificationId;
+
+    @Column(name = "topic_name")
+    private String topicName;
+
+    @Column(name = "distribution_id")
+    private String distributionId;
+
+    @Column(name = "environment_id")
+    private String environmentId;
+
+    @Column(name = "service_id")
+    private String serviceId;
+
+    @Column(name = "modifier_id")
+    private String modifierId;
+
+    @Column(name = "modifier_first_name")
+    private String modifierFirstName;
+
+    @Column(name = "modifier_last_name")
+    private String modifierLastName;
+
+    @Column(name = "lane")
+    private String lane;
+
+    @Column(name = "notification_data")
+    private String notificationData;
+
+    @Column(name = "attempt")
+    private Integer attempt;
+
+    @Column(name = "dispatch_time")
+    private Date dispatchTime;
+
+    @Column(name = "update_distribution_status")
+    private Boolean updateDistributionStatus;
+
+    @Column(name = "owner")
+    private String owner;
+
+    @Column(name = "last_update")
+    private Date lastUpdate;
+
+    public String getNotificationId() {
+        return notificationId;
+    }
+
+    public void setNotificationId(String notificationId) {
+        this.notificationId = notificationId;
+    }
+
+    public String getTopicName() {
+        return topicName;
+    }
+
+    public void setTopicName(String topicName) {
+        this.topicName = topicName;
+    }
+
+    public String getDistributionId() {
+        return distributionId;
+    }
+
+    public void setDistributionId(String distributionId) {
+        this.distributionId = distributionId;
+    }
+
+    public String getEnvironmentId() {
+        return environmentId;
+    }
+
+    public void setEnvironmentId(String environmentId) {
+        this.environmentId = environmentId;
+    }
+
+    public String getServiceId() {
+        return serviceId;
+    }
+
+    public void setServiceId(String serviceId) {
+        this.serviceId = serviceId;
+    }
+
+    public String getModifierId() {
+        return modifierId;
+    }
+
+    public void setModifierId(String modifierId) {
+        this.modifierId = modifierId;
+    }
+
+    public String getModifierFirstName() {
+        return modifierFirstName;
+    }
+
+    public void setModifierFirstName(String modifierFirstName) {
+        this.modifierFirstName = modifierFirstName;
+    }
+
+    public String getModifierLastName() {
+        return modifierLastName;
+    }
+
+    public void setModifierLastName(String modifierLastName) {
+        this.modifierLastName = modifierLastName;
+    }
+
+    public String getLane() {
+        return lane;
+    }
+
+    public void setLane(String lane) {
+        this.lane = lane;
+    }
+
+    public String getNotificationData() {
+        return notificationData;
+    }
+
+    public void setNotificationData(String notificationData) {
+        this.notificationData = notificationData;
+    }
+
+    public Integer getAttempt() {
+        return attempt;
+    }
+
+    public void setAttempt(Integer attempt) {
+        this.attempt = attempt;
+    }
+
+    public Date getDispatchTime() {
+        return dispatchTime;
+    }
+
+    public void setDispatchTime(Date dispatchTime) {
+        this.dispatchTime = dispatchTime;
+    }
+
+    public Boolean getUpdateDistributionStatus() {
+        return updateDistributionStatus;
+    }
+
+    public void setUpdateDistributionStatus(Boolean updateDistributionStatus) {
+        this.updateDistributionStatus = updateDistributionStatus;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+    public Date getLastUpdate() {
+        return lastUpdate;
+    }
+
+    public void setLastUpdate(Date lastUpdate) {
+        this.lastUpdate = lastUpdate;
+    }
+}
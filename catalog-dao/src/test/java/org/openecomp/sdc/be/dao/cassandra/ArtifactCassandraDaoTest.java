@@ -20,20 +20,32 @@
 
 package org.openecomp.sdc.be.dao.cassandra;
 
+import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
 import com.datastax.driver.mapping.MappingManager;
 import fj.data.Either;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.openecomp.sdc.be.resources.data.ESArtifactData;
 import org.openecomp.sdc.be.resources.data.auditing.AuditingTypesConstants;
+import org.openecomp.sdc.common.util.GeneralUtility;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 public class ArtifactCassandraDaoTest {
 
@@ -48,6 +60,15 @@ public class ArtifactCassandraDaoTest {
 
 	@Mock
 	private MappingManager mappingManager;
+
+	@Mock
+	private Session session;
+
+	@Mock
+	private PreparedStatement preparedStatement;
+
+	@Mock
+	private ResultSet resultSet;
 	
 	@Before
 	public void setUp() throws Exception {
@@ -142,4 +163,80 @@ public class ArtifactCassandraDaoTest {
 		// default test
 		result = testSubject.getCountOfArtifactById(uniqeId);
 	}
+
+	@Test
+	public void testSaveArtifactWithStoredPayload() throws Exception {
+		initWithSession();
+		byte[] payload = "payload".getBytes();
+		String checksum = GeneralUtility.calculateSHA256HexByByteArray(payload);
+		Mockito.when(resultSet.wasApplied()).thenReturn(true);
+		Mockito.when(client.save(Mockito.any(ESArtifactData.class), Mockito.eq(ESArtifactData.class), Mockito.eq(mappingManager)))
+				.thenReturn(CassandraOperationStatus.OK);
+
+		CassandraOperationStatus result = testSubject.saveArtifact(new ESArtifactData("artifactId", payload));
+
+		assertEquals(CassandraOperationStatus.OK, result);
+		ArgumentCaptor<ESArtifactData> saved = ArgumentCaptor.forClass(ESArtifactData.class);
+		Mockito.verify(client).save(saved.capture(), Mockito.eq(ESArtifactData.class), Mockito.eq(mappingManager));
+		assertEquals(checksum, saved.getValue().getPayloadChecksum());
+		assertNull(saved.getValue().getData());
+		Mockito.verify(preparedStatement).bind(checksum, "artifactId");
+		Mockito.verify(preparedStatement, Mockito.never()).bind(Mockito.eq(checksum), Mockito.any(), Mockito.any(), Mockito.any());
+	}
+
+	@Test
+	public void testGetArtifactWithStoredPayload() throws Exception {
+		initWithSession();
+		byte[] payload = "payload".getBytes();
+		ESArtifactData artifact = new ESArtifactData("artifactId");
+		artifact.setPayloadChecksum(GeneralUtility.calculateSHA256HexByByteArray(payload));
+		Mockito.when(client.getById("artifactId", ESArtifactData.class, mappingManager)).thenReturn(Either.left(artifact));
+		Row row = Mockito.mock(Row.class);
+		Mockito.when(row.getBytes("data")).thenReturn(ByteBuffer.wrap(payload));
+		Mockito.when(resultSet.one()).thenReturn(row);
+
+		Either<ESArtifactData, CassandraOperationStatus> result = testSubject.getArtifact("artifactId");
+
+		assertArrayEquals(payload, result.left().value().getDataAsArray());
+	}
+
+	@Test
+	public void testGetArtifactWithMissingPayload() throws Exception {
+		initWithSession();
+		ESArtifactData artifact = new ESArtifactData("artifactId");
+		artifact.setPayloadChecksum("checksum");
+		Mockito.when(client.getById("artifactId", ESArtifactData.class, mappingManager)).thenReturn(Either.left(artifact));
+
+		Either<ESArtifactData, CassandraOperationStatus> result = testSubject.getArtifact("artifactId");
+
+		assertEquals(CassandraOperationStatus.NOT_FOUND, result.right().value());
+	}
+
+	@Test
+	public void testIsSamePayload() throws Exception {
+		initWithSession();
+		byte[] payload = "payload".getBytes();
+		Row row = Mockito.mock(Row.class);
+		Mockito.when(row.getString("payload_checksum")).thenReturn(GeneralUtility.calculateSHA256HexByByteArray(payload));
+		Mockito.when(resultSet.one()).thenReturn(row);
+
+		assertTrue(testSubject.isSamePayload("artifactId", payload).left().value());
+		assertFalse(testSubject.isSamePayload("artifactId", "other".getBytes()).left().value());
+	}
+
+	@Test
+	public void testCollectUnreferencedPayloadsNotConnected() throws Exception {
+		Either<Integer, CassandraOperationStatus> result = testSubject.collectUnreferencedPayloads(0);
+
+		assertEquals(CassandraOperationStatus.KEYSPACE_NOT_CONNECTED, result.right().value());
+	}
+
+	private void initWithSession() {
+		Mockito.when(client.isConnected()).thenReturn(true);
+		Mockito.when(client.connect(AuditingTypesConstants.ARTIFACT_KEYSPACE)).thenReturn(Either.left(ImmutablePair.of(session, mappingManager)));
+		Mockito.when(mappingManager.createAccessor(ArtifactAccessor.class)).thenReturn(artifactAccessor);
+		Mockito.when(session.prepare(Mockito.anyString())).thenReturn(preparedStatement);
+		Mockito.when(session.execute(Mockito.<Statement>any())).thenReturn(resultSet);
+		testSubject.init();
+	}
 }
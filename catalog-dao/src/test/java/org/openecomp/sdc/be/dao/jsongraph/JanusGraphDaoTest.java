@@ -42,10 +42,15 @@ import org.openecomp.sdc.be.utils.DAOConfDependentTest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
 public class JanusGraphDaoTest extends DAOConfDependentTest{
 	
 	
@@ -74,6 +79,23 @@ public class JanusGraphDaoTest extends DAOConfDependentTest{
 		result = dao.createVertex(graphVertex);
 	}
 	
+	@Test
+	public void testGetVerticesByUniqueIds() throws Exception {
+		for (String id : Arrays.asList("v1", "v2", "v3")) {
+			GraphVertex graphVertex = new GraphVertex(VertexTypeEnum.TOPOLOGY_TEMPLATE);
+			graphVertex.addMetadataProperty(GraphPropertyEnum.UNIQUE_ID, id);
+			dao.createVertex(graphVertex);
+		}
+		dao.commit();
+
+		Either<Map<String, GraphVertex>, JanusGraphOperationStatus> result = dao
+				.getVerticesByUniqueIds(Arrays.asList("v1", "v3", "missing", "v1"), JsonParseFlagEnum.NoParse);
+
+		assertTrue(result.isLeft());
+		assertEquals(new HashSet<>(Arrays.asList("v1", "v3")), result.left().value().keySet());
+		assertEquals(VertexTypeEnum.TOPOLOGY_TEMPLATE, result.left().value().get("v3").getLabel());
+	}
+
 	@Test
 	public void testGetVertexByLabel() throws Exception {
 		Either<GraphVertex, JanusGraphOperationStatus> result;
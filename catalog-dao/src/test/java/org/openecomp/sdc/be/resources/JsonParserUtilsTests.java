@@ -31,9 +31,13 @@ import org.openecomp.sdc.be.datatypes.elements.ListCapabilityDataDefinition;
 import org.openecomp.sdc.be.datatypes.tosca.ToscaDataDefinition;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -83,6 +87,40 @@ public class JsonParserUtilsTests {
 		
 	}
 
+	@Test
+	public void testTypedMapRoundTrip() throws IOException {
+		String json = JsonParserUtils.toJson(buildMap());
+		for (int i = 0; i < 2; i++) {
+			Map<String, ListCapabilityDataDefinition> actual = JsonParserUtils.toMap(json,
+					ListCapabilityDataDefinition.class);
+			assertThat(actual).isEqualToComparingFieldByFieldRecursively(buildMap());
+		}
+	}
+
+	@Test
+	public void testListAndMetadataMap() {
+		assertThat(JsonParserUtils.toList("[\"a\",\"b\"]", String.class)).containsExactly("a", "b");
+		assertThat(JsonParserUtils.toMap("{\"name\":\"vf\",\"version\":1}")).containsEntry("name", "vf")
+				.containsEntry("version", 1);
+	}
+
+	@Test
+	public void testTypedMapConcurrentReads() throws Exception {
+		String json = JsonParserUtils.toJson(buildMap());
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Map<String, ListCapabilityDataDefinition>>> results = new ArrayList<>();
+			for (int i = 0; i < 32; i++) {
+				results.add(executor.submit(() -> JsonParserUtils.toMap(json, ListCapabilityDataDefinition.class)));
+			}
+			for (Future<Map<String, ListCapabilityDataDefinition>> result : results) {
+				assertThat(result.get()).isEqualToComparingFieldByFieldRecursively(buildMap());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
 	private Map<String, ListCapabilityDataDefinition> buildMap() {
 		Map<String, ListCapabilityDataDefinition> map = new HashMap<>();
 		map.put("org.openecomp.capabilities.Forwarder", buildListCapabilityDataDefinition());
@@ -470,6 +470,24 @@ public class ComponentParametersView {
         this.ignoreDataType = ignoreDataType;
     }
 
+    /**
+     * @return a key that is equal for views filtering the same parts of a component
+     */
+    public String fingerprint() {
+        boolean[] flags = {ignoreUsers, ignoreGroups, ignoreComponentInstances, ignoreComponentInstancesProperties,
+                ignoreProperties, ignoreCapabilities, ignoreRequirements, ignoreCategories, ignoreAllVersions,
+                ignoreAdditionalInformation, ignoreArtifacts, ignoreInterfaces, ignoreInterfaceInstances,
+                ignoreComponentInstancesInterfaces, ignoreDerivedFrom, ignoreAttributesFrom,
+                ignoreComponentInstancesAttributesFrom, ignoreInputs, ignoreComponentInstancesInputs,
+                ignoreCapabiltyProperties, ignoreServicePath, ignorePolicies, ignoreNodeFilterRequirements,
+                ignoreNodeFilter, ignoreDataType};
+        char[] fingerprint = new char[flags.length];
+        for (int i = 0; i < flags.length; i++) {
+            fingerprint[i] = flags[i] ? '1' : '0';
+        }
+        return new String(fingerprint);
+    }
+
     public JsonParseFlagEnum detectParseFlag() {
         JsonParseFlagEnum parseFlag;
         if (isIgnoreComponentInstances()) {
@@ -39,28 +39,40 @@ import org.springframework.stereotype.Component;
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import javax.annotation.Resource;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
+/**
+ * Keeps the data types of the graph in an immutable snapshot, so reads never wait for a refresh.
+ * <p>
+ * The polling task compares the creation and modification times of the data type nodes with the snapshot and
+ * reloads only the data types which were added, changed or removed, together with the data types derived from them.
+ * The reloaded data types are published as a new snapshot. Callers which change data types can ask for an immediate
+ * refresh with {@link #onDataTypesChanged(Collection)}. All refreshes run on the single polling thread.
+ */
 @Component("application-datatype-cache")
-public class ApplicationDataTypeCache implements ApplicationCache<DataTypeDefinition>, Runnable {
+public class ApplicationDataTypeCache implements ApplicationCache<DataTypeDefinition>, Runnable,
+        ApplicationDataTypeCacheMBean {
 
     private static final String APPLICATION_DATA_TYPES_CACHE = "ApplicationDataTypesCache";
-	private final ReentrantReadWriteLock rwl = new ReentrantReadWriteLock();
-    private final Lock r = rwl.readLock();
-    private final Lock w = rwl.writeLock();
+    private static final String MBEAN_NAME = "org.openecomp.sdc.be.model:type=ApplicationDataTypeCache";
 
-    private Map<String, DataTypeDefinition> data = new HashMap<>();
+    private volatile DataTypesSnapshot snapshot = new DataTypesSnapshot(Collections.emptyMap(), 0);
 
     private ScheduledExecutorService scheduledPollingService = Executors.newScheduledThreadPool(1,
             new BasicThreadFactory.Builder().namingPattern("ApplicationDataTypeCacheThread-%d").build());
@@ -71,11 +83,16 @@ public class ApplicationDataTypeCache implements ApplicationCache<DataTypeDefini
     private int firstRunDelayInSec = 30;
     private int pollingIntervalInSec = 60;
 
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private volatile long lastRefreshDurationInMs = -1;
+
     @Resource
     private PropertyOperation propertyOperation;
 
     @PostConstruct
     public void init() {
+        registerMBean();
 
         ApplicationL1CacheConfig applicationL1CacheConfig = ConfigurationManager.getConfigurationManager()
                 .getConfiguration().getApplicationL1Cache();
@@ -113,6 +130,7 @@ public class ApplicationDataTypeCache implements ApplicationCache<DataTypeDefini
 
     @PreDestroy
     void destroy() {
+        unregisterMBean();
 
         if (scheduledFuture != null) {
             boolean result = scheduledFuture.cancel(true);
@@ -146,6 +164,29 @@ public class ApplicationDataTypeCache implements ApplicationCache<DataTypeDefini
         }
     }
 
+    private void registerMBean() {
+        try {
+            ObjectName name = new ObjectName(MBEAN_NAME);
+            if (ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+            }
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+        } catch (Exception e) {
+            log.debug("Failed to register data types cache metrics", e);
+        }
+    }
+
+    private void unregisterMBean() {
+        try {
+            ObjectName name = new ObjectName(MBEAN_NAME);
+            if (ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+            }
+        } catch (Exception e) {
+            log.debug("Failed to unregister data types cache metrics", e);
+        }
+    }
+
     private Either<Map<String, DataTypeDefinition>, JanusGraphOperationStatus> getAllDataTypesFromGraph() {
 
         return propertyOperation
@@ -156,47 +197,82 @@ public class ApplicationDataTypeCache implements ApplicationCache<DataTypeDefini
     @Override
     public Either<Map<String, DataTypeDefinition>, JanusGraphOperationStatus> getAll() {
 
-        try {
+        DataTypesSnapshot current = snapshot;
+        if (current.dataTypes.isEmpty()) {
+            misses.incrementAndGet();
+            return getAllDataTypesFromGraph();
+        }
 
-            r.lock();
-            if (data == null || data.isEmpty()) {
-                return getAllDataTypesFromGraph();
-            }
+        hits.incrementAndGet();
+        // callers add their private data types to the returned map
+        return Either.left(new HashMap<>(current.dataTypes));
+    }
 
-            return Either.left(data);
+    @Override
+    public Either<DataTypeDefinition, JanusGraphOperationStatus> get(String uniqueId) {
 
-        } finally {
-            r.unlock();
+        DataTypeDefinition dataTypeDefinition = snapshot.dataTypesByUid.get(uniqueId);
+        if (dataTypeDefinition == null) {
+            misses.incrementAndGet();
+            return propertyOperation
+                    .getDataTypeByUid(uniqueId);
+        }
+
+        hits.incrementAndGet();
+        return Either.left(dataTypeDefinition);
+    }
+
+    /**
+     * Refreshes the given data types and the data types derived from them, without waiting for the next polling.
+     * The refresh runs asynchronously, after the caller committed its changes.
+     */
+    public void onDataTypesChanged(Collection<String> dataTypeNames) {
+        if (scheduledFuture == null || dataTypeNames == null || dataTypeNames.isEmpty()) {
+            return;
+        }
+        Set<String> changedDataTypeNames = new HashSet<>(dataTypeNames);
+        log.debug("Data types {} were changed, refreshing the data types cache", changedDataTypeNames);
+        try {
+            scheduledPollingService.execute(() -> refresh(changedDataTypeNames));
+        } catch (RejectedExecutionException e) {
+            log.debug("ApplicationDataTypesCache is shut down, ignoring the change of data types {}", changedDataTypeNames);
         }
     }
 
     @Override
-    public Either<DataTypeDefinition, JanusGraphOperationStatus> get(String uniqueId) {
+    public long getHits() {
+        return hits.get();
+    }
 
-        try {
-            r.lock();
+    @Override
+    public long getMisses() {
+        return misses.get();
+    }
 
-            if (data == null || data.isEmpty()) {
-                return propertyOperation
-                        .getDataTypeByUid(uniqueId);
-            } else {
-                DataTypeDefinition dataTypeDefinition = data.values().stream()
-                        .filter(p -> p.getUniqueId().equals(uniqueId)).findFirst().orElse(null);
-                if (dataTypeDefinition == null) {
-                    return propertyOperation
-                            .getDataTypeByUid(uniqueId);
-                } else {
-                    return Either.left(dataTypeDefinition);
-                }
-            }
-        } finally {
-            r.unlock();
-        }
+    /**
+     * @return the duration of the last refresh which found changed data types, -1 if there was none yet
+     */
+    @Override
+    public long getLastRefreshDurationInMs() {
+        return lastRefreshDurationInMs;
+    }
+
+    /**
+     * @return the time since the data types were last compared with the graph, -1 if they never were
+     */
+    @Override
+    public long getStalenessInMs() {
+        long syncTime = snapshot.syncTime;
+        return syncTime == 0 ? -1 : System.currentTimeMillis() - syncTime;
     }
 
     @Override
     public void run() {
         log.trace("run() method. polling db to fetch data types");
+        refresh(Collections.emptySet());
+    }
+
+    private void refresh(Set<String> changedDataTypeNames) {
 
         try {
 
@@ -217,28 +293,20 @@ public class ApplicationDataTypeCache implements ApplicationCache<DataTypeDefini
                 List<DataTypeData> list = allDataTypeNodes.left().value();
                 if (list != null) {
 
-                    Map<String, ImmutablePair<Long, Long>> dataTypeNameToModificationTime = list.stream()
-                            .collect(Collectors.toMap(p -> p.getDataTypeDataDefinition().getName(),
-                                    p -> new ImmutablePair<>(p.getDataTypeDataDefinition().getCreationTime(),
-                                            p.getDataTypeDataDefinition().getModificationTime())));
-
-                    Map<String, ImmutablePair<Long, Long>> currentDataTypeToModificationTime = new HashMap<>();
-                    try {
-                        r.lock();
-                        if (data != null) {
-                            currentDataTypeToModificationTime = data.values().stream().collect(Collectors.toMap(
-                                    DataTypeDataDefinition::getName,
-                                    p -> new ImmutablePair<>(p.getCreationTime(), p.getModificationTime())));
-
-                        }
-                    } finally {
-                        r.unlock();
-                    }
+                    Map<String, DataTypeDataDefinition> dataTypeNodes = list.stream()
+                            .map(DataTypeData::getDataTypeDataDefinition)
+                            .collect(Collectors.toMap(DataTypeDataDefinition::getName, p -> p, (p1, p2) -> p1));
 
-                    boolean isChanged = compareDataTypes(dataTypeNameToModificationTime,
-                            currentDataTypeToModificationTime);
-                    if (isChanged) {
+                    DataTypesSnapshot current = snapshot;
+                    Set<String> changedNames = findChangedDataTypes(toModificationTimes(dataTypeNodes.values()),
+                            toModificationTimes(current.dataTypes.values()));
+                    changedNames.addAll(changedDataTypeNames);
+                    if (current.dataTypes.isEmpty() && !changedNames.isEmpty()) {
                         replaceAllData();
+                    } else if (!changedNames.isEmpty()) {
+                        refreshDataTypes(current, dataTypeNodes, changedNames, start);
+                    } else {
+                        snapshot = new DataTypesSnapshot(current.dataTypes, start);
                     }
 
                 }
@@ -259,48 +327,134 @@ public class ApplicationDataTypeCache implements ApplicationCache<DataTypeDefini
 
     }
 
-    private boolean compareDataTypes(Map<String, ImmutablePair<Long, Long>> dataTypeNameToModificationTime,
+    private static Map<String, ImmutablePair<Long, Long>> toModificationTimes(
+            Collection<? extends DataTypeDataDefinition> dataTypes) {
+        return dataTypes.stream().collect(Collectors.toMap(DataTypeDataDefinition::getName,
+                p -> new ImmutablePair<>(p.getCreationTime(), p.getModificationTime()), (p1, p2) -> p1));
+    }
+
+    /**
+     * @return the names of the data types which were added to the graph, removed from it or updated in it
+     */
+    private Set<String> findChangedDataTypes(Map<String, ImmutablePair<Long, Long>> dataTypeNameToModificationTime,
             Map<String, ImmutablePair<Long, Long>> currentDataTypeToModificationTime) {
-        if (dataTypeNameToModificationTime.size() != currentDataTypeToModificationTime.size()) {
-            return true;
-        } else {
 
-            Set<String> currentkeySet = currentDataTypeToModificationTime.keySet();
-            Set<String> keySet = dataTypeNameToModificationTime.keySet();
-
-            if (currentkeySet.containsAll(keySet)) {
-
-                for (Entry<String, ImmutablePair<Long, Long>> entry : dataTypeNameToModificationTime.entrySet()) {
-                    String dataTypeName = entry.getKey();
-                    ImmutablePair<Long, Long> creationAndModificationTimes = entry.getValue();
-                    long creationTime = creationAndModificationTimes.getLeft() == null ? 0
-                            : creationAndModificationTimes.getLeft().longValue();
-                    long modificationTime = creationAndModificationTimes.getRight() == null ? 0
-                            : creationAndModificationTimes.getRight().longValue();
-
-                    ImmutablePair<Long, Long> currentEntry = currentDataTypeToModificationTime.get(dataTypeName);
-                    long currentCreationTime = currentEntry.getLeft() == null ? 0 : currentEntry.getLeft().longValue();
-                    long currentModificationTime = currentEntry.getRight() == null ? 0
-                            : currentEntry.getRight().longValue();
-
-                    if (creationTime > currentCreationTime || modificationTime > currentModificationTime) {
-                        log.debug("Datatype {} was updated. Creation Time  {} vs {}. Modification Time {} vs {}",
-                                dataTypeName, currentCreationTime, creationTime, currentModificationTime,
-                                modificationTime);
-                        return true;
-                    }
-                }
-            } else {
-                return true;
+        Set<String> changedNames = new HashSet<>(currentDataTypeToModificationTime.keySet());
+        changedNames.removeAll(dataTypeNameToModificationTime.keySet());
+
+        for (Entry<String, ImmutablePair<Long, Long>> entry : dataTypeNameToModificationTime.entrySet()) {
+            String dataTypeName = entry.getKey();
+            ImmutablePair<Long, Long> currentEntry = currentDataTypeToModificationTime.get(dataTypeName);
+            if (currentEntry == null) {
+                changedNames.add(dataTypeName);
+                continue;
+            }
+            ImmutablePair<Long, Long> creationAndModificationTimes = entry.getValue();
+            long creationTime = creationAndModificationTimes.getLeft() == null ? 0
+                    : creationAndModificationTimes.getLeft().longValue();
+            long modificationTime = creationAndModificationTimes.getRight() == null ? 0
+                    : creationAndModificationTimes.getRight().longValue();
+
+            long currentCreationTime = currentEntry.getLeft() == null ? 0 : currentEntry.getLeft().longValue();
+            long currentModificationTime = currentEntry.getRight() == null ? 0
+                    : currentEntry.getRight().longValue();
+
+            if (creationTime > currentCreationTime || modificationTime > currentModificationTime) {
+                log.debug("Datatype {} was updated. Creation Time  {} vs {}. Modification Time {} vs {}",
+                        dataTypeName, currentCreationTime, creationTime, currentModificationTime,
+                        modificationTime);
+                changedNames.add(dataTypeName);
             }
+        }
+
+        return changedNames;
+    }
 
+    /**
+     * Publishes a snapshot in which the changed data types and all the data types derived from them are reloaded,
+     * and the other data types are shared with the current snapshot.
+     */
+    private void refreshDataTypes(DataTypesSnapshot current, Map<String, DataTypeDataDefinition> dataTypeNodes,
+            Set<String> changedNames, long syncTime) {
+
+        Set<String> namesToReload = current.dataTypes.keySet().stream()
+                .filter(name -> isDerivedFromAny(current.dataTypes.get(name), changedNames))
+                .collect(Collectors.toSet());
+        namesToReload.addAll(changedNames);
+        log.debug("Refreshing data types {} in the data types cache", namesToReload);
+
+        Map<String, DataTypeDefinition> dataTypes = new HashMap<>(current.dataTypes);
+        dataTypes.keySet().removeAll(namesToReload);
+        for (String name : namesToReload) {
+            if (dataTypeNodes.containsKey(name)
+                    && loadDataType(name, dataTypeNodes, namesToReload, dataTypes) == null) {
+                replaceAllData();
+                return;
+            }
         }
 
+        lastRefreshDurationInMs = System.currentTimeMillis() - syncTime;
+        snapshot = new DataTypesSnapshot(dataTypes, syncTime);
+        BeEcompErrorManager.getInstance().logInternalFlowError("RefreshDataTypesCache",
+                "Succeed to refresh " + namesToReload.size() + " data types in the data types cache", ErrorSeverity.INFO);
+    }
+
+    private static boolean isDerivedFromAny(DataTypeDefinition dataType, Set<String> names) {
+        Set<String> visited = new HashSet<>();
+        for (DataTypeDefinition parent = dataType.getDerivedFrom(); parent != null && visited.add(parent.getName());
+                parent = parent.getDerivedFrom()) {
+            if (names.contains(parent.getName())) {
+                return true;
+            }
+        }
         return false;
     }
 
+    /**
+     * Loads the data type into the data types map, after its parent, so they share the parent instance.
+     *
+     * @return the loaded data type, null if it failed to load
+     */
+    private DataTypeDefinition loadDataType(String name, Map<String, DataTypeDataDefinition> dataTypeNodes,
+            Set<String> namesToReload, Map<String, DataTypeDefinition> dataTypes) {
+
+        DataTypeDefinition dataType = dataTypes.get(name);
+        if (dataType != null) {
+            return dataType;
+        }
+        DataTypeDataDefinition dataTypeNode = dataTypeNodes.get(name);
+        String parentName = dataTypeNode.getDerivedFromName();
+        if (parentName == null || !dataTypeNodes.containsKey(parentName)) {
+            // the parent isn't a data type node of the graph, load the data type with its whole hierarchy
+            Either<DataTypeDefinition, JanusGraphOperationStatus> dataTypeByUid = propertyOperation
+                    .getDataTypeByUid(dataTypeNode.getUniqueId());
+            return putLoadedDataType(name, dataTypeByUid, dataTypes);
+        }
+        DataTypeDefinition parent = loadDataType(parentName, dataTypeNodes, namesToReload, dataTypes);
+        if (parent == null) {
+            return null;
+        }
+        Either<DataTypeDefinition, JanusGraphOperationStatus> dataTypeByUid = propertyOperation
+                .getDataTypeByUidWithoutDerivedDataTypes(dataTypeNode.getUniqueId());
+        if (dataTypeByUid.isLeft()) {
+            dataTypeByUid.left().value().setDerivedFrom(parent);
+        }
+        return putLoadedDataType(name, dataTypeByUid, dataTypes);
+    }
+
+    private static DataTypeDefinition putLoadedDataType(String name,
+            Either<DataTypeDefinition, JanusGraphOperationStatus> dataTypeByUid, Map<String, DataTypeDefinition> dataTypes) {
+        if (dataTypeByUid.isRight()) {
+            log.debug("Failed to fetch data type {} from db. Status is {}", name, dataTypeByUid.right().value());
+            return null;
+        }
+        dataTypes.put(name, dataTypeByUid.left().value());
+        return dataTypeByUid.left().value();
+    }
+
     private void replaceAllData() {
 
+        long start = System.currentTimeMillis();
         Either<Map<String, DataTypeDefinition>, JanusGraphOperationStatus> allDataTypes = propertyOperation
                 .getAllDataTypes();
 
@@ -309,20 +463,32 @@ public class ApplicationDataTypeCache implements ApplicationCache<DataTypeDefini
             log.debug("Failed to fetch all data types from db. Status is {}", status);
         } else {
 
-            try {
-                w.lock();
+            lastRefreshDurationInMs = System.currentTimeMillis() - start;
+            snapshot = new DataTypesSnapshot(allDataTypes.left().value(), start);
 
-                data = allDataTypes.left().value();
+            BeEcompErrorManager.getInstance().logInternalFlowError("ReplaceDataTypesCache",
+                    "Succeed to replace the data types cache", ErrorSeverity.INFO);
 
-                BeEcompErrorManager.getInstance().logInternalFlowError("ReplaceDataTypesCache",
-                        "Succeed to replace the data types cache", ErrorSeverity.INFO);
+        }
 
-            } finally {
-                w.unlock();
-            }
+    }
 
+    /**
+     * The data types by name and by unique id, as of the time they were last compared with the graph.
+     */
+    private static final class DataTypesSnapshot {
+
+        private final Map<String, DataTypeDefinition> dataTypes;
+        private final Map<String, DataTypeDefinition> dataTypesByUid;
+        private final long syncTime;
+
+        private DataTypesSnapshot(Map<String, DataTypeDefinition> dataTypes, long syncTime) {
+            this.dataTypes = Collections.unmodifiableMap(new HashMap<>(dataTypes));
+            this.dataTypesByUid = Collections.unmodifiableMap(dataTypes.values().stream()
+                    .filter(dataType -> dataType.getUniqueId() != null)
+                    .collect(Collectors.toMap(DataTypeDefinition::getUniqueId, dataType -> dataType, (d1, d2) -> d1)));
+            this.syncTime = syncTime;
         }
-
     }
 
 }
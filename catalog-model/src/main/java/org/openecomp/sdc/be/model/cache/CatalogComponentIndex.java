@@ -0,0 +1,416 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.model.cache;
+
+import fj.data.Either;
+import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.openecomp.sdc.be.config.BeEcompErrorManager;
+import org.openecomp.sdc.be.config.BeEcompErrorManager.ErrorSeverity;
+import org.openecomp.sdc.be.config.Configuration.ApplicationL1CacheConfig;
+import org.openecomp.sdc.be.config.Configuration.ApplicationL1CacheInfo;
+import org.openecomp.sdc.be.config.ConfigurationManager;
+import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
+import org.openecomp.sdc.be.dao.cassandra.CatalogChangesCassandraDao;
+import org.openecomp.sdc.be.dao.janusgraph.JanusGraphTransactionListener;
+import org.openecomp.sdc.be.dao.jsongraph.JanusGraphDao;
+import org.openecomp.sdc.be.datatypes.enums.ResourceTypeEnum;
+import org.openecomp.sdc.be.model.catalog.CatalogComponent;
+import org.openecomp.sdc.be.model.catalog.CatalogSnapshot;
+import org.openecomp.sdc.be.model.jsonjanusgraph.operations.TopologyTemplateOperation;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Resident index of the components shown on the catalog and archive screens, keyed by unique id.
+ * <p>
+ * The index is loaded once from the graph and afterwards kept up to date by {@link #refresh(String)} calls issued
+ * whenever a component is created, updated, archived, restored, moved by a lifecycle transition or deleted.
+ * Those calls only mark the component; it is re-read once the transaction commits and forgotten if it rolls back.
+ * Every read takes a ticket and is applied only if no newer read of the same component, or newer reload, was
+ * applied before it.
+ * <p>
+ * Committed changes are also published to a change feed in Cassandra, which the other BE nodes poll to refresh
+ * their own index. Each change bumps the index version; together with the node instance id it forms the version
+ * tag that the REST layer uses as an entity tag. The optional polling interval reloads the whole index periodically
+ * as a safety net for writers that bypass the model layer (e.g. asdctool).
+ */
+@Component("catalog-component-index")
+public class CatalogComponentIndex implements Runnable, JanusGraphTransactionListener {
+
+    private static final String CATALOG_COMPONENT_INDEX = "CatalogComponentIndex";
+    private static final int CHANGE_FEED_INTERVAL_IN_SEC = 5;
+    private static final long CHANGE_FEED_OVERLAP_IN_MS = TimeUnit.SECONDS.toMillis(30);
+
+    private static final Logger log = Logger.getLogger(CatalogComponentIndex.class.getName());
+
+    private final TopologyTemplateOperation topologyTemplateOperation;
+    private final JanusGraphDao janusGraphDao;
+    private final CatalogChangesCassandraDao catalogChangesDao;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final Map<String, CatalogComponent> catalog = new ConcurrentHashMap<>();
+    private final Map<String, CatalogComponent> archive = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicLong readTicket = new AtomicLong();
+    // guarded by this
+    private final Map<String, Long> appliedTickets = new HashMap<>();
+    private long loadedTicket;
+    private final ThreadLocal<Set<String>> pendingRefresh = new ThreadLocal<>();
+    // only used by the change feed task
+    private final Map<UUID, Long> seenChanges = new HashMap<>();
+    private long lastChangeFeedPoll;
+    private volatile boolean built = false;
+    private volatile boolean enabled = false;
+
+    private ScheduledExecutorService scheduledPollingService;
+    private ScheduledFuture<?> scheduledFuture = null;
+    private ScheduledFuture<?> changeFeedFuture = null;
+
+    public CatalogComponentIndex(TopologyTemplateOperation topologyTemplateOperation, JanusGraphDao janusGraphDao,
+            CatalogChangesCassandraDao catalogChangesDao) {
+        this.topologyTemplateOperation = topologyTemplateOperation;
+        this.janusGraphDao = janusGraphDao;
+        this.catalogChangesDao = catalogChangesDao;
+    }
+
+    @PostConstruct
+    public void init() {
+        ApplicationL1CacheInfo catalogInfo = getCatalogCacheInfo();
+        if (catalogInfo == null || catalogInfo.getEnabled() == null || !catalogInfo.getEnabled()) {
+            BeEcompErrorManager.getInstance().logInternalFlowError(CATALOG_COMPONENT_INDEX, "Index is disabled",
+                    ErrorSeverity.INFO);
+            return;
+        }
+        enable();
+        int firstRunDelayInSec = catalogInfo.getFirstRunDelay() == null ? 0 : catalogInfo.getFirstRunDelay();
+        scheduledPollingService = Executors.newScheduledThreadPool(1,
+                new BasicThreadFactory.Builder().namingPattern("CatalogComponentIndexThread-%d").daemon(true).build());
+        Integer pollingIntervalInSec = catalogInfo.getPollIntervalInSec();
+        if (pollingIntervalInSec != null && pollingIntervalInSec > 0) {
+            log.debug("Start CatalogComponentIndex reload task. reload interval {} seconds", pollingIntervalInSec);
+            scheduledFuture = scheduledPollingService.scheduleAtFixedRate(this, firstRunDelayInSec, pollingIntervalInSec, TimeUnit.SECONDS);
+        } else {
+            scheduledFuture = scheduledPollingService.schedule(this, firstRunDelayInSec, TimeUnit.SECONDS);
+        }
+        changeFeedFuture = scheduledPollingService.scheduleWithFixedDelay(this::runChangeFeed, CHANGE_FEED_INTERVAL_IN_SEC,
+                CHANGE_FEED_INTERVAL_IN_SEC, TimeUnit.SECONDS);
+    }
+
+    void enable() {
+        enabled = true;
+        lastChangeFeedPoll = System.currentTimeMillis();
+        janusGraphDao.addTransactionListener(this);
+    }
+
+    private ApplicationL1CacheInfo getCatalogCacheInfo() {
+        ConfigurationManager configurationManager = ConfigurationManager.getConfigurationManager();
+        if (configurationManager == null || configurationManager.getConfiguration() == null) {
+            return null;
+        }
+        ApplicationL1CacheConfig applicationL1CacheConfig = configurationManager.getConfiguration().getApplicationL1Cache();
+        return applicationL1CacheConfig == null ? null : applicationL1CacheConfig.getCatalog();
+    }
+
+    @PreDestroy
+    void destroy() {
+        if (scheduledFuture != null) {
+            boolean result = scheduledFuture.cancel(true);
+            log.debug("Stop reload task. result = {}", result);
+            scheduledFuture = null;
+        }
+        if (changeFeedFuture != null) {
+            changeFeedFuture.cancel(true);
+            changeFeedFuture = null;
+        }
+        if (scheduledPollingService != null) {
+            scheduledPollingService.shutdownNow();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void run() {
+        try {
+            StorageOperationStatus status = rebuild();
+            if (status != StorageOperationStatus.OK) {
+                BeEcompErrorManager.getInstance().logInternalFlowError(CATALOG_COMPONENT_INDEX,
+                        "Failed to load the catalog index", ErrorSeverity.INFO);
+            }
+        } catch (Exception e) {
+            log.debug("unexpected error occured", e);
+            BeEcompErrorManager.getInstance().logInternalUnexpectedError(CATALOG_COMPONENT_INDEX,
+                    "Failed to run reload catalog index job", ErrorSeverity.INFO);
+        } finally {
+            try {
+                janusGraphDao.commit();
+            } catch (Exception e) {
+                log.trace("Failed to commit CatalogComponentIndex", e);
+            }
+        }
+    }
+
+    /**
+     * Reloads the whole index from the catalog and archive roots of the graph.
+     */
+    public synchronized StorageOperationStatus rebuild() {
+        long start = System.currentTimeMillis();
+        long ticket = readTicket.incrementAndGet();
+        Either<List<CatalogComponent>, StorageOperationStatus> catalogComponents = topologyTemplateOperation.getElementCatalogData(true, Collections.emptyList());
+        if (catalogComponents.isRight()) {
+            log.debug("Failed to load catalog components. status is {}", catalogComponents.right().value());
+            return catalogComponents.right().value();
+        }
+        Either<List<CatalogComponent>, StorageOperationStatus> archiveComponents = topologyTemplateOperation.getElementCatalogData(false, Collections.emptyList());
+        if (archiveComponents.isRight()) {
+            log.debug("Failed to load archive components. status is {}", archiveComponents.right().value());
+            return archiveComponents.right().value();
+        }
+        catalog.clear();
+        archive.clear();
+        catalogComponents.left().value().forEach(c -> catalog.put(c.getUniqueId(), c));
+        archiveComponents.left().value().forEach(c -> archive.put(c.getUniqueId(), c));
+        appliedTickets.clear();
+        loadedTicket = ticket;
+        version.incrementAndGet();
+        built = true;
+        log.info("catalog index loaded {} catalog and {} archive components in {} ms", catalog.size(), archive.size(), System.currentTimeMillis() - start);
+        return StorageOperationStatus.OK;
+    }
+
+    /**
+     * Drops the index. It is reloaded on the next read.
+     */
+    public synchronized void invalidate() {
+        if (built) {
+            log.debug("catalog index invalidated");
+            built = false;
+            catalog.clear();
+            archive.clear();
+            appliedTickets.clear();
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns a tag that changes whenever the content of this index changes, and that differs between BE nodes.
+     */
+    public String getVersionTag() {
+        return instanceId + "." + version.get();
+    }
+
+    public Either<CatalogSnapshot, StorageOperationStatus> getSnapshot(boolean isCatalog, List<ResourceTypeEnum> excludeTypes) {
+        StorageOperationStatus status = ensureBuilt();
+        if (status != StorageOperationStatus.OK) {
+            return Either.right(status);
+        }
+        long snapshotVersion = version.get();
+        List<CatalogComponent> components = getMap(isCatalog).values().stream()
+                .filter(c -> isAddToCatalog(excludeTypes, c))
+                .collect(Collectors.toList());
+        return Either.left(new CatalogSnapshot(snapshotVersion, components));
+    }
+
+    /**
+     * Marks a component changed by the current transaction. It is re-read from the graph, placed in the catalog,
+     * in the archive or nowhere, and published to the other nodes once the transaction commits.
+     */
+    public void refresh(String uniqueId) {
+        if (!enabled) {
+            return;
+        }
+        Set<String> pending = pendingRefresh.get();
+        if (pending == null) {
+            pending = new LinkedHashSet<>();
+            pendingRefresh.set(pending);
+        }
+        pending.add(uniqueId);
+    }
+
+    public void refresh(Collection<String> uniqueIds) {
+        if (uniqueIds != null) {
+            uniqueIds.forEach(this::refresh);
+        }
+    }
+
+    /**
+     * Re-reads components whose changes the caller has already committed. The read runs on the index thread in
+     * a transaction of its own, so it does not touch the caller's transaction.
+     */
+    public void refreshCommitted(Collection<String> uniqueIds) {
+        if (!enabled || scheduledPollingService == null || CollectionUtils.isEmpty(uniqueIds)) {
+            return;
+        }
+        List<String> committedIds = new ArrayList<>(uniqueIds);
+        scheduledPollingService.execute(() -> {
+            refreshInOwnTransaction(committedIds);
+            publish(committedIds);
+        });
+    }
+
+    @Override
+    public void afterCommit() {
+        Set<String> uniqueIds = pendingRefresh.get();
+        if (uniqueIds == null) {
+            return;
+        }
+        pendingRefresh.remove();
+        refreshInOwnTransaction(uniqueIds);
+        publish(uniqueIds);
+    }
+
+    @Override
+    public void afterRollback() {
+        pendingRefresh.remove();
+    }
+
+    /**
+     * Reads the changes the other nodes published since the previous poll and refreshes the affected components.
+     * The read window overlaps the previous one to tolerate clock skew; changes already applied are skipped.
+     */
+    void pollChangeFeed() {
+        long now = System.currentTimeMillis();
+        if (now - lastChangeFeedPoll > TimeUnit.SECONDS.toMillis(CatalogChangesCassandraDao.CHANGE_TTL_IN_SEC)) {
+            log.debug("catalog change feed was not read since {}, changes may have expired", lastChangeFeedPoll);
+            invalidate();
+            seenChanges.clear();
+            lastChangeFeedPoll = now;
+            return;
+        }
+        Either<List<ImmutablePair<UUID, String>>, CassandraOperationStatus> changes =
+                catalogChangesDao.getChangesSince(lastChangeFeedPoll - CHANGE_FEED_OVERLAP_IN_MS, instanceId);
+        if (changes.isRight()) {
+            log.debug("Failed to read the catalog change feed. status is {}", changes.right().value());
+            return;
+        }
+        Set<String> changedIds = new LinkedHashSet<>();
+        for (ImmutablePair<UUID, String> change : changes.left().value()) {
+            if (seenChanges.putIfAbsent(change.getLeft(), now) == null) {
+                changedIds.add(change.getRight());
+            }
+        }
+        seenChanges.values().removeIf(seenAt -> seenAt < now - 2 * CHANGE_FEED_OVERLAP_IN_MS);
+        lastChangeFeedPoll = now;
+        if (!changedIds.isEmpty()) {
+            log.debug("refreshing {} components changed on other nodes", changedIds.size());
+            refreshInOwnTransaction(changedIds);
+        }
+    }
+
+    private void runChangeFeed() {
+        try {
+            pollChangeFeed();
+        } catch (Exception e) {
+            log.debug("Failed to poll the catalog change feed", e);
+        }
+    }
+
+    private void refreshInOwnTransaction(Collection<String> uniqueIds) {
+        try {
+            uniqueIds.forEach(this::refreshNow);
+        } catch (Exception e) {
+            log.debug("Failed to refresh components {} in catalog index", uniqueIds, e);
+            invalidate();
+        } finally {
+            janusGraphDao.rollback();
+        }
+    }
+
+    private void refreshNow(String uniqueId) {
+        long ticket = readTicket.incrementAndGet();
+        Either<ImmutablePair<CatalogComponent, Boolean>, StorageOperationStatus> element = topologyTemplateOperation.getElementCatalogData(uniqueId);
+        apply(uniqueId, ticket, element);
+    }
+
+    private synchronized void apply(String uniqueId, long ticket, Either<ImmutablePair<CatalogComponent, Boolean>, StorageOperationStatus> element) {
+        Long appliedTicket = appliedTickets.get(uniqueId);
+        if (!built || ticket < loadedTicket || (appliedTicket != null && ticket < appliedTicket)) {
+            // not loaded yet, or a newer read of this component was already applied
+            return;
+        }
+        if (element.isLeft()) {
+            CatalogComponent component = element.left().value().getLeft();
+            boolean isCatalog = element.left().value().getRight();
+            getMap(isCatalog).put(uniqueId, component);
+            getMap(!isCatalog).remove(uniqueId);
+        } else if (element.right().value() == StorageOperationStatus.NOT_FOUND) {
+            catalog.remove(uniqueId);
+            archive.remove(uniqueId);
+        } else {
+            log.debug("Failed to refresh component {} in catalog index. status is {}", uniqueId, element.right().value());
+            invalidate();
+            return;
+        }
+        appliedTickets.put(uniqueId, ticket);
+        version.incrementAndGet();
+    }
+
+    private void publish(Collection<String> uniqueIds) {
+        CassandraOperationStatus status = catalogChangesDao.publish(instanceId, uniqueIds);
+        if (status != CassandraOperationStatus.OK) {
+            log.debug("Failed to publish catalog changes {}. status is {}", uniqueIds, status);
+        }
+    }
+
+    private StorageOperationStatus ensureBuilt() {
+        if (built) {
+            return StorageOperationStatus.OK;
+        }
+        synchronized (this) {
+            return built ? StorageOperationStatus.OK : rebuild();
+        }
+    }
+
+    private Map<String, CatalogComponent> getMap(boolean isCatalog) {
+        return isCatalog ? catalog : archive;
+    }
+
+    private boolean isAddToCatalog(List<ResourceTypeEnum> excludeTypes, CatalogComponent component) {
+        if (CollectionUtils.isEmpty(excludeTypes) || component.getResourceType() == null) {
+            return true;
+        }
+        return !excludeTypes.contains(ResourceTypeEnum.getType(component.getResourceType()));
+    }
+}
@@ -0,0 +1,215 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.model.cache;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.tinkerpop.shaded.kryo.Kryo;
+import org.apache.tinkerpop.shaded.objenesis.strategy.StdInstantiatorStrategy;
+import org.openecomp.sdc.be.config.Configuration.ApplicationL1CacheComponentsInfo;
+import org.openecomp.sdc.be.config.Configuration.ApplicationL1CacheConfig;
+import org.openecomp.sdc.be.config.ConfigurationManager;
+import org.openecomp.sdc.be.dao.jsongraph.GraphVertex;
+import org.openecomp.sdc.be.datatypes.enums.GraphPropertyEnum;
+import org.openecomp.sdc.be.model.Component;
+import org.openecomp.sdc.be.model.ComponentParametersView;
+import org.openecomp.sdc.be.model.LifecycleStateEnum;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+
+import javax.annotation.PostConstruct;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read-through cache of the components converted by {@code ToscaOperationFacade.getToscaElement}, keyed by
+ * component id and the fingerprint of the requested {@link ComponentParametersView}.
+ * <p>
+ * Only certified components are kept: their data vertices never change, only their metadata does
+ * (highest version, archive, distribution status...). Every entry is stamped with the metadata of the component
+ * vertex it was loaded from and is served only while the vertex still carries the same metadata, so a read costs
+ * a single vertex lookup. The cache is bounded to the configured number of components, least recently used first.
+ * <p>
+ * Callers are free to modify the returned components, each read hands out its own deep copy.
+ */
+@org.springframework.stereotype.Component("component-cache")
+public class ComponentCache {
+
+    private static final int DEFAULT_MAX_SIZE = 500;
+
+    private static final Logger log = Logger.getLogger(ComponentCache.class.getName());
+
+    private static final ThreadLocal<Kryo> kryo = ThreadLocal.withInitial(() -> {
+        Kryo copier = new Kryo();
+        copier.setRegistrationRequired(false);
+        copier.setInstantiatorStrategy(new Kryo.DefaultInstantiatorStrategy(new StdInstantiatorStrategy()));
+        return copier;
+    });
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private Map<String, CachedComponent> components = new LinkedHashMap<>();
+    private boolean enabled = false;
+
+    @PostConstruct
+    public void init() {
+        init(getComponentsCacheInfo());
+    }
+
+    @VisibleForTesting
+    void init(ApplicationL1CacheComponentsInfo componentsInfo) {
+        if (componentsInfo == null || componentsInfo.getEnabled() == null || !componentsInfo.getEnabled()) {
+            log.debug("Component cache is disabled");
+            return;
+        }
+        int maxSize = componentsInfo.getMaxSize() == null ? DEFAULT_MAX_SIZE : componentsInfo.getMaxSize();
+        components = new LinkedHashMap<String, CachedComponent>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedComponent> eldest) {
+                return size() > maxSize;
+            }
+        };
+        enabled = maxSize > 0;
+        log.debug("Component cache is enabled, max size {}", maxSize);
+    }
+
+    private ApplicationL1CacheComponentsInfo getComponentsCacheInfo() {
+        ConfigurationManager configurationManager = ConfigurationManager.getConfigurationManager();
+        if (configurationManager == null || configurationManager.getConfiguration() == null) {
+            return null;
+        }
+        ApplicationL1CacheConfig applicationL1CacheConfig = configurationManager.getConfiguration().getApplicationL1Cache();
+        return applicationL1CacheConfig == null ? null : applicationL1CacheConfig.getComponents();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param componentV the component vertex, parsed with at least {@code JsonParseFlagEnum.ParseMetadata}
+     * @return a copy of the cached component if it was loaded from a vertex with the same metadata
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Component> Optional<T> get(GraphVertex componentV, ComponentParametersView filters) {
+        if (!enabled || !isCertified(componentV)) {
+            return Optional.empty();
+        }
+        Component component;
+        synchronized (this) {
+            CachedComponent cached = components.get(componentV.getUniqueId());
+            component = cached != null && cached.version.equals(versionOf(componentV)) ? cached.views.get(filters.fingerprint()) : null;
+        }
+        if (component == null) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+        Component copy = copy(component);
+        if (copy == null) {
+            invalidate(componentV.getUniqueId());
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+        hits.incrementAndGet();
+        return Optional.of((T) copy);
+    }
+
+    /**
+     * Keeps a copy of the component read from the vertex. Components which aren't certified are ignored.
+     */
+    public void put(GraphVertex componentV, ComponentParametersView filters, Component component) {
+        if (!enabled || !isCertified(componentV)) {
+            return;
+        }
+        Component copy = copy(component);
+        if (copy == null) {
+            return;
+        }
+        List<Object> version = versionOf(componentV);
+        synchronized (this) {
+            CachedComponent cached = components.get(componentV.getUniqueId());
+            if (cached == null || !cached.version.equals(version)) {
+                cached = new CachedComponent(version);
+                components.put(componentV.getUniqueId(), cached);
+            }
+            cached.views.put(filters.fingerprint(), copy);
+        }
+    }
+
+    public synchronized void invalidate(String componentId) {
+        if (components.remove(componentId) != null) {
+            log.debug("Component {} removed from the component cache", componentId);
+        }
+    }
+
+    public synchronized void invalidate(Collection<String> componentIds) {
+        componentIds.forEach(this::invalidate);
+    }
+
+    public synchronized void invalidateAll() {
+        log.debug("Component cache invalidated");
+        components.clear();
+    }
+
+    public synchronized int size() {
+        return components.size();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    private static boolean isCertified(GraphVertex componentV) {
+        return LifecycleStateEnum.CERTIFIED.name().equals(componentV.getMetadataProperty(GraphPropertyEnum.STATE));
+    }
+
+    private static List<Object> versionOf(GraphVertex componentV) {
+        Map<String, Object> metadataJson = componentV.getMetadataJson();
+        return Arrays.asList(new HashMap<>(componentV.getMetadataProperties()),
+                metadataJson == null ? null : new HashMap<>(metadataJson));
+    }
+
+    private static Component copy(Component component) {
+        try {
+            return kryo.get().copy(component);
+        } catch (RuntimeException e) {
+            log.debug("Failed to copy component {}, it won't be cached", component.getUniqueId(), e);
+            return null;
+        }
+    }
+
+    private static final class CachedComponent {
+        private final List<Object> version;
+        private final Map<String, Component> views = new HashMap<>();
+
+        private CachedComponent(List<Object> version) {
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.model.catalog;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
+/**
+ * Point-in-time view of the catalog (or archive) components held by the catalog index.
+ * The version grows on every change of the index and can be used as an entity tag.
+ */
+public class CatalogSnapshot {
+
+    private final long version;
+    private final List<CatalogComponent> components;
+
+    public CatalogSnapshot(long version, List<CatalogComponent> components) {
+        this.version = version;
+        this.components = ImmutableList.copyOf(components);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<CatalogComponent> getComponents() {
+        return components;
+    }
+}
@@ -51,6 +51,7 @@ import org.openecomp.sdc.be.datatypes.enums.GraphPropertyEnum;
 import org.openecomp.sdc.be.datatypes.enums.JsonPresentationFields;
 import org.openecomp.sdc.be.datatypes.tosca.ToscaDataDefinition;
 import org.openecomp.sdc.be.model.User;
+import org.openecomp.sdc.be.model.cache.ComponentCache;
 import org.openecomp.sdc.be.model.jsonjanusgraph.datamodel.ToscaElementTypeEnum;
 import org.openecomp.sdc.be.model.operations.StorageException;
 import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
@@ -92,6 +93,9 @@ public abstract class BaseOperation {
     @Autowired
     protected TopologyTemplateOperation topologyTemplateOperation;
 
+    @Autowired
+    protected ComponentCache componentCache;
+
 //    @Autowired
     protected HealingPipelineDao healingPipelineDao;
 
@@ -323,14 +327,26 @@ public abstract class BaseOperation {
         case 1:
             // update
             log.trace("Only one edge {} to vertex {}. Update vertex", label, dataVertex.getUniqueId());
+            invalidateCachedComponent(toscaElementVertex.getUniqueId());
             return janusGraphDao.updateVertex(dataVertex);
         default:
             // copy on update
             log.trace("More than one edge {} to vertex {}. Need to clone vertex", label, dataVertex.getUniqueId());
+            invalidateCachedComponent(toscaElementVertex.getUniqueId());
             return cloneDataVertex(dataVertex, toscaElementVertex, label, edgeToRemove);
         }
     }
 
+    /**
+     * The component cache validates an entry against the component metadata only, so a write of a data vertex
+     * has to drop the component it belongs to.
+     */
+    protected void invalidateCachedComponent(String toscaElementId) {
+        if (componentCache != null) {
+            componentCache.invalidate(toscaElementId);
+        }
+    }
+
     private Either<GraphVertex, JanusGraphOperationStatus> cloneDataVertex(GraphVertex dataVertex, GraphVertex toscaElementVertex, EdgeLabelEnum label, Edge edgeToRemove) {
         GraphVertex newDataVertex = new GraphVertex(dataVertex.getLabel());
         String id = IdBuilderUtils.generateChildId(toscaElementVertex.getUniqueId(), dataVertex.getLabel());
@@ -355,6 +371,7 @@ public abstract class BaseOperation {
     }
 
     public Either<GraphVertex, StorageOperationStatus> associateElementToData(GraphVertex element, VertexTypeEnum vertexLabel, EdgeLabelEnum edgeLabel, Map<String, ? extends ToscaDataDefinition> data) {
+        invalidateCachedComponent(element.getUniqueId());
         GraphVertex dataV = new GraphVertex(vertexLabel);
         String id = IdBuilderUtils.generateChildId(element.getUniqueId(), vertexLabel);
         dataV.setUniqueId(id);
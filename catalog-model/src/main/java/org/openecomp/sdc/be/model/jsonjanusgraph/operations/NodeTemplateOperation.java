@@ -31,6 +31,7 @@ import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.openecomp.sdc.be.config.BeEcompErrorManager;
 import org.openecomp.sdc.be.config.ConfigurationManager;
+import org.openecomp.sdc.be.dao.janusgraph.JanusGraphClient;
 import org.openecomp.sdc.be.dao.janusgraph.JanusGraphOperationStatus;
 import org.openecomp.sdc.be.dao.jsongraph.GraphVertex;
 import org.openecomp.sdc.be.dao.jsongraph.types.EdgeLabelEnum;
@@ -2040,7 +2041,7 @@ public class NodeTemplateOperation extends BaseOperation {
         }
         if (result == null && updateElement != null) {
             GraphVertex vertexC = updateElement.left().value();
-            instancesJsonData.entrySet().forEach(i ->createInstanceEdge(vertexC, i.getValue()));
+            createInstanceEdges(vertexC, instancesJsonData.values());
             result = StorageOperationStatus.OK;
         }
         return result;
@@ -2250,6 +2251,35 @@ public class NodeTemplateOperation extends BaseOperation {
         return result;
     }
 
+    /**
+     * Creates the instance edges of several instances at once. The existing edges of the container are read once
+     * per label and the origins which aren't connected yet are fetched in bulk.
+     * As with {@link #createInstanceEdge(GraphVertex, ComponentInstanceDataDefinition)} called per instance, an
+     * instance whose edge fails doesn't stop the edges of the other instances, and the proxy edge of an instance is
+     * only created if its origin edge was.
+     *
+     * @return OK, or the status of the first failure
+     */
+    public StorageOperationStatus createInstanceEdges(GraphVertex metadataVertex, Collection<ComponentInstanceDataDefinition> componentInstances) {
+        Map<String, List<String>> instancesByOrigin = new LinkedHashMap<>();
+        for (ComponentInstanceDataDefinition componentInstance : componentInstances) {
+            instancesByOrigin.computeIfAbsent(componentInstance.getComponentUid(), k -> new ArrayList<>()).add(componentInstance.getUniqueId());
+        }
+        Set<String> failedInstances = new HashSet<>();
+        // create edges between container and origins ( in case of proxy these edges will be to ProxyService node type)
+        StorageOperationStatus result = createOrUpdateInstanceEdges(metadataVertex, EdgeLabelEnum.INSTANCE_OF, instancesByOrigin, failedInstances);
+
+        Map<String, List<String>> instancesByProxyOrigin = new LinkedHashMap<>();
+        for (ComponentInstanceDataDefinition componentInstance : componentInstances) {
+            if (componentInstance.getIsProxy() && !failedInstances.contains(componentInstance.getUniqueId())) {
+                instancesByProxyOrigin.computeIfAbsent(componentInstance.getSourceModelUid(), k -> new ArrayList<>()).add(componentInstance.getUniqueId());
+            }
+        }
+        // create edges between container and service origins
+        StorageOperationStatus proxyResult = createOrUpdateInstanceEdges(metadataVertex, EdgeLabelEnum.PROXY_OF, instancesByProxyOrigin, failedInstances);
+        return result == StorageOperationStatus.OK ? proxyResult : result;
+    }
+
     public StorageOperationStatus createAllottedOfEdge(String componentId, String instanceId, String serviceUUID) {
         Either<GraphVertex, JanusGraphOperationStatus> vertexById = janusGraphDao.getVertexById(componentId);
         if ( vertexById.isRight() ){
@@ -2313,6 +2343,76 @@ public class NodeTemplateOperation extends BaseOperation {
                 .bind(s -> createInstanceEdge(metadataVertex, edgeLabel, componentUid, instUniqueId, s));
     }
 
+    /**
+     * @param failedInstances collects the instances whose edge failed, the other instances are still connected
+     * @return OK, or the status of the first failure
+     */
+    private StorageOperationStatus createOrUpdateInstanceEdges(GraphVertex metadataVertex, EdgeLabelEnum edgeLabel, Map<String, List<String>> instancesByOrigin,
+                                                               Set<String> failedInstances) {
+        if (instancesByOrigin.isEmpty()) {
+            return StorageOperationStatus.OK;
+        }
+        Map<String, Edge> edgesByOrigin = new HashMap<>();
+        try {
+            metadataVertex.getVertex().edges(Direction.OUT, edgeLabel.name()).forEachRemaining(edge ->
+                    edge.inVertex().property(GraphPropertyEnum.UNIQUE_ID.getProperty()).ifPresent(originId -> edgesByOrigin.put((String) originId, edge)));
+        } catch (Exception e) {
+            log.debug("Failed to fetch edges with label {} of container {}", edgeLabel, metadataVertex.getUniqueId(), e);
+            instancesByOrigin.values().forEach(failedInstances::addAll);
+            return DaoStatusConverter.convertJanusGraphStatusToStorageStatus(JanusGraphClient.handleJanusGraphException(e));
+        }
+
+        StorageOperationStatus result = StorageOperationStatus.OK;
+        List<String> notConnectedOrigins = new ArrayList<>();
+        for (Entry<String, List<String>> entry : instancesByOrigin.entrySet()) {
+            Edge edge = edgesByOrigin.get(entry.getKey());
+            if (edge == null) {
+                notConnectedOrigins.add(entry.getKey());
+                continue;
+            }
+            for (String instUniqueId : entry.getValue()) {
+                Either<GraphVertex, JanusGraphOperationStatus> updateEdge = addInstanceToPropertyOnEdge(instUniqueId, edge, metadataVertex);
+                if (updateEdge.isRight()) {
+                    failedInstances.add(instUniqueId);
+                    result = firstFailure(result, DaoStatusConverter.convertJanusGraphStatusToStorageStatus(updateEdge.right().value()));
+                }
+            }
+        }
+        if (notConnectedOrigins.isEmpty()) {
+            return result;
+        }
+
+        Either<Map<String, GraphVertex>, JanusGraphOperationStatus> originVertices = janusGraphDao.getVerticesByUniqueIds(notConnectedOrigins, JsonParseFlagEnum.NoParse);
+        if (originVertices.isRight()) {
+            log.debug("Failed to fetch origins {} of container {} error {} ", notConnectedOrigins, metadataVertex.getUniqueId(), originVertices.right().value());
+            notConnectedOrigins.forEach(originId -> failedInstances.addAll(instancesByOrigin.get(originId)));
+            return firstFailure(result, DaoStatusConverter.convertJanusGraphStatusToStorageStatus(originVertices.right().value()));
+        }
+        for (String originId : notConnectedOrigins) {
+            GraphVertex originVertex = originVertices.left().value().get(originId);
+            if (originVertex == null) {
+                log.debug("Failed to fetch origin {} of container {} ", originId, metadataVertex.getUniqueId());
+                failedInstances.addAll(instancesByOrigin.get(originId));
+                result = firstFailure(result, StorageOperationStatus.NOT_FOUND);
+                continue;
+            }
+            Map<EdgePropertyEnum, Object> edgeProps = new EnumMap<>(EdgePropertyEnum.class);
+            edgeProps.put(EdgePropertyEnum.INSTANCES, new ArrayList<>(new LinkedHashSet<>(instancesByOrigin.get(originId))));
+
+            log.debug("Create new edge {} between {} and {} and properties {} ", edgeLabel, metadataVertex.getUniqueId(), originId, edgeProps);
+            JanusGraphOperationStatus edgeResult = janusGraphDao.createEdge(metadataVertex, originVertex, edgeLabel, edgeProps);
+            if (edgeResult != JanusGraphOperationStatus.OK) {
+                failedInstances.addAll(instancesByOrigin.get(originId));
+                result = firstFailure(result, DaoStatusConverter.convertJanusGraphStatusToStorageStatus(edgeResult));
+            }
+        }
+        return result;
+    }
+
+    private static StorageOperationStatus firstFailure(StorageOperationStatus result, StorageOperationStatus status) {
+        return result == StorageOperationStatus.OK ? status : result;
+    }
+
     private Either<GraphVertex, JanusGraphOperationStatus> removeOrUpdateInstanceEdge(GraphVertex metadataVertex, EdgeLabelEnum edgeLabel, String componentUid, String instUniqueId) {
         Map<GraphPropertyEnum, Object> properties = new EnumMap<>(GraphPropertyEnum.class);
         properties.put(GraphPropertyEnum.UNIQUE_ID, componentUid);
@@ -48,6 +48,7 @@ import org.openecomp.sdc.be.datatypes.tosca.ToscaDataDefinition;
 import org.openecomp.sdc.be.model.DistributionStatusEnum;
 import org.openecomp.sdc.be.model.LifecycleStateEnum;
 import org.openecomp.sdc.be.model.User;
+import org.openecomp.sdc.be.model.cache.CatalogComponentIndex;
 import org.openecomp.sdc.be.model.jsonjanusgraph.datamodel.TopologyTemplate;
 import org.openecomp.sdc.be.model.jsonjanusgraph.datamodel.ToscaElement;
 import org.openecomp.sdc.be.model.jsonjanusgraph.datamodel.ToscaElementTypeEnum;
@@ -58,6 +59,7 @@ import org.openecomp.sdc.be.model.operations.impl.UniqueIdBuilder;
 import org.openecomp.sdc.common.jsongraph.util.CommonUtility;
 import org.openecomp.sdc.common.jsongraph.util.CommonUtility.LogLevelEnum;
 import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -76,6 +78,9 @@ public class ToscaElementLifecycleOperation extends BaseOperation {
 
     private static final Logger log = Logger.getLogger(ToscaElementLifecycleOperation.class);
 
+    @Autowired
+    private CatalogComponentIndex catalogComponentIndex;
+
     /**
      * Performs changing a lifecycle state of tosca element from "checked out" or "ready for certification" to "checked in"
      * 
@@ -721,6 +726,8 @@ public class ToscaElementLifecycleOperation extends BaseOperation {
                 if (res != StorageOperationStatus.OK) {
                     return res;
                 }
+                // the transitioned versions are refreshed by the lifecycle business logic, this one is not among them
+                catalogComponentIndex.refresh(lastCertifiedV.getUniqueId());
             }
         }
         if (result == null) {
@@ -1631,6 +1638,12 @@ public class ToscaElementLifecycleOperation extends BaseOperation {
                 }
             }
         }
+        if (newVersionV != null) {
+            componentCache.invalidate(newVersionV.getUniqueId());
+        }
+        if (prevVersionV != null) {
+            componentCache.invalidate(prevVersionV.getUniqueId());
+        }
         return StorageOperationStatus.OK;
     }
 }
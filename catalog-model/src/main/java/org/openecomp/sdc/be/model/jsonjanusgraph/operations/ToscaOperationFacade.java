@@ -37,7 +37,10 @@ import org.openecomp.sdc.be.datatypes.elements.*;
 import org.openecomp.sdc.be.datatypes.elements.MapInterfaceDataDefinition;
 import org.openecomp.sdc.be.datatypes.enums.*;
 import org.openecomp.sdc.be.model.*;
+import org.openecomp.sdc.be.model.cache.CatalogComponentIndex;
+import org.openecomp.sdc.be.model.cache.ComponentCache;
 import org.openecomp.sdc.be.model.catalog.CatalogComponent;
+import org.openecomp.sdc.be.model.catalog.CatalogSnapshot;
 import org.openecomp.sdc.be.model.jsonjanusgraph.datamodel.TopologyTemplate;
 import org.openecomp.sdc.be.model.jsonjanusgraph.datamodel.ToscaElement;
 import org.openecomp.sdc.be.model.jsonjanusgraph.utils.ModelConverter;
@@ -85,6 +88,10 @@ public class ToscaOperationFacade {
     private GroupsOperation groupsOperation;
     @Autowired
     private HealingJanusGraphDao janusGraphDao;
+    @Autowired
+    private CatalogComponentIndex catalogComponentIndex;
+    @Autowired
+    private ComponentCache componentCache;
 
     private static final Logger log = Logger.getLogger(ToscaOperationFacade.class.getName());
     // endregion
@@ -99,6 +106,34 @@ public class ToscaOperationFacade {
         return getToscaElement(componentId, filters);
     }
 
+    /**
+     * Loads several components with all their data. The component vertices are read with a single query,
+     * components which don't exist are left out of the result.
+     */
+    public <T extends Component> Either<Map<String, T>, StorageOperationStatus> getToscaFullElements(Collection<String> componentIds) {
+        ComponentParametersView filters = new ComponentParametersView();
+        filters.setIgnoreCapabiltyProperties(false);
+        filters.setIgnoreForwardingPath(false);
+        JsonParseFlagEnum parseFlag = componentCache.isEnabled() ? JsonParseFlagEnum.ParseMetadata : filters.detectParseFlag();
+
+        Either<Map<String, GraphVertex>, JanusGraphOperationStatus> getVerticesEither = janusGraphDao
+            .getVerticesByUniqueIds(componentIds, parseFlag);
+        if (getVerticesEither.isRight()) {
+            log.debug("Couldn't fetch components with unique ids {}, error: {}", componentIds, getVerticesEither.right().value());
+            return Either.right(DaoStatusConverter.convertJanusGraphStatusToStorageStatus(getVerticesEither.right().value()));
+        }
+        Map<String, T> components = new HashMap<>();
+        for (Entry<String, GraphVertex> componentV : getVerticesEither.left().value().entrySet()) {
+            Either<T, StorageOperationStatus> toscaElement = componentCache.isEnabled() ?
+                getCachedToscaElement(componentV.getValue(), filters) : getToscaElementByOperation(componentV.getValue(), filters);
+            if (toscaElement.isRight()) {
+                return Either.right(toscaElement.right().value());
+            }
+            components.put(componentV.getKey(), toscaElement.left().value());
+        }
+        return Either.left(components);
+    }
+
     public <T extends Component> Either<T, StorageOperationStatus> getToscaElement(String componentId) {
 
         return getToscaElement(componentId, JsonParseFlagEnum.ParseAll);
@@ -106,6 +141,9 @@ public class ToscaOperationFacade {
     }
 
     public <T extends Component> Either<T, StorageOperationStatus> getToscaElement(String componentId, ComponentParametersView filters) {
+        if (componentCache.isEnabled()) {
+            return getCachedToscaElement(componentId, filters);
+        }
 
         Either<GraphVertex, JanusGraphOperationStatus> getVertexEither = janusGraphDao
             .getVertexById(componentId, filters.detectParseFlag());
@@ -117,7 +155,40 @@ public class ToscaOperationFacade {
         return getToscaElementByOperation(getVertexEither.left().value(), filters);
     }
 
+    /**
+     * Reads only the metadata of the component vertex first, the rest of the component is loaded and converted
+     * when the component cache doesn't hold it for the current metadata.
+     */
+    private <T extends Component> Either<T, StorageOperationStatus> getCachedToscaElement(String componentId, ComponentParametersView filters) {
+        Either<GraphVertex, JanusGraphOperationStatus> getVertexEither = janusGraphDao
+            .getVertexById(componentId, JsonParseFlagEnum.ParseMetadata);
+        if (getVertexEither.isRight()) {
+            log.debug(COULDNT_FETCH_COMPONENT_WITH_AND_UNIQUE_ID_ERROR, componentId, getVertexEither.right().value());
+            return Either.right(DaoStatusConverter.convertJanusGraphStatusToStorageStatus(getVertexEither.right().value()));
+        }
+        return getCachedToscaElement(getVertexEither.left().value(), filters);
+    }
+
+    private <T extends Component> Either<T, StorageOperationStatus> getCachedToscaElement(GraphVertex componentV, ComponentParametersView filters) {
+        Optional<T> cachedComponent = componentCache.get(componentV, filters);
+        if (cachedComponent.isPresent()) {
+            log.debug("Component {} was found in the component cache", componentV.getUniqueId());
+            return Either.left(cachedComponent.get());
+        }
+        if (filters.detectParseFlag() != JsonParseFlagEnum.ParseMetadata) {
+            janusGraphDao.parseVertexProperties(componentV, filters.detectParseFlag());
+        }
+        Either<T, StorageOperationStatus> toscaElement = getToscaElementByOperation(componentV, filters);
+        if (toscaElement.isLeft()) {
+            componentCache.put(componentV, filters, toscaElement.left().value());
+        }
+        return toscaElement;
+    }
+
     public <T extends Component> Either<T, StorageOperationStatus> getToscaElement(String componentId, JsonParseFlagEnum parseFlag) {
+        if (parseFlag == JsonParseFlagEnum.ParseAll && componentCache.isEnabled()) {
+            return getCachedToscaElement(componentId, new ComponentParametersView());
+        }
 
         Either<GraphVertex, JanusGraphOperationStatus> getVertexEither = janusGraphDao
             .getVertexById(componentId, parseFlag);
@@ -212,6 +283,8 @@ public class ToscaOperationFacade {
         if (createToscaElement.isLeft()) {
             log.debug(COMPONENT_CREATED_SUCCESSFULLY);
             T dataModel = ModelConverter.convertFromToscaElement(createToscaElement.left().value());
+            catalogComponentIndex.refresh(dataModel.getUniqueId());
+            componentCache.invalidate(dataModel.getUniqueId());
             return Either.left(dataModel);
         }
         return Either.right(createToscaElement.right().value());
@@ -239,6 +312,8 @@ public class ToscaOperationFacade {
             if (result.isRight()) {
                 return result.right().value();
             }
+            catalogComponentIndex.refresh(componentToDelete.getUniqueId());
+            componentCache.invalidate(componentToDelete.getUniqueId());
             return StorageOperationStatus.OK;
         }
     }
@@ -258,6 +333,8 @@ public class ToscaOperationFacade {
             return Either.right(deleteElement.right().value());
         }
         T dataModel = ModelConverter.convertFromToscaElement(deleteElement.left().value());
+        catalogComponentIndex.refresh(componentId);
+        componentCache.invalidate(componentId);
 
         return Either.left(dataModel);
     }
@@ -470,6 +547,8 @@ public class ToscaOperationFacade {
             log.debug("Falied to remove old component {} error {}", oldComponent.getUniqueId(), deleteToscaComponent.right().value());
             return Either.right(deleteToscaComponent.right().value());
         }
+        catalogComponentIndex.refresh(oldComponent.getUniqueId());
+        componentCache.invalidate(oldComponent.getUniqueId());
         Either<Resource, StorageOperationStatus> createToscaComponent = createToscaComponent(newComponent);
         if (createToscaComponent.isRight()) {
             log.debug("Falied to create tosca element component {} error {}", newComponent.getUniqueId(), createToscaComponent.right().value());
@@ -541,6 +620,8 @@ public class ToscaOperationFacade {
             log.debug("Failed to update tosca element {} error {}", componentId, updateToscaElement.right().value());
             return Either.right(updateToscaElement.right().value());
         }
+        catalogComponentIndex.refresh(componentId);
+        componentCache.invalidate(componentId);
         return Either.left(ModelConverter.convertFromToscaElement(updateToscaElement.left().value()));
     }
 
@@ -658,11 +739,42 @@ public class ToscaOperationFacade {
     }
 
     public Either<List<CatalogComponent>, StorageOperationStatus> getCatalogOrArchiveComponents(boolean isCatalog, List<OriginTypeEnum> excludeTypes) {
-        List<ResourceTypeEnum> excludedResourceTypes = Optional.ofNullable(excludeTypes).orElse(Collections.emptyList()).stream().filter(type -> !type.equals(OriginTypeEnum.SERVICE)).map(type -> ResourceTypeEnum.getTypeByName(type.name()))
-                .collect(Collectors.toList());
+        List<ResourceTypeEnum> excludedResourceTypes = toExcludedResourceTypes(excludeTypes);
+        if (catalogComponentIndex.isEnabled()) {
+            return catalogComponentIndex.getSnapshot(isCatalog, excludedResourceTypes).left().map(CatalogSnapshot::getComponents);
+        }
         return topologyTemplateOperation.getElementCatalogData(isCatalog, excludedResourceTypes);
     }
 
+    /**
+     * Returns the version tag of the catalog index, or null when the index is disabled.
+     */
+    public String getCatalogVersionTag() {
+        return catalogComponentIndex.isEnabled() ? catalogComponentIndex.getVersionTag() : null;
+    }
+
+    /**
+     * Re-reads the given components into the catalog index once the current transaction commits.
+     */
+    public void refreshCatalogComponents(List<String> componentIds) {
+        catalogComponentIndex.refresh(componentIds);
+        componentCache.invalidate(componentIds);
+    }
+
+    /**
+     * Re-reads the given components into the catalog index after their changes were already committed,
+     * e.g. after they were moved between the catalog and the archive.
+     */
+    public void refreshCommittedCatalogComponents(List<String> componentIds) {
+        catalogComponentIndex.refreshCommitted(componentIds);
+        componentCache.invalidate(componentIds);
+    }
+
+    private List<ResourceTypeEnum> toExcludedResourceTypes(List<OriginTypeEnum> excludeTypes) {
+        return Optional.ofNullable(excludeTypes).orElse(Collections.emptyList()).stream().filter(type -> !type.equals(OriginTypeEnum.SERVICE)).map(type -> ResourceTypeEnum.getTypeByName(type.name()))
+                .collect(Collectors.toList());
+    }
+
     // endregion
     public <T extends Component> Either<List<T>, StorageOperationStatus> getCatalogComponents(ComponentTypeEnum componentType, List<OriginTypeEnum> excludeTypes, boolean isHighestVersions) {
         List<T> components = new ArrayList<>();
@@ -744,6 +856,8 @@ public class ToscaOperationFacade {
                     log.debug("Failed to delete marked element UniqueID {}, Name {}, error {}", elementV.getUniqueId(), elementV.getMetadataProperties().get(GraphPropertyEnum.NAME), deleteToscaElement.right().value());
                     continue;
                 }
+                catalogComponentIndex.refresh(elementV.getUniqueId());
+                componentCache.invalidate(elementV.getUniqueId());
                 deleted.add(elementV.getUniqueId());
             }
         }
@@ -2106,6 +2220,8 @@ public class ToscaOperationFacade {
         GraphVertex serviceV = updateDistributionStatus.left().value();
         service.setDistributionStatus(distributionStatus);
         service.setLastUpdateDate((Long) serviceV.getJsonMetadataField(JsonPresentationFields.LAST_UPDATE_DATE));
+        catalogComponentIndex.refresh(service.getUniqueId());
+        componentCache.invalidate(service.getUniqueId());
         return Either.left(service);
     }
 
@@ -0,0 +1,43 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.model.operations.api;
+
+import org.openecomp.sdc.be.datatypes.enums.NodeTypeEnum;
+
+/**
+ * Storage of the component locks taken by {@link IGraphLockOperation}.
+ * The provider in use is selected by the componentLockProvider configuration.
+ */
+public interface ComponentLockProvider {
+
+    /**
+     * @return the name the provider is selected by
+     */
+    String getName();
+
+    /**
+     * @return OK if the lock was taken, FAILED_TO_LOCK_ELEMENT if it is held by someone else
+     */
+    StorageOperationStatus lock(String id, NodeTypeEnum nodeType);
+
+    StorageOperationStatus unlock(String id, NodeTypeEnum nodeType);
+
+}
@@ -0,0 +1,106 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.model.operations.impl;
+
+import fj.data.Either;
+import org.openecomp.sdc.be.config.ConfigurationManager;
+import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
+import org.openecomp.sdc.be.dao.cassandra.ComponentLockCassandraDao;
+import org.openecomp.sdc.be.datatypes.enums.NodeTypeEnum;
+import org.openecomp.sdc.be.model.operations.api.ComponentLockProvider;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps a component lock as a Cassandra row taken with a lightweight transaction.
+ * A lock is leased for janusGraphLockTimeout seconds, after which another node may take it over.
+ * A lock is released only with the fencing token this node got when taking it, so a release never
+ * frees a lock another node took over after the lease expired. A lock this node does not hold is
+ * reported as NOT_FOUND without touching Cassandra, as InMemoryComponentLockProvider does.
+ */
+@Component("cassandra-component-lock-provider")
+public class CassandraComponentLockProvider implements ComponentLockProvider {
+
+    public static final String NAME = "cassandra";
+
+    private static final Logger log = Logger.getLogger(CassandraComponentLockProvider.class.getName());
+    private static final String OWNER = ManagementFactory.getRuntimeMXBean().getName();
+
+    private final Map<String, Long> fencingTokens = new ConcurrentHashMap<>();
+
+    @javax.annotation.Resource
+    private ComponentLockCassandraDao componentLockCassandraDao;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public StorageOperationStatus lock(String id, NodeTypeEnum nodeType) {
+        String lockId = lockId(id, nodeType);
+        Either<Long, CassandraOperationStatus> result = componentLockCassandraDao.acquire(lockId, OWNER, leaseInMs());
+        if (result.isLeft()) {
+            fencingTokens.put(lockId, result.left().value());
+            return StorageOperationStatus.OK;
+        }
+        log.debug("Failed to lock {} with status {}", lockId, result.right().value());
+        return convert(result.right().value());
+    }
+
+    @Override
+    public StorageOperationStatus unlock(String id, NodeTypeEnum nodeType) {
+        String lockId = lockId(id, nodeType);
+        Long fencingToken = fencingTokens.remove(lockId);
+        if (fencingToken == null) {
+            log.debug("Lock {} is not held by this node", lockId);
+            return StorageOperationStatus.NOT_FOUND;
+        }
+        CassandraOperationStatus status = componentLockCassandraDao.release(lockId, fencingToken);
+        if (status == CassandraOperationStatus.ALREADY_LOCKED) {
+            log.debug("Lock {} with fencing token {} was taken over after its lease expired", lockId, fencingToken);
+            return StorageOperationStatus.NOT_FOUND;
+        }
+        return convert(status);
+    }
+
+    private static StorageOperationStatus convert(CassandraOperationStatus status) {
+        if (status == CassandraOperationStatus.ALREADY_LOCKED) {
+            return StorageOperationStatus.FAILED_TO_LOCK_ELEMENT;
+        }
+        return DaoStatusConverter.convertCassandraStatusToStorageStatus(status);
+    }
+
+    private static long leaseInMs() {
+        Long lockTimeout = ConfigurationManager.getConfigurationManager().getConfiguration().getJanusGraphLockTimeout();
+        return TimeUnit.SECONDS.toMillis(lockTimeout == null ? InMemoryComponentLockProvider.DEFAULT_LEASE_IN_SEC : lockTimeout);
+    }
+
+    private static String lockId(String id, NodeTypeEnum nodeType) {
+        return nodeType.getName() + "_" + id;
+    }
+}
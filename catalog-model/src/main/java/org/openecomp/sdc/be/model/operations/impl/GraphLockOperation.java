@@ -20,25 +20,73 @@
 
 package org.openecomp.sdc.be.model.operations.impl;
 
-import org.openecomp.sdc.be.dao.janusgraph.JanusGraphGenericDao;
-import org.openecomp.sdc.be.dao.janusgraph.JanusGraphOperationStatus;
+import org.openecomp.sdc.be.config.ConfigurationManager;
 import org.openecomp.sdc.be.datatypes.enums.NodeTypeEnum;
+import org.openecomp.sdc.be.model.operations.api.ComponentLockProvider;
 import org.openecomp.sdc.be.model.operations.api.IGraphLockOperation;
 import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
 import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
 @Component("graph-lock-operation")
-public class GraphLockOperation implements IGraphLockOperation {
+public class GraphLockOperation implements IGraphLockOperation, GraphLockOperationMBean {
     private static final Logger log = Logger.getLogger(GraphLockOperation.class.getName());
+    private static final String MBEAN_NAME = "org.openecomp.sdc.be.model:type=GraphLockOperation";
+
+    @Autowired
+    private List<ComponentLockProvider> lockProviders;
 
-    @javax.annotation.Resource
-    private JanusGraphGenericDao janusGraphGenericDao;
+    private ComponentLockProvider lockProvider;
+
+    private final AtomicLong acquiredLocks = new AtomicLong();
+    private final AtomicLong contendedLocks = new AtomicLong();
+    private final AtomicLong failedLocks = new AtomicLong();
+    private final AtomicLong acquireLatencyInMs = new AtomicLong();
+    private final AtomicLong maxAcquireLatencyInMs = new AtomicLong();
+    private final AtomicLong releasedLocks = new AtomicLong();
+    private final AtomicLong releaseLatencyInMs = new AtomicLong();
+    private final AtomicLong maxReleaseLatencyInMs = new AtomicLong();
 
     public GraphLockOperation() {
         super();
     }
 
+    @PostConstruct
+    public void init() {
+        String providerName = ConfigurationManager.getConfigurationManager().getConfiguration().getComponentLockProvider();
+        if (providerName == null) {
+            providerName = JanusGraphComponentLockProvider.NAME;
+        }
+        for (ComponentLockProvider provider : lockProviders) {
+            if (provider.getName().equalsIgnoreCase(providerName)) {
+                lockProvider = provider;
+            }
+        }
+        if (lockProvider == null) {
+            throw new IllegalStateException("Unknown component lock provider " + providerName);
+        }
+        log.info("Component locks are kept by the {} lock provider", lockProvider.getName());
+        registerMBean();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(new ObjectName(MBEAN_NAME));
+        } catch (Exception e) {
+            log.debug("Failed to unregister component lock metrics", e);
+        }
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -47,16 +95,7 @@ public class GraphLockOperation implements IGraphLockOperation {
     @Override
     public StorageOperationStatus lockComponent(String componentId, NodeTypeEnum nodeType) {
         log.info("lock resource with id {}", componentId);
-        JanusGraphOperationStatus lockElementStatus = null;
-        try {
-            lockElementStatus = janusGraphGenericDao.lockElement(componentId, nodeType);
-        } catch (Exception e) {
-            lockElementStatus = JanusGraphOperationStatus.ALREADY_LOCKED;
-
-        }
-
-        return DaoStatusConverter.convertJanusGraphStatusToStorageStatus(lockElementStatus);
-
+        return lock(() -> lockProvider.lock(componentId, nodeType));
     }
 
     /*
@@ -66,32 +105,102 @@ public class GraphLockOperation implements IGraphLockOperation {
      */
     @Override
     public StorageOperationStatus unlockComponent(String componentId, NodeTypeEnum nodeType) {
-        JanusGraphOperationStatus lockElementStatus = janusGraphGenericDao
-            .releaseElement(componentId, nodeType);
-        return DaoStatusConverter.convertJanusGraphStatusToStorageStatus(lockElementStatus);
+        return unlock(() -> lockProvider.unlock(componentId, nodeType));
     }
 
     @Override
     public StorageOperationStatus unlockComponentByName(String name, String componentId, NodeTypeEnum nodeType) {
-        JanusGraphOperationStatus
-            lockElementStatus = janusGraphGenericDao.releaseElement(name, nodeType);
-        return DaoStatusConverter.convertJanusGraphStatusToStorageStatus(lockElementStatus);
+        return unlock(() -> lockProvider.unlock(name, nodeType));
     }
 
     @Override
     public StorageOperationStatus lockComponentByName(String name, NodeTypeEnum nodeType) {
         log.info("lock resource with name {}", name);
-        JanusGraphOperationStatus lockElementStatus = null;
-        try {
+        return lock(() -> lockProvider.lock(name, nodeType));
+    }
 
-            lockElementStatus = janusGraphGenericDao.lockElement(name, nodeType);
+    private StorageOperationStatus lock(Supplier<StorageOperationStatus> lockAction) {
+        long start = System.currentTimeMillis();
+        StorageOperationStatus status = lockAction.get();
+        long latency = System.currentTimeMillis() - start;
+        acquireLatencyInMs.addAndGet(latency);
+        maxAcquireLatencyInMs.accumulateAndGet(latency, Math::max);
+        if (status == StorageOperationStatus.OK) {
+            acquiredLocks.incrementAndGet();
+        } else if (status == StorageOperationStatus.FAILED_TO_LOCK_ELEMENT) {
+            contendedLocks.incrementAndGet();
+        } else {
+            failedLocks.incrementAndGet();
+        }
+        return status;
+    }
 
-        } catch (Exception e) {
-            lockElementStatus = JanusGraphOperationStatus.ALREADY_LOCKED;
+    private StorageOperationStatus unlock(Supplier<StorageOperationStatus> unlockAction) {
+        long start = System.currentTimeMillis();
+        StorageOperationStatus status = unlockAction.get();
+        long latency = System.currentTimeMillis() - start;
+        releaseLatencyInMs.addAndGet(latency);
+        maxReleaseLatencyInMs.accumulateAndGet(latency, Math::max);
+        releasedLocks.incrementAndGet();
+        return status;
+    }
 
+    private void registerMBean() {
+        try {
+            ObjectName name = new ObjectName(MBEAN_NAME);
+            if (ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+            }
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+        } catch (Exception e) {
+            log.debug("Failed to register component lock metrics", e);
         }
+    }
+
+    @Override
+    public String getLockProvider() {
+        return lockProvider == null ? null : lockProvider.getName();
+    }
+
+    @Override
+    public long getAcquiredLocks() {
+        return acquiredLocks.get();
+    }
+
+    @Override
+    public long getContendedLocks() {
+        return contendedLocks.get();
+    }
+
+    @Override
+    public long getFailedLocks() {
+        return failedLocks.get();
+    }
 
-        return DaoStatusConverter.convertJanusGraphStatusToStorageStatus(lockElementStatus);
+    @Override
+    public long getReleasedLocks() {
+        return releasedLocks.get();
+    }
 
+    @Override
+    public long getAverageAcquireLatencyInMs() {
+        long attempts = acquiredLocks.get() + contendedLocks.get() + failedLocks.get();
+        return attempts == 0 ? 0 : acquireLatencyInMs.get() / attempts;
+    }
+
+    @Override
+    public long getMaxAcquireLatencyInMs() {
+        return maxAcquireLatencyInMs.get();
+    }
+
+    @Override
+    public long getAverageReleaseLatencyInMs() {
+        long releases = releasedLocks.get();
+        return releases == 0 ? 0 : releaseLatencyInMs.get() / releases;
+    }
+
+    @Override
+    public long getMaxReleaseLatencyInMs() {
+        return maxReleaseLatencyInMs.get();
     }
 }
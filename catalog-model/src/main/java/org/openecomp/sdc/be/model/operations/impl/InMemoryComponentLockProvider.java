@@ -0,0 +1,80 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.model.operations.impl;
+
+import org.openecomp.sdc.be.config.ConfigurationManager;
+import org.openecomp.sdc.be.datatypes.enums.NodeTypeEnum;
+import org.openecomp.sdc.be.model.operations.api.ComponentLockProvider;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps the component locks in the JVM, for single node setups only.
+ * Locks of different components don't contend, as the map is locked per bin. A lock which was not
+ * released within janusGraphLockTimeout seconds may be taken again.
+ */
+@Component("in-memory-component-lock-provider")
+public class InMemoryComponentLockProvider implements ComponentLockProvider {
+
+    public static final String NAME = "inMemory";
+    static final long DEFAULT_LEASE_IN_SEC = 1800;
+
+    private final Map<String, Long> leaseExpiries = new ConcurrentHashMap<>();
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public StorageOperationStatus lock(String id, NodeTypeEnum nodeType) {
+        long now = System.currentTimeMillis();
+        long leaseInMs = leaseInMs();
+        AtomicBoolean acquired = new AtomicBoolean();
+        leaseExpiries.compute(lockId(id, nodeType), (lockId, currentExpiry) -> {
+            if (currentExpiry != null && currentExpiry > now) {
+                return currentExpiry;
+            }
+            acquired.set(true);
+            return now + leaseInMs;
+        });
+        return acquired.get() ? StorageOperationStatus.OK : StorageOperationStatus.FAILED_TO_LOCK_ELEMENT;
+    }
+
+    @Override
+    public StorageOperationStatus unlock(String id, NodeTypeEnum nodeType) {
+        return leaseExpiries.remove(lockId(id, nodeType)) != null ? StorageOperationStatus.OK : StorageOperationStatus.NOT_FOUND;
+    }
+
+    private static long leaseInMs() {
+        Long lockTimeout = ConfigurationManager.getConfigurationManager().getConfiguration().getJanusGraphLockTimeout();
+        return TimeUnit.SECONDS.toMillis(lockTimeout == null ? DEFAULT_LEASE_IN_SEC : lockTimeout);
+    }
+
+    private static String lockId(String id, NodeTypeEnum nodeType) {
+        return nodeType.getName() + "_" + id;
+    }
+}
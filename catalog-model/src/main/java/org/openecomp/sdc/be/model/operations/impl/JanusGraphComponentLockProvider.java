@@ -0,0 +1,66 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.model.operations.impl;
+
+import org.openecomp.sdc.be.dao.janusgraph.JanusGraphGenericDao;
+import org.openecomp.sdc.be.dao.janusgraph.JanusGraphOperationStatus;
+import org.openecomp.sdc.be.datatypes.enums.NodeTypeEnum;
+import org.openecomp.sdc.be.model.operations.api.ComponentLockProvider;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+import org.openecomp.sdc.common.log.wrappers.Logger;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps a component lock as a lock vertex in the graph, committed on every lock and unlock.
+ */
+@Component("janusgraph-component-lock-provider")
+public class JanusGraphComponentLockProvider implements ComponentLockProvider {
+
+    public static final String NAME = "janusgraph";
+
+    private static final Logger log = Logger.getLogger(JanusGraphComponentLockProvider.class.getName());
+
+    @javax.annotation.Resource
+    private JanusGraphGenericDao janusGraphGenericDao;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public StorageOperationStatus lock(String id, NodeTypeEnum nodeType) {
+        JanusGraphOperationStatus lockElementStatus;
+        try {
+            lockElementStatus = janusGraphGenericDao.lockElement(id, nodeType);
+        } catch (Exception e) {
+            log.debug("Failed to lock {}", id, e);
+            lockElementStatus = JanusGraphOperationStatus.ALREADY_LOCKED;
+        }
+        return DaoStatusConverter.convertJanusGraphStatusToStorageStatus(lockElementStatus);
+    }
+
+    @Override
+    public StorageOperationStatus unlock(String id, NodeTypeEnum nodeType) {
+        JanusGraphOperationStatus lockElementStatus = janusGraphGenericDao.releaseElement(id, nodeType);
+        return DaoStatusConverter.convertJanusGraphStatusToStorageStatus(lockElementStatus);
+    }
+}
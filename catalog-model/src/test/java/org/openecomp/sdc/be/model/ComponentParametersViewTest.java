@@ -27,6 +27,8 @@ import org.openecomp.sdc.be.datatypes.enums.ComponentTypeEnum;
 
 import java.util.LinkedList;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertSame;
 
 public class ComponentParametersViewTest {
@@ -499,4 +501,13 @@ public class ComponentParametersViewTest {
 		testSubject = createTestSubject();
 		result = testSubject.detectParseFlag();
 	}
+
+	@Test
+	public void testFingerprint() throws Exception {
+		ComponentParametersView testSubject = createTestSubject();
+		assertEquals(createTestSubject().fingerprint(), testSubject.fingerprint());
+
+		testSubject.setIgnoreDataType(true);
+		assertNotEquals(createTestSubject().fingerprint(), testSubject.fingerprint());
+	}
 }
@@ -30,15 +30,25 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.openecomp.sdc.be.dao.janusgraph.JanusGraphOperationStatus;
+import org.openecomp.sdc.be.datatypes.elements.DataTypeDataDefinition;
 import org.openecomp.sdc.be.model.DataTypeDefinition;
 import org.openecomp.sdc.be.model.operations.impl.PropertyOperation;
 import org.openecomp.sdc.be.resources.data.DataTypeData;
 import org.openecomp.sdc.be.unittests.utils.ModelConfDependentTest;
 
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class ApplicationDataTypeCacheTest extends ModelConfDependentTest{
 
@@ -88,6 +98,22 @@ public class ApplicationDataTypeCacheTest extends ModelConfDependentTest{
 		result = testSubject.getAll();
 	}
 
+	@Test
+	public void testGetAllReturnsModifiableCopy() throws Exception {
+		HashMap<String, DataTypeDefinition> a = new HashMap<>();
+		DataTypeDefinition value1 = new DataTypeDefinition();
+		value1.setUniqueId("mock");
+		a.put("mock", value1);
+		Mockito.when(propertyOperation.getAllDataTypes()).thenReturn(Either.left(a));
+		Deencapsulation.invoke(testSubject, "replaceAllData");
+
+		Map<String, DataTypeDefinition> result = testSubject.getAll().left().value();
+		result.put("private", new DataTypeDefinition());
+
+		assertEquals(2, result.size());
+		assertEquals(1, testSubject.getAll().left().value().size());
+	}
+
 	@Test
 	public void testGet() throws Exception {
 		String uniqueId = "";
@@ -145,26 +171,40 @@ public class ApplicationDataTypeCacheTest extends ModelConfDependentTest{
 	}
 	
 	@Test
-	public void testCompareDataTypes() throws Exception {
+	public void testFindChangedDataTypes() throws Exception {
 		Map<String, ImmutablePair<Long, Long>> dataTypeNameToModificationTime = new HashMap<>();
 		Map<String, ImmutablePair<Long, Long>> currentDataTypeToModificationTime = new HashMap<>();
-		boolean result;
+		Set<String> result;
 
 		// default test
-		result = Deencapsulation.invoke(testSubject, "compareDataTypes", dataTypeNameToModificationTime, currentDataTypeToModificationTime);
+		result = Deencapsulation.invoke(testSubject, "findChangedDataTypes", dataTypeNameToModificationTime, currentDataTypeToModificationTime);
+		assertTrue(result.isEmpty());
 	}
 
 	@Test
-	public void testCompareDataTypes2() throws Exception {
+	public void testFindChangedDataTypes2() throws Exception {
 		Map<String, ImmutablePair<Long, Long>> dataTypeNameToModificationTime = new HashMap<>();
 		Map<String, ImmutablePair<Long, Long>> currentDataTypeToModificationTime = new HashMap<>();
-		boolean result;
+		Set<String> result;
 		
 		currentDataTypeToModificationTime.put("mock", ImmutablePair.of(1L, 2L));
 		dataTypeNameToModificationTime.put("mock", ImmutablePair.of(5L, 6L));
 		
 		// default test
-		result = Deencapsulation.invoke(testSubject, "compareDataTypes", dataTypeNameToModificationTime, currentDataTypeToModificationTime);
+		result = Deencapsulation.invoke(testSubject, "findChangedDataTypes", dataTypeNameToModificationTime, currentDataTypeToModificationTime);
+		assertEquals(Collections.singleton("mock"), result);
+	}
+
+	@Test
+	public void testMetricsAreExposedThroughJmx() throws Exception {
+		testSubject.init();
+		try {
+			ObjectName name = new ObjectName("org.openecomp.sdc.be.model:type=ApplicationDataTypeCache");
+			assertEquals(0L, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Hits"));
+			assertEquals(-1L, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "StalenessInMs"));
+		} finally {
+			Deencapsulation.invoke(testSubject, "destroy");
+		}
 	}
 	
 	@Test
@@ -187,4 +227,78 @@ public class ApplicationDataTypeCacheTest extends ModelConfDependentTest{
 		// default test
 		Deencapsulation.invoke(testSubject, "replaceAllData");
 	}
+
+	@Test
+	public void testRunRefreshesOnlyChangedAndDerivedDataTypes() throws Exception {
+		DataTypeDefinition root = dataType("root", null, 1L);
+		DataTypeDefinition child = dataType("child", root, 1L);
+		DataTypeDefinition other = dataType("other", null, 1L);
+		Map<String, DataTypeDefinition> cached = new HashMap<>();
+		cached.put("root", root);
+		cached.put("child", child);
+		cached.put("other", other);
+		Mockito.when(propertyOperation.getAllDataTypes()).thenReturn(Either.left(cached));
+		Deencapsulation.invoke(testSubject, "replaceAllData");
+
+		DataTypeDefinition updatedRoot = dataType("root", null, 2L);
+		DataTypeDefinition reloadedChild = dataType("child", null, 1L);
+		reloadedChild.setDerivedFromName("root");
+		Either<List<DataTypeData>, JanusGraphOperationStatus> nodes = Either.left(Arrays.asList(
+				new DataTypeData(updatedRoot), new DataTypeData(reloadedChild), new DataTypeData(other)));
+		Mockito.when(propertyOperation.getAllDataTypeNodes()).thenReturn(nodes);
+		Mockito.when(propertyOperation.getDataTypeByUidWithoutDerivedDataTypes("root.uid")).thenReturn(Either.left(updatedRoot));
+		Mockito.when(propertyOperation.getDataTypeByUidWithoutDerivedDataTypes("child.uid")).thenReturn(Either.left(reloadedChild));
+
+		testSubject.run();
+
+		Map<String, DataTypeDefinition> dataTypes = testSubject.getAll().left().value();
+		assertEquals(3, dataTypes.size());
+		assertSame(updatedRoot, dataTypes.get("root"));
+		assertSame(reloadedChild, dataTypes.get("child"));
+		assertSame(updatedRoot, dataTypes.get("child").getDerivedFrom());
+		assertSame(other, dataTypes.get("other"));
+		assertSame(reloadedChild, testSubject.get("child.uid").left().value());
+		Mockito.verify(propertyOperation, Mockito.times(1)).getAllDataTypes();
+		Mockito.verify(propertyOperation, Mockito.never()).getDataTypeByUidWithoutDerivedDataTypes("other.uid");
+		assertTrue(testSubject.getStalenessInMs() >= 0);
+	}
+
+	@Test
+	public void testRunRemovesDeletedDataTypes() throws Exception {
+		DataTypeDefinition root = dataType("root", null, 1L);
+		Map<String, DataTypeDefinition> cached = new HashMap<>();
+		cached.put("root", root);
+		cached.put("removed", dataType("removed", null, 1L));
+		Mockito.when(propertyOperation.getAllDataTypes()).thenReturn(Either.left(cached));
+		Deencapsulation.invoke(testSubject, "replaceAllData");
+
+		Either<List<DataTypeData>, JanusGraphOperationStatus> nodes = Either.left(
+				Collections.singletonList(new DataTypeData(root)));
+		Mockito.when(propertyOperation.getAllDataTypeNodes()).thenReturn(nodes);
+
+		testSubject.run();
+
+		assertEquals(Collections.singleton("root"), testSubject.getAll().left().value().keySet());
+		Mockito.verify(propertyOperation, Mockito.times(1)).getAllDataTypes();
+	}
+
+	@Test
+	public void testOnDataTypesChangedIsIgnoredWhenPollingIsOff() throws Exception {
+		testSubject.onDataTypesChanged(Collections.singletonList("root"));
+		Mockito.verifyZeroInteractions(propertyOperation);
+	}
+
+	private static DataTypeDefinition dataType(String name, DataTypeDefinition derivedFrom, Long modificationTime) {
+		DataTypeDataDefinition dataTypeDataDefinition = new DataTypeDataDefinition();
+		dataTypeDataDefinition.setName(name);
+		dataTypeDataDefinition.setUniqueId(name + ".uid");
+		dataTypeDataDefinition.setCreationTime(1L);
+		dataTypeDataDefinition.setModificationTime(modificationTime);
+		DataTypeDefinition dataType = new DataTypeDefinition(dataTypeDataDefinition);
+		if (derivedFrom != null) {
+			dataType.setDerivedFromName(derivedFrom.getName());
+			dataType.setDerivedFrom(derivedFrom);
+		}
+		return dataType;
+	}
 }
@@ -0,0 +1,215 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.model.cache;
+
+import fj.data.Either;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
+import org.openecomp.sdc.be.dao.cassandra.CatalogChangesCassandraDao;
+import org.openecomp.sdc.be.dao.jsongraph.JanusGraphDao;
+import org.openecomp.sdc.be.datatypes.enums.ComponentTypeEnum;
+import org.openecomp.sdc.be.datatypes.enums.ResourceTypeEnum;
+import org.openecomp.sdc.be.model.catalog.CatalogComponent;
+import org.openecomp.sdc.be.model.catalog.CatalogSnapshot;
+import org.openecomp.sdc.be.model.jsonjanusgraph.operations.TopologyTemplateOperation;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CatalogComponentIndexTest {
+
+    @Mock
+    private TopologyTemplateOperation topologyTemplateOperation;
+
+    @Mock
+    private JanusGraphDao janusGraphDao;
+
+    @Mock
+    private CatalogChangesCassandraDao catalogChangesDao;
+
+    private CatalogComponentIndex testSubject;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        testSubject = new CatalogComponentIndex(topologyTemplateOperation, janusGraphDao, catalogChangesDao);
+        testSubject.enable();
+        when(topologyTemplateOperation.getElementCatalogData(eq(true), anyList()))
+                .thenReturn(Either.left(new ArrayList<>(Arrays.asList(component("vf1", "VF"), component("cp1", "CP")))));
+        when(topologyTemplateOperation.getElementCatalogData(eq(false), anyList()))
+                .thenReturn(Either.left(new ArrayList<>(Collections.singletonList(component("vf2", "VF")))));
+        when(catalogChangesDao.publish(anyString(), anyCollection())).thenReturn(CassandraOperationStatus.OK);
+    }
+
+    @Test
+    public void registersAsTransactionListener() {
+        verify(janusGraphDao).addTransactionListener(testSubject);
+    }
+
+    @Test
+    public void snapshotIsLoadedOnceAndFiltered() {
+        CatalogSnapshot snapshot = testSubject.getSnapshot(true, Collections.singletonList(ResourceTypeEnum.CP)).left().value();
+        assertThat(snapshot.getComponents()).extracting(CatalogComponent::getUniqueId).containsExactly("vf1");
+
+        testSubject.getSnapshot(false, null);
+        verify(topologyTemplateOperation, times(1)).getElementCatalogData(eq(true), anyList());
+    }
+
+    @Test
+    public void loadFailureIsReturned() {
+        when(topologyTemplateOperation.getElementCatalogData(eq(false), anyList())).thenReturn(Either.right(StorageOperationStatus.GENERAL_ERROR));
+        assertThat(testSubject.getSnapshot(true, null).right().value()).isEqualTo(StorageOperationStatus.GENERAL_ERROR);
+    }
+
+    @Test
+    public void refreshIsAppliedOnlyAfterCommit() {
+        testSubject.getSnapshot(true, null);
+        String versionTag = testSubject.getVersionTag();
+        when(topologyTemplateOperation.getElementCatalogData("vf1")).thenReturn(Either.left(new ImmutablePair<>(component("vf1", "VF"), false)));
+
+        testSubject.refresh("vf1");
+
+        verify(topologyTemplateOperation, never()).getElementCatalogData("vf1");
+        assertThat(testSubject.getVersionTag()).isEqualTo(versionTag);
+
+        testSubject.afterCommit();
+
+        assertThat(testSubject.getVersionTag()).isNotEqualTo(versionTag);
+        assertThat(testSubject.getSnapshot(true, null).left().value().getComponents()).extracting(CatalogComponent::getUniqueId).containsExactly("cp1");
+        verify(catalogChangesDao).publish(anyString(), eq(Collections.singleton("vf1")));
+        verify(janusGraphDao).rollback();
+    }
+
+    @Test
+    public void refreshIsDroppedOnRollback() {
+        testSubject.getSnapshot(true, null);
+
+        testSubject.refresh("vf1");
+        testSubject.afterRollback();
+        testSubject.afterCommit();
+
+        verify(topologyTemplateOperation, never()).getElementCatalogData("vf1");
+        verify(catalogChangesDao, never()).publish(anyString(), anyCollection());
+    }
+
+    @Test
+    public void archivedComponentMovesBetweenListings() {
+        testSubject.getSnapshot(true, null);
+        when(topologyTemplateOperation.getElementCatalogData("vf1")).thenReturn(Either.left(new ImmutablePair<>(component("vf1", "VF"), false)));
+
+        testSubject.refresh(Collections.singletonList("vf1"));
+        testSubject.afterCommit();
+
+        assertThat(testSubject.getSnapshot(true, null).left().value().getComponents()).extracting(CatalogComponent::getUniqueId).containsExactly("cp1");
+        assertThat(testSubject.getSnapshot(false, null).left().value().getComponents()).extracting(CatalogComponent::getUniqueId).containsOnly("vf1", "vf2");
+    }
+
+    @Test
+    public void deletedComponentIsRemoved() {
+        testSubject.getSnapshot(true, null);
+        when(topologyTemplateOperation.getElementCatalogData("cp1")).thenReturn(Either.right(StorageOperationStatus.NOT_FOUND));
+
+        testSubject.refresh("cp1");
+        testSubject.afterCommit();
+
+        assertThat(testSubject.getSnapshot(true, null).left().value().getComponents()).extracting(CatalogComponent::getUniqueId).containsExactly("vf1");
+    }
+
+    @Test
+    public void refreshFailureInvalidatesIndex() {
+        testSubject.getSnapshot(true, null);
+        String versionTag = testSubject.getVersionTag();
+        when(topologyTemplateOperation.getElementCatalogData("cp1")).thenReturn(Either.right(StorageOperationStatus.GENERAL_ERROR));
+
+        testSubject.refresh("cp1");
+        testSubject.afterCommit();
+
+        assertThat(testSubject.getVersionTag()).isNotEqualTo(versionTag);
+        testSubject.getSnapshot(true, null);
+        verify(topologyTemplateOperation, times(2)).getElementCatalogData(eq(true), anyList());
+    }
+
+    @Test
+    public void invalidateChangesVersion() {
+        testSubject.getSnapshot(true, null);
+        String versionTag = testSubject.getVersionTag();
+
+        testSubject.invalidate();
+
+        assertThat(testSubject.getVersionTag()).isNotEqualTo(versionTag);
+    }
+
+    @Test
+    public void readOlderThanReloadIsDiscarded() {
+        testSubject.getSnapshot(true, null);
+        // the index is reloaded while the refresh read is in flight; the reload started later and wins
+        when(topologyTemplateOperation.getElementCatalogData("vf1")).thenAnswer(invocation -> {
+            testSubject.rebuild();
+            return Either.left(new ImmutablePair<>(component("vf1", "VF"), false));
+        });
+
+        testSubject.refresh("vf1");
+        testSubject.afterCommit();
+
+        assertThat(testSubject.getSnapshot(true, null).left().value().getComponents()).extracting(CatalogComponent::getUniqueId).containsOnly("vf1", "cp1");
+    }
+
+    @Test
+    public void changesOfOtherNodesAreAppliedOnce() {
+        testSubject.getSnapshot(true, null);
+        when(topologyTemplateOperation.getElementCatalogData("cp1")).thenReturn(Either.right(StorageOperationStatus.NOT_FOUND));
+        when(catalogChangesDao.getChangesSince(anyLong(), anyString()))
+                .thenReturn(Either.left(Collections.singletonList(ImmutablePair.of(UUID.randomUUID(), "cp1"))));
+
+        testSubject.pollChangeFeed();
+        testSubject.pollChangeFeed();
+
+        assertThat(testSubject.getSnapshot(true, null).left().value().getComponents()).extracting(CatalogComponent::getUniqueId).containsExactly("vf1");
+        verify(topologyTemplateOperation, times(1)).getElementCatalogData("cp1");
+        verify(catalogChangesDao, never()).publish(anyString(), anyCollection());
+    }
+
+    private CatalogComponent component(String uniqueId, String resourceType) {
+        CatalogComponent component = new CatalogComponent();
+        component.setUniqueId(uniqueId);
+        component.setComponentType(ComponentTypeEnum.RESOURCE);
+        component.setResourceType(resourceType);
+        return component;
+    }
+}
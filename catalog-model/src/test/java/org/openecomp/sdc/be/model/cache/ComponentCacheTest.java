@@ -0,0 +1,158 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.model.cache;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openecomp.sdc.be.config.Configuration.ApplicationL1CacheComponentsInfo;
+import org.openecomp.sdc.be.dao.jsongraph.GraphVertex;
+import org.openecomp.sdc.be.dao.jsongraph.types.VertexTypeEnum;
+import org.openecomp.sdc.be.datatypes.enums.GraphPropertyEnum;
+import org.openecomp.sdc.be.datatypes.enums.JsonPresentationFields;
+import org.openecomp.sdc.be.model.ComponentParametersView;
+import org.openecomp.sdc.be.model.LifecycleStateEnum;
+import org.openecomp.sdc.be.model.PropertyDefinition;
+import org.openecomp.sdc.be.model.Resource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ComponentCacheTest {
+
+    private ComponentCache testSubject;
+
+    @Before
+    public void setUp() {
+        testSubject = new ComponentCache();
+        testSubject.init(config(true, 2));
+    }
+
+    @Test
+    public void certifiedComponentIsServedAsCopy() {
+        GraphVertex componentV = vertex("vf1", LifecycleStateEnum.CERTIFIED, 1L);
+        Resource resource = resource("vf1");
+        testSubject.put(componentV, new ComponentParametersView(), resource);
+        resource.setName("changedByCaller");
+
+        Optional<Resource> cached = testSubject.get(componentV, new ComponentParametersView());
+        assertThat(cached).isPresent();
+        assertThat(cached.get()).isNotSameAs(resource);
+        assertThat(cached.get().getName()).isEqualTo("vf1");
+        assertThat(cached.get().getProperties()).extracting(PropertyDefinition::getName).containsExactly("prop1");
+
+        cached.get().getProperties().clear();
+        Optional<Resource> cachedAgain = testSubject.get(componentV, new ComponentParametersView());
+        assertThat(cachedAgain.get().getProperties()).hasSize(1);
+        assertThat(testSubject.getHits()).isEqualTo(2);
+    }
+
+    @Test
+    public void componentIsMissedWhenMetadataChanged() {
+        testSubject.put(vertex("vf1", LifecycleStateEnum.CERTIFIED, 1L), new ComponentParametersView(), resource("vf1"));
+
+        assertThat(testSubject.get(vertex("vf1", LifecycleStateEnum.CERTIFIED, 2L), new ComponentParametersView())).isEmpty();
+        assertThat(testSubject.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    public void viewsAreCachedSeparately() {
+        GraphVertex componentV = vertex("vf1", LifecycleStateEnum.CERTIFIED, 1L);
+        testSubject.put(componentV, new ComponentParametersView(), resource("vf1"));
+
+        assertThat(testSubject.get(componentV, new ComponentParametersView(true))).isEmpty();
+        assertThat(testSubject.get(componentV, new ComponentParametersView())).isPresent();
+    }
+
+    @Test
+    public void notCertifiedComponentIsNotCached() {
+        GraphVertex componentV = vertex("vf1", LifecycleStateEnum.NOT_CERTIFIED_CHECKOUT, 1L);
+        testSubject.put(componentV, new ComponentParametersView(), resource("vf1"));
+
+        assertThat(testSubject.size()).isZero();
+        assertThat(testSubject.get(componentV, new ComponentParametersView())).isEmpty();
+    }
+
+    @Test
+    public void leastRecentlyUsedComponentIsEvicted() {
+        GraphVertex vf1 = vertex("vf1", LifecycleStateEnum.CERTIFIED, 1L);
+        testSubject.put(vf1, new ComponentParametersView(), resource("vf1"));
+        testSubject.put(vertex("vf2", LifecycleStateEnum.CERTIFIED, 1L), new ComponentParametersView(), resource("vf2"));
+        testSubject.get(vf1, new ComponentParametersView());
+        testSubject.put(vertex("vf3", LifecycleStateEnum.CERTIFIED, 1L), new ComponentParametersView(), resource("vf3"));
+
+        assertThat(testSubject.size()).isEqualTo(2);
+        assertThat(testSubject.get(vf1, new ComponentParametersView())).isPresent();
+        assertThat(testSubject.get(vertex("vf2", LifecycleStateEnum.CERTIFIED, 1L), new ComponentParametersView())).isEmpty();
+    }
+
+    @Test
+    public void invalidatedComponentIsRemoved() {
+        GraphVertex componentV = vertex("vf1", LifecycleStateEnum.CERTIFIED, 1L);
+        testSubject.put(componentV, new ComponentParametersView(), resource("vf1"));
+
+        testSubject.invalidate("vf1");
+
+        assertThat(testSubject.get(componentV, new ComponentParametersView())).isEmpty();
+    }
+
+    @Test
+    public void disabledCacheKeepsNothing() {
+        testSubject = new ComponentCache();
+        testSubject.init(config(false, 2));
+        GraphVertex componentV = vertex("vf1", LifecycleStateEnum.CERTIFIED, 1L);
+        testSubject.put(componentV, new ComponentParametersView(), resource("vf1"));
+
+        assertThat(testSubject.isEnabled()).isFalse();
+        assertThat(testSubject.get(componentV, new ComponentParametersView())).isEmpty();
+    }
+
+    private static ApplicationL1CacheComponentsInfo config(boolean enabled, int maxSize) {
+        ApplicationL1CacheComponentsInfo componentsInfo = new ApplicationL1CacheComponentsInfo();
+        componentsInfo.setEnabled(enabled);
+        componentsInfo.setMaxSize(maxSize);
+        return componentsInfo;
+    }
+
+    private static GraphVertex vertex(String uniqueId, LifecycleStateEnum state, long lastUpdateDate) {
+        GraphVertex componentV = new GraphVertex(VertexTypeEnum.TOPOLOGY_TEMPLATE);
+        componentV.setUniqueId(uniqueId);
+        componentV.addMetadataProperty(GraphPropertyEnum.STATE, state.name());
+        Map<String, Object> metadataJson = new HashMap<>();
+        metadataJson.put(JsonPresentationFields.LAST_UPDATE_DATE.getPresentation(), lastUpdateDate);
+        componentV.setMetadataJson(metadataJson);
+        return componentV;
+    }
+
+    private static Resource resource(String uniqueId) {
+        Resource resource = new Resource();
+        resource.setUniqueId(uniqueId);
+        resource.setName(uniqueId);
+        PropertyDefinition property = new PropertyDefinition();
+        property.setName("prop1");
+        resource.setProperties(new ArrayList<>());
+        resource.getProperties().add(property);
+        return resource;
+    }
+}
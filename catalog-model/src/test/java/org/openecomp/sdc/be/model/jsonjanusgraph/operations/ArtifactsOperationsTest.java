@@ -21,13 +21,21 @@
 package org.openecomp.sdc.be.model.jsonjanusgraph.operations;
 
 import fj.data.Either;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.janusgraph.core.JanusGraphVertex;
 import org.junit.Test;
 import org.openecomp.sdc.be.dao.janusgraph.JanusGraphOperationStatus;
+import org.openecomp.sdc.be.dao.jsongraph.GraphVertex;
+import org.openecomp.sdc.be.dao.jsongraph.JanusGraphDao;
 import org.openecomp.sdc.be.dao.jsongraph.types.EdgeLabelEnum;
+import org.openecomp.sdc.be.dao.jsongraph.types.VertexTypeEnum;
 import org.openecomp.sdc.be.datatypes.elements.ArtifactDataDefinition;
 import org.openecomp.sdc.be.datatypes.elements.MapArtifactDataDefinition;
+import org.openecomp.sdc.be.datatypes.enums.GraphPropertyEnum;
 import org.openecomp.sdc.be.datatypes.tosca.ToscaDataDefinition;
 import org.openecomp.sdc.be.model.ArtifactDefinition;
+import org.openecomp.sdc.be.model.cache.ComponentCache;
 import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
 
 import java.util.Collections;
@@ -63,6 +71,29 @@ public class ArtifactsOperationsTest {
         assertFalse(allInstArtifacts.left().value().containsKey("name4"));//this key is of different instance
     }
 
+    @Test
+    public void updateOrCopyOnUpdate_invalidatesCachedComponent() {
+        JanusGraphDao janusGraphDao = mock(JanusGraphDao.class);
+        ComponentCache componentCache = mock(ComponentCache.class);
+        testInstance.janusGraphDao = janusGraphDao;
+        testInstance.componentCache = componentCache;
+        GraphVertex serviceV = new GraphVertex(VertexTypeEnum.TOPOLOGY_TEMPLATE);
+        serviceV.setUniqueId(SERVICE_ID);
+        JanusGraphVertex serviceVertex = mock(JanusGraphVertex.class);
+        Edge edge = mock(Edge.class);
+        when(edge.outVertex()).thenReturn(serviceVertex);
+        JanusGraphVertex artifactsVertex = mock(JanusGraphVertex.class);
+        when(artifactsVertex.edges(Direction.IN, EdgeLabelEnum.TOSCA_ARTIFACTS.name()))
+                .thenReturn(Collections.singletonList(edge).iterator());
+        GraphVertex artifactsV = new GraphVertex(VertexTypeEnum.TOSCA_ARTIFACTS);
+        artifactsV.setVertex(artifactsVertex);
+        when(janusGraphDao.getProperty(serviceVertex, GraphPropertyEnum.UNIQUE_ID.getProperty())).thenReturn(SERVICE_ID);
+        when(janusGraphDao.updateVertex(artifactsV)).thenReturn(Either.left(artifactsV));
+
+        assertTrue(testInstance.updateOrCopyOnUpdate(artifactsV, serviceV, EdgeLabelEnum.TOSCA_ARTIFACTS).isLeft());
+        verify(componentCache).invalidate(SERVICE_ID);
+    }
+
     @Test
     public void getInstanceArtifacts_noArtifactsForInstance() throws Exception {
         Map<String, ToscaDataDefinition> instanceArtifacts = Collections.singletonMap(INSTANCE_ID, getArtifactsByInstance("name1"));
@@ -114,6 +114,45 @@ public class NodeTemplateOperationGraphTest extends ModelTestBase{
         validateOnGraph(mapOriginToInstId, 3);
     }
     
+    @Test
+    public void testCreateInstanceEdges(){
+        Map<String, List<String>> mapOriginToInstId = new HashMap<>();
+        String existingOriginId = createIntancesFromSameResource(mapOriginToInstId, 1, 1);
+        String newOriginId = createOrigin(2);
+
+        List<ComponentInstanceDataDefinition> componentInstances = new ArrayList<>();
+        componentInstances.add(buildInstance(existingOriginId, 1, 2));
+        componentInstances.add(buildInstance(newOriginId, 2, 1));
+        componentInstances.add(buildInstance(newOriginId, 2, 2));
+        StorageOperationStatus edgeStatus = nodeTemplateOperation.createInstanceEdges(containerVertex, componentInstances);
+        assertEquals("assertion createInstanceEdges", StorageOperationStatus.OK, edgeStatus);
+
+        mapOriginToInstId.get(existingOriginId).add(buildInstanceId(1, 2));
+        List<String> newOriginInstances = new ArrayList<>();
+        newOriginInstances.add(buildInstanceId(2, 1));
+        newOriginInstances.add(buildInstanceId(2, 2));
+        mapOriginToInstId.put(newOriginId, newOriginInstances);
+        validateOnGraph(mapOriginToInstId, 2);
+    }
+
+    @Test
+    public void testCreateInstanceEdgesContinuesAfterFailedInstance(){
+        String missingOriginId = "missingOrigin";
+        String originId = createOrigin(2);
+
+        List<ComponentInstanceDataDefinition> componentInstances = new ArrayList<>();
+        componentInstances.add(buildInstance(missingOriginId, 1, 1));
+        componentInstances.add(buildInstance(originId, 2, 1));
+        StorageOperationStatus edgeStatus = nodeTemplateOperation.createInstanceEdges(containerVertex, componentInstances);
+        assertEquals("assertion createInstanceEdges", StorageOperationStatus.NOT_FOUND, edgeStatus);
+
+        Map<String, List<String>> mapOriginToInstId = new HashMap<>();
+        List<String> originInstances = new ArrayList<>();
+        originInstances.add(buildInstanceId(2, 1));
+        mapOriginToInstId.put(originId, originInstances);
+        validateOnGraph(mapOriginToInstId, 1);
+    }
+
     @Test
     public void testRemoveInstanceEdge(){
         //create 3 instances from same resource orig1
@@ -210,6 +249,14 @@ public class NodeTemplateOperationGraphTest extends ModelTestBase{
         return instanceId;
     }
     
+    private ComponentInstanceDataDefinition buildInstance(String originId, int originIndex, int insIndex) {
+        ComponentInstanceDataDefinition componentInstance = new ComponentInstanceDataDefinition();
+        componentInstance.setComponentUid(originId);
+        componentInstance.setUniqueId(buildInstanceId(originIndex, insIndex));
+        componentInstance.setIsProxy(false);
+        return componentInstance;
+    }
+
     private String buildInstanceId(int originIndex, int insIndex) {
         StringBuffer sb = new StringBuffer("instanceId_");
         sb.append(originIndex).append("-").append(insIndex);
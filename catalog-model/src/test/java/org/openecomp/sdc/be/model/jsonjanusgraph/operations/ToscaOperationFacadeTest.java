@@ -48,6 +48,7 @@ import org.openecomp.sdc.be.dao.jsongraph.types.VertexTypeEnum;
 import org.openecomp.sdc.be.datatypes.enums.ComponentTypeEnum;
 import org.openecomp.sdc.be.datatypes.enums.GraphPropertyEnum;
 import org.openecomp.sdc.be.datatypes.enums.JsonPresentationFields;
+import org.openecomp.sdc.be.datatypes.enums.OriginTypeEnum;
 import org.openecomp.sdc.be.datatypes.enums.ResourceTypeEnum;
 import org.openecomp.sdc.be.model.Component;
 import org.openecomp.sdc.be.model.ComponentInstanceProperty;
@@ -55,6 +56,10 @@ import org.openecomp.sdc.be.model.Resource;
 import org.openecomp.sdc.be.model.LifecycleStateEnum;
 import org.openecomp.sdc.be.model.ComponentParametersView;
 import org.openecomp.sdc.be.model.PolicyDefinition;
+import org.openecomp.sdc.be.model.cache.CatalogComponentIndex;
+import org.openecomp.sdc.be.model.cache.ComponentCache;
+import org.openecomp.sdc.be.model.catalog.CatalogComponent;
+import org.openecomp.sdc.be.model.catalog.CatalogSnapshot;
 import org.openecomp.sdc.be.model.jsonjanusgraph.datamodel.NodeType;
 import org.openecomp.sdc.be.model.jsonjanusgraph.datamodel.TopologyTemplate;
 import org.openecomp.sdc.be.model.jsonjanusgraph.datamodel.ToscaElement;
@@ -78,10 +83,13 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.Collections;
 import java.util.Arrays;
+import java.util.Optional;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -113,12 +121,45 @@ public class ToscaOperationFacadeTest {
     @Mock
     private NodeTemplateOperation nodeTemplateOperationMock;
 
+    @Mock
+    private CatalogComponentIndex catalogComponentIndexMock;
+
+    @Mock
+    private ComponentCache componentCacheMock;
+
     @Before
     public void setUp() throws Exception {
         testInstance = new ToscaOperationFacade();
         MockitoAnnotations.initMocks(this);
     }
 
+    @Test
+    public void getCatalogOrArchiveComponents_servedFromIndexWhenEnabled() {
+        CatalogComponent catalogComponent = new CatalogComponent();
+        catalogComponent.setUniqueId(COMPONENT_ID);
+        when(catalogComponentIndexMock.isEnabled()).thenReturn(true);
+        when(catalogComponentIndexMock.getSnapshot(eq(true), any())).thenReturn(Either.left(new CatalogSnapshot(7, Collections.singletonList(catalogComponent))));
+
+        Either<List<CatalogComponent>, StorageOperationStatus> result = testInstance.getCatalogOrArchiveComponents(true, Collections.singletonList(OriginTypeEnum.VFC));
+
+        assertTrue(result.isLeft());
+        assertEquals(1, result.left().value().size());
+        assertEquals(COMPONENT_ID, result.left().value().get(0).getUniqueId());
+        verify(topologyTemplateOperationMock, times(0)).getElementCatalogData(eq(true), any());
+    }
+
+    @Test
+    public void getCatalogOrArchiveComponents_readFromGraphWhenIndexDisabled() {
+        when(catalogComponentIndexMock.isEnabled()).thenReturn(false);
+        when(topologyTemplateOperationMock.getElementCatalogData(eq(false), any())).thenReturn(Either.left(new ArrayList<>()));
+
+        Either<List<CatalogComponent>, StorageOperationStatus> result = testInstance.getCatalogOrArchiveComponents(false, null);
+
+        assertTrue(result.isLeft());
+        verify(topologyTemplateOperationMock).getElementCatalogData(eq(false), any());
+        assertNull(testInstance.getCatalogVersionTag());
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     public void fetchMetaDataByResourceType() throws Exception {
@@ -375,6 +416,53 @@ public class ToscaOperationFacadeTest {
         assertTrue(result.isLeft());
     }
 
+    @Test
+    public void testGetToscaElement_servedFromComponentCache() {
+        String id = "id";
+        GraphVertex graphVertex = getTopologyTemplateVertex();
+        Resource cachedResource = new Resource();
+        when(componentCacheMock.isEnabled()).thenReturn(true);
+        when(janusGraphDaoMock.getVertexById(id, JsonParseFlagEnum.ParseMetadata)).thenReturn(Either.left(graphVertex));
+        when(componentCacheMock.<Component>get(eq(graphVertex), any(ComponentParametersView.class))).thenReturn(Optional.of(cachedResource));
+
+        Either<Component, StorageOperationStatus> result = testInstance.getToscaElement(id, JsonParseFlagEnum.ParseAll);
+
+        assertTrue(result.isLeft());
+        assertSame(cachedResource, result.left().value());
+        verify(topologyTemplateOperationMock, never()).getToscaElement(any(GraphVertex.class), any(ComponentParametersView.class));
+    }
+
+    @Test
+    public void testGetToscaElement_loadedIntoComponentCache() {
+        String id = "id";
+        GraphVertex graphVertex = getTopologyTemplateVertex();
+        ComponentParametersView filters = new ComponentParametersView();
+        when(componentCacheMock.isEnabled()).thenReturn(true);
+        when(janusGraphDaoMock.getVertexById(id, JsonParseFlagEnum.ParseMetadata)).thenReturn(Either.left(graphVertex));
+        when(componentCacheMock.get(graphVertex, filters)).thenReturn(Optional.empty());
+        when(topologyTemplateOperationMock.getToscaElement(graphVertex, filters)).thenReturn(Either.left(getToscaElementForTest()));
+
+        Either<Component, StorageOperationStatus> result = testInstance.getToscaElement(id, filters);
+
+        assertTrue(result.isLeft());
+        verify(janusGraphDaoMock).parseVertexProperties(graphVertex, JsonParseFlagEnum.ParseAll);
+        verify(componentCacheMock).put(graphVertex, filters, result.left().value());
+    }
+
+    @Test
+    public void testGetToscaFullElements() {
+        List<String> ids = Arrays.asList("id1", "id2");
+        Map<String, GraphVertex> vertices = new HashMap<>();
+        vertices.put("id1", getTopologyTemplateVertex());
+        when(janusGraphDaoMock.getVerticesByUniqueIds(ids, JsonParseFlagEnum.ParseAll)).thenReturn(Either.left(vertices));
+        when(topologyTemplateOperationMock.getToscaElement(any(GraphVertex.class), any(ComponentParametersView.class))).thenReturn(Either.left(getToscaElementForTest()));
+
+        Either<Map<String, Component>, StorageOperationStatus> result = testInstance.getToscaFullElements(ids);
+
+        assertTrue(result.isLeft());
+        assertEquals(Collections.singleton("id1"), result.left().value().keySet());
+    }
+
     @Test
     public void testMarkComponentToDelete() {
         StorageOperationStatus result;
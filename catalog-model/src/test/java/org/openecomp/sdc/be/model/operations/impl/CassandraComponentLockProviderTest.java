@@ -0,0 +1,84 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.model.operations.impl;
+
+import fj.data.Either;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.openecomp.sdc.be.dao.cassandra.CassandraOperationStatus;
+import org.openecomp.sdc.be.dao.cassandra.ComponentLockCassandraDao;
+import org.openecomp.sdc.be.datatypes.enums.NodeTypeEnum;
+import org.openecomp.sdc.be.model.ModelTestBase;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CassandraComponentLockProviderTest extends ModelTestBase {
+
+    private static final String COMPONENT_ID = "componentId";
+
+    @Mock
+    private ComponentLockCassandraDao componentLockCassandraDao;
+
+    @InjectMocks
+    private CassandraComponentLockProvider lockProvider;
+
+    @BeforeClass
+    public static void setup() {
+        ModelTestBase.init();
+    }
+
+    @Test
+    public void releaseUsesTheFencingTokenOfThisNode() {
+        when(componentLockCassandraDao.acquire(anyString(), anyString(), anyLong())).thenReturn(Either.left(7L));
+        when(componentLockCassandraDao.release(anyString(), eq(7L))).thenReturn(CassandraOperationStatus.OK);
+
+        assertThat(lockProvider.lock(COMPONENT_ID, NodeTypeEnum.Resource)).isEqualTo(StorageOperationStatus.OK);
+        assertThat(lockProvider.unlock(COMPONENT_ID, NodeTypeEnum.Resource)).isEqualTo(StorageOperationStatus.OK);
+        verify(componentLockCassandraDao).release(anyString(), eq(7L));
+    }
+
+    @Test
+    public void lockNotHeldByThisNodeIsNotReleased() {
+        assertThat(lockProvider.unlock(COMPONENT_ID, NodeTypeEnum.Resource)).isEqualTo(StorageOperationStatus.NOT_FOUND);
+        verifyZeroInteractions(componentLockCassandraDao);
+    }
+
+    @Test
+    public void lockTakenOverAfterExpiryIsNotFound() {
+        when(componentLockCassandraDao.acquire(anyString(), anyString(), anyLong())).thenReturn(Either.left(7L));
+        when(componentLockCassandraDao.release(anyString(), eq(7L))).thenReturn(CassandraOperationStatus.ALREADY_LOCKED);
+
+        lockProvider.lock(COMPONENT_ID, NodeTypeEnum.Resource);
+        assertThat(lockProvider.unlock(COMPONENT_ID, NodeTypeEnum.Resource)).isEqualTo(StorageOperationStatus.NOT_FOUND);
+    }
+}
@@ -0,0 +1,88 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.be.model.operations.impl;
+
+import mockit.Deencapsulation;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.openecomp.sdc.be.datatypes.enums.NodeTypeEnum;
+import org.openecomp.sdc.be.model.ModelTestBase;
+import org.openecomp.sdc.be.model.operations.api.ComponentLockProvider;
+import org.openecomp.sdc.be.model.operations.api.StorageOperationStatus;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class GraphLockOperationTest extends ModelTestBase {
+
+    private static final String COMPONENT_ID = "componentId";
+
+    private GraphLockOperation graphLockOperation;
+
+    @BeforeClass
+    public static void setup() {
+        ModelTestBase.init();
+    }
+
+    @Before
+    public void setUp() {
+        ComponentLockProvider janusGraphProvider = mock(ComponentLockProvider.class);
+        when(janusGraphProvider.getName()).thenReturn(JanusGraphComponentLockProvider.NAME);
+        graphLockOperation = new GraphLockOperation();
+        Deencapsulation.setField(graphLockOperation, "lockProviders",
+                Arrays.asList(janusGraphProvider, new InMemoryComponentLockProvider()));
+        configurationManager.getConfiguration().setComponentLockProvider(InMemoryComponentLockProvider.NAME);
+        graphLockOperation.init();
+    }
+
+    @Test
+    public void lockIsExclusiveUntilReleased() {
+        assertThat(graphLockOperation.getLockProvider()).isEqualTo(InMemoryComponentLockProvider.NAME);
+
+        assertThat(graphLockOperation.lockComponent(COMPONENT_ID, NodeTypeEnum.Resource)).isEqualTo(StorageOperationStatus.OK);
+        assertThat(graphLockOperation.lockComponent(COMPONENT_ID, NodeTypeEnum.Resource))
+                .isEqualTo(StorageOperationStatus.FAILED_TO_LOCK_ELEMENT);
+        assertThat(graphLockOperation.lockComponent(COMPONENT_ID, NodeTypeEnum.Service)).isEqualTo(StorageOperationStatus.OK);
+
+        assertThat(graphLockOperation.unlockComponent(COMPONENT_ID, NodeTypeEnum.Resource)).isEqualTo(StorageOperationStatus.OK);
+        assertThat(graphLockOperation.lockComponent(COMPONENT_ID, NodeTypeEnum.Resource)).isEqualTo(StorageOperationStatus.OK);
+
+        assertThat(graphLockOperation.getAcquiredLocks()).isEqualTo(3);
+        assertThat(graphLockOperation.getContendedLocks()).isEqualTo(1);
+        assertThat(graphLockOperation.getReleasedLocks()).isEqualTo(1);
+    }
+
+    @Test
+    public void expiredLockCanBeTakenAgain() {
+        Long lockTimeout = configurationManager.getConfiguration().getJanusGraphLockTimeout();
+        configurationManager.getConfiguration().setJanusGraphLockTimeout(0L);
+        try {
+            assertThat(graphLockOperation.lockComponentByName(COMPONENT_ID, NodeTypeEnum.Resource)).isEqualTo(StorageOperationStatus.OK);
+            assertThat(graphLockOperation.lockComponentByName(COMPONENT_ID, NodeTypeEnum.Resource)).isEqualTo(StorageOperationStatus.OK);
+        } finally {
+            configurationManager.getConfiguration().setJanusGraphLockTimeout(lockTimeout);
+        }
+    }
+}
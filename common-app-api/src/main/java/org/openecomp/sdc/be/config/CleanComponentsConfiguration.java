@@ -26,6 +26,7 @@ public class CleanComponentsConfiguration {
 
     private long cleanIntervalInMinutes;
     private List<String> componentsToClean;
+    private long artifactPayloadGracePeriodInMinutes;
 
     public long getCleanIntervalInMinutes() {
         return cleanIntervalInMinutes;
@@ -43,4 +44,12 @@ public class CleanComponentsConfiguration {
         this.componentsToClean = componentsToClean;
     }
 
+    public long getArtifactPayloadGracePeriodInMinutes() {
+        return artifactPayloadGracePeriodInMinutes;
+    }
+
+    public void setArtifactPayloadGracePeriodInMinutes(long artifactPayloadGracePeriodInMinutes) {
+        this.artifactPayloadGracePeriodInMinutes = artifactPayloadGracePeriodInMinutes;
+    }
+
 }
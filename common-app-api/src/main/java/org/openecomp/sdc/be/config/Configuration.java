@@ -74,6 +74,7 @@ public class Configuration extends BasicConfiguration {
     private Boolean janusGraphInMemoryGraph;
     private int startMigrationFrom;
     private Long janusGraphLockTimeout;
+    private String componentLockProvider;
     private Long janusGraphReconnectIntervalInSeconds;
     private List<String> healthStatusExclude;
     private Long janusGraphHealthCheckReadTimeout;
@@ -136,6 +137,8 @@ public class Configuration extends BasicConfiguration {
 
     private boolean disableAudit;
 
+    private AsyncAuditConfig asyncAudit;
+
     private Map<String, VfModuleProperty> vfModuleProperties;
 
     private Map<String, String> genericAssetNodeTypes;
@@ -419,6 +422,14 @@ public class Configuration extends BasicConfiguration {
         this.janusGraphLockTimeout = janusGraphLockTimeout;
     }
 
+    public String getComponentLockProvider() {
+        return componentLockProvider;
+    }
+
+    public void setComponentLockProvider(String componentLockProvider) {
+        this.componentLockProvider = componentLockProvider;
+    }
+
     public Long getJanusGraphHealthCheckReadTimeout() {
         return janusGraphHealthCheckReadTimeout;
     }
@@ -1147,6 +1158,8 @@ public class Configuration extends BasicConfiguration {
     public static class ApplicationL1CacheConfig {
 
         private ApplicationL1CacheInfo datatypes;
+        private ApplicationL1CacheInfo catalog;
+        private ApplicationL1CacheComponentsInfo components;
 
         public ApplicationL1CacheInfo getDatatypes() {
             return datatypes;
@@ -1156,9 +1169,25 @@ public class Configuration extends BasicConfiguration {
             this.datatypes = datatypes;
         }
 
+        public ApplicationL1CacheInfo getCatalog() {
+            return catalog;
+        }
+
+        public void setCatalog(ApplicationL1CacheInfo catalog) {
+            this.catalog = catalog;
+        }
+
+        public ApplicationL1CacheComponentsInfo getComponents() {
+            return components;
+        }
+
+        public void setComponents(ApplicationL1CacheComponentsInfo components) {
+            this.components = components;
+        }
+
         @Override
         public String toString() {
-            return "ApplicationL1CacheConfig [datatypes=" + datatypes + "]";
+            return "ApplicationL1CacheConfig [datatypes=" + datatypes + ", catalog=" + catalog + ", components=" + components + "]";
         }
 
     }
@@ -1257,6 +1286,33 @@ public class Configuration extends BasicConfiguration {
         }
     }
 
+    public static class ApplicationL1CacheComponentsInfo {
+
+        private Boolean enabled;
+        private Integer maxSize;
+
+        public Boolean getEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(Boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Integer getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(Integer maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public String toString() {
+            return "ApplicationL1CacheComponentsInfo [enabled=" + enabled + ", maxSize=" + maxSize + "]";
+        }
+    }
+
     public static class ApplicationL1CacheCatalogInfo {
 
         private Boolean enabled;
@@ -1305,6 +1361,80 @@ public class Configuration extends BasicConfiguration {
 
     }
 
+    public static class AsyncAuditConfig {
+
+        private boolean enabled;
+        private int queueSize = 10000;
+        private int batchSize = 100;
+        private int numOfWorkers = 2;
+        private long maxBatchDelayInMs = 50;
+        private String overflowPolicy = "BLOCK";
+        private String spillDirectory;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getQueueSize() {
+            return queueSize;
+        }
+
+        public void setQueueSize(int queueSize) {
+            this.queueSize = queueSize;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public int getNumOfWorkers() {
+            return numOfWorkers;
+        }
+
+        public void setNumOfWorkers(int numOfWorkers) {
+            this.numOfWorkers = numOfWorkers;
+        }
+
+        public long getMaxBatchDelayInMs() {
+            return maxBatchDelayInMs;
+        }
+
+        public void setMaxBatchDelayInMs(long maxBatchDelayInMs) {
+            this.maxBatchDelayInMs = maxBatchDelayInMs;
+        }
+
+        public String getOverflowPolicy() {
+            return overflowPolicy;
+        }
+
+        public void setOverflowPolicy(String overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+        }
+
+        public String getSpillDirectory() {
+            return spillDirectory;
+        }
+
+        public void setSpillDirectory(String spillDirectory) {
+            this.spillDirectory = spillDirectory;
+        }
+
+        @Override
+        public String toString() {
+            return "AsyncAuditConfig [enabled=" + enabled + ", queueSize=" + queueSize + ", batchSize=" + batchSize
+                    + ", numOfWorkers=" + numOfWorkers + ", maxBatchDelayInMs=" + maxBatchDelayInMs
+                    + ", overflowPolicy=" + overflowPolicy + ", spillDirectory=" + spillDirectory + "]";
+        }
+    }
+
     public static class QueueInfo {
         private Integer numberOfCacheWorkers;
         private Integer waitOnShutDownInMinutes;
@@ -1384,6 +1514,7 @@ public class Configuration extends BasicConfiguration {
                 .append(format("JanusGraph Cfg File: %s%n", janusGraphCfgFile))
                 .append(format("JanusGraph In memory: %s%n", janusGraphInMemoryGraph))
                 .append(format("JanusGraph lock timeout: %s%n", janusGraphLockTimeout))
+                .append(format("Component lock provider: %s%n", componentLockProvider))
                 .append(format("JanusGraph reconnect interval seconds: %s%n",
                         janusGraphReconnectIntervalInSeconds))
                 .append(format("excludeResourceCategory: %s%n", excludeResourceCategory))
@@ -1533,6 +1664,14 @@ public class Configuration extends BasicConfiguration {
         this.disableAudit = enableAudit;
     }
 
+    public AsyncAuditConfig getAsyncAudit() {
+        return asyncAudit;
+    }
+
+    public void setAsyncAudit(AsyncAuditConfig asyncAudit) {
+        this.asyncAudit = asyncAudit;
+    }
+
     public Map<String, ArtifactTypeConfig> getResourceInformationalArtifacts() {
         return resourceInformationalArtifacts;
     }
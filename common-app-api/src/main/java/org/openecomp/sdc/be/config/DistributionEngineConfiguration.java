@@ -402,6 +402,12 @@ public class DistributionEngineConfiguration extends BasicConfiguration {
         private Integer maxWaitingAfterSendingSeconds;
         private Integer maxThreadPoolSize;
         private Integer minThreadPoolSize;
+        private Integer publisherMaxBatchSize;
+        private Integer publisherMaxBatchAgeMs;
+        private Integer publisherIdleTimeoutSeconds;
+        private Integer queueCapacity;
+        private Integer maxRetries;
+        private Integer retryBackoffMs;
 
         public Integer getMaxWaitingAfterSendingSeconds() {
             return maxWaitingAfterSendingSeconds;
@@ -427,10 +433,62 @@ public class DistributionEngineConfiguration extends BasicConfiguration {
             this.minThreadPoolSize = minThreadPoolSize;
         }
 
+        public Integer getPublisherMaxBatchSize() {
+            return publisherMaxBatchSize;
+        }
+
+        public void setPublisherMaxBatchSize(Integer publisherMaxBatchSize) {
+            this.publisherMaxBatchSize = publisherMaxBatchSize;
+        }
+
+        public Integer getPublisherMaxBatchAgeMs() {
+            return publisherMaxBatchAgeMs;
+        }
+
+        public void setPublisherMaxBatchAgeMs(Integer publisherMaxBatchAgeMs) {
+            this.publisherMaxBatchAgeMs = publisherMaxBatchAgeMs;
+        }
+
+        public Integer getPublisherIdleTimeoutSeconds() {
+            return publisherIdleTimeoutSeconds;
+        }
+
+        public void setPublisherIdleTimeoutSeconds(Integer publisherIdleTimeoutSeconds) {
+            this.publisherIdleTimeoutSeconds = publisherIdleTimeoutSeconds;
+        }
+
+        public Integer getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(Integer queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public Integer getMaxRetries() {
+            return maxRetries;
+        }
+
+        public void setMaxRetries(Integer maxRetries) {
+            this.maxRetries = maxRetries;
+        }
+
+        public Integer getRetryBackoffMs() {
+            return retryBackoffMs;
+        }
+
+        public void setRetryBackoffMs(Integer retryBackoffMs) {
+            this.retryBackoffMs = retryBackoffMs;
+        }
+
         @Override
         public String toString() {
             return "DistributionNotificationTopicConfig [maxWaitingAfterSendingSeconds=" + maxWaitingAfterSendingSeconds
-                    + ", maxThreadPoolSize=" + maxThreadPoolSize + ", minThreadPoolSize=" + minThreadPoolSize + "]";
+                    + ", maxThreadPoolSize=" + maxThreadPoolSize + ", minThreadPoolSize=" + minThreadPoolSize
+                    + ", publisherMaxBatchSize=" + publisherMaxBatchSize + ", publisherMaxBatchAgeMs="
+                    + publisherMaxBatchAgeMs + ", publisherIdleTimeoutSeconds=" + publisherIdleTimeoutSeconds
+                    + ", queueCapacity=" + queueCapacity + ", maxRetries=" + maxRetries + ", retryBackoffMs="
+                    + retryBackoffMs + "]";
         }
 
     }
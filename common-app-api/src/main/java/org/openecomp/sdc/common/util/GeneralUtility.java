@@ -142,6 +142,14 @@ public class GeneralUtility {
 
     }
 
+    /**
+     * @param payload
+     * @return the hex encoded SHA-256 checksum of the payload
+     */
+    public static String calculateSHA256HexByByteArray(byte[] payload) {
+        return org.apache.commons.codec.digest.DigestUtils.sha256Hex(payload);
+    }
+
     /**
      * @param data
      * @return
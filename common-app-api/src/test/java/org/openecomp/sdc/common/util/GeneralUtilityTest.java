@@ -123,6 +123,14 @@ public class GeneralUtilityTest {
 	}
 
 	
+	@Test
+	public void testCalculateSHA256HexByByteArray() throws Exception {
+		byte[] payload = "abc".getBytes();
+
+		Assert.assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad",
+				GeneralUtility.calculateSHA256HexByByteArray(payload));
+	}
+
 	@Test
 	public void testCalculateMD5Base64EncodedByString() throws Exception {
 		String data = "";
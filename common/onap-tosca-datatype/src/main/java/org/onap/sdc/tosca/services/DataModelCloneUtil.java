@@ -22,6 +22,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import org.onap.sdc.tosca.datatypes.model.AttributeDefinition;
 import org.onap.sdc.tosca.datatypes.model.Constraint;
@@ -31,10 +33,48 @@ import org.onap.sdc.tosca.error.ToscaRuntimeException;
 
 public class DataModelCloneUtil {
 
+    private static final Logger LOGGER = Logger.getLogger(DataModelCloneUtil.class.getName());
+    private static final YamlUtil TOSCA_EXTENSION_YAML_UTIL = new ToscaExtensionYamlUtil();
+
     private DataModelCloneUtil() {
         throw new IllegalStateException("Utility class");
     }
 
+    /**
+     * Deep clone an object graph of TOSCA data types.
+     * Unlike a YAML round trip, the clone keeps the runtime class of every object of the graph.
+     *
+     * @param object the object to clone
+     * @return the cloned object
+     * @throws ToscaRuntimeException if the graph holds an object which cannot be cloned
+     */
+    public static <T> T deepClone(T object) {
+        return DeepCloner.deepClone(object);
+    }
+
+    /**
+     * Clone an object as the given type. An instance of the type is deep cloned, any other object
+     * (e.g. a map read from a generic YAML collection) is converted to the type through YAML.
+     *
+     * @param object    the object to clone
+     * @param typeClass the type of the clone
+     * @return the cloned object
+     */
+    public static <T> T cloneAs(Object object, Class<T> typeClass) {
+        if (Objects.isNull(object)) {
+            return null;
+        }
+        if (typeClass.isInstance(object)) {
+            try {
+                return typeClass.cast(deepClone(object));
+            } catch (ToscaRuntimeException ex) {
+                LOGGER.log(Level.FINE, ex, () -> "Deep clone of " + object.getClass().getName()
+                        + " is not supported, cloning it through YAML");
+            }
+        }
+        return TOSCA_EXTENSION_YAML_UTIL.yamlToObject(TOSCA_EXTENSION_YAML_UTIL.objectToYaml(object), typeClass);
+    }
+
     /**
      * Clone constraints list.
      *
@@ -115,11 +155,8 @@ public class DataModelCloneUtil {
         }
 
         Map<String, PropertyDefinition> cloneMap = new HashMap<>();
-        ToscaExtensionYamlUtil toscaExtYamlUtil = new ToscaExtensionYamlUtil();
         for (Map.Entry<String, PropertyDefinition> mapEntry : stringPropertyDefinitionMap.entrySet()) {
-            PropertyDefinition propertyDefinition = toscaExtYamlUtil.yamlToObject(
-                    toscaExtYamlUtil.objectToYaml(mapEntry.getValue()), PropertyDefinition.class);
-            cloneMap.put(mapEntry.getKey(), propertyDefinition.clone());
+            cloneMap.put(mapEntry.getKey(), cloneAs(mapEntry.getValue(), PropertyDefinition.class));
         }
         return cloneMap;
     }
@@ -158,13 +195,10 @@ public class DataModelCloneUtil {
 
         Map<String, Object> cloneMap = new HashMap<>();
         for (Map.Entry<String, Object> mapEntry : stringObjectMap.entrySet()) {
-            YamlUtil yamlUtil = new YamlUtil();
             if (mapEntry.getValue() instanceof Map) {
-                Map cloneObj = yamlUtil.yamlToObject(yamlUtil.objectToYaml(mapEntry.getValue()), Map.class);
-                cloneMap.put(mapEntry.getKey(), cloneObj);
+                cloneMap.put(mapEntry.getKey(), cloneAs(mapEntry.getValue(), Map.class));
             } else if (mapEntry.getValue() instanceof List) {
-                List cloneObj = yamlUtil.yamlToObject(yamlUtil.objectToYaml(mapEntry.getValue()), List.class);
-                cloneMap.put(mapEntry.getKey(), cloneObj);
+                cloneMap.put(mapEntry.getKey(), cloneAs(mapEntry.getValue(), List.class));
             } else if (mapEntry.getValue() instanceof Cloneable) {
                 throw new ToscaRuntimeException("Clone Not Supported Exception");
             } else {
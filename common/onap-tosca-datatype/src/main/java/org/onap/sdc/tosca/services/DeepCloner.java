@@ -0,0 +1,224 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.tosca.services;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.onap.sdc.tosca.error.ToscaRuntimeException;
+
+/**
+ * Deep copies an object graph of TOSCA data types field by field, keeping the runtime class of every
+ * copied object and the sharing between the objects of the graph.
+ * Beans must have a no argument constructor. Classes of the JDK other than the immutable values,
+ * the collections, the maps, the arrays and {@link Date} are not supported.
+ * An instance copies a single graph and is not thread safe, the class metadata is shared.
+ */
+@SuppressWarnings("unchecked")
+final class DeepCloner {
+
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(String.class, Boolean.class,
+            Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+            BigInteger.class, BigDecimal.class, UUID.class, Class.class));
+    private static final Map<Class<?>, BeanType> BEAN_TYPES = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Optional<Constructor<?>>> CONTAINER_CONSTRUCTORS =
+            new ConcurrentHashMap<>();
+
+    private final Map<Object, Object> clones = new IdentityHashMap<>();
+
+    private DeepCloner() {
+    }
+
+    static <T> T deepClone(T object) {
+        return (T) new DeepCloner().cloneValue(object);
+    }
+
+    private Object cloneValue(Object value) {
+        if (value == null || IMMUTABLE_TYPES.contains(value.getClass()) || value instanceof Enum) {
+            return value;
+        }
+        Object clone = clones.get(value);
+        if (clone != null) {
+            return clone;
+        }
+        if (value instanceof Map) {
+            return cloneMap((Map<Object, Object>) value);
+        }
+        if (value instanceof Collection) {
+            return cloneCollection((Collection<Object>) value);
+        }
+        if (value.getClass().isArray()) {
+            return cloneArray(value);
+        }
+        if (value instanceof Date) {
+            return register(value, ((Date) value).clone());
+        }
+        return cloneBean(value);
+    }
+
+    private Object register(Object value, Object clone) {
+        clones.put(value, clone);
+        return clone;
+    }
+
+    private Map<Object, Object> cloneMap(Map<Object, Object> map) {
+        Map<Object, Object> clone;
+        if (map instanceof SortedMap) {
+            clone = new TreeMap<>(((SortedMap<Object, Object>) map).comparator());
+        } else {
+            clone = (Map<Object, Object>) newContainer(map.getClass()).orElseGet(LinkedHashMap::new);
+        }
+        register(map, clone);
+        for (Map.Entry<Object, Object> entry : map.entrySet()) {
+            clone.put(cloneValue(entry.getKey()), cloneValue(entry.getValue()));
+        }
+        return clone;
+    }
+
+    private Collection<Object> cloneCollection(Collection<Object> collection) {
+        Collection<Object> clone;
+        if (collection instanceof SortedSet) {
+            clone = new TreeSet<>(((SortedSet<Object>) collection).comparator());
+        } else {
+            clone = (Collection<Object>) newContainer(collection.getClass())
+                    .orElseGet(() -> collection instanceof Set ? new LinkedHashSet<>() : new ArrayList<>());
+        }
+        register(collection, clone);
+        for (Object element : collection) {
+            clone.add(cloneValue(element));
+        }
+        return clone;
+    }
+
+    private Object cloneArray(Object array) {
+        int length = Array.getLength(array);
+        Class<?> componentType = array.getClass().getComponentType();
+        Object clone = register(array, Array.newInstance(componentType, length));
+        if (componentType.isPrimitive()) {
+            System.arraycopy(array, 0, clone, 0, length);
+        } else {
+            Object[] elements = (Object[]) array;
+            Object[] cloneElements = (Object[]) clone;
+            for (int index = 0; index < length; index++) {
+                cloneElements[index] = cloneValue(elements[index]);
+            }
+        }
+        return clone;
+    }
+
+    private Object cloneBean(Object bean) {
+        BeanType beanType = BEAN_TYPES.computeIfAbsent(bean.getClass(), BeanType::new);
+        Object clone = register(bean, beanType.newInstance());
+        try {
+            for (Field field : beanType.fields) {
+                Object value = field.get(bean);
+                field.set(clone, field.getType().isPrimitive() ? value : cloneValue(value));
+            }
+        } catch (IllegalAccessException | IllegalArgumentException ex) {
+            throw new ToscaRuntimeException("Failed to clone " + bean.getClass().getName(), ex);
+        }
+        return clone;
+    }
+
+    /**
+     * Creates an empty collection or map of the given class, when the class can be instantiated publicly.
+     * Unmodifiable and other internal implementations are copied to the matching general purpose class.
+     */
+    private static Optional<Object> newContainer(Class<?> containerClass) {
+        Optional<Constructor<?>> constructor =
+                CONTAINER_CONSTRUCTORS.computeIfAbsent(containerClass, DeepCloner::getPublicConstructor);
+        return constructor.map(DeepCloner::newInstance);
+    }
+
+    private static Optional<Constructor<?>> getPublicConstructor(Class<?> containerClass) {
+        if (!Modifier.isPublic(containerClass.getModifiers()) || Modifier.isAbstract(containerClass.getModifiers())) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(containerClass.getConstructor());
+        } catch (NoSuchMethodException ex) {
+            return Optional.empty();
+        }
+    }
+
+    private static Object newInstance(Constructor<?> constructor) {
+        try {
+            return constructor.newInstance();
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException ex) {
+            throw new ToscaRuntimeException("Failed to instantiate " + constructor.getDeclaringClass().getName(), ex);
+        }
+    }
+
+    private static final class BeanType {
+
+        private final Constructor<?> constructor;
+        private final List<Field> fields;
+
+        private BeanType(Class<?> beanClass) {
+            if (beanClass.getName().startsWith("java.") || beanClass.getName().startsWith("javax.")) {
+                throw new ToscaRuntimeException("Clone of " + beanClass.getName() + " is not supported");
+            }
+            try {
+                constructor = beanClass.getDeclaredConstructor();
+                constructor.setAccessible(true);
+            } catch (NoSuchMethodException ex) {
+                throw new ToscaRuntimeException(beanClass.getName() + " has no default constructor", ex);
+            }
+            List<Field> beanFields = new ArrayList<>();
+            for (Class<?> type = beanClass; type != Object.class; type = type.getSuperclass()) {
+                for (Field field : type.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        field.setAccessible(true);
+                        beanFields.add(field);
+                    }
+                }
+            }
+            fields = Collections.unmodifiableList(beanFields);
+        }
+
+        private Object newInstance() {
+            return DeepCloner.newInstance(constructor);
+        }
+    }
+}
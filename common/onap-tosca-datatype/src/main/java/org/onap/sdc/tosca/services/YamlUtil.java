@@ -33,10 +33,18 @@ import java.beans.IntrospectionException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * The type Yaml util.
@@ -47,6 +55,28 @@ public class YamlUtil {
   private static final String DEFAULT = "default";
   private static final String DEFAULT_STR = "_default";
 
+  private static final int MAX_CACHED_PROPERTY_UTILS = 16;
+  private static final int MAX_POOLED_YAML_KEYS = 64;
+  private static final int MAX_POOLED_YAML_PER_KEY = 8;
+
+  /*
+   * The introspection of the bean properties is shared through the thread safe property utils
+   * cached per YAML util class.
+   */
+  private static final Map<Class<?>, PropertyUtils> LOADER_PROPERTY_UTILS =
+      new ConcurrentHashMap<>();
+  private static final Map<Class<?>, PropertyUtils> DUMPER_PROPERTY_UTILS =
+      new ConcurrentHashMap<>();
+
+  /*
+   * SnakeYAML instances are not thread safe, so each one is used by a single call at a time: it is
+   * taken out of its pool while in use and returned only after it completed. The loaders are
+   * pooled per YAML util class and loaded type, the dumpers per YAML util class. A static pool
+   * rather than a thread local, so the container threads do not pin the instances.
+   */
+  private static final Map<List<Class<?>>, Queue<Yaml>> LOADERS = new ConcurrentHashMap<>();
+  private static final Map<List<Class<?>>, Queue<Yaml>> DUMPERS = new ConcurrentHashMap<>();
+
   /**
    * Yaml to object t.
    *
@@ -56,12 +86,7 @@ public class YamlUtil {
    * @return the t
    */
   public <T> T yamlToObject(String yamlContent, Class<T> typClass) {
-    Constructor constructor = getConstructor(typClass);
-    constructor.setPropertyUtils(getPropertyUtils());
-    TypeDescription yamlFileDescription = new TypeDescription(typClass);
-    constructor.addTypeDescription(yamlFileDescription);
-    Yaml yaml = new Yaml(constructor);
-    T yamlObj = (T) yaml.load(yamlContent);
+    T yamlObj = (T) load(typClass, yaml -> yaml.load(yamlContent));
     //noinspection ResultOfMethodCallIgnored
     yamlObj.toString();
     return yamlObj;
@@ -81,12 +106,7 @@ public class YamlUtil {
    */
   public <T> T yamlToObject(InputStream yamlContent, Class<T> typClass) {
     try {
-      Constructor constructor = getConstructor(typClass);
-      constructor.setPropertyUtils(getPropertyUtils());
-      TypeDescription yamlFileDescription = new TypeDescription(typClass);
-      constructor.addTypeDescription(yamlFileDescription);
-      Yaml yaml = new Yaml(constructor);
-      T yamlObj = (T) yaml.load(yamlContent);
+      T yamlObj = (T) load(typClass, yaml -> yaml.load(yamlContent));
       if (yamlObj != null) {
         //noinspection ResultOfMethodCallIgnored
         yamlObj.toString();
@@ -120,7 +140,8 @@ public class YamlUtil {
   }
 
   /**
-   * Gets property utils.
+   * Gets property utils. The instance is created once per YAML util class and shared by all the
+   * threads, so it must be thread safe, as the {@link MyPropertyUtils} are.
    *
    * @return the property utils
    */
@@ -146,15 +167,66 @@ public class YamlUtil {
    * @return the string
    */
   public String objectToYaml(Object obj) {
+    return (String) withPooledYaml(DUMPERS, Collections.singletonList(getClass()),
+        this::createDumper, yaml -> yaml.dump(obj));
+  }
+
+  private Yaml createDumper() {
     DumperOptions options = new DumperOptions();
     options.setPrettyFlow(true);
     options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
+    //the custom representer tags every dumped bean class, the root included, as a map
     Representer representer = new CustomRepresenter();
-    representer.addClassTag(obj.getClass(), Tag.MAP);
-    representer.setPropertyUtils(new MyPropertyUtils());
+    representer.setPropertyUtils(
+        cachedPropertyUtils(DUMPER_PROPERTY_UTILS, MyPropertyUtils::new));
+    return new Yaml(representer, options);
+  }
 
-    Yaml yaml = new Yaml(representer, options);
-    return yaml.dump(obj);
+  private <T> Object load(Class<T> typClass, Function<Yaml, Object> loading) {
+    return withPooledYaml(LOADERS, Arrays.asList(getClass(), typClass),
+        () -> createLoader(typClass), loading);
+  }
+
+  private static Object withPooledYaml(Map<List<Class<?>>, Queue<Yaml>> pool,
+                                       List<Class<?>> key, Supplier<Yaml> yamlSupplier,
+                                       Function<Yaml, Object> using) {
+    Queue<Yaml> instances = pool.get(key);
+    if (instances == null && pool.size() < MAX_POOLED_YAML_KEYS) {
+      instances = pool.computeIfAbsent(key, pooledKey -> new ConcurrentLinkedQueue<>());
+    }
+    Yaml yaml = instances == null ? null : instances.poll();
+    if (yaml == null) {
+      yaml = yamlSupplier.get();
+    }
+    Object result = using.apply(yaml);
+    //a failed instance is dropped, it may still hold the state of the failed document
+    if (instances != null && instances.size() < MAX_POOLED_YAML_PER_KEY) {
+      instances.offer(yaml);
+    }
+    return result;
+  }
+
+  private <T> Yaml createLoader(Class<T> typClass) {
+    Constructor constructor = getConstructor(typClass);
+    constructor.setPropertyUtils(
+        cachedPropertyUtils(LOADER_PROPERTY_UTILS, this::getPropertyUtils));
+    TypeDescription yamlFileDescription = new TypeDescription(typClass);
+    constructor.addTypeDescription(yamlFileDescription);
+    return new Yaml(constructor);
+  }
+
+  private PropertyUtils cachedPropertyUtils(Map<Class<?>, PropertyUtils> cache,
+                                            Supplier<PropertyUtils> propertyUtils) {
+    PropertyUtils cached = cache.get(getClass());
+    if (cached != null) {
+      return cached;
+    }
+    PropertyUtils created = propertyUtils.get();
+    if (cache.size() >= MAX_CACHED_PROPERTY_UTILS) {
+      return created;
+    }
+    cached = cache.putIfAbsent(getClass(), created);
+    return cached == null ? created : cached;
   }
 
   /**
@@ -203,9 +275,40 @@ public class YamlUtil {
 
 
   /**
-   * The type My property utils.
+   * The type My property utils. An instance is shared by the threads loading or dumping with the
+   * YAML util, so the introspected properties are kept in concurrent maps, read without a lock.
+   * Only the first introspection of a type is synchronized, since the caches of the SnakeYAML
+   * property utils themselves are not thread safe.
    */
   public class MyPropertyUtils extends PropertyUtils {
+
+    private final Map<Class<?>, Map<String, Property>> propertiesMaps = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Set<Property>> propertySets = new ConcurrentHashMap<>();
+
+    @Override
+    protected Map<String, Property> getPropertiesMap(Class<?> type, BeanAccess bnAccess) {
+      Map<String, Property> properties = propertiesMaps.get(type);
+      if (properties == null) {
+        synchronized (this) {
+          properties = super.getPropertiesMap(type, bnAccess);
+        }
+        propertiesMaps.putIfAbsent(type, properties);
+      }
+      return properties;
+    }
+
+    @Override
+    public Set<Property> getProperties(Class<? extends Object> type, BeanAccess bnAccess) {
+      Set<Property> properties = propertySets.get(type);
+      if (properties == null) {
+        synchronized (this) {
+          properties = super.getProperties(type, bnAccess);
+        }
+        propertySets.putIfAbsent(type, properties);
+      }
+      return properties;
+    }
+
     //Unsorted properties
     @Override
     protected Set<Property> createPropertySet(Class<? extends Object> type, BeanAccess bnAccess)
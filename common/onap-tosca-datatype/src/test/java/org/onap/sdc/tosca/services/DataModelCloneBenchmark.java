@@ -0,0 +1,99 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.tosca.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import org.onap.sdc.tosca.datatypes.model.RequirementAssignment;
+import org.onap.sdc.tosca.datatypes.model.ServiceTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the YAML round trip the TOSCA data types used to be cloned with to the deep clone.
+ * Run with the main method from the test classpath, it is not part of the unit tests.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataModelCloneBenchmark {
+
+    private static final String SERVICE_TEMPLATE = "/mock/serviceTemplate/normalizeInterfaceType.yaml";
+
+    private ServiceTemplate serviceTemplate;
+    private RequirementAssignment requirementAssignment;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream yamlFile = new ToscaExtensionYamlUtil().loadYamlFileIs(SERVICE_TEMPLATE)) {
+            serviceTemplate = new ToscaExtensionYamlUtil().yamlToObject(yamlFile, ServiceTemplate.class);
+        }
+        requirementAssignment = new RequirementAssignment();
+        requirementAssignment.setCapability("tosca.capabilities.network.Bindable");
+        requirementAssignment.setNode("port_node");
+        requirementAssignment.setRelationship("tosca.relationships.network.BindsTo");
+        requirementAssignment.setOccurrences(new Object[] {1, "UNBOUNDED"});
+    }
+
+    @Benchmark
+    public ServiceTemplate yamlRoundTripServiceTemplate() {
+        return yamlRoundTrip(serviceTemplate, ServiceTemplate.class);
+    }
+
+    @Benchmark
+    public ServiceTemplate deepCloneServiceTemplate() {
+        return DataModelCloneUtil.deepClone(serviceTemplate);
+    }
+
+    @Benchmark
+    public RequirementAssignment yamlRoundTripRequirementAssignment() {
+        return yamlRoundTrip(requirementAssignment, RequirementAssignment.class);
+    }
+
+    @Benchmark
+    public RequirementAssignment deepCloneRequirementAssignment() {
+        return DataModelCloneUtil.deepClone(requirementAssignment);
+    }
+
+    private static <T> T yamlRoundTrip(Object object, Class<T> typeClass) {
+        ToscaExtensionYamlUtil toscaExtensionYamlUtil = new ToscaExtensionYamlUtil();
+        return toscaExtensionYamlUtil.yamlToObject(toscaExtensionYamlUtil.objectToYaml(object), typeClass);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(DataModelCloneBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -17,18 +17,25 @@
 package org.onap.sdc.tosca.services;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import org.junit.Assert;
 import org.junit.Test;
 import org.onap.sdc.tosca.datatypes.model.Constraint;
 import org.onap.sdc.tosca.datatypes.model.Implementation;
+import org.onap.sdc.tosca.datatypes.model.NodeTemplate;
 import org.onap.sdc.tosca.datatypes.model.OperationDefinition;
 import org.onap.sdc.tosca.datatypes.model.OperationDefinitionTemplate;
 import org.onap.sdc.tosca.datatypes.model.OperationDefinitionType;
 import org.onap.sdc.tosca.datatypes.model.PropertyDefinition;
+import org.onap.sdc.tosca.datatypes.model.RequirementAssignment;
 import org.onap.sdc.tosca.datatypes.model.Status;
+import org.onap.sdc.tosca.datatypes.model.extension.RequirementAssignmentExt;
+import org.onap.sdc.tosca.error.ToscaRuntimeException;
 
 public class DataModelCloneUtilTest {
 
@@ -203,4 +210,53 @@ public class DataModelCloneUtilTest {
         return operationDefinitionType;
     }
 
+    @Test
+    public void deepCloneNodeTemplateTest() {
+        RequirementAssignment requirementAssignment = new RequirementAssignment();
+        requirementAssignment.setCapability(VAL1);
+        requirementAssignment.setOccurrences(new Object[] {1, "UNBOUNDED"});
+        Map<String, RequirementAssignment> requirement = new HashMap<>();
+        requirement.put(KEY1, requirementAssignment);
+        requirement.put(KEY2, requirementAssignment);
+        NodeTemplate nodeTemplate = new NodeTemplate();
+        nodeTemplate.setType(VAL2);
+        nodeTemplate.setRequirements(new ArrayList<>(Collections.singletonList(requirement)));
+        nodeTemplate.setProperties(new HashMap<>());
+        nodeTemplate.getProperties().put(KEY3, new ArrayList<>(Collections.singletonList(VAL1)));
+
+        NodeTemplate clone = DataModelCloneUtil.deepClone(nodeTemplate);
+
+        Assert.assertNotSame(nodeTemplate, clone);
+        Assert.assertEquals(nodeTemplate, clone);
+        RequirementAssignment clonedAssignment = clone.getRequirements().get(0).get(KEY1);
+        Assert.assertEquals(RequirementAssignment.class, clonedAssignment.getClass());
+        Assert.assertNotSame(requirementAssignment, clonedAssignment);
+        Assert.assertNotSame(requirementAssignment.getOccurrences(), clonedAssignment.getOccurrences());
+        Assert.assertSame(clonedAssignment, clone.getRequirements().get(0).get(KEY2));
+        Assert.assertNotSame(nodeTemplate.getProperties().get(KEY3), clone.getProperties().get(KEY3));
+
+        clonedAssignment.setCapability(VAL2);
+        clone.getRequirements().clear();
+        Assert.assertEquals(VAL1, requirementAssignment.getCapability());
+        Assert.assertEquals(1, nodeTemplate.getRequirements().size());
+    }
+
+    @Test
+    public void cloneAsConvertsMapToTypeTest() {
+        Map<String, Object> requirementAssignment = new LinkedHashMap<>();
+        requirementAssignment.put("capability", VAL1);
+        requirementAssignment.put("node", VAL2);
+
+        RequirementAssignment clone = DataModelCloneUtil.cloneAs(requirementAssignment, RequirementAssignment.class);
+
+        Assert.assertEquals(RequirementAssignmentExt.class, clone.getClass());
+        Assert.assertEquals(VAL1, clone.getCapability());
+        Assert.assertEquals(VAL2, clone.getNode());
+        Assert.assertNull(DataModelCloneUtil.cloneAs(null, RequirementAssignment.class));
+    }
+
+    @Test(expected = ToscaRuntimeException.class)
+    public void deepCloneUnsupportedTypeTest() {
+        DataModelCloneUtil.deepClone(Collections.singletonMap(KEY1, Optional.of(VAL1)));
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onap.sdc.tosca.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Assert;
+import org.junit.Test;
+import org.onap.sdc.tosca.datatypes.model.RequirementAssignment;
+
+public class YamlUtilTest {
+
+    private static final String UNKNOWN_PROPERTY_YAML = "capability: cap1\nunknown_property: value\n";
+
+    @Test
+    public void pooledYamlRoundTripTest() {
+        YamlUtil yamlUtil = new YamlUtil();
+        RequirementAssignment first = createRequirementAssignment("node1");
+        RequirementAssignment second = createRequirementAssignment("node2");
+
+        Assert.assertEquals(first, yamlUtil.yamlToObject(yamlUtil.objectToYaml(first), RequirementAssignment.class));
+        Assert.assertEquals(second, yamlUtil.yamlToObject(yamlUtil.objectToYaml(second), RequirementAssignment.class));
+    }
+
+    @Test
+    public void failedLoadDoesNotAffectNextLoadTest() {
+        YamlUtil yamlUtil = new YamlUtil();
+        try {
+            yamlUtil.yamlToObject(UNKNOWN_PROPERTY_YAML, RequirementAssignment.class);
+            Assert.fail("an unknown property must fail the load");
+        } catch (RuntimeException expected) {
+            //the failed loader is not returned to the pool
+        }
+        RequirementAssignment requirement = createRequirementAssignment("node1");
+        Assert.assertEquals(requirement,
+                yamlUtil.yamlToObject(yamlUtil.objectToYaml(requirement), RequirementAssignment.class));
+    }
+
+    @Test
+    public void concurrentYamlRoundTripTest() throws Exception {
+        YamlUtil yamlUtil = new ToscaExtensionYamlUtil();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> roundTrips = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                RequirementAssignment requirement = createRequirementAssignment("node" + i);
+                roundTrips.add(executor.submit(() -> requirement.getNode().equals(yamlUtil.yamlToObject(
+                        yamlUtil.objectToYaml(requirement), RequirementAssignment.class).getNode())));
+            }
+            for (Future<Boolean> roundTrip : roundTrips) {
+                Assert.assertTrue(roundTrip.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static RequirementAssignment createRequirementAssignment(String node) {
+        RequirementAssignment requirement = new RequirementAssignment();
+        requirement.setCapability("tosca.capabilities.Node");
+        requirement.setNode(node);
+        requirement.setRelationship("tosca.relationships.DependsOn");
+        return requirement;
+    }
+}
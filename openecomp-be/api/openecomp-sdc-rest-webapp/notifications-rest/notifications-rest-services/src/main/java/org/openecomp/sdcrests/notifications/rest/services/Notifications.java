@@ -29,6 +29,7 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import org.openecomp.sdcrests.notifications.types.NotificationsStatusDto;
+import org.openecomp.sdcrests.notifications.types.NotifiedOwnersDto;
 import org.openecomp.sdcrests.notifications.types.UpdateNotificationResponseStatus;
 import org.springframework.validation.annotation.Validated;
 
@@ -49,6 +50,7 @@ import static org.openecomp.sdcrests.common.RestConstants.*;
 public interface Notifications {
   String LIMIT_QUERY_PARAM = "NOTIFICATION_ROWS_LIMIT";
   String END_OF_PAGE_QUERY_PARAM = "END_OF_PAGE_EVENT_ID";
+  String LAST_SCANNED_QUERY_PARAM = "LAST_SCANNED_EVENT_ID";
 
   @GET
   @Operation(description = "Retrieve all user notifications", responses = @ApiResponse(content = @Content(array = @ArraySchema( schema = @Schema(implementation = NotificationsStatusDto.class)))))
@@ -81,4 +83,10 @@ public interface Notifications {
       @QueryParam(LAST_DELIVERED_QUERY_PARAM) String eventId,
       @QueryParam(LIMIT_QUERY_PARAM) String limit);
 
+  @GET
+  @Path("/worker/owners")
+  @Operation(description = "Retrieve the owners notified since the last scan", responses = @ApiResponse(content = @Content(schema = @Schema(implementation = NotifiedOwnersDto.class))))
+  Response getNotifiedOwners(
+      @QueryParam(LAST_SCANNED_QUERY_PARAM) String lastScanned);
+
 }
@@ -20,6 +20,7 @@
 
 package org.openecomp.sdcrests.notifications.rest.services.impl;
 
+import com.datastax.driver.core.utils.UUIDs;
 import org.openecomp.sdc.common.errors.Messages;
 import org.openecomp.sdc.datatypes.error.ErrorLevel;
 import org.openecomp.sdc.datatypes.error.ErrorMessage;
@@ -34,6 +35,7 @@ import org.openecomp.sdcrests.notifications.rest.mapping.MapNotificationsStatusT
 import org.openecomp.sdcrests.notifications.rest.mapping.MapNotificationsToDto;
 import org.openecomp.sdcrests.notifications.rest.services.Notifications;
 import org.openecomp.sdcrests.notifications.types.NotificationsStatusDto;
+import org.openecomp.sdcrests.notifications.types.NotifiedOwnersDto;
 import org.openecomp.sdcrests.notifications.types.UpdateNotificationResponseStatus;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Service;
@@ -41,6 +43,7 @@ import org.springframework.stereotype.Service;
 import javax.inject.Named;
 import javax.ws.rs.core.Response;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -129,4 +132,18 @@ public class NotificationsImpl implements Notifications {
 
         return Response.ok(notificationsStatusDto).build();
     }
+
+    @Override
+    public Response getNotifiedOwners(String lastScanned) {
+        // taken before the read, so the next scan starts no later than this one
+        UUID scanned = UUIDs.timeBased();
+        NotifiedOwnersDto notifiedOwnersDto = new NotifiedOwnersDto();
+        if (Objects.nonNull(lastScanned)) {
+            notifiedOwnersDto.setOwners(
+                new ArrayList<>(notificationsService.getOwnersNotifiedAfter(UUID.fromString(lastScanned))));
+        }
+        notifiedOwnersDto.setLastScanned(scanned);
+
+        return Response.ok(notifiedOwnersDto).build();
+    }
 }
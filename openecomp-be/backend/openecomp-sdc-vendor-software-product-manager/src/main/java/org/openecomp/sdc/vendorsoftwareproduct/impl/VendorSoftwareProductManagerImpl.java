@@ -18,6 +18,7 @@ package org.openecomp.sdc.vendorsoftwareproduct.impl;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.openecomp.core.dao.UniqueValueDao;
@@ -58,6 +59,7 @@ import org.openecomp.sdc.vendorsoftwareproduct.dao.DeploymentFlavorDao;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.ImageDao;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.NicDao;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.OrchestrationTemplateDao;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.PackageContentDao;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.PackageInfoDao;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.VendorSoftwareProductInfoDao;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.VspMergeDao;
@@ -108,14 +110,18 @@ import org.openecomp.sdc.versioning.VersioningManagerFactory;
 import org.openecomp.sdc.versioning.VersioningUtil;
 import org.openecomp.sdc.versioning.dao.types.Version;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -145,6 +151,7 @@ public class VendorSoftwareProductManagerImpl implements VendorSoftwareProductMa
   private VendorLicenseArtifactsService licenseArtifactsService;
   private InformationArtifactGenerator informationArtifactGenerator;
   private PackageInfoDao packageInfoDao;
+  private PackageContentDao packageContentDao;
   private DeploymentFlavorDao deploymentFlavorDao;
   private ComponentDao componentDao;
   private ComponentDependencyModelDao componentDependencyModelDao;
@@ -554,15 +561,23 @@ public class VendorSoftwareProductManagerImpl implements VendorSoftwareProductMa
       throw new CoreException(new PackageNotFoundErrorBuilder(vspId, version).build());
     }
 
+    Optional<InputStream> translatedContent = packageContentDao.get(vspId, version);
     ByteBuffer translatedFileBuffer = packageInfo.getTranslatedFile();
-    if (translatedFileBuffer == null) {
+    if (!translatedContent.isPresent() && translatedFileBuffer == null) {
       throw new CoreException(new PackageInvalidErrorBuilder(vspId, version).build());
     }
 
     File translatedFile = new File(VendorSoftwareProductConstants.VSP_PACKAGE_ZIP);
 
     try (FileOutputStream fos = new FileOutputStream(translatedFile)) {
-      fos.write(translatedFileBuffer.array());
+      if (translatedContent.isPresent()) {
+        try (InputStream content = translatedContent.get()) {
+          IOUtils.copy(content, fos);
+        }
+      } else {
+        // packages created before the content was stored in chunks
+        fos.write(translatedFileBuffer.array());
+      }
     } catch (IOException exception) {
       throw new CoreException(new TranslationFileCreationErrorBuilder(vspId, version).build(),
           exception);
@@ -631,13 +646,35 @@ public class VendorSoftwareProductManagerImpl implements VendorSoftwareProductMa
         etsiService.moveNonManoFileToArtifactFolder(handler, manifest);
         packageInfo.setResourceType(etsiService.getResourceType(manifest).name());
     }
-    packageInfo.setTranslatedFile(ByteBuffer.wrap(
-        toscaServiceTemplateServiceCsar.createOutputFile(toscaServiceModel, licenseArtifacts)));
+    storePackageContent(vspId, version, toscaServiceTemplateServiceCsar, toscaServiceModel,
+        licenseArtifacts);
 
     packageInfoDao.create(packageInfo);
     return packageInfo;
   }
 
+  /**
+   * The CSAR is written to a temporary file and stored from there chunk by chunk, so neither the
+   * CSAR nor its content in the database is ever held in memory as a whole.
+   */
+  private void storePackageContent(String vspId, Version version,
+                                   ToscaFileOutputServiceCsarImpl toscaServiceTemplateServiceCsar,
+                                   ToscaServiceModel toscaServiceModel,
+                                   FileContentHandler licenseArtifacts) throws IOException {
+    Path csarFile = Files.createTempFile("vsp-package-", ".csar");
+    try {
+      try (OutputStream csar = new BufferedOutputStream(Files.newOutputStream(csarFile))) {
+        toscaServiceTemplateServiceCsar
+            .createOutputFile(toscaServiceModel, licenseArtifacts, csar);
+      }
+      try (InputStream csar = new BufferedInputStream(Files.newInputStream(csarFile))) {
+        packageContentDao.store(vspId, version, csar);
+      }
+    } finally {
+      Files.deleteIfExists(csarFile);
+    }
+  }
+
   void populateVersionsForVlm(String vlmId, Version vlmVersion) {
     VersioningManager versioningManager = VersioningManagerFactory.getInstance().createInterface();
     versioningManager.list(vlmId).stream()
@@ -839,6 +876,7 @@ public class VendorSoftwareProductManagerImpl implements VendorSoftwareProductMa
     private VendorLicenseArtifactsService licenseArtifactsService;
     private InformationArtifactGenerator informationArtifactGenerator;
     private PackageInfoDao packageInfoDao;
+    private PackageContentDao packageContentDao;
     private DeploymentFlavorDao deploymentFlavorDao;
     private ComponentDao componentDao;
     private ComponentDependencyModelDao componentDependencyModelDao;
@@ -899,6 +937,11 @@ public class VendorSoftwareProductManagerImpl implements VendorSoftwareProductMa
       return this;
     }
 
+    public Builder packageContent(PackageContentDao packageContentDao) {
+      this.packageContentDao = packageContentDao;
+      return this;
+    }
+
     public Builder deploymentFlavor(DeploymentFlavorDao deploymentFlavorDao) {
       this.deploymentFlavorDao = deploymentFlavorDao;
       return this;
@@ -967,6 +1010,7 @@ public class VendorSoftwareProductManagerImpl implements VendorSoftwareProductMa
       vendorSoftwareProductManager.licenseArtifactsService = this.licenseArtifactsService;
       vendorSoftwareProductManager.informationArtifactGenerator = this.informationArtifactGenerator;
       vendorSoftwareProductManager.packageInfoDao = this.packageInfoDao;
+      vendorSoftwareProductManager.packageContentDao = this.packageContentDao;
       vendorSoftwareProductManager.deploymentFlavorDao = this.deploymentFlavorDao;
       vendorSoftwareProductManager.componentDao = this.componentDao;
       vendorSoftwareProductManager.componentDependencyModelDao = this.componentDependencyModelDao;
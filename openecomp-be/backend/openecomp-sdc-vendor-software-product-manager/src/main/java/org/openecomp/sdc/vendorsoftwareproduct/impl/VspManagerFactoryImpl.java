@@ -31,6 +31,7 @@ import org.openecomp.sdc.vendorsoftwareproduct.dao.DeploymentFlavorDaoFactory;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.ImageDaoFactory;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.NicDaoFactory;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.OrchestrationTemplateDaoFactory;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.PackageContentDaoFactory;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.PackageInfoDaoFactory;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.VendorSoftwareProductInfoDaoFactory;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.VspMergeDaoFactory;
@@ -49,6 +50,7 @@ public class VspManagerFactoryImpl extends VspManagerFactory {
           .licenseArtifactsService(VendorLicenseArtifactServiceFactory.getInstance().createInterface())
           .informationArtifactGenerator(InformationArtifactGeneratorFactory.getInstance().createInterface())
           .packageInfo(PackageInfoDaoFactory.getInstance().createInterface())
+          .packageContent(PackageContentDaoFactory.getInstance().createInterface())
           .deploymentFlavor(DeploymentFlavorDaoFactory.getInstance().createInterface())
           .component(ComponentDaoFactory.getInstance().createInterface())
           .componentDependencyModel(ComponentDependencyModelDaoFactory.getInstance().createInterface())
@@ -52,6 +52,7 @@ import org.openecomp.sdc.vendorsoftwareproduct.VendorSoftwareProductConstants;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.ComponentDependencyModelDao;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.DeploymentFlavorDao;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.OrchestrationTemplateDao;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.PackageContentDao;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.PackageInfoDao;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.VendorSoftwareProductInfoDao;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.type.DeploymentFlavorEntity;
@@ -70,12 +71,14 @@ import org.openecomp.sdc.versioning.dao.types.VersionStatus;
 import org.openecomp.sdc.versioning.types.VersionInfo;
 import org.openecomp.sdc.versioning.types.VersionableEntityAction;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -90,6 +93,7 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyObject;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -130,6 +134,8 @@ public class VendorSoftwareProductManagerImplTest {
   @Mock
   private PackageInfoDao packageInfoDao;
   @Mock
+  private PackageContentDao packageContentDao;
+  @Mock
   private VendorSoftwareProductInfoDao vspInfoDaoMock;
   @Mock
   private ManualVspToscaManager manualVspToscaManager;
@@ -538,6 +544,39 @@ public class VendorSoftwareProductManagerImplTest {
 
     PackageInfo packageInfo = vendorSoftwareProductManager.createPackage(VSP_ID, VERSION10);
     Assert.assertNotNull(packageInfo.getVspId());
+    Assert.assertNull(packageInfo.getTranslatedFile());
+    verify(packageContentDao).store(eq(VSP_ID), eq(VERSION10), any(InputStream.class));
+  }
+
+  @Test
+  public void testGetTranslatedFileFromPackageContent() throws IOException {
+    doReturn(new PackageInfo(VSP_ID, VERSION10)).when(packageInfoDao).get(any(PackageInfo.class));
+    byte[] content = "csar content".getBytes();
+    doReturn(Optional.of(new ByteArrayInputStream(content))).when(packageContentDao)
+        .get(VSP_ID, VERSION10);
+
+    File translatedFile = vendorSoftwareProductManager.getTranslatedFile(VSP_ID, VERSION10);
+    try {
+      Assert.assertArrayEquals(content, Files.readAllBytes(translatedFile.toPath()));
+    } finally {
+      Files.deleteIfExists(translatedFile.toPath());
+    }
+  }
+
+  @Test
+  public void testGetTranslatedFileStoredInPackageInfo() throws IOException {
+    byte[] content = "csar content".getBytes();
+    PackageInfo packageInfo = new PackageInfo(VSP_ID, VERSION10);
+    packageInfo.setTranslatedFile(ByteBuffer.wrap(content));
+    doReturn(packageInfo).when(packageInfoDao).get(any(PackageInfo.class));
+    doReturn(Optional.empty()).when(packageContentDao).get(VSP_ID, VERSION10);
+
+    File translatedFile = vendorSoftwareProductManager.getTranslatedFile(VSP_ID, VERSION10);
+    try {
+      Assert.assertArrayEquals(content, Files.readAllBytes(translatedFile.toPath()));
+    } finally {
+      Files.deleteIfExists(translatedFile.toPath());
+    }
   }
 
   // TODO: 3/15/2017 fix and enable
@@ -73,6 +73,12 @@ public interface ZusammenAdaptor {
   Optional<Element> getElement(SessionContext context, ElementContext elementContext,
                                String elementId); // TODO: 4/3/2017 change to Id
 
+  /**
+   * Reads the elements with the given ids, in their order. Missing elements are returned as null.
+   */
+  Collection<Element> getElements(SessionContext context, ElementContext elementContext,
+                                  Collection<Id> elementIds);
+
   Optional<Element> getElementByName(SessionContext context, ElementContext elementContext,
                                      Id parentElementId, String elementName);
 
@@ -35,14 +35,38 @@ import com.amdocs.zusammen.datatypes.itemversion.ItemVersionRevisions;
 import com.amdocs.zusammen.datatypes.itemversion.Tag;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.openecomp.core.zusammen.api.ZusammenAdaptor;
 import org.openecomp.core.zusammen.db.ZusammenConnector;
+import org.openecomp.sdc.common.session.SessionContextProvider;
+import org.openecomp.sdc.common.session.SessionContextProviderFactory;
+import org.openecomp.sdc.logging.api.LoggingContext;
 
 public class ZusammenAdaptorImpl implements ZusammenAdaptor {
 
+  // Zusammen reads one element per query, sub elements are read concurrently on a bounded pool
+  private static final String ELEMENT_READERS_PROPERTY_NAME = "zusammen.element.readers";
+  private static final int DEFAULT_ELEMENT_READERS = 8;
+  private static final AtomicInteger ELEMENT_READER_COUNT = new AtomicInteger();
+  private static final ExecutorService ELEMENT_READERS = Executors.newFixedThreadPool(
+      Math.max(1, Integer.getInteger(ELEMENT_READERS_PROPERTY_NAME, DEFAULT_ELEMENT_READERS)),
+      runnable -> {
+        Thread thread = new Thread(runnable,
+            "zusammen-element-reader-" + ELEMENT_READER_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+
   private ZusammenConnector connector;
 
   public ZusammenAdaptorImpl(ZusammenConnector connector) {
@@ -61,6 +85,60 @@ public class ZusammenAdaptorImpl implements ZusammenAdaptor {
     return Optional.ofNullable(connector.getElement(context, elementContext, new Id(elementId)));
   }
 
+  @Override
+  public Collection<Element> getElements(SessionContext context, ElementContext elementContext,
+                                         Collection<Id> elementIds) {
+    if (elementIds == null || elementIds.isEmpty()) {
+      return new ArrayList<>();
+    }
+    if (elementIds.size() == 1) {
+      return elementIds.stream()
+          .map(elementId -> connector.getElement(context, elementContext, elementId))
+          .collect(Collectors.toList());
+    }
+
+    List<CompletableFuture<Element>> reads = elementIds.stream()
+        .map(elementId -> CompletableFuture.supplyAsync(inCallerContext(context,
+            () -> connector.getElement(context, elementContext, elementId)), ELEMENT_READERS))
+        .collect(Collectors.toList());
+    try {
+      return reads.stream().map(CompletableFuture::join).collect(Collectors.toList());
+    } catch (CompletionException e) {
+      // reads which did not start yet are skipped, the running ones complete on their own
+      reads.forEach(read -> read.cancel(false));
+      throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+    }
+  }
+
+  /**
+   * Runs a read on a pool thread with the logging context of the calling thread and with the
+   * session of the given context, so the read is logged and authorized as the caller.
+   */
+  private static <T> Supplier<T> inCallerContext(SessionContext context, Supplier<T> read) {
+    Callable<T> task = LoggingContext.copyToCallable(() -> {
+      if (context.getUser() == null) {
+        return read.get();
+      }
+      SessionContextProvider sessionContextProvider =
+          SessionContextProviderFactory.getInstance().createInterface();
+      sessionContextProvider.create(context.getUser().getUserId(), context.getTenant());
+      try {
+        return read.get();
+      } finally {
+        sessionContextProvider.close();
+      }
+    });
+    return () -> {
+      try {
+        return task.call();
+      } catch (RuntimeException e) {
+        throw e;
+      } catch (Exception e) {
+        throw new CompletionException(e);
+      }
+    };
+  }
+
   @Override
   public Optional<Element> getElementByName(
       SessionContext context, ElementContext elementContext, Id parentElementId,
@@ -89,9 +167,9 @@ public class ZusammenAdaptorImpl implements ZusammenAdaptor {
 
     return elementInfoList == null
         ? new ArrayList<>()
-        : elementInfoList.stream()
-            .map(elementInfo -> connector.getElement(context, elementContext, elementInfo.getId()))
-            .collect(Collectors.toList());
+        : getElements(context, elementContext, elementInfoList.stream()
+            .map(ElementInfo::getId)
+            .collect(Collectors.toList()));
   }
 
 
@@ -21,8 +21,11 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 
 import com.amdocs.zusammen.adaptor.inbound.api.types.item.Element;
@@ -37,6 +40,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
@@ -127,6 +131,46 @@ public class ZusammenAdaptorImplTest {
         assertEquals(returnedElements, elements);
     }
 
+    @Test
+    public void getElementsInRequestedOrder() {
+        List<ZusammenElement> returnedElements =
+                Arrays.asList(new ZusammenElement(), new ZusammenElement(), new ZusammenElement());
+        doReturn(returnedElements.get(0)).when(connector).getElement(CONTEXT, ELEMENT_CONTEXT, ELEMENTS.get(0).getId());
+        doReturn(returnedElements.get(1)).when(connector).getElement(CONTEXT, ELEMENT_CONTEXT, ELEMENTS.get(1).getId());
+        doReturn(returnedElements.get(2)).when(connector).getElement(CONTEXT, ELEMENT_CONTEXT, ELEMENTS.get(2).getId());
+
+        Collection<Element> elements = zusammenAdaptor.getElements(CONTEXT, ELEMENT_CONTEXT,
+                Arrays.asList(ELEMENTS.get(2).getId(), ELEMENTS.get(0).getId(), ELEMENTS.get(1).getId()));
+
+        assertEquals(Arrays.asList(returnedElements.get(2), returnedElements.get(0), returnedElements.get(1)),
+                elements);
+    }
+
+    @Test
+    public void readElementsOnNumberedReaderThreads() {
+        List<String> readerThreads = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            readerThreads.add(Thread.currentThread().getName());
+            return new ZusammenElement();
+        }).when(connector).getElement(eq(CONTEXT), eq(ELEMENT_CONTEXT), any(Id.class));
+
+        zusammenAdaptor.getElements(CONTEXT, ELEMENT_CONTEXT,
+                Arrays.asList(ELEMENTS.get(0).getId(), ELEMENTS.get(1).getId()));
+
+        assertEquals(2, readerThreads.size());
+        readerThreads.forEach(name -> assertTrue(name, name.matches("zusammen-element-reader-\\d+")));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void failGetElementsWhenElementReadFails() {
+        doReturn(new ZusammenElement()).when(connector).getElement(CONTEXT, ELEMENT_CONTEXT, ELEMENTS.get(0).getId());
+        doThrow(new IllegalStateException("read failed")).when(connector)
+                .getElement(CONTEXT, ELEMENT_CONTEXT, ELEMENTS.get(1).getId());
+
+        zusammenAdaptor.getElements(CONTEXT, ELEMENT_CONTEXT,
+                Arrays.asList(ELEMENTS.get(0).getId(), ELEMENTS.get(1).getId()));
+    }
+
     @Test
     public void getEmptyListWhenParentElementNameNotExist() {
         doReturn(ELEMENTS).when(connector).listElements(CONTEXT, ELEMENT_CONTEXT, ELEMENT_ID);
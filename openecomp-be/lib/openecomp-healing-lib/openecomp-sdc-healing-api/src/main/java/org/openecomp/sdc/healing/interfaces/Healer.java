@@ -16,11 +16,33 @@
 
 package org.openecomp.sdc.healing.interfaces;
 
+import org.openecomp.sdc.healing.types.ItemVersionSnapshot;
 import org.openecomp.sdc.versioning.dao.types.Version;
 
+import java.util.Collection;
+import java.util.Collections;
+
 public interface Healer {
 
   boolean isHealingNeeded(String itemId, Version version);
 
   void heal(String itemId, Version version) throws Exception;
+
+  /**
+   * Healers which, if they run in the same healing pass, must complete before this one starts.
+   * The healers of a pass heal the item version one after the other, on the calling thread, in an
+   * order which respects these dependencies. This healer is skipped if one of them failed.
+   */
+  default Collection<Class<? extends Healer>> getDependencies() {
+    return Collections.emptyList();
+  }
+
+  default boolean isHealingNeeded(String itemId, Version version, ItemVersionSnapshot snapshot) {
+    return isHealingNeeded(itemId, version);
+  }
+
+  default void heal(String itemId, Version version, ItemVersionSnapshot snapshot)
+      throws Exception {
+    heal(itemId, version);
+  }
 }
@@ -0,0 +1,64 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.healing.types;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
+
+/**
+ * Data of an item version shared by the healers checking or healing it in one healing pass.
+ * Each entry is loaded once, by the first healer asking for it, even when healers run
+ * concurrently. A healer changing data it loaded through the snapshot must invalidate it.
+ */
+public class ItemVersionSnapshot {
+
+  private final Map<String, FutureTask<Object>> entries = new ConcurrentHashMap<>();
+
+  @SuppressWarnings("unchecked")
+  public <T> T get(String key, Supplier<T> loader) {
+    FutureTask<Object> entry = new FutureTask<>(loader::get);
+    FutureTask<Object> existing = entries.putIfAbsent(key, entry);
+    if (existing == null) {
+      entry.run();
+    } else {
+      entry = existing;
+    }
+    try {
+      return (T) entry.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while loading " + key, e);
+    } catch (ExecutionException e) {
+      entries.remove(key, entry);
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException("Failed to load " + key, e.getCause());
+    }
+  }
+
+  public void invalidate(String key) {
+    entries.remove(key);
+  }
+}
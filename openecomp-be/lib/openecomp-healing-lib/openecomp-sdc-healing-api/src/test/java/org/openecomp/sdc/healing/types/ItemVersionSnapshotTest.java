@@ -0,0 +1,105 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.healing.types;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ItemVersionSnapshotTest {
+
+  private static final String KEY = "key";
+
+  private final ItemVersionSnapshot snapshot = new ItemVersionSnapshot();
+
+  @Test
+  public void entryIsLoadedOnce() {
+    AtomicInteger loads = new AtomicInteger();
+    Object first = snapshot.get(KEY, () -> new Object[]{loads.incrementAndGet()});
+    Object second = snapshot.get(KEY, () -> new Object[]{loads.incrementAndGet()});
+
+    assertSame(first, second);
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  public void entryIsLoadedOnceByConcurrentReaders() throws Exception {
+    AtomicInteger loads = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService readers = Executors.newFixedThreadPool(4);
+    try {
+      List<CompletableFuture<Integer>> reads = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        reads.add(CompletableFuture.supplyAsync(() -> {
+          await(start);
+          return snapshot.get(KEY, loads::incrementAndGet);
+        }, readers));
+      }
+      start.countDown();
+      for (CompletableFuture<Integer> read : reads) {
+        assertEquals(Integer.valueOf(1), read.get(10, TimeUnit.SECONDS));
+      }
+      assertEquals(1, loads.get());
+    } finally {
+      readers.shutdownNow();
+    }
+  }
+
+  @Test
+  public void invalidatedEntryIsLoadedAgain() {
+    AtomicInteger loads = new AtomicInteger();
+    snapshot.get(KEY, loads::incrementAndGet);
+    snapshot.invalidate(KEY);
+
+    assertEquals(Integer.valueOf(2), snapshot.get(KEY, loads::incrementAndGet));
+  }
+
+  @Test
+  public void failedLoadIsNotKept() {
+    try {
+      snapshot.get(KEY, () -> {
+        throw new IllegalStateException("load failed");
+      });
+    } catch (IllegalStateException e) {
+      assertEquals("load failed", e.getMessage());
+    }
+
+    assertEquals("loaded", snapshot.get(KEY, () -> "loaded"));
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
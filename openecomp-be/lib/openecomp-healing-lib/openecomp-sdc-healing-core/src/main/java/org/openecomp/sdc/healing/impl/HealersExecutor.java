@@ -0,0 +1,183 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.healing.impl;
+
+import org.openecomp.sdc.common.session.SessionContext;
+import org.openecomp.sdc.common.session.SessionContextProvider;
+import org.openecomp.sdc.common.session.SessionContextProviderFactory;
+import org.openecomp.sdc.healing.interfaces.Healer;
+import org.openecomp.sdc.healing.types.ItemVersionSnapshot;
+import org.openecomp.sdc.versioning.dao.types.Version;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Checks concurrently which healers an item version needs, since the checks only read it. The
+ * healers themselves all write to the same item version, so they run one after the other on the
+ * calling thread. A healer runs after the healers it depends on, and is skipped if one of them
+ * failed.
+ */
+class HealersExecutor {
+
+  private static final int HEALER_THREADS = 8;
+  private static final AtomicInteger HEALER_THREAD_COUNT = new AtomicInteger();
+  private static final ExecutorService HEALERS_POOL =
+      Executors.newFixedThreadPool(HEALER_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "healer-" + HEALER_THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+
+  private final ExecutorService executorService;
+
+  HealersExecutor() {
+    this(HEALERS_POOL);
+  }
+
+  HealersExecutor(ExecutorService executorService) {
+    this.executorService = executorService;
+  }
+
+  /**
+   * @return the healers which need to heal the item version, in the given order
+   */
+  List<Healer> filterHealingNeeded(String itemId, Version version, List<Healer> healers,
+                                   ItemVersionSnapshot snapshot) {
+    SessionContext session = callerSession();
+    Map<Healer, CompletableFuture<Boolean>> healingNeeded = new LinkedHashMap<>();
+    healers.forEach(healer -> healingNeeded.put(healer, CompletableFuture.supplyAsync(
+        inSession(session, () -> healer.isHealingNeeded(itemId, version, snapshot)),
+        executorService)));
+    try {
+      return healingNeeded.entrySet().stream()
+          .filter(entry -> entry.getValue().join())
+          .map(Map.Entry::getKey)
+          .collect(Collectors.toList());
+    } catch (CompletionException e) {
+      healingNeeded.values().forEach(future -> future.cancel(false));
+      throw e.getCause() instanceof RuntimeException
+          ? (RuntimeException) e.getCause()
+          : e;
+    }
+  }
+
+  /**
+   * @return the failure messages of the healers, in the given healers order
+   */
+  List<String> execute(String itemId, Version version, List<Healer> healers,
+                       ItemVersionSnapshot snapshot) {
+    Map<Class<?>, Healer> healersByClass = new HashMap<>();
+    healers.forEach(healer -> healersByClass.put(healer.getClass(), healer));
+
+    Map<Healer, Optional<String>> results = new HashMap<>();
+    for (Healer healer : healers) {
+      healAfterDependencies(healer, healersByClass, results, new HashSet<>(), itemId, version,
+          snapshot);
+    }
+
+    List<String> failureMessages = new ArrayList<>();
+    healers.forEach(healer -> results.get(healer).ifPresent(failureMessages::add));
+    return failureMessages;
+  }
+
+  private Optional<String> healAfterDependencies(Healer healer,
+                                                 Map<Class<?>, Healer> healersByClass,
+                                                 Map<Healer, Optional<String>> results,
+                                                 Set<Healer> healing, String itemId,
+                                                 Version version,
+                                                 ItemVersionSnapshot snapshot) {
+    Optional<String> result = results.get(healer);
+    if (result != null) {
+      return result;
+    }
+    if (!healing.add(healer)) {
+      return Optional.of(String.format("Failure in healer %s: cyclic healer dependencies",
+          healer.getClass().getName()));
+    }
+
+    Optional<Healer> failedDependency = Optional.empty();
+    for (Class<? extends Healer> dependencyClass : getDependencies(healer)) {
+      Healer dependency = healersByClass.get(dependencyClass);
+      if (dependency != null
+          && healAfterDependencies(dependency, healersByClass, results, healing, itemId, version,
+          snapshot).isPresent()
+          && !failedDependency.isPresent()) {
+        failedDependency = Optional.of(dependency);
+      }
+    }
+
+    result = failedDependency.isPresent()
+        ? Optional.of(String.format("Healer %s was skipped since healer %s failed",
+            healer.getClass().getName(), failedDependency.get().getClass().getName()))
+        : heal(healer, itemId, version, snapshot);
+    healing.remove(healer);
+    results.put(healer, result);
+    return result;
+  }
+
+  private static Collection<Class<? extends Healer>> getDependencies(Healer healer) {
+    Collection<Class<? extends Healer>> dependencies = healer.getDependencies();
+    return dependencies == null ? new ArrayList<>() : dependencies;
+  }
+
+  private static Optional<String> heal(Healer healer, String itemId, Version version,
+                                       ItemVersionSnapshot snapshot) {
+    try {
+      healer.heal(itemId, version, snapshot);
+      return Optional.empty();
+    } catch (Exception e) {
+      return Optional.of(
+          String.format("Failure in healer %s: %s", healer.getClass().getName(), e.getMessage()));
+    }
+  }
+
+  private static SessionContext callerSession() {
+    return SessionContextProviderFactory.getInstance().createInterface().get();
+  }
+
+  private static <T> Supplier<T> inSession(SessionContext session, Supplier<T> task) {
+    return () -> {
+      SessionContextProvider sessionContextProvider =
+          SessionContextProviderFactory.getInstance().createInterface();
+      sessionContextProvider.create(session.getUser().getUserId(), session.getTenant());
+      try {
+        return task.get();
+      } finally {
+        sessionContextProvider.close();
+      }
+    };
+  }
+}
@@ -34,6 +34,7 @@ import org.openecomp.sdc.healing.api.HealingManager;
 import org.openecomp.sdc.healing.dao.HealingDao;
 import org.openecomp.sdc.healing.interfaces.Healer;
 import org.openecomp.sdc.healing.types.HealerType;
+import org.openecomp.sdc.healing.types.ItemVersionSnapshot;
 import org.openecomp.sdc.versioning.VersioningManager;
 import org.openecomp.sdc.versioning.dao.types.Version;
 import org.openecomp.sdc.versioning.dao.types.VersionStatus;
@@ -51,10 +52,17 @@ public class HealingManagerImpl implements HealingManager {
 
   private HealingDao healingDao;
   private VersioningManager versioningManager;
+  private HealersExecutor healersExecutor;
 
   public HealingManagerImpl(VersioningManager versioningManager, HealingDao healingDao) {
+    this(versioningManager, healingDao, new HealersExecutor());
+  }
+
+  HealingManagerImpl(VersioningManager versioningManager, HealingDao healingDao,
+                     HealersExecutor healersExecutor) {
     this.versioningManager = versioningManager;
     this.healingDao = healingDao;
+    this.healersExecutor = healersExecutor;
   }
 
   @Override
@@ -69,12 +77,20 @@ public class HealingManagerImpl implements HealingManager {
 
     Map<String, Collection<String>> healersByType = getItemHealers(itemType);
     List<String> failureMessages = new LinkedList<>();
+    List<Healer> structureHealers =
+        getHealers(healersByType.get(HealerType.structure.name()), failureMessages);
+    List<Healer> dataHealers =
+        getHealers(healersByType.get(HealerType.data.name()), failureMessages);
+
+    // the data loaded by the checks is reused as long as the checked version isn't synced
+    ItemVersionSnapshot snapshot = new ItemVersionSnapshot();
+    Set<Healer> healersToRun = new HashSet<>(healersExecutor.filterHealingNeeded(itemId, version,
+        Stream.concat(structureHealers.stream(), dataHealers.stream())
+            .collect(Collectors.toList()), snapshot));
     List<Healer> structureHealersToRun =
-        getHealersToRun(healersByType.get(HealerType.structure.name()), itemId, version,
-            failureMessages);
+        structureHealers.stream().filter(healersToRun::contains).collect(Collectors.toList());
     List<Healer> dataHealersToRun =
-        getHealersToRun(healersByType.get(HealerType.data.name()), itemId, version,
-            failureMessages);
+        dataHealers.stream().filter(healersToRun::contains).collect(Collectors.toList());
 
     if (structureHealersToRun.isEmpty() && dataHealersToRun.isEmpty()) {
       markAsHealed(itemId, version.getId(), user);
@@ -92,7 +108,7 @@ public class HealingManagerImpl implements HealingManager {
 
     failureMessages.addAll(
         doHeal(itemId, healVersion.get(), version, structureHealersToRun, dataHealersToRun, user,
-            force));
+            force, snapshot));
     handleFailures(failureMessages);
 
     return healVersion;
@@ -137,7 +153,7 @@ public class HealingManagerImpl implements HealingManager {
   private List<String> doHeal(String itemId, Version version, Version origVersion,
                               List<Healer> structureHealersToRun,
                               List<Healer> dataHealersToRun, String user,
-                              boolean force) {
+                              boolean force, ItemVersionSnapshot snapshot) {
     boolean publicFlagOn = isHealingFlagOn(itemId, origVersion.getId(), PUBLIC_USER)
         .orElse(origVersion.getBaseId() != null &&
             isHealingFlagOn(itemId, origVersion.getBaseId(), PUBLIC_USER).orElse(false));
@@ -149,22 +165,24 @@ public class HealingManagerImpl implements HealingManager {
             : new LinkedList<>();
 
     failureMessages.addAll(
-        healPrivate(itemId, version, origVersion, structureHealersToRun, dataHealersToRun, user));
+        healPrivate(itemId, version, origVersion, structureHealersToRun, dataHealersToRun, user,
+            snapshot));
 
     return failureMessages;
   }
 
   private List<String> healPrivate(String itemId, Version version, Version origVersion,
                                    List<Healer> structureHealersToRun,
-                                   List<Healer> dataHealersToRun, String user) {
+                                   List<Healer> dataHealersToRun, String user,
+                                   ItemVersionSnapshot snapshot) {
     List<String> failureMessages;
     if (origVersion.getStatus() == VersionStatus.Certified) {
       failureMessages = executeHealers(itemId, version,
           Stream.concat(structureHealersToRun.stream(), dataHealersToRun.stream())
-              .collect(Collectors.toList()));
+              .collect(Collectors.toList()), new ItemVersionSnapshot());
     } else {
       if (structureHealersToRun.isEmpty()) {
-        failureMessages = executeHealers(itemId, version, dataHealersToRun);
+        failureMessages = executeHealers(itemId, version, dataHealersToRun, snapshot);
       } else {
         versioningManager.forceSync(itemId, version);
         failureMessages = new LinkedList<>();
@@ -195,7 +213,8 @@ public class HealingManagerImpl implements HealingManager {
 
     versioningManager.forceSync(itemId, version);
 
-    List<String> failureMessages = executeHealers(itemId, version, healers);
+    List<String> failureMessages =
+        executeHealers(itemId, version, healers, new ItemVersionSnapshot());
     Version publicVersion = versioningManager.get(itemId, version);
 
     if (Objects.nonNull(publicVersion.getState()) && publicVersion.getState().isDirty()) {
@@ -206,18 +225,9 @@ public class HealingManagerImpl implements HealingManager {
     return failureMessages;
   }
 
-  private List<String> executeHealers(String itemId, Version version, List<Healer> healers) {
-    List<String> failureMessages = new LinkedList<>();
-    for (Healer healer : healers) {
-      try {
-        healer.heal(itemId, version);
-      } catch (Exception e) {
-        failureMessages.add(
-            String.format("Failure in healer %s: %s", healer.getClass().getName(), e.getMessage()));
-      }
-    }
-
-    return failureMessages;
+  private List<String> executeHealers(String itemId, Version version, List<Healer> healers,
+                                      ItemVersionSnapshot snapshot) {
+    return healersExecutor.execute(itemId, version, healers, snapshot);
   }
 
   private Optional<Boolean> isHealingFlagOn(String itemId, String version, String user) {
@@ -236,15 +246,14 @@ public class HealingManagerImpl implements HealingManager {
     }
   }
 
-  private List<Healer> getHealersToRun(Collection<String> healersClassNames, String itemId,
-                                       Version version, List<String> failureMessages) {
+  private List<Healer> getHealers(Collection<String> healersClassNames,
+                                  List<String> failureMessages) {
     return healersClassNames == null
         ? Collections.emptyList()
         : healersClassNames.stream()
             .map(healerClassName -> getHealerInstance(healerClassName, failureMessages))
             .filter(Optional::isPresent)
             .map(Optional::get)
-            .filter(healer -> healer.isHealingNeeded(itemId, version))
             .collect(Collectors.toList());
   }
 
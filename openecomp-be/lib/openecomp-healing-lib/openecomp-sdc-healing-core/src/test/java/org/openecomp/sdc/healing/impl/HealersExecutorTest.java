@@ -0,0 +1,186 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.healing.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openecomp.sdc.common.session.SessionContextProviderFactory;
+import org.openecomp.sdc.healing.interfaces.Healer;
+import org.openecomp.sdc.healing.types.ItemVersionSnapshot;
+import org.openecomp.sdc.versioning.dao.types.Version;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class HealersExecutorTest {
+
+  private static final String ITEM_ID = "itemId";
+  private static final Version VERSION = new Version("versionId");
+
+  private final List<String> healed = Collections.synchronizedList(new ArrayList<>());
+  private ExecutorService executorService;
+  private HealersExecutor healersExecutor;
+
+  @Before
+  public void setUp() {
+    SessionContextProviderFactory.getInstance().createInterface().create("user", "dox");
+    executorService = Executors.newFixedThreadPool(4);
+    healersExecutor = new HealersExecutor(executorService);
+  }
+
+  @After
+  public void tearDown() {
+    executorService.shutdownNow();
+    SessionContextProviderFactory.getInstance().createInterface().close();
+  }
+
+  @Test
+  public void healersRunAfterTheirDependencies() {
+    List<String> failures = healersExecutor.execute(ITEM_ID, VERSION, Arrays.asList(
+        new ThirdHealer(SecondHealer.class), new SecondHealer(FirstHealer.class), new FirstHealer()),
+        new ItemVersionSnapshot());
+
+    assertTrue(failures.isEmpty());
+    assertEquals(Arrays.asList("FirstHealer", "SecondHealer", "ThirdHealer"), healed);
+  }
+
+  @Test
+  public void healersRunOneAfterTheOtherOnTheCallingThread() {
+    Thread caller = Thread.currentThread();
+    List<Thread> healingThreads = new ArrayList<>();
+    Healer healer = new FirstHealer() {
+      @Override
+      public void heal(String itemId, Version version) {
+        healingThreads.add(Thread.currentThread());
+      }
+    };
+
+    healersExecutor.execute(ITEM_ID, VERSION, Collections.singletonList(healer),
+        new ItemVersionSnapshot());
+
+    assertEquals(Collections.singletonList(caller), healingThreads);
+  }
+
+  @Test
+  public void dependentsOfFailedHealerAreSkipped() {
+    List<String> failures = healersExecutor.execute(ITEM_ID, VERSION, Arrays.asList(
+        new FailingHealer(), new SecondHealer(FailingHealer.class), new ThirdHealer()),
+        new ItemVersionSnapshot());
+
+    assertEquals(Collections.singletonList("ThirdHealer"), healed);
+    assertEquals(2, failures.size());
+    assertTrue(failures.get(0).contains("Failure in healer " + FailingHealer.class.getName()));
+    assertTrue(failures.get(1).contains(SecondHealer.class.getName() + " was skipped"));
+  }
+
+  @Test
+  public void healersWithCyclicDependenciesAreNotRun() {
+    List<String> failures = healersExecutor.execute(ITEM_ID, VERSION, Arrays.asList(
+        new FirstHealer(SecondHealer.class), new SecondHealer(FirstHealer.class), new ThirdHealer()),
+        new ItemVersionSnapshot());
+
+    assertEquals(Collections.singletonList("ThirdHealer"), healed);
+    assertEquals(2, failures.size());
+  }
+
+  @Test
+  public void healingNeededIsCheckedForAllHealersInTheirOrder() {
+    Healer notNeeded = new SecondHealer() {
+      @Override
+      public boolean isHealingNeeded(String itemId, Version version) {
+        return false;
+      }
+    };
+    FirstHealer first = new FirstHealer();
+    ThirdHealer third = new ThirdHealer();
+
+    List<Healer> healingNeeded = healersExecutor.filterHealingNeeded(ITEM_ID, VERSION,
+        Arrays.asList(third, notNeeded, first), new ItemVersionSnapshot());
+
+    assertEquals(Arrays.asList(third, first), healingNeeded);
+  }
+
+  private abstract class RecordingHealer implements Healer {
+
+    private final Collection<Class<? extends Healer>> dependencies;
+
+    @SafeVarargs
+    RecordingHealer(Class<? extends Healer>... dependencies) {
+      this.dependencies = Arrays.asList(dependencies);
+    }
+
+    @Override
+    public boolean isHealingNeeded(String itemId, Version version) {
+      return true;
+    }
+
+    @Override
+    public void heal(String itemId, Version version) throws Exception {
+      healed.add(getClass().getSimpleName());
+    }
+
+    @Override
+    public Collection<Class<? extends Healer>> getDependencies() {
+      return dependencies;
+    }
+  }
+
+  private class FirstHealer extends RecordingHealer {
+
+    @SafeVarargs
+    FirstHealer(Class<? extends Healer>... dependencies) {
+      super(dependencies);
+    }
+  }
+
+  private class SecondHealer extends RecordingHealer {
+
+    @SafeVarargs
+    SecondHealer(Class<? extends Healer>... dependencies) {
+      super(dependencies);
+    }
+  }
+
+  private class ThirdHealer extends RecordingHealer {
+
+    @SafeVarargs
+    ThirdHealer(Class<? extends Healer>... dependencies) {
+      super(dependencies);
+    }
+  }
+
+  private class FailingHealer extends RecordingHealer {
+
+    @Override
+    public void heal(String itemId, Version version) {
+      throw new IllegalStateException("heal failed");
+    }
+  }
+}
@@ -20,6 +20,7 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import org.apache.commons.lang.StringUtils;
 import org.openecomp.sdc.healing.interfaces.Healer;
+import org.openecomp.sdc.healing.types.ItemVersionSnapshot;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.ComponentDao;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.ComponentDaoFactory;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.type.ComponentEntity;
@@ -34,6 +35,7 @@ public class ComponentDataHealer implements Healer {
     private static final String NFC_FUNCTION = "nfcFunction";
     private  static final String NFC_NAMING_CODE = "nfcNamingCode";
     private static final String GENERAL = "general";
+    private static final String COMPONENTS = "components";
     private final ComponentDao componentDao;
 
     public ComponentDataHealer() {
@@ -42,8 +44,12 @@ public class ComponentDataHealer implements Healer {
 
     @Override
     public boolean isHealingNeeded(String itemId, Version version) {
-        final Collection<ComponentEntity> componentEntities =
-                componentDao.listCompositionAndQuestionnaire(itemId, version);
+        return isHealingNeeded(itemId, version, new ItemVersionSnapshot());
+    }
+
+    @Override
+    public boolean isHealingNeeded(String itemId, Version version, ItemVersionSnapshot snapshot) {
+        final Collection<ComponentEntity> componentEntities = getComponents(itemId, version, snapshot);
         return Objects.nonNull(componentEntities) && !componentEntities.isEmpty() &&
                        componentEntities.stream().anyMatch(this::checkNfcParams);
     }
@@ -60,8 +66,13 @@ public class ComponentDataHealer implements Healer {
 
     @Override
     public void heal(String itemId, Version version) throws Exception {
-        final Collection<ComponentEntity> componentEntities =
-                componentDao.listCompositionAndQuestionnaire(itemId, version);
+        heal(itemId, version, new ItemVersionSnapshot());
+    }
+
+    @Override
+    public void heal(String itemId, Version version, ItemVersionSnapshot snapshot) throws Exception {
+        final Collection<ComponentEntity> componentEntities = getComponents(itemId, version, snapshot);
+        snapshot.invalidate(COMPONENTS);
         if (Objects.nonNull(componentEntities) && !componentEntities.isEmpty()) {
             componentEntities.forEach(componentEntity -> {
                 final String compositionData = componentEntity.getCompositionData();
@@ -70,6 +81,10 @@ public class ComponentDataHealer implements Healer {
         }
     }
 
+    private Collection<ComponentEntity> getComponents(String itemId, Version version, ItemVersionSnapshot snapshot) {
+        return snapshot.get(COMPONENTS, () -> componentDao.listCompositionAndQuestionnaire(itemId, version));
+    }
+
     private void updateComponentData(String itemId, Version version, ComponentEntity componentEntity,
                                             String questionnaireData, String compositionData) {
         if (!StringUtils.isEmpty(compositionData)) {
@@ -17,6 +17,7 @@
 package org.openecomp.sdc.healing.healers;
 
 import org.openecomp.sdc.healing.interfaces.Healer;
+import org.openecomp.sdc.healing.types.ItemVersionSnapshot;
 import org.openecomp.sdc.vendorlicense.dao.FeatureGroupDao;
 import org.openecomp.sdc.vendorlicense.dao.FeatureGroupDaoFactory;
 import org.openecomp.sdc.vendorlicense.dao.types.EntitlementPoolEntity;
@@ -33,6 +34,7 @@ import java.util.Set;
 public class ManufacturerReferenceNumberHealer implements Healer {
 
   private static final String MANUFACTURER_REFERENCE_NUMBER = "MRN";
+  private static final String ENTITLEMENT_POOLS = "entitlementPools";
   private final VendorLicenseFacade vendorLicenseFacade;
   private final FeatureGroupDao featureGroupDao;
 
@@ -49,22 +51,40 @@ public class ManufacturerReferenceNumberHealer implements Healer {
 
   @Override
   public boolean isHealingNeeded(String itemId, Version version) {
-    return Objects.isNull(vendorLicenseFacade.listEntitlementPools
-        (itemId, version).iterator().next().getManufacturerReferenceNumber()) ? true :
-        false;
+    return isHealingNeeded(itemId, version, new ItemVersionSnapshot());
+  }
+
+  @Override
+  public boolean isHealingNeeded(String itemId, Version version, ItemVersionSnapshot snapshot) {
+    return Objects.isNull(getEntitlementPools(itemId, version, snapshot)
+        .iterator().next().getManufacturerReferenceNumber());
   }
 
   @Override
   public void heal(String itemId, Version version) throws Exception {
+    heal(itemId, version, new ItemVersionSnapshot());
+  }
 
-    healEntitlementPools(itemId, version);
+  @Override
+  public void heal(String itemId, Version version, ItemVersionSnapshot snapshot)
+      throws Exception {
+
+    healEntitlementPools(itemId, version, snapshot);
     healLicenseKeyGroups(itemId, version);
     healFeatureGroups(itemId, version);
   }
 
-  private void healEntitlementPools(String itemId, Version version) {
-    Collection<EntitlementPoolEntity> entitlementPoolEntities = vendorLicenseFacade
-        .listEntitlementPools(itemId, version);
+  private Collection<EntitlementPoolEntity> getEntitlementPools(String itemId, Version version,
+                                                                ItemVersionSnapshot snapshot) {
+    return snapshot.get(ENTITLEMENT_POOLS,
+        () -> vendorLicenseFacade.listEntitlementPools(itemId, version));
+  }
+
+  private void healEntitlementPools(String itemId, Version version,
+                                    ItemVersionSnapshot snapshot) {
+    Collection<EntitlementPoolEntity> entitlementPoolEntities =
+        getEntitlementPools(itemId, version, snapshot);
+    snapshot.invalidate(ENTITLEMENT_POOLS);
 
     for (EntitlementPoolEntity entitlementPoolEntity : entitlementPoolEntities) {
       Set<String> referencingFeatureGroup = entitlementPoolEntity.getReferencingFeatureGroups();
@@ -37,6 +37,7 @@ import org.openecomp.sdc.common.utils.CommonUtil;
 import org.openecomp.sdc.datatypes.error.ErrorLevel;
 import org.openecomp.sdc.datatypes.model.ElementType;
 import org.openecomp.sdc.healing.interfaces.Healer;
+import org.openecomp.sdc.healing.types.ItemVersionSnapshot;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.VendorSoftwareProductInfoDao;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.VendorSoftwareProductInfoDaoFactory;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.type.OnboardingMethod;
@@ -59,6 +60,7 @@ import static org.openecomp.core.zusammen.api.ZusammenUtil.*;
 
 public class NetworkPackageHealer implements Healer {
 
+  private static final String VSP_DETAILS = "vspDetails";
   private static final byte[] EMPTY_DATA_BYTES = "{}".getBytes();
   private static final String MISSING_ORCHESTRATION_TEMPLATE_CANDIDATE_ERROR =
       "Vsp with invalid structure: does not contain element OrchestrationTemplateCandidate";
@@ -95,13 +97,38 @@ public class NetworkPackageHealer implements Healer {
 
   @Override
   public boolean isHealingNeeded(String itemId, Version version) {
+    return isHealingNeeded(itemId, version, new ItemVersionSnapshot());
+  }
+
+  @Override
+  public boolean isHealingNeeded(String itemId, Version version, ItemVersionSnapshot snapshot) {
     return OnboardingMethod.NetworkPackage.name()
-        .equals(vspInfoDao.get(new VspDetails(itemId, version)).getOnboardingMethod()) &&
+        .equals(getVspDetails(itemId, version, snapshot).getOnboardingMethod()) &&
         isVspMissingAddedElements(itemId, version);
   }
 
   @Override
   public void heal(String itemId, Version version) throws Exception {
+    heal(itemId, version, new ItemVersionSnapshot());
+  }
+
+  @Override
+  public void heal(String itemId, Version version, ItemVersionSnapshot snapshot)
+      throws Exception {
+    try {
+      healOrchestrationTemplate(itemId, version, snapshot);
+    } finally {
+      snapshot.invalidate(ToscaServiceModelHealer.ORCHESTRATION_TEMPLATE);
+    }
+  }
+
+  private VspDetails getVspDetails(String itemId, Version version,
+                                   ItemVersionSnapshot snapshot) {
+    return snapshot.get(VSP_DETAILS, () -> vspInfoDao.get(new VspDetails(itemId, version)));
+  }
+
+  private void healOrchestrationTemplate(String itemId, Version version,
+                                         ItemVersionSnapshot snapshot) throws Exception {
     SessionContext context = createSessionContext();
     ElementContext elementContext = new ElementContext(itemId, version.getId());
 
@@ -137,7 +164,7 @@ public class NetworkPackageHealer implements Healer {
 
     Element candidateContentElement = getCandidateContentElement(candidateSubs);
 
-    VspDetails vspDetails = vspInfoDao.get(new VspDetails(itemId, version));
+    VspDetails vspDetails = getVspDetails(itemId, version, snapshot);
     if (isEqual(orchestrationTemplateEntity,
         getCandidateData(candidateElement, candidateContentElement))) {
 
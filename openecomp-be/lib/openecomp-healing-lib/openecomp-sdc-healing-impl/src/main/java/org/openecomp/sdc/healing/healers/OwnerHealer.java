@@ -23,6 +23,7 @@ package org.openecomp.sdc.healing.healers;
 import org.openecomp.sdc.common.errors.SdcRuntimeException;
 import org.openecomp.sdc.common.session.SessionContextProviderFactory;
 import org.openecomp.sdc.healing.interfaces.Healer;
+import org.openecomp.sdc.healing.types.ItemVersionSnapshot;
 import org.openecomp.sdc.itempermissions.dao.ItemPermissionsDao;
 import org.openecomp.sdc.itempermissions.dao.ItemPermissionsDaoFactory;
 import org.openecomp.sdc.itempermissions.impl.types.PermissionTypes;
@@ -41,6 +42,7 @@ import java.util.*;
  */
 public class OwnerHealer implements Healer {
   private static final String HEALING_USER_SUFFIX = "_healer";
+  private static final String ITEM_PERMISSIONS = "itemPermissions";
   private static final ItemPermissionsDao permissionsDao =
       ItemPermissionsDaoFactory.getInstance().createInterface();
   private static final ItemDao itemDao = ItemDaoFactory.getInstance().createInterface();
@@ -50,12 +52,23 @@ public class OwnerHealer implements Healer {
 
   @Override
   public boolean isHealingNeeded(String itemId, Version version) {
-    return permissionsDao.listItemPermissions(itemId).stream().noneMatch(this::isOwnerPermission) ||
+    return isHealingNeeded(itemId, version, new ItemVersionSnapshot());
+  }
+
+  @Override
+  public boolean isHealingNeeded(String itemId, Version version, ItemVersionSnapshot snapshot) {
+    return getItemPermissions(itemId, snapshot).stream().noneMatch(this::isOwnerPermission) ||
         isOwnerMissingOnItem(itemId);
   }
 
   public void heal(String itemId, Version version) {
-    Collection<ItemPermissionsEntity> itemPermissions = permissionsDao.listItemPermissions(itemId);
+    heal(itemId, version, new ItemVersionSnapshot());
+  }
+
+  @Override
+  public void heal(String itemId, Version version, ItemVersionSnapshot snapshot) {
+    Collection<ItemPermissionsEntity> itemPermissions = getItemPermissions(itemId, snapshot);
+    snapshot.invalidate(ITEM_PERMISSIONS);
 
     if (itemPermissions.stream().noneMatch(this::isOwnerPermission)) {
       String currentUserId =
@@ -80,6 +93,11 @@ public class OwnerHealer implements Healer {
     }
   }
 
+  private Collection<ItemPermissionsEntity> getItemPermissions(String itemId,
+                                                               ItemVersionSnapshot snapshot) {
+    return snapshot.get(ITEM_PERMISSIONS, () -> permissionsDao.listItemPermissions(itemId));
+  }
+
   private void updateItemOwner(String itemId, String userId) {
     Item item = new Item();
     item.setId(itemId);
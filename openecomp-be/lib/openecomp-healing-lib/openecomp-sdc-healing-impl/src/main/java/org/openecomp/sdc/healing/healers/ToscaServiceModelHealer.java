@@ -33,6 +33,7 @@ import org.openecomp.core.validation.util.MessageContainerUtil;
 import org.openecomp.sdc.common.utils.CommonUtil;
 import org.openecomp.sdc.datatypes.error.ErrorLevel;
 import org.openecomp.sdc.healing.interfaces.Healer;
+import org.openecomp.sdc.healing.types.ItemVersionSnapshot;
 import org.openecomp.sdc.tosca.datatypes.ToscaServiceModel;
 import org.openecomp.sdc.translator.services.heattotosca.HeatToToscaUtil;
 import org.openecomp.sdc.vendorsoftwareproduct.dao.OrchestrationTemplateDao;
@@ -41,10 +42,14 @@ import org.openecomp.sdc.vendorsoftwareproduct.dao.type.OrchestrationTemplateEnt
 import org.openecomp.sdc.versioning.dao.types.Version;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Objects;
 import java.util.Optional;
 
 public class ToscaServiceModelHealer implements Healer {
+  static final String ORCHESTRATION_TEMPLATE = "orchestrationTemplate";
+
   private ServiceModelDao<ToscaServiceModel, ServiceElement> serviceModelDao;
   private OrchestrationTemplateDao orchestrationTemplateDao;
   private static final String VALIDATION_FAILURE_MESSAGE = "Product was updated. Please " +
@@ -62,10 +67,20 @@ public class ToscaServiceModelHealer implements Healer {
     this.orchestrationTemplateDao = orchestrationTemplateDao;
   }
 
+  @Override
+  public Collection<Class<? extends Healer>> getDependencies() {
+    return Collections.singletonList(NetworkPackageHealer.class);
+  }
+
   @Override
   public boolean isHealingNeeded(String itemId, Version version) {
+    return isHealingNeeded(itemId, version, new ItemVersionSnapshot());
+  }
+
+  @Override
+  public boolean isHealingNeeded(String itemId, Version version, ItemVersionSnapshot snapshot) {
     OrchestrationTemplateEntity orchestrationTemplate =
-        orchestrationTemplateDao.get(itemId, version);
+        getOrchestrationTemplate(itemId, version, snapshot);
     OnboardingTypesEnum onboardingTypes =
         OnboardingTypesEnum.getOnboardingTypesEnum(orchestrationTemplate.getFileSuffix());
 
@@ -75,8 +90,14 @@ public class ToscaServiceModelHealer implements Healer {
 
   @Override
   public void heal(String itemId, Version version) throws Exception {
+    heal(itemId, version, new ItemVersionSnapshot());
+  }
+
+  @Override
+  public void heal(String itemId, Version version, ItemVersionSnapshot snapshot)
+      throws Exception {
     OrchestrationTemplateEntity orchestrationTemplateEntity =
-        orchestrationTemplateDao.get(itemId, version);
+        getOrchestrationTemplate(itemId, version, snapshot);
     OnboardingTypesEnum type =
         OnboardingTypesEnum.getOnboardingTypesEnum(orchestrationTemplateEntity.getFileSuffix());
 
@@ -87,6 +108,12 @@ public class ToscaServiceModelHealer implements Healer {
         .overrideServiceModel(itemId, version, serviceModel));
   }
 
+  private OrchestrationTemplateEntity getOrchestrationTemplate(String itemId, Version version,
+                                                               ItemVersionSnapshot snapshot) {
+    return snapshot
+        .get(ORCHESTRATION_TEMPLATE, () -> orchestrationTemplateDao.get(itemId, version));
+  }
+
   private Optional<ToscaServiceModel> healServiceModel(
       OrchestrationTemplateEntity orchestrationTemplateEntity,
       OnboardingTypesEnum type) throws IOException {
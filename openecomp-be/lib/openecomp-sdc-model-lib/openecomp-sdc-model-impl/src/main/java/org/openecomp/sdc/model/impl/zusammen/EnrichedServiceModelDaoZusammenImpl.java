@@ -65,6 +65,7 @@ public class EnrichedServiceModelDaoZusammenImpl extends ServiceModelDaoZusammen
     SessionContext context = ZusammenUtil.createSessionContext();
     ElementContext elementContext =
         new ElementContext(serviceArtifact.getVspId(), serviceArtifact.getVersion().getId());
+    invalidateCachedServiceModel(context, elementContext);
     zusammenAdaptor
         .saveElement(context, elementContext, vspModel, "add service external artifact.");
 
@@ -0,0 +1,142 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.model.impl.zusammen;
+
+import org.onap.sdc.tosca.datatypes.model.ServiceTemplate;
+import org.onap.sdc.tosca.error.ToscaRuntimeException;
+import org.onap.sdc.tosca.services.DataModelCloneUtil;
+import org.openecomp.core.utilities.file.FileContentHandler;
+import org.openecomp.sdc.tosca.datatypes.ToscaServiceModel;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Size bounded, least recently used cache of parsed service models of certified item versions.
+ * Callers get their own deep copy of the cached model, including the artifact contents.
+ */
+class ServiceModelCache {
+
+  private final int maxSize;
+  private final Map<Key, ToscaServiceModel> serviceModels;
+
+  ServiceModelCache(int maxSize) {
+    this.maxSize = maxSize;
+    this.serviceModels = new LinkedHashMap<Key, ToscaServiceModel>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, ToscaServiceModel> eldest) {
+        return size() > ServiceModelCache.this.maxSize;
+      }
+    };
+  }
+
+  Optional<ToscaServiceModel> get(Key key) {
+    ToscaServiceModel serviceModel;
+    synchronized (this) {
+      serviceModel = serviceModels.get(key);
+    }
+    return Optional.ofNullable(serviceModel).map(ServiceModelCache::copyOf);
+  }
+
+  /**
+   * Caches a copy of the service model and returns the model to the caller. A model which holds
+   * objects the deep clone does not support is not cached.
+   */
+  ToscaServiceModel put(Key key, ToscaServiceModel serviceModel) {
+    ToscaServiceModel cachedServiceModel;
+    try {
+      cachedServiceModel = copyOf(serviceModel);
+    } catch (ToscaRuntimeException e) {
+      return serviceModel;
+    }
+    synchronized (this) {
+      serviceModels.put(key, cachedServiceModel);
+    }
+    return serviceModel;
+  }
+
+  synchronized void invalidate(String tenant, String itemId, String versionId) {
+    serviceModels.keySet().removeIf(key -> key.isOf(tenant, itemId, versionId));
+  }
+
+  synchronized int size() {
+    return serviceModels.size();
+  }
+
+  /**
+   * Copies the model with the reflective deep clone of the TOSCA data types, which is much cheaper
+   * than a YAML round trip.
+   */
+  private static ToscaServiceModel copyOf(ToscaServiceModel serviceModel) {
+    FileContentHandler artifacts = null;
+    if (serviceModel.getArtifactFiles() != null) {
+      artifacts = new FileContentHandler();
+      for (Map.Entry<String, byte[]> artifact : serviceModel.getArtifactFiles().getFiles()
+          .entrySet()) {
+        artifacts.addFile(artifact.getKey(),
+            artifact.getValue() == null ? null : artifact.getValue().clone());
+      }
+    }
+    Map<String, ServiceTemplate> serviceTemplates = new HashMap<>();
+    serviceModel.getServiceTemplates().forEach((name, serviceTemplate) -> serviceTemplates
+        .put(name, DataModelCloneUtil.deepClone(serviceTemplate)));
+    return new ToscaServiceModel(artifacts, serviceTemplates,
+        serviceModel.getEntryDefinitionServiceTemplate());
+  }
+
+  static final class Key {
+
+    private final String tenant;
+    private final String itemId;
+    private final String versionId;
+
+    Key(String tenant, String itemId, String versionId) {
+      this.tenant = tenant;
+      this.itemId = itemId;
+      this.versionId = versionId;
+    }
+
+    private boolean isOf(String tenant, String itemId, String versionId) {
+      return Objects.equals(this.tenant, tenant) && Objects.equals(this.itemId, itemId)
+          && Objects.equals(this.versionId, versionId);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (obj == null || getClass() != obj.getClass()) {
+        return false;
+      }
+      Key other = (Key) obj;
+      return isOf(other.tenant, other.itemId, other.versionId);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(tenant, itemId, versionId);
+    }
+  }
+}
@@ -43,6 +43,7 @@ import org.openecomp.sdc.logging.api.Logger;
 import org.openecomp.sdc.logging.api.LoggerFactory;
 import org.openecomp.sdc.tosca.datatypes.ToscaServiceModel;
 import org.openecomp.sdc.versioning.dao.types.Version;
+import org.openecomp.sdc.versioning.dao.types.VersionStatus;
 import org.openecomp.types.ElementPropertyName;
 
 import java.io.ByteArrayInputStream;
@@ -58,10 +59,13 @@ import static org.openecomp.core.zusammen.api.ZusammenUtil.buildStructuralElemen
 public class ServiceModelDaoZusammenImpl
     implements ServiceModelDao<ToscaServiceModel, ServiceElement> {
   private static final String BASE_PROPERTY = "base";
+  private static final int MAX_CACHED_SERVICE_MODELS = 20;
   private static final Logger logger = LoggerFactory.getLogger(ServiceModelDaoZusammenImpl.class);
 
   protected ZusammenAdaptor zusammenAdaptor;
   protected ElementType elementType;
+  private final ServiceModelCache serviceModelCache =
+      new ServiceModelCache(MAX_CACHED_SERVICE_MODELS);
 
   public ServiceModelDaoZusammenImpl(ZusammenAdaptor zusammenAdaptor) {
     this.zusammenAdaptor = zusammenAdaptor;
@@ -78,6 +82,14 @@ public class ServiceModelDaoZusammenImpl
     SessionContext context = ZusammenUtil.createSessionContext();
     ElementContext elementContext = new ElementContext(vspId, version.getId());
 
+    Optional<ServiceModelCache.Key> cacheKey = getCacheKey(context, elementContext, version);
+    Optional<ToscaServiceModel> cachedServiceModel = cacheKey.flatMap(serviceModelCache::get);
+    if (cachedServiceModel.isPresent()) {
+      logger.debug("{} of vsp {} version {} is served from cache", elementType.name(), vspId,
+          version.getId());
+      return cachedServiceModel.get();
+    }
+
     Optional<ElementInfo> serviceModel = getServiceModelElementInfo(context, elementContext);
     if (!serviceModel.isPresent()) {
       return null;
@@ -94,7 +106,11 @@ public class ServiceModelDaoZusammenImpl
     String entryDefinitionServiceTemplate =
         serviceModel.get().getInfo().getProperty(BASE_PROPERTY);
 
-    return new ToscaServiceModel(artifacts, serviceTemplates, entryDefinitionServiceTemplate);
+    ToscaServiceModel toscaServiceModel =
+        new ToscaServiceModel(artifacts, serviceTemplates, entryDefinitionServiceTemplate);
+    return cacheKey.isPresent()
+        ? serviceModelCache.put(cacheKey.get(), toscaServiceModel)
+        : toscaServiceModel;
   }
 
   @Override
@@ -121,6 +137,7 @@ public class ServiceModelDaoZusammenImpl
 
     SessionContext context = ZusammenUtil.createSessionContext();
     ElementContext elementContext = new ElementContext(vspId, version.getId());
+    invalidateCachedServiceModel(context, elementContext);
     zusammenAdaptor.saveElement(context, elementContext, vspModel, "Store service model");
 
     logger
@@ -139,6 +156,7 @@ public class ServiceModelDaoZusammenImpl
 
     SessionContext context = ZusammenUtil.createSessionContext();
     ElementContext elementContext = new ElementContext(vspId, version.getId());
+    invalidateCachedServiceModel(context, elementContext);
 
     Optional<ElementInfo> serviceModel = getServiceModelElementInfo(context, elementContext);
     if (!serviceModel.isPresent()) {
@@ -184,6 +202,7 @@ public class ServiceModelDaoZusammenImpl
                                    ToscaServiceModel serviceModel) {
     SessionContext context = ZusammenUtil.createSessionContext();
     ElementContext elementContext = new ElementContext(vspId, version.getId());
+    invalidateCachedServiceModel(context, elementContext);
 
     Optional<ElementInfo> origServiceModel = getServiceModelElementInfo(context, elementContext);
     if (!origServiceModel.isPresent()) {
@@ -218,6 +237,26 @@ public class ServiceModelDaoZusammenImpl
     serviceModelElement.addSubElement(templateElement);
   }
 
+  protected void invalidateCachedServiceModel(SessionContext context,
+                                              ElementContext elementContext) {
+    serviceModelCache.invalidate(context.getTenant(), elementContext.getItemId().getValue(),
+        elementContext.getVersionId().getValue());
+  }
+
+  /**
+   * Only certified versions are cached, as they never change. The status comes with the version
+   * the caller already holds, so deciding whether to cache costs no Zusammen reads.
+   */
+  private static Optional<ServiceModelCache.Key> getCacheKey(SessionContext context,
+                                                             ElementContext elementContext,
+                                                             Version version) {
+    if (version.getStatus() != VersionStatus.Certified) {
+      return Optional.empty();
+    }
+    return Optional.of(new ServiceModelCache.Key(context.getTenant(),
+        elementContext.getItemId().getValue(), elementContext.getVersionId().getValue()));
+  }
+
   private Optional<ElementInfo> getServiceModelElementInfo(SessionContext context,
                                                            ElementContext elementContext) {
     Collection<ElementInfo> vspModelSubs = zusammenAdaptor
@@ -22,6 +22,7 @@ package org.openecomp.sdc.notification.dao;
 
 import org.openecomp.core.dao.BaseDao;
 import org.openecomp.sdc.notification.dao.types.NotificationEntity;
+import org.openecomp.sdc.notification.dao.types.NotifiedOwnerEntity;
 import org.openecomp.sdc.notification.dtos.NotificationsStatus;
 
 import java.util.Collection;
@@ -45,5 +46,10 @@ public interface NotificationsDao extends BaseDao<NotificationEntity> {
 
 	void markNotificationAsRead(String ownerId, Collection<UUID> eventIds);
 
+    /**
+     * Stores the notifications together with a {@link NotifiedOwnerEntity} per notification.
+     */
     void createBatch(List<NotificationEntity> notificationEntities);
+
+    List<NotifiedOwnerEntity> getNotifiedOwners(long minute, UUID afterEventId);
 }
@@ -0,0 +1,67 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.notification.dao.types;
+
+import com.datastax.driver.core.utils.UUIDs;
+import com.datastax.driver.mapping.annotations.ClusteringColumn;
+import com.datastax.driver.mapping.annotations.Column;
+import com.datastax.driver.mapping.annotations.PartitionKey;
+import com.datastax.driver.mapping.annotations.Table;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Records that an owner received a notification, in a partition per minute of the event time.
+ * The notification workers of all the nodes read the owners of the recent minutes instead of reading every
+ * active owner, so the rows are only kept for a short time.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(keyspace = "dox", name = "notified_owners")
+public class NotifiedOwnerEntity {
+
+    @PartitionKey
+    @Column(name = "minute")
+    private long minute;
+
+    @ClusteringColumn
+    @Column(name = "event_id")
+    private UUID eventId;
+
+    @ClusteringColumn(1)
+    @Column(name = "owner_id")
+    private String ownerId;
+
+    public NotifiedOwnerEntity(NotificationEntity notification) {
+        this(minuteOf(UUIDs.unixTimestamp(notification.getEventId())), notification.getEventId(),
+            notification.getOwnerId());
+    }
+
+    public static long minuteOf(long timeMillis) {
+        return TimeUnit.MILLISECONDS.toMinutes(timeMillis);
+    }
+}
@@ -25,6 +25,7 @@ import org.openecomp.sdc.notification.dtos.NotificationsStatus;
 import org.openecomp.sdc.notification.exceptons.NotificationNotExistException;
 
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -47,4 +48,9 @@ public interface NotificationsService {
 
     List<NotificationEntity> getNewNotificationsByOwnerId(String ownerId, UUID eventId, int limit);
 
+    /**
+     * Returns the owners that received a notification after the given event, on any node.
+     */
+    Set<String> getOwnersNotifiedAfter(UUID eventId);
+
 }
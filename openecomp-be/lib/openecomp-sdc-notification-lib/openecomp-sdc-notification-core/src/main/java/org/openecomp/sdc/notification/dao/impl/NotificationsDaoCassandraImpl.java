@@ -34,6 +34,7 @@ import org.openecomp.core.nosqldb.api.NoSqlDb;
 import org.openecomp.core.nosqldb.factory.NoSqlDbFactory;
 import org.openecomp.sdc.notification.dao.NotificationsDao;
 import org.openecomp.sdc.notification.dao.types.NotificationEntity;
+import org.openecomp.sdc.notification.dao.types.NotifiedOwnerEntity;
 import org.openecomp.sdc.notification.dtos.NotificationsStatus;
 
 import java.util.*;
@@ -50,8 +51,11 @@ public class NotificationsDaoCassandraImpl extends CassandraBaseDao<Notification
     private static final NoSqlDb noSqlDb = NoSqlDbFactory.getInstance().createInterface();
     private static final Mapper<NotificationEntity> mapper =
         noSqlDb.getMappingManager().mapper(NotificationEntity.class);
+    private static final Mapper<NotifiedOwnerEntity> notifiedOwnerMapper =
+        noSqlDb.getMappingManager().mapper(NotifiedOwnerEntity.class);
     private static final NotificationsAccessor accessor =
         noSqlDb.getMappingManager().createAccessor(NotificationsAccessor.class);
+    private static final int NOTIFIED_OWNER_TTL_SECONDS = 3600;
 
     @Override
     protected Mapper<NotificationEntity> getMapper() {
@@ -178,9 +182,18 @@ public class NotificationsDaoCassandraImpl extends CassandraBaseDao<Notification
             .map(mapper::saveQuery)
             .collect(Collectors.toList());
         batch.addAll(statements);
+        notificationEntities.stream()
+            .map(notification -> notifiedOwnerMapper.saveQuery(new NotifiedOwnerEntity(notification),
+                Mapper.Option.ttl(NOTIFIED_OWNER_TTL_SECONDS)))
+            .forEach(batch::add);
         getSession().execute(batch);
     }
 
+    @Override
+    public List<NotifiedOwnerEntity> getNotifiedOwners(long minute, UUID afterEventId) {
+        return accessor.getNotifiedOwners(minute, afterEventId).all();
+    }
+
     @Accessor
     interface NotificationsAccessor {
 
@@ -199,6 +212,9 @@ public class NotificationsDaoCassandraImpl extends CassandraBaseDao<Notification
         @Query("select count(*) from notifications where owner_id=? and event_id > ? and event_id <= ?")
         ResultSet getNewNotificationsCount(String ownerId, UUID lastScannedEventId, UUID firstScannedEventId);
 
+        @Query("select * from notified_owners where minute=? and event_id > ?")
+        Result<NotifiedOwnerEntity> getNotifiedOwners(long minute, UUID afterEventId);
+
         @Query("update notifications set read=true where owner_id=? and event_id=?")
         ResultSet markAsRead(String ownerId, UUID eventId);
     }
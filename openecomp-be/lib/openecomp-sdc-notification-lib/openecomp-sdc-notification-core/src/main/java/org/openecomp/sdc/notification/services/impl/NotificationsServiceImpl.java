@@ -20,17 +20,22 @@
 
 package org.openecomp.sdc.notification.services.impl;
 
+import com.datastax.driver.core.utils.UUIDs;
 import org.openecomp.sdc.notification.dao.LastNotificationDao;
 import org.openecomp.sdc.notification.dao.NotificationsDao;
 import org.openecomp.sdc.notification.dao.types.LastSeenNotificationEntity;
 import org.openecomp.sdc.notification.dao.types.NotificationEntity;
+import org.openecomp.sdc.notification.dao.types.NotifiedOwnerEntity;
 import org.openecomp.sdc.notification.dtos.NotificationsStatus;
 import org.openecomp.sdc.notification.exceptons.NotificationNotExistException;
 import org.openecomp.sdc.notification.services.NotificationsService;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author Avrahamg
@@ -38,6 +43,11 @@ import java.util.UUID;
  */
 public class NotificationsServiceImpl implements NotificationsService {
 
+    // covers the clock skew between the nodes and the time a batch takes to be written
+    private static final long NOTIFIED_OWNERS_LOOKBACK_MSEC = TimeUnit.SECONDS.toMillis(5);
+    // the notified owners are kept for an hour, a worker further behind has to read all its owners
+    private static final long NOTIFIED_OWNERS_WINDOW_MSEC = TimeUnit.HOURS.toMillis(1);
+
     private LastNotificationDao lastNotificationDao;
     private NotificationsDao notificationsDao;
 
@@ -109,4 +119,19 @@ public class NotificationsServiceImpl implements NotificationsService {
 	return notificationsDao.getNewNotificationsByOwnerId(ownerId, eventId, limit);
     }
 
+    @Override
+    public Set<String> getOwnersNotifiedAfter(UUID eventId) {
+        long now = System.currentTimeMillis();
+        long from = Math.max(UUIDs.unixTimestamp(eventId) - NOTIFIED_OWNERS_LOOKBACK_MSEC,
+            now - NOTIFIED_OWNERS_WINDOW_MSEC);
+        UUID afterEventId = UUIDs.startOf(from);
+        Set<String> owners = new HashSet<>();
+        for (long minute = NotifiedOwnerEntity.minuteOf(from); minute <= NotifiedOwnerEntity.minuteOf(now);
+             minute++) {
+            notificationsDao.getNotifiedOwners(minute, afterEventId)
+                .forEach(notifiedOwner -> owners.add(notifiedOwner.getOwnerId()));
+        }
+        return owners;
+    }
+
 }
@@ -20,6 +20,7 @@
 
 package org.openecomp.sdc.notification.services.impl;
 
+import com.datastax.driver.core.utils.UUIDs;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.InjectMocks;
@@ -29,11 +30,19 @@ import org.mockito.Spy;
 import org.openecomp.sdc.notification.dao.LastNotificationDao;
 import org.openecomp.sdc.notification.dao.NotificationsDao;
 import org.openecomp.sdc.notification.dao.types.NotificationEntity;
+import org.openecomp.sdc.notification.dao.types.NotifiedOwnerEntity;
 import org.openecomp.sdc.notification.exceptons.NotificationNotExistException;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Mockito.*;
 
 /**
@@ -65,4 +74,32 @@ public class NotificationsServiceImplTest {
         doReturn(null).when(notificationsDao).get(any());
         notificationsService.markAsRead("ownerId", UUID.randomUUID().toString());
     }
+
+    @Test
+    public void shouldReadNotifiedOwnersOfEveryMinuteSinceTheEvent() {
+        long now = System.currentTimeMillis();
+        UUID lastScanned = UUIDs.startOf(now - TimeUnit.MINUTES.toMillis(2));
+        long firstMinute = NotifiedOwnerEntity.minuteOf(now - TimeUnit.MINUTES.toMillis(2) - 5000);
+        doReturn(Collections.emptyList()).when(notificationsDao).getNotifiedOwners(anyLong(), any());
+        doReturn(Arrays.asList(new NotifiedOwnerEntity(firstMinute, UUIDs.timeBased(), "owner1"),
+            new NotifiedOwnerEntity(firstMinute, UUIDs.timeBased(), "owner2")))
+            .when(notificationsDao).getNotifiedOwners(eq(firstMinute), any());
+        doReturn(Collections.singletonList(new NotifiedOwnerEntity(firstMinute + 1, UUIDs.timeBased(), "owner1")))
+            .when(notificationsDao).getNotifiedOwners(eq(firstMinute + 1), any());
+
+        Set<String> owners = notificationsService.getOwnersNotifiedAfter(lastScanned);
+
+        assertEquals(new HashSet<>(Arrays.asList("owner1", "owner2")), owners);
+        verify(notificationsDao, atLeast(3)).getNotifiedOwners(anyLong(), any());
+        verify(notificationsDao, never()).getNotifiedOwners(eq(firstMinute - 1), any());
+    }
+
+    @Test
+    public void shouldNotReadNotifiedOwnersOlderThanTheirRetention() {
+        doReturn(Collections.emptyList()).when(notificationsDao).getNotifiedOwners(anyLong(), any());
+
+        notificationsService.getOwnersNotifiedAfter(UUIDs.startOf(0));
+
+        verify(notificationsDao, atMost(62)).getNotifiedOwners(anyLong(), any());
+    }
 }
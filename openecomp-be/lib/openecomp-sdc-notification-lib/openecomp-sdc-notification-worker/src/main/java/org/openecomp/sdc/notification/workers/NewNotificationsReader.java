@@ -21,9 +21,15 @@
 package org.openecomp.sdc.notification.workers;
 
 import org.openecomp.sdc.notification.types.NotificationsStatusDto;
+import org.openecomp.sdc.notification.types.NotifiedOwnersDto;
 
 import java.util.UUID;
 
 public interface NewNotificationsReader {
 	NotificationsStatusDto getNewNotifications(String ownerId, UUID eventId, int limit);
+
+	/**
+	 * Returns the owners notified after the last scan, or {@code null} when they can not be read.
+	 */
+	NotifiedOwnersDto getNotifiedOwners(UUID lastScanned);
 }
@@ -25,42 +25,62 @@ import org.openecomp.sdc.logging.api.Logger;
 import org.openecomp.sdc.logging.api.LoggerFactory;
 import org.openecomp.sdc.notification.config.ConfigurationManager;
 import org.openecomp.sdc.notification.types.NotificationsStatusDto;
+import org.openecomp.sdc.notification.types.NotifiedOwnersDto;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
+/**
+ * Delivers the new notifications of the registered owners.
+ * Every polling interval the worker reads which owners were notified since its last scan, on any backend node,
+ * and reads the notifications of those owners and of the newly registered ones only. All the registered owners
+ * are read every catch-up interval, and whenever the notified owners can not be read.
+ */
 public class NotificationWorker {
 
 	private static final int DEFAULT_POLLING_INTERVAL = 2000;
 	private static final String POLLING_INTERVAL = "pollingIntervalMsec";
 	private static final int DEFAULT_SELECTION_LIMIT = 10;
 	private static final String SELECTION_SIZE = "selectionSize";
+	private static final int DEFAULT_CATCH_UP_INTERVAL = 30000;
+	private static final String CATCH_UP_INTERVAL = "catchUpIntervalMsec";
 
 	private static boolean stopRunning = false;
 
 	private int selectionLimit = DEFAULT_SELECTION_LIMIT;
 	private int pollingSleepInterval = DEFAULT_POLLING_INTERVAL;
+	private int catchUpInterval = DEFAULT_CATCH_UP_INTERVAL;
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(NotificationWorker.class);
 
 	private static Map<String, NotificationReceiver> activeUsers = new ConcurrentHashMap<>();
+	private final Set<String> newUsers = ConcurrentHashMap.newKeySet();
 	private NewNotificationsReader news = null;
 
 	public NotificationWorker(NewNotificationsReader news) {
+		this(news, true);
+	}
+
+	NotificationWorker(NewNotificationsReader news, boolean startPolling) {
 		ConfigurationManager cm = ConfigurationManager.getInstance();
 		pollingSleepInterval = cm.getConfigValue(POLLING_INTERVAL, DEFAULT_POLLING_INTERVAL);
 		selectionLimit = cm.getConfigValue(SELECTION_SIZE, DEFAULT_SELECTION_LIMIT);
+		catchUpInterval = cm.getConfigValue(CATCH_UP_INTERVAL, DEFAULT_CATCH_UP_INTERVAL);
 
 		Objects.requireNonNull(news, "NotificationNews object is not initialized.");
 		this.news = news;
 
-		NotificationWorker.Poller p = new Poller();
-		Thread thread = new Thread(p);
-		thread.start();
+		if (startPolling) {
+			NotificationWorker.Poller p = new Poller();
+			Thread thread = new Thread(p);
+			thread.start();
+		}
 	}
 
 	public Map<String, NotificationReceiver> getActiveUsers() {
@@ -68,6 +88,10 @@ public class NotificationWorker {
 	}
 
 	public class Poller extends Thread {
+
+		private UUID lastScanned;
+		private long lastCatchUp;
+
 		@Override
 		public void run() {
 			try {
@@ -82,13 +106,27 @@ public class NotificationWorker {
 			}
 		}
 
-		private void pollNotifications() {
+		void pollNotifications() {
 
 			Map<String, NotificationReceiver> currUsers = new HashMap<>();
 			currUsers.putAll(getActiveUsers());
 
-			for (NotificationReceiver receiver : currUsers.values()) {
-				String ownerId = receiver.getOwnerId();
+			Set<String> owners = readNotifiedOwners();
+			long now = System.currentTimeMillis();
+			if (owners == null || now - lastCatchUp >= catchUpInterval) {
+				owners = currUsers.keySet();
+				lastCatchUp = now;
+			}
+			else {
+				owners.addAll(newUsers);
+			}
+
+			for (String ownerId : owners) {
+				NotificationReceiver receiver = currUsers.get(ownerId);
+				if (receiver == null) {
+					continue;
+				}
+				newUsers.remove(ownerId);
 				UUID eventId = receiver.getlastEventId();
 				NotificationsStatusDto status = news.getNewNotifications(ownerId, eventId, selectionLimit);
 				if(Objects.nonNull(status) && CollectionUtils.isNotEmpty(status.getNotifications())) {
@@ -98,16 +136,29 @@ public class NotificationWorker {
 			}
 		}
 
+		private Set<String> readNotifiedOwners() {
+			NotifiedOwnersDto notifiedOwners = news.getNotifiedOwners(lastScanned);
+			if (Objects.isNull(notifiedOwners) || Objects.isNull(notifiedOwners.getLastScanned())) {
+				return null;
+			}
+			boolean firstScan = lastScanned == null;
+			lastScanned = notifiedOwners.getLastScanned();
+			// the first scan only sets the starting point, the catch-up reads all the owners
+			return firstScan ? null : new HashSet<>(notifiedOwners.getOwners());
+		}
+
 	}
 
 	public void register(String ownerId, UUID lastDelivered, Consumer<NotificationsStatusDto> notesProcessor) {
 		NotificationReceiver receiver = new NotificationReceiver(ownerId, lastDelivered, notesProcessor);
 		activeUsers.put(ownerId, receiver);
+		newUsers.add(ownerId);
 		LOGGER.debug("User {} is registered with eventId: {}", ownerId, receiver.getlastEventId());
 	}
 
 	public void unregister(String ownerId) {
 		activeUsers.remove(ownerId);
+		newUsers.remove(ownerId);
 		LOGGER.debug("User {} is unregistered.", ownerId);
 	}
 
@@ -21,6 +21,7 @@
 package org.openecomp.sdc.notification.workers.impl;
 
 import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.impl.client.HttpClientBuilder;
@@ -29,6 +30,7 @@ import org.openecomp.sdc.logging.api.Logger;
 import org.openecomp.sdc.logging.api.LoggerFactory;
 import org.openecomp.sdc.notification.config.ConfigurationManager;
 import org.openecomp.sdc.notification.types.NotificationsStatusDto;
+import org.openecomp.sdc.notification.types.NotifiedOwnersDto;
 import org.openecomp.sdc.notification.workers.NewNotificationsReader;
 
 import javax.ws.rs.core.HttpHeaders;
@@ -41,11 +43,13 @@ public class NewNotificationsReaderRestImpl implements NewNotificationsReader {
     private static final String USER_ID_HEADER_PARAM = "USER_ID";
     private static final String LAST_DELIVERED_QUERY_PARAM = "LAST_DELIVERED_EVENT_ID";
     private static final String LIMIT_QUERY_PARAM = "NOTIFICATION_ROWS_LIMIT";
+    private static final String LAST_SCANNED_QUERY_PARAM = "LAST_SCANNED_EVENT_ID";
     private static final String BE_HOST = "beHost";
     private static final String BE_PORT = "beHttpPort";
     private static final String DEFAULT_BE_HOST = "localhost";
     private static final int DEFAULT_BE_PORT = 8080;
     private static final String URL = "http://%s:%d/onboarding-api/v1.0/notifications/worker?";
+    private static final String OWNERS_URL = "http://%s:%d/onboarding-api/v1.0/notifications/worker/owners";
     private static final ObjectMapper mapper = new ObjectMapper();
 
     private static String beHost;
@@ -81,4 +85,29 @@ public class NewNotificationsReaderRestImpl implements NewNotificationsReader {
             return null;
         }
     }
+
+    public NotifiedOwnersDto getNotifiedOwners(UUID lastScanned) {
+        HttpClient client = HttpClientBuilder.create().build();
+        String url = String.format(OWNERS_URL, beHost, bePort);
+        if (lastScanned != null) {
+            url = url + "?" + LAST_SCANNED_QUERY_PARAM + "=" + lastScanned;
+        }
+
+        HttpGet request = new HttpGet(url);
+        request.addHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON);
+        request.addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
+
+        try {
+            HttpResponse response = client.execute(request);
+            if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
+                LOGGER.error("Failed to read the notified owners from {}, status {}", url,
+                    response.getStatusLine().getStatusCode());
+                return null;
+            }
+            return mapper.readValue(new InputStreamReader(response.getEntity().getContent()), NotifiedOwnersDto.class);
+        } catch (Exception e) {
+            LOGGER.error("Failed to execute the request {}", url, e);
+            return null;
+        }
+    }
 }
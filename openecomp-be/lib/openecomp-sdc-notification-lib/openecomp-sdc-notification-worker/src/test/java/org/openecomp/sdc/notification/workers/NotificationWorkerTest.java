@@ -26,6 +26,7 @@ import org.junit.Test;
 import org.openecomp.core.utilities.json.JsonUtil;
 import org.openecomp.sdc.notification.types.NotificationEntityDto;
 import org.openecomp.sdc.notification.types.NotificationsStatusDto;
+import org.openecomp.sdc.notification.types.NotifiedOwnersDto;
 
 import java.io.*;
 import java.text.DateFormat;
@@ -34,6 +35,9 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
 //import org.junit.Before;
 
 
@@ -73,6 +77,32 @@ public class NotificationWorkerTest {
 
     }
 
+    @Test
+    public void testOnlyNotifiedAndNewOwnersAreRead() {
+        FeedNotificationsReader feed = new FeedNotificationsReader();
+        NotificationWorker feedWorker = new NotificationWorker(feed, false);
+        NotificationWorker.Poller poller = feedWorker.new Poller();
+        feedWorker.register("feed_owner_1", null, this::notifyReceiver);
+        feedWorker.register("feed_owner_2", null, this::notifyReceiver);
+
+        // the first scan reads all the owners
+        poller.pollNotifications();
+        assertTrue(feed.readOwners.containsAll(Arrays.asList("feed_owner_1", "feed_owner_2")));
+
+        feed.readOwners.clear();
+        poller.pollNotifications();
+        assertEquals(Collections.emptySet(), feed.readOwners);
+
+        feed.notifiedOwners = Collections.singletonList("feed_owner_2");
+        feedWorker.register("feed_owner_3", null, this::notifyReceiver);
+        poller.pollNotifications();
+        assertEquals(new HashSet<>(Arrays.asList("feed_owner_2", "feed_owner_3")), feed.readOwners);
+
+        feedWorker.unregister("feed_owner_1");
+        feedWorker.unregister("feed_owner_2");
+        feedWorker.unregister("feed_owner_3");
+    }
+
     private void notifyReceiver(NotificationsStatusDto notes) {
         if (Objects.nonNull(notes)) {
             System.out.println("Received notes:");
@@ -96,6 +126,10 @@ public class NotificationWorkerTest {
             return getNotifications(fn);
         }
 
+        public NotifiedOwnersDto getNotifiedOwners(UUID lastScanned) {
+            return null;
+        }
+
         private NotificationsStatusDto getNotifications(String fn) {
             NotificationsStatusDto notificationsStatusDto = new NotificationsStatusDto();
             List<NotificationEntityDto> inputList = new ArrayList<>();
@@ -123,4 +157,24 @@ public class NotificationWorkerTest {
         };
     }
 
+
+    private static class FeedNotificationsReader implements NewNotificationsReader {
+
+        private final Set<String> readOwners = new HashSet<>();
+        private List<String> notifiedOwners = Collections.emptyList();
+
+        public NotificationsStatusDto getNewNotifications(String ownerId, UUID eventId, int limit) {
+            readOwners.add(ownerId);
+            return null;
+        }
+
+        public NotifiedOwnersDto getNotifiedOwners(UUID lastScanned) {
+            NotifiedOwnersDto notifiedOwnersDto = new NotifiedOwnersDto();
+            notifiedOwnersDto.setOwners(new ArrayList<>(notifiedOwners));
+            notifiedOwnersDto.setLastScanned(UUIDs.timeBased());
+            notifiedOwners = Collections.emptyList();
+            return notifiedOwnersDto;
+        }
+    }
+
 }
@@ -21,7 +21,7 @@
 package org.openecomp.sdc.generator.core.utils;
 
 import org.onap.sdc.tosca.datatypes.model.*;
-import org.onap.sdc.tosca.services.ToscaExtensionYamlUtil;
+import org.onap.sdc.tosca.services.DataModelCloneUtil;
 import org.openecomp.sdc.tosca.datatypes.ToscaElementTypes;
 import org.openecomp.sdc.tosca.datatypes.ToscaServiceModel;
 import org.openecomp.sdc.tosca.services.DataModelUtil;
@@ -178,10 +178,8 @@ public class GeneratorUtils {
         if (flatNodeType.getRequirements() != null) {
             for (Map<String, RequirementDefinition> requirementMap : flatNodeType.getRequirements()) {
                 for (Map.Entry<String, RequirementDefinition> requirementNodeEntry : requirementMap.entrySet()) {
-                    ToscaExtensionYamlUtil toscaExtensionYamlUtil = new ToscaExtensionYamlUtil();
-                    RequirementDefinition requirementNodeEntryValue = toscaExtensionYamlUtil.yamlToObject(
-                            toscaExtensionYamlUtil.objectToYaml(requirementNodeEntry.getValue()),
-                            RequirementDefinition.class);
+                    RequirementDefinition requirementNodeEntryValue =
+                            DataModelCloneUtil.cloneAs(requirementNodeEntry.getValue(), RequirementDefinition.class);
                     if (requirementNodeEntryValue.getOccurrences() == null) {
                         requirementNodeEntryValue.setOccurrences(new Object[] {1, 1});
                     }
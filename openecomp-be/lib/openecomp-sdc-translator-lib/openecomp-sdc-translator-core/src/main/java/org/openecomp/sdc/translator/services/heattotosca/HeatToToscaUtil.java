@@ -48,7 +48,7 @@ import org.onap.sdc.tosca.datatypes.model.RequirementDefinition;
 import org.onap.sdc.tosca.datatypes.model.ServiceTemplate;
 import org.onap.sdc.tosca.datatypes.model.Template;
 import org.onap.sdc.tosca.datatypes.model.TopologyTemplate;
-import org.onap.sdc.tosca.services.ToscaExtensionYamlUtil;
+import org.onap.sdc.tosca.services.DataModelCloneUtil;
 import org.onap.sdc.tosca.services.YamlUtil;
 import org.openecomp.core.translator.api.HeatToToscaTranslator;
 import org.openecomp.core.translator.datatypes.TranslatorOutput;
@@ -1277,10 +1277,8 @@ public class HeatToToscaUtil {
 
         for (Map<String, RequirementDefinition> requirementMap : flatNodeType.getRequirements()) {
             for (Map.Entry<String, RequirementDefinition> requirementNodeEntry : requirementMap.entrySet()) {
-                ToscaExtensionYamlUtil toscaExtensionYamlUtil = new ToscaExtensionYamlUtil();
-                RequirementDefinition requirementNodeEntryValue = toscaExtensionYamlUtil.yamlToObject(
-                        toscaExtensionYamlUtil.objectToYaml(requirementNodeEntry.getValue()),
-                        RequirementDefinition.class);
+                RequirementDefinition requirementNodeEntryValue =
+                        DataModelCloneUtil.cloneAs(requirementNodeEntry.getValue(), RequirementDefinition.class);
                 if (Objects.isNull(requirementNodeEntryValue.getOccurrences())) {
                     requirementNodeEntryValue.setOccurrences(new Object[] {1, 1});
                 }
@@ -19,24 +19,58 @@ package org.openecomp.core.validation.types;
 import org.apache.commons.collections4.CollectionUtils;
 import org.openecomp.core.validation.ErrorMessageCode;
 import org.openecomp.sdc.datatypes.error.ErrorLevel;
+import org.openecomp.sdc.datatypes.error.ErrorMessage;
 import org.openecomp.sdc.logging.api.Logger;
 import org.openecomp.sdc.logging.api.LoggerFactory;
 
 import java.io.InputStream;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class GlobalValidationContext {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(GlobalValidationContext.class);
-  private final Map<String, FileValidationContext> fileContextMap = new HashMap<>();
-  private final Map<String, MessageContainer> messageContainerMap = new HashMap<>();
+  private final GlobalValidationContext parent;
+  private final Map<String, FileValidationContext> fileContextMap;
+  private final Map<String, MessageContainer> messageContainerMap = new LinkedHashMap<>();
+  private final Map<Map.Entry<String, Class<?>>, ParsedContent> parsedContentMap;
+  private final AtomicLong parsedContentHits;
+  private final AtomicLong parsedContentMisses;
+  private final AtomicLong parseTimeNanos;
   private ErrorMessageCode messageCode;
 
+  public GlobalValidationContext() {
+    this.parent = null;
+    this.fileContextMap = new HashMap<>();
+    this.parsedContentMap = new ConcurrentHashMap<>();
+    this.parsedContentHits = new AtomicLong();
+    this.parsedContentMisses = new AtomicLong();
+    this.parseTimeNanos = new AtomicLong();
+  }
+
+  private GlobalValidationContext(GlobalValidationContext parent) {
+    this.parent = parent;
+    this.fileContextMap = parent.fileContextMap;
+    this.parsedContentMap = parent.parsedContentMap;
+    this.parsedContentHits = parent.parsedContentHits;
+    this.parsedContentMisses = parent.parsedContentMisses;
+    this.parseTimeNanos = parent.parseTimeNanos;
+    this.messageCode = parent.messageCode;
+  }
+
   public ErrorMessageCode getMessageCode() {
     return messageCode;
   }
@@ -57,19 +91,65 @@ public class GlobalValidationContext {
 
     LOGGER.debug("'{}' [{}] in file '{}' ", message, level, fileName);
 
-    if (fileContextMap.containsKey(fileName)) {
-      fileContextMap.get(fileName).getMessageContainer().getMessageBuilder()
-          .setMessage(level.toString() + ": " + message).setLevel(level).create();
+    addErrorMessage(fileName, level, level.toString() + ": " + message);
+  }
+
+  private synchronized void addErrorMessage(String fileName, ErrorLevel level, String message) {
+    MessageContainer messageContainer;
+    if (parent == null && fileContextMap.containsKey(fileName)) {
+      messageContainer = fileContextMap.get(fileName).getMessageContainer();
     } else {
-      MessageContainer messageContainer;
-      synchronized (this) {
-        messageContainer = messageContainerMap.computeIfAbsent(fileName, k -> new MessageContainer());
+      messageContainer = messageContainerMap.computeIfAbsent(fileName, k -> new MessageContainer());
+    }
+    messageContainer.getMessageBuilder().setMessage(message).setLevel(level).create();
+  }
+
+  /**
+   * Creates a context for validating concurrently with other forks.
+   * The fork shares the files and parsed content of this context, but collects its own messages
+   * and message code until it is merged back.
+   *
+   * @return the fork
+   */
+  public GlobalValidationContext fork() {
+    return new GlobalValidationContext(this);
+  }
+
+  /**
+   * Adds the messages collected by a fork of this context, in the order they were added to it.
+   *
+   * @param fork the fork
+   */
+  public void merge(GlobalValidationContext fork) {
+    List<Map.Entry<String, MessageContainer>> forkMessages;
+    synchronized (fork) {
+      forkMessages = new ArrayList<>(fork.messageContainerMap.entrySet());
+    }
+    for (Map.Entry<String, MessageContainer> entry : forkMessages) {
+      for (ErrorMessage errorMessage : entry.getValue().getErrorMessageList()) {
+        addErrorMessage(entry.getKey(), errorMessage.getLevel(), errorMessage.getMessage());
       }
-      messageContainer.getMessageBuilder().setMessage(level.toString() + ": " + message)
-          .setLevel(level).create();
     }
   }
 
+  /**
+   * Validates the files in parallel, each on its own fork, and merges the messages back in the
+   * order of the given files, so the result is the same as validating them one after another.
+   *
+   * @param fileNames  the file names
+   * @param validation the validation of a single file
+   */
+  public void validateFiles(Collection<String> fileNames,
+                            BiConsumer<String, GlobalValidationContext> validation) {
+    List<GlobalValidationContext> forks = new ArrayList<>(fileNames).parallelStream()
+        .map(fileName -> {
+          GlobalValidationContext fork = fork();
+          validation.accept(fileName, fork);
+          return fork;
+        }).collect(Collectors.toList());
+    forks.forEach(this::merge);
+  }
+
   /**
    * Gets file content.
    *
@@ -86,6 +166,62 @@ public class GlobalValidationContext {
 
   public void addFileContext(String fileName, byte[] fileContent) {
     fileContextMap.put(fileName, new FileValidationContext(fileName, fileContent));
+    parsedContentMap.keySet().removeIf(key -> key.getKey().equals(fileName));
+  }
+
+  /**
+   * Gets file content parsed to the given type.
+   * Each file is parsed once per type, later calls get the same instance, which is shared between
+   * the validators running in parallel and must not be modified. Callers that hand the content to
+   * validators give each its own copy, as ValidationUtil does. A parsing failure is kept as well
+   * and rethrown to every caller.
+   *
+   * @param fileName the file name
+   * @param type     the type the content is parsed to
+   * @param parser   the parser, used on the first call only
+   * @return the parsed content, empty if the file has no content
+   */
+  public <T> Optional<T> getParsedContent(String fileName, Class<T> type,
+                                          Function<InputStream, T> parser) {
+    Map.Entry<String, Class<?>> key = new AbstractMap.SimpleImmutableEntry<>(fileName, type);
+    ParsedContent parsedContent = parsedContentMap.get(key);
+    if (parsedContent != null) {
+      parsedContentHits.incrementAndGet();
+    } else {
+      parsedContent = parsedContentMap.computeIfAbsent(key, k -> parse(fileName, parser));
+    }
+    if (parsedContent.failure != null) {
+      throw parsedContent.failure;
+    }
+    return Optional.ofNullable(type.cast(parsedContent.content));
+  }
+
+  private ParsedContent parse(String fileName, Function<InputStream, ?> parser) {
+    Optional<InputStream> fileContent = getFileContent(fileName);
+    if (!fileContent.isPresent()) {
+      return new ParsedContent(null, null);
+    }
+    parsedContentMisses.incrementAndGet();
+    long start = System.nanoTime();
+    try {
+      return new ParsedContent(parser.apply(fileContent.get()), null);
+    } catch (RuntimeException exception) {
+      return new ParsedContent(null, exception);
+    } finally {
+      parseTimeNanos.addAndGet(System.nanoTime() - start);
+    }
+  }
+
+  public long getParsedContentHits() {
+    return parsedContentHits.get();
+  }
+
+  public long getParsedContentMisses() {
+    return parsedContentMisses.get();
+  }
+
+  public long getParseTimeMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(parseTimeNanos.get());
   }
 
   /**
@@ -120,4 +256,14 @@ public class GlobalValidationContext {
     return this.getFileContextMap().keySet();
   }
 
+  private static class ParsedContent {
+    private final Object content;
+    private final RuntimeException failure;
+
+    ParsedContent(Object content, RuntimeException failure) {
+      this.content = content;
+      this.failure = failure;
+    }
+  }
+
 }
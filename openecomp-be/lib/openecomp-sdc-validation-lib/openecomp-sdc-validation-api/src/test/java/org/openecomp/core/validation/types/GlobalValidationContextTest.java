@@ -24,12 +24,19 @@ import org.openecomp.core.validation.ErrorMessageCode;
 import org.openecomp.sdc.datatypes.error.ErrorLevel;
 import org.openecomp.sdc.datatypes.error.ErrorMessage;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 
 public class GlobalValidationContextTest {
   private static String filename = "testName";
@@ -97,6 +104,99 @@ public class GlobalValidationContextTest {
 
   }
 
+  @Test
+  public void testGetParsedContentParsesOnce() {
+    GlobalValidationContext globalValidationContext = new GlobalValidationContext();
+    globalValidationContext.addFileContext(yaml1, content.getBytes());
+    AtomicInteger parseCount = new AtomicInteger();
+    Function<InputStream, String> parser = stream -> {
+      parseCount.incrementAndGet();
+      return readContent(stream);
+    };
+
+    Optional<String> first = globalValidationContext.getParsedContent(yaml1, String.class, parser);
+    Optional<String> second = globalValidationContext.getParsedContent(yaml1, String.class, parser);
+
+    Assert.assertEquals(content, first.orElse(null));
+    Assert.assertSame(first.get(), second.orElse(null));
+    Assert.assertEquals(1, parseCount.get());
+    Assert.assertEquals(1, globalValidationContext.getParsedContentMisses());
+    Assert.assertEquals(1, globalValidationContext.getParsedContentHits());
+  }
+
+  @Test
+  public void testGetParsedContentOfMissingFile() {
+    GlobalValidationContext globalValidationContext = new GlobalValidationContext();
+
+    Assert.assertFalse(globalValidationContext.getParsedContent(yaml1, String.class,
+        GlobalValidationContextTest::readContent).isPresent());
+  }
+
+  @Test
+  public void testGetParsedContentRethrowsParsingFailure() {
+    GlobalValidationContext globalValidationContext = new GlobalValidationContext();
+    globalValidationContext.addFileContext(yaml1, content.getBytes());
+    RuntimeException failure = new RuntimeException(message);
+    Function<InputStream, String> parser = stream -> {
+      throw failure;
+    };
+
+    for (int i = 0; i < 2; i++) {
+      try {
+        globalValidationContext.getParsedContent(yaml1, String.class, parser);
+        Assert.fail("Parsing failure should be rethrown");
+      } catch (RuntimeException exception) {
+        Assert.assertSame(failure, exception);
+      }
+    }
+    Assert.assertEquals(1, globalValidationContext.getParsedContentMisses());
+  }
+
+  @Test
+  public void testForkMessagesAreMergedInOrder() {
+    GlobalValidationContext globalValidationContext = new GlobalValidationContext();
+    globalValidationContext.addFileContext(filename, content.getBytes());
+    GlobalValidationContext first = globalValidationContext.fork();
+    GlobalValidationContext second = globalValidationContext.fork();
+    second.addMessage(filename, ErrorLevel.WARNING, "second");
+    first.addMessage(filename, ErrorLevel.ERROR, "first");
+
+    Assert.assertTrue(MapUtils.isEmpty(globalValidationContext.getContextMessageContainers()));
+    globalValidationContext.merge(first);
+    globalValidationContext.merge(second);
+
+    List<ErrorMessage> errorMessages =
+        globalValidationContext.getContextMessageContainers().get(filename).getErrorMessageList();
+    Assert.assertEquals(Arrays.asList(new ErrorMessage(ErrorLevel.ERROR, "ERROR: first"),
+        new ErrorMessage(ErrorLevel.WARNING, "WARNING: second")), errorMessages);
+  }
+
+  @Test
+  public void testValidateFilesKeepsFileOrder() {
+    GlobalValidationContext globalValidationContext = new GlobalValidationContext();
+    List<String> fileNames = Arrays.asList(yaml1, yaml2, text1);
+
+    globalValidationContext.validateFiles(fileNames, (fileName, fileContext) ->
+        fileContext.addMessage(filename, ErrorLevel.ERROR, fileName));
+
+    List<ErrorMessage> errorMessages =
+        globalValidationContext.getContextMessageContainers().get(filename).getErrorMessageList();
+    Assert.assertEquals(3, errorMessages.size());
+    for (int i = 0; i < fileNames.size(); i++) {
+      Assert.assertEquals("ERROR: " + fileNames.get(i), errorMessages.get(i).getMessage());
+    }
+  }
+
+  private static String readContent(InputStream stream) {
+    try {
+      byte[] buffer = new byte[content.length()];
+      int read = stream.read(buffer);
+      return new String(buffer, 0, read, StandardCharsets.UTF_8);
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
   private void testGetFilesByFileType(BiPredicate<String, GlobalValidationContext> func,
                                       int expectedFilesNumberToFind,
                                       List<String> expectedFileNames,
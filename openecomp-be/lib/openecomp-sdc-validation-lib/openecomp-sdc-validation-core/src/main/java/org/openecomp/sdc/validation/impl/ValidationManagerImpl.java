@@ -34,6 +34,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
 public class ValidationManagerImpl implements ValidationManager {
 
@@ -47,13 +49,30 @@ public class ValidationManagerImpl implements ValidationManager {
     validators = ValidationFactory.getValidators();
   }
 
+  /**
+   * Runs the validators concurrently, each on a fork of the global context. The messages of the
+   * forks are merged in the validators order, so the result does not depend on the scheduling.
+   * The pool belongs to this call and is shut down before it returns, so no threads outlive it.
+   */
   @Override
   public Map<String, List<ErrorMessage>> validate() {
-    for (Validator validator : validators) {
-      if(Objects.nonNull(validator)) {
-        validator.validate(globalContext);
-      }
+    ForkJoinPool validationPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    List<GlobalValidationContext> forks;
+    try {
+      forks = validationPool.submit(() -> validators.parallelStream()
+          .filter(Objects::nonNull)
+          .map(validator -> {
+            GlobalValidationContext fork = globalContext.fork();
+            validator.validate(fork);
+            return fork;
+          }).collect(Collectors.toList())).join();
+    } finally {
+      validationPool.shutdown();
     }
+    forks.forEach(globalContext::merge);
+    logger.debug("Validation parsed {} files in {} ms, {} parsed files were reused",
+        globalContext.getParsedContentMisses(), globalContext.getParseTimeMillis(),
+        globalContext.getParsedContentHits());
     return convertMessageContainsToErrorMessage(globalContext.getContextMessageContainers());
   }
 
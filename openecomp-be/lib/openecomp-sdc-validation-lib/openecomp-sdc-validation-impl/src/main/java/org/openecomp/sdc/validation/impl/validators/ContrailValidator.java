@@ -17,7 +17,6 @@
 package org.openecomp.sdc.validation.impl.validators;
 
 import org.apache.commons.collections4.MapUtils;
-import org.onap.sdc.tosca.services.YamlUtil;
 import org.openecomp.core.validation.ErrorMessageCode;
 import org.openecomp.core.validation.errors.ErrorMessagesFormatBuilder;
 import org.openecomp.core.validation.types.GlobalValidationContext;
@@ -109,18 +108,19 @@ public class ContrailValidator implements Validator {
           "The file '" + fileName + "' has no content"));
       return Optional.empty();
     }
-    return fetchContrailResourcesMapping(fileName, fileContent.get());
+    return fetchContrailResourcesMapping(fileName, globalContext);
   }
 
   private Optional<ContrailResourcesMappingTo> fetchContrailResourcesMapping(String fileName,
-          InputStream fileContent ) {
+          GlobalValidationContext globalContext) {
     ContrailResourcesMappingTo contrailResourcesMappingTo = new ContrailResourcesMappingTo();
     HeatOrchestrationTemplate heatOrchestrationTemplate;
     try {
       heatOrchestrationTemplate =
-          new YamlUtil().yamlToObject(fileContent, HeatOrchestrationTemplate.class);
+          ValidationUtil.getHeatOrchestrationTemplate(fileName, globalContext)
+              .orElseThrow(() -> new IllegalStateException("The file has no content"));
     } catch (Exception ignored) {
-      LOGGER.error("Invalid file content : " + fileContent, ignored);
+      LOGGER.error("Invalid file content : " + fileName, ignored);
       // the HeatValidator should handle file that is failing to parse
       return Optional.empty();
     }
@@ -40,7 +40,7 @@ public class YamlValidator implements Validator {
         (fileName, globalValidationContext) -> fileName.endsWith(".yaml")
             || fileName.endsWith(".yml") || fileName.endsWith(".env"));
 
-    files.stream().forEach(fileName -> validate(fileName, globalContext));
+    globalContext.validateFiles(files, this::validate);
   }
 
   private void validate(String fileName, GlobalValidationContext globalContext) {
@@ -54,7 +54,8 @@ public class YamlValidator implements Validator {
     }
 
     try {
-      convert(rowContent.get(), Map.class);
+      globalContext.getParsedContent(fileName, Map.class,
+          content -> new YamlUtil().yamlToObject(content, Map.class));
     } catch (Exception exception) {
 
       globalContext.addMessage(fileName, ErrorLevel.ERROR, ErrorMessagesFormatBuilder
@@ -63,8 +64,4 @@ public class YamlValidator implements Validator {
                   YamlValidatorUtil.getParserExceptionReason(exception)));
     }
   }
-
-  private <T> T convert(InputStream content, Class<T> type) {
-    return new YamlUtil().yamlToObject(content, type);
-  }
 }
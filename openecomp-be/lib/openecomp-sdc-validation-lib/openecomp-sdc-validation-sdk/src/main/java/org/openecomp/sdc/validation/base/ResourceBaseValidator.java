@@ -39,8 +39,10 @@ import org.openecomp.sdc.validation.type.ConfigConstants;
 import org.openecomp.sdc.validation.util.ValidationUtil;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * Created by TALIO on 2/16/2017.
@@ -80,12 +82,13 @@ public class ResourceBaseValidator implements Validator {
 
     Map<String, FileData.Type> fileTypeMap = ManifestUtil.getFileTypeMap(manifestContent);
     Map<String, FileData> fileEnvMap = ManifestUtil.getFileAndItsEnv(manifestContent);
-    globalContext.getFiles().stream()
+    List<String> heatFiles = globalContext.getFiles().stream()
         .filter(fileName -> FileData
             .isHeatFile(fileTypeMap.get(fileName)))
-        .forEach(fileName -> validate(fileName,
-            fileEnvMap.get(fileName) != null ? fileEnvMap.get(fileName).getFile() : null,
-            globalContext));
+        .collect(Collectors.toList());
+    globalContext.validateFiles(heatFiles, (fileName, fileContext) -> validate(fileName,
+        fileEnvMap.get(fileName) != null ? fileEnvMap.get(fileName).getFile() : null,
+        fileContext));
   }
 
   private void validate(String fileName, String envFileName,
@@ -17,6 +17,7 @@
 package org.openecomp.sdc.validation.util;
 
 import org.apache.commons.collections4.CollectionUtils;
+import org.onap.sdc.tosca.services.DataModelCloneUtil;
 import org.onap.sdc.tosca.services.YamlUtil;
 import org.openecomp.core.utilities.json.JsonUtil;
 import org.openecomp.core.validation.errors.ErrorMessagesFormatBuilder;
@@ -130,9 +131,9 @@ public class ValidationUtil {
                                          GlobalValidationContext globalContext) {
     Environment envContent;
     try {
-      Optional<InputStream> fileContent = globalContext.getFileContent(envFileName);
-      if (fileContent.isPresent()) {
-        envContent = new YamlUtil().yamlToObject(fileContent.get(), Environment.class);
+      Optional<Environment> parsedEnv = getEnvironment(envFileName, globalContext);
+      if (parsedEnv.isPresent()) {
+        envContent = parsedEnv.get();
       } else {
         throw new Exception("The file '" + envFileName + "' has no content");
       }
@@ -190,17 +191,43 @@ public class ValidationUtil {
     return reason;
   }
 
+  /**
+   * Gets the heat template of the file. The file is parsed once per validation run, every caller
+   * gets its own deep copy of the parsed template, so validators running in parallel may change it.
+   *
+   * @param fileName the file name
+   * @param globalContext the global context
+   * @return the heat template, empty if the file has no content
+   */
+  public static Optional<HeatOrchestrationTemplate> getHeatOrchestrationTemplate(String fileName,
+                                                                       GlobalValidationContext globalContext) {
+    return getParsedCopy(fileName, HeatOrchestrationTemplate.class, globalContext);
+  }
+
+  /**
+   * Gets the environment of the file. The file is parsed once per validation run, every caller
+   * gets its own deep copy of the parsed environment.
+   *
+   * @param envFileName the env file name
+   * @param globalContext the global context
+   * @return the environment, empty if the file has no content
+   */
+  public static Optional<Environment> getEnvironment(String envFileName,
+                                                     GlobalValidationContext globalContext) {
+    return getParsedCopy(envFileName, Environment.class, globalContext);
+  }
+
+  private static <T> Optional<T> getParsedCopy(String fileName, Class<T> type,
+                                               GlobalValidationContext globalContext) {
+    return globalContext.getParsedContent(fileName, type,
+        content -> new YamlUtil().yamlToObject(content, type)).map(DataModelCloneUtil::deepClone);
+  }
+
   public static HeatOrchestrationTemplate checkHeatOrchestrationPreCondition(String fileName,
                                                                          GlobalValidationContext globalContext) {
     HeatOrchestrationTemplate heatOrchestrationTemplate;
     try {
-      Optional<InputStream> fileContent = globalContext.getFileContent(fileName);
-      if (fileContent.isPresent()) {
-        heatOrchestrationTemplate =
-            new YamlUtil().yamlToObject(fileContent.get(), HeatOrchestrationTemplate.class);
-      } else {
-        heatOrchestrationTemplate = null;
-      }
+      heatOrchestrationTemplate = getHeatOrchestrationTemplate(fileName, globalContext).orElse(null);
     } catch (Exception exception) {
       globalContext.addMessage(fileName, ErrorLevel.ERROR, ErrorMessagesFormatBuilder
               .getErrorWithParameters(globalContext.getMessageCode(),
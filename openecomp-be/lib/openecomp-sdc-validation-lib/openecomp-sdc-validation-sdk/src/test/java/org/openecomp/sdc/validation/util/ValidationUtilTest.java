@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2016-2018 European Support Limited
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openecomp.sdc.validation.util;
+
+import org.openecomp.core.validation.types.GlobalValidationContext;
+import org.openecomp.sdc.heat.datatypes.model.Environment;
+import org.openecomp.sdc.heat.datatypes.model.HeatOrchestrationTemplate;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+
+public class ValidationUtilTest {
+
+  private static final String HEAT_FILE = "heat.yaml";
+  private static final String ENV_FILE = "heat.env";
+  private static final String HEAT_CONTENT = "heat_template_version: 2013-05-23\n"
+      + "parameters:\n"
+      + "  image:\n"
+      + "    type: string\n"
+      + "resources:\n"
+      + "  server:\n"
+      + "    type: OS::Nova::Server\n"
+      + "    properties:\n"
+      + "      image: { get_param: image }\n";
+  private static final String ENV_CONTENT = "parameters:\n"
+      + "  image: cirros\n";
+
+  @Test
+  public void testHeatTemplateParsedOnceAndCopiedPerCaller() {
+    GlobalValidationContext globalContext = new GlobalValidationContext();
+    globalContext.addFileContext(HEAT_FILE, HEAT_CONTENT.getBytes(StandardCharsets.UTF_8));
+
+    HeatOrchestrationTemplate first =
+        ValidationUtil.getHeatOrchestrationTemplate(HEAT_FILE, globalContext).orElse(null);
+    first.getResources().get("server").getProperties().put("image", "changed");
+    first.getParameters().clear();
+    HeatOrchestrationTemplate second =
+        ValidationUtil.getHeatOrchestrationTemplate(HEAT_FILE, globalContext).orElse(null);
+
+    Assert.assertNotSame(second, first);
+    Assert.assertTrue(second.getParameters().containsKey("image"));
+    Assert.assertNotEquals(second.getResources().get("server").getProperties().get("image"), "changed");
+    Assert.assertEquals(globalContext.getParsedContentMisses(), 1);
+    Assert.assertEquals(globalContext.getParsedContentHits(), 1);
+  }
+
+  @Test
+  public void testEnvironmentCopiedPerCaller() {
+    GlobalValidationContext globalContext = new GlobalValidationContext();
+    globalContext.addFileContext(ENV_FILE, ENV_CONTENT.getBytes(StandardCharsets.UTF_8));
+
+    Environment first = ValidationUtil.getEnvironment(ENV_FILE, globalContext).orElse(null);
+    first.getParameters().put("image", "changed");
+    Environment second = ValidationUtil.getEnvironment(ENV_FILE, globalContext).orElse(null);
+
+    Assert.assertEquals(second.getParameters().get("image"), "cirros");
+  }
+
+  @Test
+  public void testMissingFileHasNoTemplate() {
+    Assert.assertFalse(ValidationUtil.getHeatOrchestrationTemplate(HEAT_FILE, new GlobalValidationContext())
+        .isPresent());
+  }
+}
@@ -0,0 +1,49 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.vendorsoftwareproduct.dao;
+
+import org.openecomp.sdc.versioning.dao.types.Version;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * Stores the content of vendor software product packages in bounded chunks, so a package is
+ * never held in memory as a whole while it is written or read.
+ */
+public interface PackageContentDao {
+
+  /**
+   * Stores the content read from the stream, replacing any content stored before for the package.
+   * The content stored before is removed only after the new content was written as a whole.
+   */
+  void store(String vspId, Version version, InputStream content) throws IOException;
+
+  /**
+   * @return a stream reading the stored chunks one at a time, or empty if no content is stored.
+   *         Reading fails with an {@link IOException} if a chunk is missing or the content does not
+   *         have the size it was stored with.
+   */
+  Optional<InputStream> get(String vspId, Version version);
+
+  void delete(String vspId, Version version);
+}
@@ -0,0 +1,63 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.vendorsoftwareproduct.dao.type;
+
+import com.datastax.driver.mapping.annotations.ClusteringColumn;
+import com.datastax.driver.mapping.annotations.Column;
+import com.datastax.driver.mapping.annotations.PartitionKey;
+import com.datastax.driver.mapping.annotations.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@Table(keyspace = "dox", name = "package_content")
+public class PackageContentChunk {
+
+  @PartitionKey
+  @Column(name = "vsp_id")
+  private String vspId;
+
+  @PartitionKey(value = 1)
+  private String version;
+
+  @ClusteringColumn
+  @Column(name = "content_id")
+  private UUID contentId;
+
+  @ClusteringColumn(value = 1)
+  @Column(name = "chunk_index")
+  private int chunkIndex;
+
+  private ByteBuffer content;
+
+  public PackageContentChunk(String vspId, String version, UUID contentId, int chunkIndex,
+                             ByteBuffer content) {
+    this.vspId = vspId;
+    this.version = version;
+    this.contentId = contentId;
+    this.chunkIndex = chunkIndex;
+    this.content = content;
+  }
+}
@@ -0,0 +1,64 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.vendorsoftwareproduct.dao.type;
+
+import com.datastax.driver.mapping.annotations.Column;
+import com.datastax.driver.mapping.annotations.PartitionKey;
+import com.datastax.driver.mapping.annotations.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Points to the chunks of the current content of a package, and records how many chunks and bytes
+ * the content has, so a partially stored or deleted content is detected when it is read.
+ */
+@Data
+@NoArgsConstructor
+@Table(keyspace = "dox", name = "package_content_header")
+public class PackageContentHeader {
+
+  @PartitionKey
+  @Column(name = "vsp_id")
+  private String vspId;
+
+  @PartitionKey(value = 1)
+  private String version;
+
+  @Column(name = "content_id")
+  private UUID contentId;
+
+  @Column(name = "chunk_count")
+  private int chunkCount;
+
+  @Column(name = "content_size")
+  private long contentSize;
+
+  public PackageContentHeader(String vspId, String version, UUID contentId, int chunkCount,
+                              long contentSize) {
+    this.vspId = vspId;
+    this.version = version;
+    this.contentId = contentId;
+    this.chunkCount = chunkCount;
+    this.contentSize = contentSize;
+  }
+}
@@ -0,0 +1,162 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.vendorsoftwareproduct.dao.impl;
+
+import com.datastax.driver.mapping.Mapper;
+import com.datastax.driver.mapping.annotations.Accessor;
+import com.datastax.driver.mapping.annotations.Query;
+import org.apache.commons.io.IOUtils;
+import org.openecomp.core.nosqldb.api.NoSqlDb;
+import org.openecomp.core.nosqldb.factory.NoSqlDbFactory;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.PackageContentDao;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.type.PackageContentChunk;
+import org.openecomp.sdc.vendorsoftwareproduct.dao.type.PackageContentHeader;
+import org.openecomp.sdc.versioning.dao.types.Version;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Every stored content gets its own id. Its chunks are written first, then the header pointing to
+ * them, and only then the chunks of the previous content are removed, so a failed store leaves the
+ * previous content readable.
+ */
+public class PackageContentDaoImpl implements PackageContentDao {
+
+  static final int CHUNK_SIZE = 1024 * 1024;
+
+  private static final NoSqlDb noSqlDb = NoSqlDbFactory.getInstance().createInterface();
+  private static final Mapper<PackageContentChunk> mapper =
+      noSqlDb.getMappingManager().mapper(PackageContentChunk.class);
+  private static final Mapper<PackageContentHeader> headerMapper =
+      noSqlDb.getMappingManager().mapper(PackageContentHeader.class);
+  private static final PackageContentAccessor accessor =
+      noSqlDb.getMappingManager().createAccessor(PackageContentAccessor.class);
+
+  @Override
+  public void store(String vspId, Version version, InputStream content) throws IOException {
+    PackageContentHeader previous = headerMapper.get(vspId, version.getName());
+    UUID contentId = UUID.randomUUID();
+    byte[] buffer = new byte[CHUNK_SIZE];
+    int chunkCount = 0;
+    long contentSize = 0;
+    int length;
+    while ((length = IOUtils.read(content, buffer)) > 0) {
+      mapper.save(new PackageContentChunk(vspId, version.getName(), contentId, chunkCount++,
+          ByteBuffer.wrap(buffer, 0, length)));
+      contentSize += length;
+    }
+    headerMapper.save(
+        new PackageContentHeader(vspId, version.getName(), contentId, chunkCount, contentSize));
+    if (previous != null) {
+      accessor.deleteContent(vspId, version.getName(), previous.getContentId());
+    }
+  }
+
+  @Override
+  public Optional<InputStream> get(String vspId, Version version) {
+    PackageContentHeader header = headerMapper.get(vspId, version.getName());
+    return Optional.ofNullable(header).map(ChunkInputStream::new);
+  }
+
+  @Override
+  public void delete(String vspId, Version version) {
+    headerMapper.delete(vspId, version.getName());
+    accessor.deleteAllContent(vspId, version.getName());
+  }
+
+  /**
+   * Reads the next chunk only when the previous one was consumed, and checks the chunks read
+   * against the header of the content.
+   */
+  private static class ChunkInputStream extends InputStream {
+
+    private final PackageContentHeader header;
+    private ByteBuffer current = ByteBuffer.allocate(0);
+    private int nextChunkIndex;
+    private long bytesRead;
+
+    ChunkInputStream(PackageContentHeader header) {
+      this.header = header;
+    }
+
+    @Override
+    public int read() throws IOException {
+      return nextChunk() ? current.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+      if (length == 0) {
+        return 0;
+      }
+      if (!nextChunk()) {
+        return -1;
+      }
+      int count = Math.min(length, current.remaining());
+      current.get(bytes, offset, count);
+      return count;
+    }
+
+    /**
+     * @return false if the whole content was read
+     */
+    private boolean nextChunk() throws IOException {
+      while (!current.hasRemaining()) {
+        if (nextChunkIndex == header.getChunkCount()) {
+          if (bytesRead != header.getContentSize()) {
+            throw new IOException(describe() + " has " + bytesRead + " bytes instead of "
+                + header.getContentSize());
+          }
+          return false;
+        }
+        PackageContentChunk chunk = mapper.get(header.getVspId(), header.getVersion(),
+            header.getContentId(), nextChunkIndex);
+        if (chunk == null) {
+          throw new IOException("chunk " + nextChunkIndex + " of " + header.getChunkCount()
+              + " of " + describe() + " is missing");
+        }
+        current = chunk.getContent().duplicate();
+        bytesRead += current.remaining();
+        nextChunkIndex++;
+      }
+      return true;
+    }
+
+    private String describe() {
+      return "the package content of vsp " + header.getVspId() + " version "
+          + header.getVersion();
+    }
+  }
+
+  @Accessor
+  interface PackageContentAccessor {
+
+    @Query("DELETE FROM package_content WHERE vsp_id=? AND version=? AND content_id=?")
+    void deleteContent(String vspId, String version, UUID contentId);
+
+    @Query("DELETE FROM package_content WHERE vsp_id=? AND version=?")
+    void deleteAllContent(String vspId, String version);
+  }
+}
@@ -36,7 +36,9 @@ import org.openecomp.sdc.versioning.dao.types.Version;
 
 import java.io.ByteArrayInputStream;
 import java.nio.ByteBuffer;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.openecomp.core.zusammen.api.ZusammenUtil.buildStructuralElement;
 import static org.openecomp.core.zusammen.api.ZusammenUtil.createSessionContext;
@@ -82,11 +84,12 @@ public class OrchestrationTemplateCandidateDaoZusammenImpl
     candidate.setFilesDataStructure(
         new String(FileUtils.toByteArray(candidateElement.get().getData())));
 
-    candidateElement.get().getSubElements().stream()
-        .map(element -> zusammenAdaptor
-            .getElement(context, elementContext, element.getElementId().toString()))
-        .forEach(element -> element.ifPresent(
-            candidateInfoElement -> populateCandidate(candidate, candidateInfoElement, true)));
+    zusammenAdaptor.getElements(context, elementContext,
+        candidateElement.get().getSubElements().stream()
+            .map(Element::getElementId)
+            .collect(Collectors.toList())).stream()
+        .filter(Objects::nonNull)
+        .forEach(candidateInfoElement -> populateCandidate(candidate, candidateInfoElement, true));
 
     logger.info("Finished getting orchestration template for vsp id {}", vspId);
     return candidate.getFileSuffix() == null ? Optional.empty() : Optional.of(candidate);
@@ -109,11 +112,12 @@ public class OrchestrationTemplateCandidateDaoZusammenImpl
     }
 
     OrchestrationTemplateCandidateData candidate = new OrchestrationTemplateCandidateData();
-    candidateElement.get().getSubElements().stream()
-        .map(elementInfo -> zusammenAdaptor
-            .getElement(context, elementContext, elementInfo.getId().toString()))
-        .forEach(element -> element.ifPresent(
-            candidateInfoElement -> populateCandidate(candidate, candidateInfoElement, false)));
+    zusammenAdaptor.getElements(context, elementContext,
+        candidateElement.get().getSubElements().stream()
+            .map(ElementInfo::getId)
+            .collect(Collectors.toList())).stream()
+        .filter(Objects::nonNull)
+        .forEach(candidateInfoElement -> populateCandidate(candidate, candidateInfoElement, false));
     logger.info("Finished getting orchestration template info for vsp id {}", vspId);
     return candidate.getFileSuffix() == null ? Optional.empty() : Optional.of(candidate);
   }
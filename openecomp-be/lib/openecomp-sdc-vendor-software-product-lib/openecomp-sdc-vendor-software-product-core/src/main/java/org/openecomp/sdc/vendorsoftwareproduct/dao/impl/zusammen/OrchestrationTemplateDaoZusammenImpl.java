@@ -35,6 +35,7 @@ import java.io.ByteArrayInputStream;
 import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.openecomp.core.zusammen.api.ZusammenUtil.buildStructuralElement;
 import static org.openecomp.core.zusammen.api.ZusammenUtil.createSessionContext;
@@ -120,24 +121,23 @@ public class OrchestrationTemplateDaoZusammenImpl implements OrchestrationTempla
       return orchestrationTemplate;
     }
 
-    for (Element element : subElements) {
-      Optional<Element> subElement = zusammenAdaptor.getElement(context,
-          elementContext, element.getElementId().toString());
-
-      if (subElement.get().getInfo().getName().equals(ElementType
+    Collection<Element> subElementsData = zusammenAdaptor.getElements(context, elementContext,
+        subElements.stream().map(Element::getElementId).collect(Collectors.toList()));
+    for (Element subElement : subElementsData) {
+      if (subElement.getInfo().getName().equals(ElementType
           .OrchestrationTemplateValidationData.name())) {
-        orchestrationTemplate.setFileSuffix(subElement.get().getInfo()
+        orchestrationTemplate.setFileSuffix(subElement.getInfo()
             .getProperty(InfoPropertyName.FILE_SUFFIX.getVal()));
-        orchestrationTemplate.setFileName(subElement.get().getInfo()
+        orchestrationTemplate.setFileName(subElement.getInfo()
             .getProperty(InfoPropertyName.FILE_NAME.getVal()));
-        if (!VspZusammenUtil.hasEmptyData(subElement.get().getData())) {
+        if (!VspZusammenUtil.hasEmptyData(subElement.getData())) {
           orchestrationTemplate.setValidationData(
-              new String(FileUtils.toByteArray(subElement.get().getData())));
+              new String(FileUtils.toByteArray(subElement.getData())));
         }
-      } else if (subElement.get().getInfo().getName().equals(ElementType
+      } else if (subElement.getInfo().getName().equals(ElementType
           .OrchestrationTemplateStructure.name())) {
         orchestrationTemplate.setFilesDataStructure(new String(FileUtils.toByteArray(subElement
-            .get().getData())));
+            .getData())));
 
       }
     }
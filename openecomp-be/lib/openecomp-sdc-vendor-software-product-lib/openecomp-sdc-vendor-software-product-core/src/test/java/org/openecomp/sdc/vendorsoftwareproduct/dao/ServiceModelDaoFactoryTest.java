@@ -57,6 +57,7 @@ import org.openecomp.sdc.datatypes.model.ElementType;
 import org.openecomp.sdc.model.impl.zusammen.ServiceModelDaoZusammenImpl;
 import org.openecomp.sdc.tosca.datatypes.ToscaServiceModel;
 import org.openecomp.sdc.versioning.dao.types.Version;
+import org.openecomp.sdc.versioning.dao.types.VersionStatus;
 
 public class ServiceModelDaoFactoryTest {
 
@@ -140,6 +141,73 @@ public class ServiceModelDaoFactoryTest {
 
   }
 
+  @Test
+  public void getCertifiedServiceModelFromCacheTest() {
+    Version certifiedVersion = Version.valueOf("1.0");
+    certifiedVersion.setStatus(VersionStatus.Certified);
+    ZusammenElement element = createTemplateElement();
+    ZusammenAdaptorMock zusammenAdaptor = createServiceModelAdaptor(element);
+    ServiceModelDaoZusammenImpl serviceModelDaoZusammen = new ServiceModelDaoZusammenImpl(
+        zusammenAdaptor);
+
+    ToscaServiceModel model = serviceModelDaoZusammen.getServiceModel(vspId, certifiedVersion);
+    int elementDataReads = zusammenAdaptor.getElementDataReads();
+    model.getServiceTemplates().get(baseServiceTemplateName).setDescription("changed by caller");
+    ToscaServiceModel cachedModel = serviceModelDaoZusammen.getServiceModel(vspId, certifiedVersion);
+
+    Assert.assertEquals(elementDataReads, zusammenAdaptor.getElementDataReads());
+    Assert.assertNotSame(model, cachedModel);
+    Assert.assertNotEquals("changed by caller",
+        cachedModel.getServiceTemplates().get(baseServiceTemplateName).getDescription());
+
+    serviceModelDaoZusammen.storeServiceModel(vspId, certifiedVersion, getToscaServiceModel());
+    element.setData(new ByteArrayInputStream(
+        new YamlUtil().objectToYaml(getServiceTemplate()).getBytes()));
+    serviceModelDaoZusammen.getServiceModel(vspId, certifiedVersion);
+    Assert.assertTrue(zusammenAdaptor.getElementDataReads() > elementDataReads);
+  }
+
+  @Test
+  public void getDraftServiceModelIsNotCachedTest() {
+    ZusammenElement element = createTemplateElement();
+    ZusammenAdaptorMock zusammenAdaptor = createServiceModelAdaptor(element);
+    ServiceModelDaoZusammenImpl serviceModelDaoZusammen = new ServiceModelDaoZusammenImpl(
+        zusammenAdaptor);
+
+    serviceModelDaoZusammen.getServiceModel(vspId, version);
+    int elementDataReads = zusammenAdaptor.getElementDataReads();
+    element.setData(new ByteArrayInputStream(
+        new YamlUtil().objectToYaml(getServiceTemplate()).getBytes()));
+    serviceModelDaoZusammen.getServiceModel(vspId, version);
+
+    Assert.assertTrue(zusammenAdaptor.getElementDataReads() > elementDataReads);
+  }
+
+  private ZusammenElement createTemplateElement() {
+    ZusammenElement element = new ZusammenElement();
+    element.setData(new ByteArrayInputStream(
+        new YamlUtil().objectToYaml(getServiceTemplate()).getBytes()));
+    element.setInfo(new Info());
+    element.getInfo().setName(baseServiceTemplateName);
+    return element;
+  }
+
+  private static ZusammenAdaptorMock createServiceModelAdaptor(ZusammenElement templateElement) {
+    ElementInfo serviceModelElementInfo = new ElementInfo();
+    serviceModelElementInfo.setInfo(new Info());
+    serviceModelElementInfo.getInfo().setName(ElementType.ServiceModel.name());
+    ElementInfo templateElementInfo = new ElementInfo();
+    templateElementInfo.setInfo(new Info());
+    templateElementInfo.getInfo().setName(ElementType.Templates.name());
+
+    ZusammenAdaptorMock zusammenAdaptor = new ZusammenAdaptorMock();
+    zusammenAdaptor.addElementInfo("null" + ElementType.ServiceModel.name(),
+        serviceModelElementInfo);
+    zusammenAdaptor.addElementInfo("null" + ElementType.Templates.name(), templateElementInfo);
+    zusammenAdaptor.addElement(templateElement);
+    return zusammenAdaptor;
+  }
+
   private static void setArtifact(ToscaServiceModel model) {
     artifact001 =
         (String) (model).getArtifactFiles().getFileList().toArray()[0];
@@ -190,11 +258,16 @@ public class ServiceModelDaoFactoryTest {
     private ItemVersion itemVersion;
     private Map<String, ElementInfo> elementInfoMap = new HashMap<>();
     private Collection<Element> elements = new ArrayList<>();
+    private int elementDataReads;
 
     private void setItemVersion(ItemVersion itemVersion) {
       this.itemVersion = itemVersion;
     }
 
+    private int getElementDataReads() {
+      return elementDataReads;
+    }
+
     private void addElementInfo(String key, ElementInfo elementInfo) {
       elementInfoMap.put(key, elementInfo);
     }
@@ -219,6 +292,12 @@ public class ServiceModelDaoFactoryTest {
       return Optional.empty();
     }
 
+    @Override
+    public Collection<Element> getElements(SessionContext context, ElementContext elementContext,
+                                           Collection<Id> elementIds) {
+      return new ArrayList<>();
+    }
+
     @Override
     public Optional<Element> getElementByName(SessionContext context,
                                               ElementContext elementContext,
@@ -237,6 +316,7 @@ public class ServiceModelDaoFactoryTest {
     public Collection<Element> listElementData(SessionContext context,
                                                ElementContext elementContext,
                                                Id parentElementId) {
+      elementDataReads++;
       return elements;
     }
 
@@ -16,12 +16,6 @@
 
 package org.openecomp.sdc.tosca.services;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.NotSerializableException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -54,12 +48,9 @@ import org.onap.sdc.tosca.datatypes.model.ServiceTemplate;
 import org.onap.sdc.tosca.datatypes.model.SubstitutionMapping;
 import org.onap.sdc.tosca.datatypes.model.TopologyTemplate;
 import org.onap.sdc.tosca.datatypes.model.heatextend.ParameterDefinitionExt;
-import org.onap.sdc.tosca.services.ToscaExtensionYamlUtil;
-import org.onap.sdc.tosca.services.YamlUtil;
+import org.onap.sdc.tosca.services.DataModelCloneUtil;
 import org.openecomp.core.utilities.CommonMethods;
 import org.openecomp.sdc.common.errors.CoreException;
-import org.openecomp.sdc.logging.api.Logger;
-import org.openecomp.sdc.logging.api.LoggerFactory;
 import org.openecomp.sdc.tosca.datatypes.ToscaCapabilityType;
 import org.openecomp.sdc.tosca.datatypes.ToscaFunctions;
 import org.openecomp.sdc.tosca.datatypes.ToscaRelationshipType;
@@ -73,7 +64,6 @@ import org.openecomp.sdc.tosca.services.impl.ToscaAnalyzerServiceImpl;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class DataModelUtil {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(DataModelUtil.class);
     private static final String SERVICE_TEMPLATE = "Service Template";
     private static final String NODE_TYPE = "Node Type";
 
@@ -436,12 +426,10 @@ public class DataModelUtil {
             return Optional.empty();
         }
 
-        ToscaExtensionYamlUtil toscaExtensionYamlUtil = new ToscaExtensionYamlUtil();
         for (Map<String, RequirementDefinition> requirementMap : requirementsDefinitionList) {
             if (requirementMap.containsKey(requirementKey)) {
-                RequirementDefinition requirementDefinition = toscaExtensionYamlUtil.yamlToObject(
-                        toscaExtensionYamlUtil.objectToYaml(requirementMap.get(requirementKey)),
-                        RequirementDefinition.class);
+                RequirementDefinition requirementDefinition =
+                        DataModelCloneUtil.cloneAs(requirementMap.get(requirementKey), RequirementDefinition.class);
                 return Optional.of(requirementDefinition);
             }
         }
@@ -738,11 +726,10 @@ public class DataModelUtil {
         if (CollectionUtils.isEmpty(templateRequirements)) {
             return nodeTemplateRequirementsAssignment;
         }
-        ToscaExtensionYamlUtil toscaExtensionYamlUtil = new ToscaExtensionYamlUtil();
         for (Map<String, RequirementAssignment> requirementAssignmentMap : templateRequirements) {
             for (Map.Entry<String, RequirementAssignment> requirementEntry : requirementAssignmentMap.entrySet()) {
-                RequirementAssignment requirementAssignment = (toscaExtensionYamlUtil.yamlToObject(
-                        toscaExtensionYamlUtil.objectToYaml(requirementEntry.getValue()), RequirementAssignment.class));
+                RequirementAssignment requirementAssignment =
+                        DataModelCloneUtil.cloneAs(requirementEntry.getValue(), RequirementAssignment.class);
                 nodeTemplateRequirementsAssignment.put(requirementEntry.getKey(), requirementAssignment);
             }
         }
@@ -756,7 +743,6 @@ public class DataModelUtil {
      * @return the node template requirement list and null if the node has no requirements
      */
     public static List<Map<String, RequirementAssignment>> getNodeTemplateRequirementList(NodeTemplate nodeTemplate) {
-        ToscaExtensionYamlUtil toscaExtensionYamlUtil = new ToscaExtensionYamlUtil();
         //Creating concrete objects
         List<Map<String, RequirementAssignment>> requirements = nodeTemplate.getRequirements();
         List<Map<String, RequirementAssignment>> concreteRequirementList = null;
@@ -767,8 +753,8 @@ public class DataModelUtil {
                 Map<String, RequirementAssignment> requirement = reqListIterator.next();
                 Map<String, RequirementAssignment> concreteRequirement = new HashMap<>();
                 for (Map.Entry<String, RequirementAssignment> reqEntry : requirement.entrySet()) {
-                    RequirementAssignment requirementAssignment = (toscaExtensionYamlUtil.yamlToObject(
-                            toscaExtensionYamlUtil.objectToYaml(reqEntry.getValue()), RequirementAssignment.class));
+                    RequirementAssignment requirementAssignment =
+                            DataModelCloneUtil.cloneAs(reqEntry.getValue(), RequirementAssignment.class);
                     concreteRequirement.put(reqEntry.getKey(), requirementAssignment);
                     concreteRequirementList.add(concreteRequirement);
                     reqListIterator.remove();
@@ -796,10 +782,8 @@ public class DataModelUtil {
         List<RequirementAssignment> matchRequirementAssignmentList = new ArrayList<>();
         for (Map<String, RequirementAssignment> requirementMap : requirementsAssignmentList) {
             if (requirementMap.containsKey(requirementKey)) {
-                ToscaExtensionYamlUtil toscaExtensionYamlUtil = new ToscaExtensionYamlUtil();
-                RequirementAssignment requirementAssignment = (toscaExtensionYamlUtil.yamlToObject(
-                        toscaExtensionYamlUtil.objectToYaml(requirementMap.get(requirementKey)),
-                        RequirementAssignment.class));
+                RequirementAssignment requirementAssignment =
+                        DataModelCloneUtil.cloneAs(requirementMap.get(requirementKey), RequirementAssignment.class);
                 matchRequirementAssignmentList.add(requirementAssignment);
             }
         }
@@ -1054,11 +1038,7 @@ public class DataModelUtil {
      * @return the cloned object
      */
     public static <T> Object getClonedObject(Object objectValue, Class<T> clazz) {
-        YamlUtil yamlUtil = new ToscaExtensionYamlUtil();
-        Object clonedObjectValue;
-        String objectToYaml = yamlUtil.objectToYaml(objectValue);
-        clonedObjectValue = yamlUtil.yamlToObject(objectToYaml, clazz);
-        return clonedObjectValue;
+        return DataModelCloneUtil.cloneAs(objectValue, clazz);
     }
 
     /**
@@ -1068,24 +1048,7 @@ public class DataModelUtil {
      * @return the cloned object
      */
     public static Object getClonedObject(Object obj) {
-        Object clonedObjectValue;
-        try {
-            //Serialize object
-            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-            ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
-            objectOutputStream.writeObject(obj);
-            //Deserialize object
-            ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
-            ObjectInputStream objectInputStream = new ObjectInputStream(byteArrayInputStream);
-            clonedObjectValue = objectInputStream.readObject();
-        } catch (NotSerializableException ex) {
-            LOGGER.debug(ex.getMessage(), ex);
-            return getClonedObject(obj, obj.getClass());
-        } catch (IOException | ClassNotFoundException ex) {
-            LOGGER.debug(ex.getMessage(), ex);
-            return null;
-        }
-        return clonedObjectValue;
+        return Objects.isNull(obj) ? null : DataModelCloneUtil.cloneAs(obj, obj.getClass());
     }
 
     /**
@@ -23,10 +23,19 @@ package org.openecomp.sdc.tosca.services;
 import org.openecomp.core.utilities.file.FileContentHandler;
 import org.openecomp.sdc.tosca.datatypes.ToscaServiceModel;
 
+import java.io.OutputStream;
+
 public interface ToscaFileOutputService {
   byte[] createOutputFile(ToscaServiceModel toscaServiceModel,
                           FileContentHandler externalArtifacts);
 
+  /**
+   * Writes the output file to the given stream, without holding the whole file in memory.
+   * The stream is left open.
+   */
+  void createOutputFile(ToscaServiceModel toscaServiceModel, FileContentHandler externalArtifacts,
+                        OutputStream outputStream);
+
   String createMetaFile(String entryDefinitionsFileName);
 
   String getArtifactsFolderName();
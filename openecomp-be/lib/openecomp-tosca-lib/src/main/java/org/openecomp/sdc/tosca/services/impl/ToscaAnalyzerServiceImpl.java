@@ -51,6 +51,7 @@ import org.onap.sdc.tosca.datatypes.model.PropertyType;
 import org.onap.sdc.tosca.datatypes.model.RequirementAssignment;
 import org.onap.sdc.tosca.datatypes.model.RequirementDefinition;
 import org.onap.sdc.tosca.datatypes.model.ServiceTemplate;
+import org.onap.sdc.tosca.services.DataModelCloneUtil;
 import org.onap.sdc.tosca.services.ToscaExtensionYamlUtil;
 import org.onap.sdc.tosca.services.YamlUtil;
 import org.openecomp.core.utilities.CommonMethods;
@@ -327,27 +328,29 @@ public class ToscaAnalyzerServiceImpl implements ToscaAnalyzerService {
     @Override
     public boolean isTypeOf(NodeTemplate nodeTemplate, String nodeType, ServiceTemplate serviceTemplate,
             ToscaServiceModel toscaServiceModel) {
-        return isTypeOf(nodeTemplate, nodeType, GET_NODE_TYPE_METHOD_NAME, serviceTemplate, toscaServiceModel);
+        return isTypeOf(nodeTemplate, nodeType, ToscaElementTypes.NODE_TYPE, GET_NODE_TYPE_METHOD_NAME,
+                serviceTemplate, toscaServiceModel);
     }
 
     @Override
     public boolean isTypeOf(InterfaceDefinitionType interfaceDefinition, String interfaceType,
             ServiceTemplate serviceTemplate, ToscaServiceModel toscaServiceModel) {
-        return isTypeOf(interfaceDefinition, interfaceType, GET_INTERFACE_TYPE_METHOD_NAME, serviceTemplate,
-                toscaServiceModel);
+        return isTypeOf(interfaceDefinition, interfaceType, ToscaElementTypes.INTERFCAE_TYPE,
+                GET_INTERFACE_TYPE_METHOD_NAME, serviceTemplate, toscaServiceModel);
     }
 
     @Override
     public boolean isTypeOf(DefinitionOfDataType parameterDefinition, String dataType, ServiceTemplate serviceTemplate,
             ToscaServiceModel toscaServiceModel) {
-        return isTypeOf(parameterDefinition, dataType, GET_DATA_TYPE_METHOD_NAME, serviceTemplate, toscaServiceModel);
+        return isTypeOf(parameterDefinition, dataType, ToscaElementTypes.DATA_TYPE, GET_DATA_TYPE_METHOD_NAME,
+                serviceTemplate, toscaServiceModel);
     }
 
     @Override
     public boolean isTypeOf(CapabilityDefinition capabilityDefinition, String capabilityType,
             ServiceTemplate serviceTemplate, ToscaServiceModel toscaServiceModel) {
-        return isTypeOf(capabilityDefinition, capabilityType, GET_CAPABILITY_TYPE_METHOD_NAME, serviceTemplate,
-                toscaServiceModel);
+        return isTypeOf(capabilityDefinition, capabilityType, ToscaElementTypes.CAPABILITY_TYPE,
+                GET_CAPABILITY_TYPE_METHOD_NAME, serviceTemplate, toscaServiceModel);
     }
 
     @Override
@@ -356,9 +359,8 @@ public class ToscaAnalyzerServiceImpl implements ToscaAnalyzerService {
         List<Map<String, RequirementAssignment>> requirementList = nodeTemplate.getRequirements();
         if (requirementList != null) {
             requirementList.stream().filter(reqMap -> reqMap.get(requirementId) != null).forEach(reqMap -> {
-                ToscaExtensionYamlUtil toscaExtensionYamlUtil = new ToscaExtensionYamlUtil();
-                RequirementAssignment reqAssignment = toscaExtensionYamlUtil.yamlToObject(
-                        toscaExtensionYamlUtil.objectToYaml(reqMap.get(requirementId)), RequirementAssignment.class);
+                RequirementAssignment reqAssignment =
+                        DataModelCloneUtil.cloneAs(reqMap.get(requirementId), RequirementAssignment.class);
                 requirements.add(reqAssignment);
             });
         }
@@ -538,8 +540,8 @@ public class ToscaAnalyzerServiceImpl implements ToscaAnalyzerService {
     }
 
     private <T> Optional<Boolean> isTypeExistInServiceTemplateHierarchy(String typeToMatch, String typeToSearch,
-            String getTypesMethodName, ServiceTemplate serviceTemplate, ToscaServiceModel toscaServiceModel,
-            Set<String> analyzedImportFiles)
+            ToscaElementTypes elementType, String getTypesMethodName, ServiceTemplate serviceTemplate,
+            ToscaServiceModel toscaServiceModel, Set<String> analyzedImportFiles)
             throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
         Map<String, T> searchableTypes =
                 (Map<String, T>) serviceTemplate.getClass().getMethod(getTypesMethodName).invoke(serviceTemplate);
@@ -554,20 +556,21 @@ public class ToscaAnalyzerServiceImpl implements ToscaAnalyzerService {
                 } else if (Objects.isNull(derivedFromTypeVal) || isTypeIsToscaRoot(derivedFromTypeVal)) {
                     return Optional.of(false);
                 } else {
-                    return isTypeExistInServiceTemplateHierarchy(typeToMatch, derivedFromTypeVal, getTypesMethodName,
-                            serviceTemplate, toscaServiceModel, null);
+                    return isTypeExistInServiceTemplateHierarchy(typeToMatch, derivedFromTypeVal, elementType,
+                            getTypesMethodName, serviceTemplate, toscaServiceModel, null);
                 }
             } else {
-                return isTypeExistInImports(typeToMatch, typeToSearch, getTypesMethodName, serviceTemplate,
-                        toscaServiceModel, analyzedImportFiles);
+                return isTypeExistInImports(typeToMatch, typeToSearch, elementType, getTypesMethodName,
+                        serviceTemplate, toscaServiceModel, analyzedImportFiles);
             }
         }
-        return isTypeExistInImports(typeToMatch, typeToSearch, getTypesMethodName, serviceTemplate, toscaServiceModel,
-                analyzedImportFiles);
+        return isTypeExistInImports(typeToMatch, typeToSearch, elementType, getTypesMethodName, serviceTemplate,
+                toscaServiceModel, analyzedImportFiles);
     }
 
-    private Optional<Boolean> isTypeExistInImports(String typeToMatch, String typeToSearch, String getTypesMethodName,
-            ServiceTemplate serviceTemplate, ToscaServiceModel toscaServiceModel, Set<String> filesScanned)
+    private Optional<Boolean> isTypeExistInImports(String typeToMatch, String typeToSearch,
+            ToscaElementTypes elementType, String getTypesMethodName, ServiceTemplate serviceTemplate,
+            ToscaServiceModel toscaServiceModel, Set<String> filesScanned)
             throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
         List<Map<String, Import>> imports = serviceTemplate.getImports();
         if (CollectionUtils.isEmpty(imports)) {
@@ -577,10 +580,7 @@ public class ToscaAnalyzerServiceImpl implements ToscaAnalyzerService {
         Set<String> createdFilesScanned = createFilesScannedSet(filesScanned);
 
         for (Map<String, Import> map : imports) {
-            ToscaExtensionYamlUtil toscaExtensionYamlUtil = new ToscaExtensionYamlUtil();
-            Import anImport = toscaExtensionYamlUtil
-                                      .yamlToObject(toscaExtensionYamlUtil.objectToYaml(map.values().iterator().next()),
-                                              Import.class);
+            Import anImport = getImport(map.values().iterator().next());
             handleImportWithNoFileEntry(anImport);
             String importFile = anImport.getFile();
             ServiceTemplate template = toscaServiceModel.getServiceTemplates()
@@ -594,9 +594,11 @@ public class ToscaAnalyzerServiceImpl implements ToscaAnalyzerService {
             } else {
                 createdFilesScanned.add(ToscaUtil.getServiceTemplateFileName(template));
             }
-            Optional<Boolean> typeExistInServiceTemplateHierarchy =
-                    isTypeExistInServiceTemplateHierarchy(typeToMatch, typeToSearch, getTypesMethodName, template,
-                            toscaServiceModel, createdFilesScanned);
+            Optional<ToscaTypeHierarchyIndex> index = ToscaTypeHierarchyIndex.of(template);
+            Optional<Boolean> typeExistInServiceTemplateHierarchy = index.isPresent()
+                    ? Optional.of(index.get().isTypeOf(elementType, template, typeToSearch, typeToMatch))
+                    : isTypeExistInServiceTemplateHierarchy(typeToMatch, typeToSearch, elementType,
+                            getTypesMethodName, template, toscaServiceModel, createdFilesScanned);
             if (typeExistInServiceTemplateHierarchy.isPresent() && (typeExistInServiceTemplateHierarchy.get())) {
                 createdFilesScanned.clear();
                 return Optional.of(true);
@@ -606,6 +608,17 @@ public class ToscaAnalyzerServiceImpl implements ToscaAnalyzerService {
         return Optional.of(false);
     }
 
+    /**
+     * Imports of service templates built in code are already typed, only the loaded ones need to be converted.
+     */
+    static Import getImport(Object importObject) {
+        if (importObject instanceof Import) {
+            return (Import) importObject;
+        }
+        ToscaExtensionYamlUtil toscaExtensionYamlUtil = new ToscaExtensionYamlUtil();
+        return toscaExtensionYamlUtil.yamlToObject(toscaExtensionYamlUtil.objectToYaml(importObject), Import.class);
+    }
+
     private void handleImportWithNoFileEntry(Import anImport) {
         if (Objects.isNull(anImport) || Objects.isNull(anImport.getFile())) {
             throw new SdcRuntimeException("import without file entry");
@@ -620,7 +633,7 @@ public class ToscaAnalyzerServiceImpl implements ToscaAnalyzerService {
         return retFileScanned;
     }
 
-    private boolean isTypeIsToscaRoot(String type) {
+    static boolean isTypeIsToscaRoot(String type) {
         return (type.contains(TOSCA_DOT) && type.contains(DOT_ROOT));
     }
 
@@ -668,11 +681,8 @@ public class ToscaAnalyzerServiceImpl implements ToscaAnalyzerService {
     private boolean isFlatEntity(Map<String, Import> importMap, ToscaFlatData flatData, ServiceTemplate serviceTemplate,
             List<String> filesScanned, ToscaServiceModel toscaModel, ToscaElementTypes elementType, String typeId) {
         boolean found = false;
-        ToscaExtensionYamlUtil toscaExtensionYamlUtil = new ToscaExtensionYamlUtil();
         for (Object importObject : importMap.values()) {
-            Import importServiceTemplate = toscaExtensionYamlUtil
-                                                   .yamlToObject(toscaExtensionYamlUtil.objectToYaml(importObject),
-                                                           Import.class);
+            Import importServiceTemplate = getImport(importObject);
             String fileName = fetchFullFileNameForImport(importServiceTemplate.getFile(),
                     serviceTemplate.getMetadata() == null ? null : serviceTemplate.getMetadata().get("filename"),
                     serviceTemplate, toscaModel);
@@ -685,12 +695,56 @@ public class ToscaAnalyzerServiceImpl implements ToscaAnalyzerService {
             if (Objects.isNull(template)) {
                 throw new CoreException(new ToscaFileNotFoundErrorBuilder(fileName).build());
             }
-            found = scanAnFlatEntity(elementType, typeId, flatData, template, toscaModel, filesScanned,
-                    filesScanned.size());
+            found = flatIndexedEntity(elementType, typeId, flatData, template).orElseGet(
+                    () -> scanAnFlatEntity(elementType, typeId, flatData, template, toscaModel, filesScanned,
+                            filesScanned.size()));
         }
         return found;
     }
 
+    /**
+     * Flattens the entity from the hierarchy index of the service template, if it is indexed.
+     *
+     * @return empty if the service template must be scanned, otherwise whether the entity was found
+     */
+    private Optional<Boolean> flatIndexedEntity(ToscaElementTypes elementType, String typeId, ToscaFlatData flatData,
+            ServiceTemplate serviceTemplate) {
+        Optional<ToscaTypeHierarchyIndex> index = ToscaTypeHierarchyIndex.of(serviceTemplate);
+        if (!index.isPresent()) {
+            return Optional.empty();
+        }
+        Optional<ToscaTypeHierarchyIndex.TypeHierarchy> typeHierarchy =
+                index.get().getTypeHierarchy(elementType, serviceTemplate, typeId);
+        if (!typeHierarchy.isPresent()) {
+            return Optional.of(false);
+        }
+        if (!typeHierarchy.get().isFlattenable()) {
+            return Optional.empty();
+        }
+        typeHierarchy.get().getTypes().forEach(flatData::addInheritanceHierarchyType);
+        List<Object> definitions = typeHierarchy.get().getDefinitions();
+        for (int i = definitions.size() - 1; i >= 0; i--) {
+            combineTypeInfo(elementType, definitions.get(i), flatData.getFlatEntity());
+        }
+        return Optional.of(true);
+    }
+
+    private void combineTypeInfo(ToscaElementTypes elementType, Object sourceType, Object targetType) {
+        switch (elementType) {
+            case CAPABILITY_TYPE:
+                combineCapabilityTypeInfo((CapabilityType) sourceType, (CapabilityType) targetType);
+                break;
+            case NODE_TYPE:
+                combineNodeTypeInfo((NodeType) sourceType, (NodeType) targetType);
+                break;
+            case DATA_TYPE:
+                combineDataTypeInfo((DataType) sourceType, (DataType) targetType);
+                break;
+            default:
+                throw new SdcRuntimeException("Entity[" + elementType + "] flat not supported");
+        }
+    }
+
     String fetchFullFileNameForImport(String importServiceTemplateFile, String currentMetadatafileName,
             ServiceTemplate serviceTemplate, ToscaServiceModel toscaServiceModel) {
         Optional<Map.Entry<String, ServiceTemplate>> serviceTemplateEntry =
@@ -797,7 +851,7 @@ public class ToscaAnalyzerServiceImpl implements ToscaAnalyzerService {
         return false;
     }
 
-    private static boolean isPrimitiveType(String toscaType) {
+    static boolean isPrimitiveType(String toscaType) {
         return (toscaType.equals(PropertyType.STRING.getDisplayName()) || toscaType.equals(PropertyType.INTEGER
                                                                                                    .getDisplayName())
                         || toscaType.equals(PropertyType.FLOAT.getDisplayName()));
@@ -1054,8 +1108,8 @@ public class ToscaAnalyzerServiceImpl implements ToscaAnalyzerService {
                         requirementAssignment, requirement.get(requirementId)));
     }
 
-    private <T> boolean isTypeOf(T object, String type, String getTypesMethodName, ServiceTemplate serviceTemplate,
-            ToscaServiceModel toscaServiceModel) {
+    private <T> boolean isTypeOf(T object, String type, ToscaElementTypes elementType, String getTypesMethodName,
+            ServiceTemplate serviceTemplate, ToscaServiceModel toscaServiceModel) {
         if (object == null) {
             return false;
         }
@@ -1067,8 +1121,8 @@ public class ToscaAnalyzerServiceImpl implements ToscaAnalyzerService {
             }
 
             Optional<Boolean> typeExistInServiceTemplateHierarchy =
-                    isTypeExistInServiceTemplateHierarchy(type, objectType, getTypesMethodName, serviceTemplate,
-                            toscaServiceModel, null);
+                    isTypeExistInServiceTemplateHierarchy(type, objectType, elementType, getTypesMethodName,
+                            serviceTemplate, toscaServiceModel, null);
             return typeExistInServiceTemplateHierarchy.orElseThrow(
                     () -> new CoreException(new ToscaElementTypeNotFoundErrorBuilder(objectType).build()));
 
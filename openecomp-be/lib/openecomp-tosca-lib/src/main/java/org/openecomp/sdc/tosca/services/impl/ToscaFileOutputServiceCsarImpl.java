@@ -17,6 +17,7 @@
 package org.openecomp.sdc.tosca.services.impl;
 
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.CloseShieldOutputStream;
 import org.onap.sdc.tosca.datatypes.model.ServiceTemplate;
 import org.openecomp.core.utilities.file.FileContentHandler;
 import org.openecomp.core.utilities.file.FileUtils;
@@ -34,6 +35,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 
 import java.util.Map;
 import java.util.zip.ZipEntry;
@@ -64,7 +66,15 @@ public class ToscaFileOutputServiceCsarImpl implements ToscaFileOutputService {
   public byte[] createOutputFile(ToscaServiceModel toscaServiceModel,
                                  FileContentHandler externalArtifacts) {
     ByteArrayOutputStream baos = new ByteArrayOutputStream();
-    try (ZipOutputStream zos = new ZipOutputStream(new BufferedOutputStream(baos))) {
+    createOutputFile(toscaServiceModel, externalArtifacts, baos);
+    return baos.toByteArray();
+  }
+
+  @Override
+  public void createOutputFile(ToscaServiceModel toscaServiceModel,
+                               FileContentHandler externalArtifacts, OutputStream outputStream) {
+    try (ZipOutputStream zos = new ZipOutputStream(
+        new BufferedOutputStream(new CloseShieldOutputStream(outputStream)))) {
       packDefinitions(zos, toscaServiceModel.getServiceTemplates());
       FileContentHandler artifactFiles = toscaServiceModel.getArtifactFiles();
       if (artifactFiles != null && !artifactFiles.isEmpty()) {
@@ -80,7 +90,6 @@ public class ToscaFileOutputServiceCsarImpl implements ToscaFileOutputService {
     } catch (IOException ex) {
       throw new CoreException(new CsarCreationErrorBuilder().build(), ex);
     }
-    return baos.toByteArray();
   }
 
 
@@ -0,0 +1,298 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.tosca.services.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import org.onap.sdc.tosca.datatypes.model.CapabilityType;
+import org.onap.sdc.tosca.datatypes.model.DataType;
+import org.onap.sdc.tosca.datatypes.model.Import;
+import org.onap.sdc.tosca.datatypes.model.InterfaceType;
+import org.onap.sdc.tosca.datatypes.model.NodeType;
+import org.onap.sdc.tosca.datatypes.model.ServiceTemplate;
+import org.openecomp.sdc.common.errors.SdcRuntimeException;
+import org.openecomp.sdc.tosca.datatypes.ToscaElementTypes;
+import org.openecomp.sdc.tosca.datatypes.ToscaServiceModel;
+
+/**
+ * Immutable index of the type hierarchies of a set of service templates which are never modified, like the global
+ * types. For every template of the set, it holds the types visible from the template - defined in it or in the
+ * templates it imports, first definition wins - with their derived from ancestors and the definitions to flatten.
+ * <p>
+ * Registered indexes are used by {@link ToscaAnalyzerServiceImpl} instead of scanning the imports of the indexed
+ * templates. A template with an import which can't be resolved in the set isn't indexed and is still scanned.
+ */
+public final class ToscaTypeHierarchyIndex {
+
+    private static final List<ToscaElementTypes> INDEXED_TYPES = Arrays.asList(ToscaElementTypes.NODE_TYPE,
+            ToscaElementTypes.CAPABILITY_TYPE, ToscaElementTypes.DATA_TYPE, ToscaElementTypes.INTERFCAE_TYPE);
+
+    private static volatile Map<ServiceTemplate, ToscaTypeHierarchyIndex> indexes = new IdentityHashMap<>();
+
+    private final Set<ServiceTemplate> indexedTemplates;
+    private final Map<ToscaElementTypes, Map<ServiceTemplate, Map<String, TypeHierarchy>>> hierarchies =
+            new IdentityHashMap<>();
+
+    private ToscaTypeHierarchyIndex(Map<String, ServiceTemplate> serviceTemplates) {
+        Map<ServiceTemplate, List<ServiceTemplate>> imports = resolveImports(serviceTemplates);
+        indexedTemplates = Collections.newSetFromMap(new IdentityHashMap<>());
+        indexedTemplates.addAll(imports.keySet());
+        for (ToscaElementTypes elementType : INDEXED_TYPES) {
+            Map<ServiceTemplate, Map<String, ServiceTemplate>> visibleTypes = new IdentityHashMap<>();
+            imports.keySet().forEach(serviceTemplate -> visibleTypes.put(serviceTemplate,
+                    getVisibleTypes(elementType, serviceTemplate, imports)));
+
+            Map<ServiceTemplate, Map<String, TypeHierarchy>> definedHierarchies = new IdentityHashMap<>();
+            Map<ServiceTemplate, Map<String, TypeHierarchy>> templateHierarchies = new IdentityHashMap<>();
+            visibleTypes.forEach((serviceTemplate, types) -> {
+                Map<String, TypeHierarchy> typeHierarchies = new LinkedHashMap<>();
+                types.forEach((typeId, definingTemplate) -> typeHierarchies.put(typeId,
+                        definedHierarchies.computeIfAbsent(definingTemplate, key -> new LinkedHashMap<>())
+                                          .computeIfAbsent(typeId, key -> createTypeHierarchy(elementType, typeId,
+                                                  definingTemplate, visibleTypes))));
+                templateHierarchies.put(serviceTemplate, Collections.unmodifiableMap(typeHierarchies));
+            });
+            hierarchies.put(elementType, templateHierarchies);
+        }
+    }
+
+    /**
+     * Indexes the service templates and registers the index for each of them. The templates must not be modified
+     * once registered.
+     *
+     * @param serviceTemplates the service templates by file name, as they are keyed in the service models
+     */
+    public static synchronized ToscaTypeHierarchyIndex register(Map<String, ServiceTemplate> serviceTemplates) {
+        ToscaTypeHierarchyIndex index = new ToscaTypeHierarchyIndex(serviceTemplates);
+        Map<ServiceTemplate, ToscaTypeHierarchyIndex> registered = new IdentityHashMap<>(indexes);
+        index.indexedTemplates.forEach(serviceTemplate -> registered.put(serviceTemplate, index));
+        indexes = registered;
+        return index;
+    }
+
+    static Optional<ToscaTypeHierarchyIndex> of(ServiceTemplate serviceTemplate) {
+        return Optional.ofNullable(indexes.get(serviceTemplate));
+    }
+
+    /**
+     * @return the hierarchy of the type as seen from the indexed service template, empty if the type isn't visible
+     *     from it
+     */
+    Optional<TypeHierarchy> getTypeHierarchy(ToscaElementTypes elementType, ServiceTemplate serviceTemplate,
+            String typeId) {
+        Map<ServiceTemplate, Map<String, TypeHierarchy>> templateHierarchies = hierarchies.get(elementType);
+        if (templateHierarchies == null || !indexedTemplates.contains(serviceTemplate)) {
+            throw new SdcRuntimeException("Entity[" + elementType + "] id[" + typeId + "] isn't indexed");
+        }
+        return Optional.ofNullable(templateHierarchies.get(serviceTemplate).get(typeId));
+    }
+
+    boolean isTypeOf(ToscaElementTypes elementType, ServiceTemplate serviceTemplate, String typeToSearch,
+            String typeToMatch) {
+        return getTypeHierarchy(elementType, serviceTemplate, typeToSearch)
+                       .map(typeHierarchy -> typeHierarchy.getAncestors().contains(typeToMatch)).orElse(false);
+    }
+
+    private static Map<ServiceTemplate, List<ServiceTemplate>> resolveImports(
+            Map<String, ServiceTemplate> serviceTemplates) {
+        ToscaServiceModel toscaServiceModel = new ToscaServiceModel(null, serviceTemplates, null);
+        ToscaAnalyzerServiceImpl toscaAnalyzerService = new ToscaAnalyzerServiceImpl();
+        Map<ServiceTemplate, List<ServiceTemplate>> imports = new IdentityHashMap<>();
+        Set<ServiceTemplate> unresolved = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ServiceTemplate serviceTemplate : serviceTemplates.values()) {
+            List<ServiceTemplate> importedTemplates = new ArrayList<>();
+            List<Map<String, Import>> importMaps = serviceTemplate.getImports();
+            for (Map<String, Import> importMap : importMaps == null ? Collections.<Map<String, Import>>emptyList()
+                                                         : importMaps) {
+                for (Object importObject : importMap.values()) {
+                    Import anImport = ToscaAnalyzerServiceImpl.getImport(importObject);
+                    ServiceTemplate importedTemplate = Objects.isNull(anImport) || Objects.isNull(anImport.getFile())
+                            ? null : serviceTemplates.get(toscaAnalyzerService.fetchFullFileNameForImport(
+                                    anImport.getFile(), serviceTemplate.getMetadata() == null ? null :
+                                            serviceTemplate.getMetadata().get("filename"), serviceTemplate,
+                                    toscaServiceModel));
+                    if (importedTemplate == null) {
+                        unresolved.add(serviceTemplate);
+                    } else {
+                        importedTemplates.add(importedTemplate);
+                    }
+                }
+            }
+            imports.put(serviceTemplate, importedTemplates);
+        }
+
+        boolean removed = !unresolved.isEmpty();
+        while (removed) {
+            unresolved.forEach(imports::remove);
+            removed = imports.entrySet().removeIf(
+                    entry -> entry.getValue().stream().anyMatch(imported -> !imports.containsKey(imported)));
+        }
+        return imports;
+    }
+
+    /**
+     * Types visible from the service template by id, mapped to the template defining them, in the order the
+     * analyzer scans them: the template itself, then its imports depth first, each template once.
+     */
+    private static Map<String, ServiceTemplate> getVisibleTypes(ToscaElementTypes elementType,
+            ServiceTemplate serviceTemplate, Map<ServiceTemplate, List<ServiceTemplate>> imports) {
+        Map<String, ServiceTemplate> types = new LinkedHashMap<>();
+        addVisibleTypes(elementType, serviceTemplate, imports, types,
+                Collections.newSetFromMap(new IdentityHashMap<>()));
+        return types;
+    }
+
+    private static void addVisibleTypes(ToscaElementTypes elementType, ServiceTemplate serviceTemplate,
+            Map<ServiceTemplate, List<ServiceTemplate>> imports, Map<String, ServiceTemplate> types,
+            Set<ServiceTemplate> scanned) {
+        if (!scanned.add(serviceTemplate)) {
+            return;
+        }
+        getTypes(elementType, serviceTemplate).keySet().forEach(typeId -> types.putIfAbsent(typeId, serviceTemplate));
+        for (ServiceTemplate importedTemplate : imports.get(serviceTemplate)) {
+            addVisibleTypes(elementType, importedTemplate, imports, types, scanned);
+        }
+    }
+
+    private static TypeHierarchy createTypeHierarchy(ToscaElementTypes elementType, String typeId,
+            ServiceTemplate definingTemplate, Map<ServiceTemplate, Map<String, ServiceTemplate>> visibleTypes) {
+        Set<String> ancestors = new LinkedHashSet<>();
+        String type = typeId;
+        ServiceTemplate serviceTemplate = definingTemplate;
+        while (serviceTemplate != null) {
+            String derivedFrom = getDerivedFrom(getTypes(elementType, serviceTemplate).get(type));
+            if (derivedFrom == null || !ancestors.add(derivedFrom)
+                        || ToscaAnalyzerServiceImpl.isTypeIsToscaRoot(derivedFrom)) {
+                break;
+            }
+            serviceTemplate = visibleTypes.get(serviceTemplate).get(derivedFrom);
+            type = derivedFrom;
+        }
+
+        List<String> types = new ArrayList<>();
+        List<Object> definitions = new ArrayList<>();
+        Set<String> visited = new HashSet<>();
+        type = typeId;
+        serviceTemplate = definingTemplate;
+        while (serviceTemplate != null && visited.add(type)) {
+            Object definition = getTypes(elementType, serviceTemplate).get(type);
+            types.add(type);
+            definitions.add(definition);
+            String derivedFrom = getDerivedFrom(definition);
+            if (derivedFrom == null || (elementType == ToscaElementTypes.DATA_TYPE
+                                                && ToscaAnalyzerServiceImpl.isPrimitiveType(derivedFrom))) {
+                return new TypeHierarchy(ancestors, types, definitions);
+            }
+            serviceTemplate = visibleTypes.get(serviceTemplate).get(derivedFrom);
+            type = derivedFrom;
+        }
+        return new TypeHierarchy(ancestors, null, null);
+    }
+
+    private static Map<String, ?> getTypes(ToscaElementTypes elementType, ServiceTemplate serviceTemplate) {
+        Map<String, ?> types;
+        switch (elementType) {
+            case NODE_TYPE:
+                types = serviceTemplate.getNode_types();
+                break;
+            case CAPABILITY_TYPE:
+                types = serviceTemplate.getCapability_types();
+                break;
+            case DATA_TYPE:
+                types = serviceTemplate.getData_types();
+                break;
+            case INTERFCAE_TYPE:
+                types = serviceTemplate.getNormalizeInterfaceTypes();
+                break;
+            default:
+                throw new SdcRuntimeException("Entity[" + elementType + "] hierarchy not supported");
+        }
+        return types == null ? Collections.emptyMap() : types;
+    }
+
+    private static String getDerivedFrom(Object definition) {
+        if (definition instanceof NodeType) {
+            return ((NodeType) definition).getDerived_from();
+        } else if (definition instanceof CapabilityType) {
+            return ((CapabilityType) definition).getDerived_from();
+        } else if (definition instanceof DataType) {
+            return ((DataType) definition).getDerived_from();
+        } else if (definition instanceof InterfaceType) {
+            return ((InterfaceType) definition).getDerived_from();
+        }
+        return null;
+    }
+
+    /**
+     * The derived from chain of a type.
+     */
+    static final class TypeHierarchy {
+
+        private final Set<String> ancestors;
+        private final List<String> types;
+        private final List<Object> definitions;
+
+        private TypeHierarchy(Set<String> ancestors, List<String> types, List<Object> definitions) {
+            this.ancestors = Collections.unmodifiableSet(ancestors);
+            this.types = types == null ? null : Collections.unmodifiableList(types);
+            this.definitions = definitions == null ? null : Collections.unmodifiableList(definitions);
+        }
+
+        /**
+         * @return the derived from types up to the tosca root type or the first type which isn't found
+         */
+        Set<String> getAncestors() {
+            return ancestors;
+        }
+
+        /**
+         * @return false if a derived from type isn't found, the type must then be flattened by scanning the
+         *     service templates
+         */
+        boolean isFlattenable() {
+            return types != null;
+        }
+
+        /**
+         * @return the type followed by its derived from types
+         */
+        List<String> getTypes() {
+            return types;
+        }
+
+        /**
+         * @return the definitions of the types, in the same order
+         */
+        List<Object> getDefinitions() {
+            return definitions;
+        }
+    }
+}
@@ -22,13 +22,16 @@ package org.openecomp.sdc.tosca.services.impl;
 
 import java.io.File;
 import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -177,6 +180,42 @@ public class ToscaFileOutputServiceCsarImplTest {
         Files.delete(Paths.get(file.getAbsolutePath()));
     }
 
+    @Test
+    public void testCSARFileCreationToStream() throws IOException {
+        ServiceTemplate serviceTemplate = new ServiceTemplate();
+        Map<String, String> metadata = new HashMap<>();
+        metadata.put(ToscaConstants.ST_METADATA_TEMPLATE_NAME, "Test");
+        serviceTemplate.setTosca_definitions_version("tosca_simple_yaml_1_0_0");
+        serviceTemplate.setMetadata(metadata);
+        Map<String, ServiceTemplate> definitionsInput = new HashMap<>();
+        String serviceTemplateFileName = ToscaUtil.getServiceTemplateFileName(serviceTemplate);
+        definitionsInput.put(serviceTemplateFileName, serviceTemplate);
+        FileContentHandler licenseArtifacts = new FileContentHandler();
+        licenseArtifacts.addFile(ToscaFileOutputServiceCsarImpl.EXTERNAL_ARTIFACTS_FOLDER_NAME
+                + File.separator + "license-file-1.xml", "license".getBytes());
+
+        File file = File.createTempFile("resultFile", "zip");
+        AtomicBoolean closed = new AtomicBoolean();
+        try (OutputStream out = new FilterOutputStream(new FileOutputStream(file)) {
+            @Override
+            public void close() throws IOException {
+                closed.set(true);
+                super.close();
+            }
+        }) {
+            toscaFileOutputServiceCsarImpl.createOutputFile(
+                    new ToscaServiceModel(null, definitionsInput, serviceTemplateFileName), licenseArtifacts, out);
+            Assert.assertFalse(closed.get());
+        }
+
+        try (ZipFile zipFile = new ZipFile(file)) {
+            Assert.assertEquals(3, zipFile.size());
+            Assert.assertNotNull(zipFile.getEntry("Definitions" + File.separator + serviceTemplateFileName));
+        }
+
+        Files.delete(Paths.get(file.getAbsolutePath()));
+    }
+
     @Test(expected = CoreException.class)
     public void testCreateOutputFileEntryDefinitionServiceTemplateIsNull() {
         ToscaServiceModel toscaServiceModel = new ToscaServiceModel();
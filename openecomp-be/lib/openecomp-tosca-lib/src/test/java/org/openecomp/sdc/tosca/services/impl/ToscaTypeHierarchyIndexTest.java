@@ -0,0 +1,118 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.sdc.tosca.services.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.onap.sdc.tosca.datatypes.model.NodeTemplate;
+import org.onap.sdc.tosca.datatypes.model.NodeType;
+import org.onap.sdc.tosca.datatypes.model.ServiceTemplate;
+import org.openecomp.sdc.tosca.TestUtil;
+import org.openecomp.sdc.tosca.datatypes.ToscaElementTypes;
+import org.openecomp.sdc.tosca.datatypes.ToscaFlatData;
+import org.openecomp.sdc.tosca.datatypes.ToscaServiceModel;
+import org.openecomp.sdc.tosca.services.ToscaAnalyzerService;
+
+public class ToscaTypeHierarchyIndexTest {
+
+    private static final String MAIN_SERVICE_TEMPLATE = "MainServiceTemplate.yaml";
+    private static final String NOVA_SERVER = "org.openecomp.resource.vfc.nodes.heat.nova.Server";
+    private static final String NEUTRON_NET = "org.openecomp.resource.vl.nodes.heat.network.neutron.Net";
+
+    private static final ToscaAnalyzerService toscaAnalyzerService = new ToscaAnalyzerServiceImpl();
+    private static ToscaServiceModel indexedModel;
+    private static ToscaServiceModel scannedModel;
+    private static ToscaTypeHierarchyIndex index;
+    private static ServiceTemplate novaServerGlobalTypes;
+
+    @BeforeClass
+    public static void setUp() throws IOException {
+        ToscaServiceModel globalTypes = TestUtil.loadToscaServiceModel("/mock/globalServiceTemplates/", null, null);
+        index = ToscaTypeHierarchyIndex.register(globalTypes.getServiceTemplates());
+        novaServerGlobalTypes = globalTypes.getServiceTemplates().get("NovaServerGlobalTypesServiceTemplate.yaml");
+
+        Map<String, ServiceTemplate> serviceTemplates = new HashMap<>(globalTypes.getServiceTemplates());
+        serviceTemplates.putAll(TestUtil.loadToscaServiceModel("/mock/analyzerService/toscasubstitution/", null, null)
+                                        .getServiceTemplates());
+        indexedModel = new ToscaServiceModel(null, serviceTemplates, MAIN_SERVICE_TEMPLATE);
+        scannedModel = TestUtil.loadToscaServiceModel("/mock/analyzerService/toscasubstitution/",
+                "/mock/globalServiceTemplates/", null);
+    }
+
+    @Test
+    public void indexHoldsAncestorsOfVisibleTypes() {
+        assertTrue(ToscaTypeHierarchyIndex.of(novaServerGlobalTypes).isPresent());
+        assertTrue(index.isTypeOf(ToscaElementTypes.NODE_TYPE, novaServerGlobalTypes, NOVA_SERVER,
+                "tosca.nodes.Compute"));
+        assertFalse(index.isTypeOf(ToscaElementTypes.NODE_TYPE, novaServerGlobalTypes, NOVA_SERVER, NEUTRON_NET));
+        assertFalse(index.getTypeHierarchy(ToscaElementTypes.NODE_TYPE, novaServerGlobalTypes, "notExisting")
+                         .isPresent());
+    }
+
+    @Test
+    public void modelTemplatesAreNotIndexed() {
+        assertFalse(ToscaTypeHierarchyIndex.of(scannedModel.getServiceTemplates().get(MAIN_SERVICE_TEMPLATE))
+                                           .isPresent());
+        assertFalse(ToscaTypeHierarchyIndex.of(indexedModel.getServiceTemplates().get(MAIN_SERVICE_TEMPLATE))
+                                           .isPresent());
+    }
+
+    @Test
+    public void isTypeOfIsSameAsScanned() {
+        NodeTemplate nodeTemplate = new NodeTemplate();
+        nodeTemplate.setType(NOVA_SERVER);
+        for (String type : new String[] {"tosca.nodes.Compute", "tosca.nodes.Root", NEUTRON_NET}) {
+            assertEquals(type, isTypeOf(nodeTemplate, type, scannedModel), isTypeOf(nodeTemplate, type, indexedModel));
+        }
+        assertTrue(isTypeOf(nodeTemplate, "tosca.nodes.Compute", indexedModel));
+    }
+
+    @Test
+    public void flatEntityIsSameAsScanned() {
+        ToscaFlatData scanned = getFlatNodeType(NOVA_SERVER, scannedModel);
+        ToscaFlatData indexed = getFlatNodeType(NOVA_SERVER, indexedModel);
+
+        assertEquals(scanned.getInheritanceHierarchyType(), indexed.getInheritanceHierarchyType());
+        NodeType scannedNodeType = (NodeType) scanned.getFlatEntity();
+        NodeType indexedNodeType = (NodeType) indexed.getFlatEntity();
+        assertEquals(scannedNodeType.getDerived_from(), indexedNodeType.getDerived_from());
+        assertEquals(scannedNodeType.getProperties().keySet(), indexedNodeType.getProperties().keySet());
+        assertEquals(scannedNodeType.getCapabilities().keySet(), indexedNodeType.getCapabilities().keySet());
+        assertEquals(scannedNodeType.getRequirements().size(), indexedNodeType.getRequirements().size());
+    }
+
+    private static boolean isTypeOf(NodeTemplate nodeTemplate, String type, ToscaServiceModel toscaServiceModel) {
+        return toscaAnalyzerService.isTypeOf(nodeTemplate, type,
+                toscaServiceModel.getServiceTemplates().get(MAIN_SERVICE_TEMPLATE), toscaServiceModel);
+    }
+
+    private static ToscaFlatData getFlatNodeType(String nodeType, ToscaServiceModel toscaServiceModel) {
+        return toscaAnalyzerService.getFlatEntity(ToscaElementTypes.NODE_TYPE, nodeType,
+                toscaServiceModel.getServiceTemplates().get(MAIN_SERVICE_TEMPLATE), toscaServiceModel);
+    }
+}
@@ -26,47 +26,68 @@ import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.stream.Stream;
+import java.util.concurrent.TimeUnit;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.Option;
-import org.apache.commons.collections.CollectionUtils;
 import org.openecomp.core.tools.exceptions.HealingRuntimeException;
-import org.openecomp.core.tools.loaders.VersionInfoCassandraLoader;
+import org.openecomp.sdc.common.session.SessionContext;
+import org.openecomp.sdc.common.session.SessionContextProvider;
+import org.openecomp.sdc.common.session.SessionContextProviderFactory;
+import org.openecomp.sdc.datatypes.model.ItemType;
 import org.openecomp.sdc.healing.api.HealingManager;
 import org.openecomp.sdc.healing.factory.HealingManagerFactory;
-import org.openecomp.sdc.vendorsoftwareproduct.VendorSoftwareProductConstants;
-import org.openecomp.sdc.vendorsoftwareproduct.VendorSoftwareProductManager;
-import org.openecomp.sdc.vendorsoftwareproduct.VspManagerFactory;
+import org.openecomp.sdc.versioning.VersioningManager;
+import org.openecomp.sdc.versioning.VersioningManagerFactory;
+import org.openecomp.sdc.versioning.dao.ItemDaoFactory;
 import org.openecomp.sdc.versioning.dao.types.Version;
-import org.openecomp.sdc.versioning.dao.types.VersionInfoEntity;
+import org.openecomp.sdc.versioning.dao.types.VersionStatus;
+import org.openecomp.sdc.versioning.types.Item;
 
 /**
- * Created by ayalaben on 11/6/2017
+ * Heals the latest version of every item, so that users don't wait for healing when they first
+ * open an item after an upgrade. Items whose healing flag is off are skipped by the healing
+ * manager. Healing a certified version creates a new version of the item, so certified versions
+ * are healed only when asked for explicitly.
  */
 public class HealAll extends Command {
 
     private static final int DEFAULT_THREAD_NUMBER = 100;
     private static final String THREAD_NUM_OPTION = "t";
-    private VendorSoftwareProductManager vspManager;
+    private static final String INCLUDE_CERTIFIED_OPTION = "i";
+    private VersioningManager versioningManager;
     private HealingManager healingManager;
+    private boolean includeCertified;
 
     HealAll() {
         options.addOption(
                 Option.builder(THREAD_NUM_OPTION).hasArg().argName("number").desc("number of threads").build());
+        options.addOption(Option.builder(INCLUDE_CERTIFIED_OPTION).longOpt("include-certified")
+                                .desc("heal items whose latest version is certified too").build());
+    }
+
+    HealAll(VersioningManager versioningManager, HealingManager healingManager, boolean includeCertified) {
+        this();
+        this.versioningManager = versioningManager;
+        this.healingManager = healingManager;
+        this.includeCertified = includeCertified;
     }
 
     @Override
     public boolean execute(String[] args) {
         CommandLine cmd = parseArgs(args);
 
-        vspManager = VspManagerFactory.getInstance().createInterface();
+        versioningManager = VersioningManagerFactory.getInstance().createInterface();
         healingManager = HealingManagerFactory.getInstance().createInterface();
+        includeCertified = cmd.hasOption(INCLUDE_CERTIFIED_OPTION);
 
         String logFileName = "healing.log";
         try (BufferedWriter log = new BufferedWriter(new FileWriter(logFileName, true))) {
@@ -80,11 +101,12 @@ public class HealAll extends Command {
                             : DEFAULT_THREAD_NUMBER;
             ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
 
-            filterByEntityType(VersionInfoCassandraLoader.list(),
-                    VendorSoftwareProductConstants.VENDOR_SOFTWARE_PRODUCT_VERSIONABLE_TYPE)
-                    .forEach(this::addTaskToTasks);
+            SessionContext session = SessionContextProviderFactory.getInstance().createInterface().get();
+            List<Future<String>> tasks = new ArrayList<>();
+            ItemDaoFactory.getInstance().createInterface().list()
+                    .forEach(item -> tasks.add(executor.submit(() -> healItem(item, session))));
 
-            executeAllTasks(executor, log);
+            executeAllTasks(executor, tasks, log);
 
             writeToLog("----finished healing------", log);
             Instant endTime = Instant.now();
@@ -100,19 +122,57 @@ public class HealAll extends Command {
         return CommandName.HEAL_ALL;
     }
 
-    private static void executeAllTasks(ExecutorService executor, BufferedWriter log) {
-
+    private static void executeAllTasks(ExecutorService executor, List<Future<String>> tasks,
+            BufferedWriter log) {
+        executor.shutdown();
+        for (Future<String> task : tasks) {
+            try {
+                writeToLog(task.get(), log);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                executor.shutdownNow();
+                throw new HealingRuntimeException("healing was interrupted", e);
+            } catch (ExecutionException e) {
+                writeToLog("healing failed: " + e.getCause().getMessage(), log);
+            }
+        }
+        try {
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 
-
-    private static Version resolveVersion(VersionInfoEntity versionInfoEntity) {
-        if (Objects.nonNull(versionInfoEntity.getCandidate())) {
-            return versionInfoEntity.getCandidate().getVersion();
-        } else if (!CollectionUtils.isEmpty(versionInfoEntity.getViewableVersions())) {
-
-            return versionInfoEntity.getViewableVersions().stream().max(Version::compareTo).orElse(new Version());
+    String healItem(Item item, SessionContext session) {
+        SessionContextProvider sessionContextProvider = SessionContextProviderFactory.getInstance().createInterface();
+        sessionContextProvider.create(session.getUser().getUserId(), session.getTenant());
+        try {
+            Optional<Version> version = resolveVersion(item.getId());
+            if (!version.isPresent()) {
+                return String.format("item %s has no versions", item.getId());
+            }
+            if (!includeCertified && version.get().getStatus() == VersionStatus.Certified) {
+                return String.format("item %s version %s is certified - skipped", item.getId(),
+                        version.get().getId());
+            }
+            Optional<Version> healedVersion = healingManager
+                    .healItemVersion(item.getId(), version.get(), ItemType.valueOf(item.getType()), false);
+            return healedVersion
+                    .map(healed -> String.format("item %s version %s healed into version %s", item.getId(),
+                            version.get().getId(), healed.getId()))
+                    .orElse(String.format("item %s version %s needs no healing", item.getId(),
+                            version.get().getId()));
+        } catch (RuntimeException e) {
+            return String.format("item %s healing failed: %s", item.getId(), e.getMessage());
+        } finally {
+            sessionContextProvider.close();
         }
-        return versionInfoEntity.getActiveVersion();
+    }
+
+    private Optional<Version> resolveVersion(String itemId) {
+        return versioningManager.list(itemId).stream()
+                                .max(Comparator.comparing(Version::getCreationTime,
+                                        Comparator.nullsFirst(Comparator.<Date>naturalOrder())));
     }
 
     private static void writeToLog(String message, BufferedWriter log) {
@@ -123,15 +183,4 @@ public class HealAll extends Command {
             throw new HealingRuntimeException("unable to write to healing all log file.", e);
         }
     }
-
-    private static Stream<VersionInfoEntity> filterByEntityType(Collection<VersionInfoEntity> versionInfoEntities,
-            String entityType) {
-        return versionInfoEntities.stream()
-                                  .filter(versionInfoEntity -> versionInfoEntity.getEntityType().equals(entityType));
-    }
-
-    private void addTaskToTasks(VersionInfoEntity versionInfoEntity) {
-        
-    }
-
 }
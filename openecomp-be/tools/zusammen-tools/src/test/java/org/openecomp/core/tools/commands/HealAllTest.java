@@ -0,0 +1,121 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * SDC
+ * ================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.openecomp.core.tools.commands;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Optional;
+import org.openecomp.sdc.common.session.SessionContext;
+import org.openecomp.sdc.common.session.User;
+import org.openecomp.sdc.datatypes.model.ItemType;
+import org.openecomp.sdc.healing.api.HealingManager;
+import org.openecomp.sdc.versioning.VersioningManager;
+import org.openecomp.sdc.versioning.dao.types.Version;
+import org.openecomp.sdc.versioning.dao.types.VersionStatus;
+import org.openecomp.sdc.versioning.types.Item;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class HealAllTest {
+
+    private static final String ITEM_ID = "itemId";
+
+    private VersioningManager versioningManager;
+    private HealingManager healingManager;
+    private SessionContext session;
+    private Item item;
+
+    @BeforeMethod
+    public void setUp() {
+        versioningManager = mock(VersioningManager.class);
+        healingManager = mock(HealingManager.class);
+        session = mock(SessionContext.class);
+        when(session.getUser()).thenReturn(new User("user"));
+        when(session.getTenant()).thenReturn("dox");
+        item = new Item();
+        item.setId(ITEM_ID);
+        item.setType(ItemType.vsp.name());
+    }
+
+    @Test
+    public void latestVersionIsHealed() {
+        Version draft = createVersion("2", VersionStatus.Draft, 2);
+        when(versioningManager.list(ITEM_ID))
+                .thenReturn(Arrays.asList(createVersion("1", VersionStatus.Certified, 1), draft));
+        when(healingManager.healItemVersion(ITEM_ID, draft, ItemType.vsp, false)).thenReturn(Optional.empty());
+
+        String result = new HealAll(versioningManager, healingManager, false).healItem(item, session);
+
+        assertEquals(result, "item itemId version 2 needs no healing");
+        verify(healingManager).healItemVersion(ITEM_ID, draft, ItemType.vsp, false);
+    }
+
+    @Test
+    public void certifiedVersionIsSkippedByDefault() {
+        when(versioningManager.list(ITEM_ID))
+                .thenReturn(Arrays.asList(createVersion("1", VersionStatus.Certified, 1)));
+
+        String result = new HealAll(versioningManager, healingManager, false).healItem(item, session);
+
+        assertEquals(result, "item itemId version 1 is certified - skipped");
+        verify(healingManager, never()).healItemVersion(anyString(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    public void certifiedVersionIsHealedWhenIncluded() {
+        Version certified = createVersion("1", VersionStatus.Certified, 1);
+        when(versioningManager.list(ITEM_ID)).thenReturn(Arrays.asList(certified));
+        when(healingManager.healItemVersion(ITEM_ID, certified, ItemType.vsp, false))
+                .thenReturn(Optional.of(new Version("2")));
+
+        String result = new HealAll(versioningManager, healingManager, true).healItem(item, session);
+
+        assertEquals(result, "item itemId version 1 healed into version 2");
+    }
+
+    @Test
+    public void healingFailureIsReported() {
+        Version draft = createVersion("1", VersionStatus.Draft, 1);
+        when(versioningManager.list(ITEM_ID)).thenReturn(Arrays.asList(draft));
+        when(healingManager.healItemVersion(ITEM_ID, draft, ItemType.vsp, false))
+                .thenThrow(new IllegalStateException("no permission"));
+
+        String result = new HealAll(versioningManager, healingManager, false).healItem(item, session);
+
+        assertEquals(result, "item itemId healing failed: no permission");
+    }
+
+    private static Version createVersion(String id, VersionStatus status, long creationTime) {
+        Version version = new Version(id);
+        version.setStatus(status);
+        version.setCreationTime(new Date(creationTime));
+        return version;
+    }
+}